@@ -1,20 +1,27 @@
 package com.game.engine.cache;
 
-import com.game.engine.graphics.obj.Image;
-
 /**
- * An auxiliary memory from which high-speed retrieval is possible
+ * An auxiliary memory from which high-speed retrieval is possible. Values
+ * which are missing are computed by the cache's {@link CacheLoader}.
  *
  * @author Spencer Imbleau
- * @version July 2020
+ * @version October 2026
+ * @param <K> - the type of keys
+ * @param <V> - the type of values
  */
-public interface Cache {
+public interface Cache<K, V> {
 
 	/**
 	 * @return the size of the cache, measured in objects
 	 */
 	public int size();
 
+	/**
+	 * @return the total weight of the objects in the cache
+	 * @see CacheLoader#weigh(Object, Object)
+	 */
+	public long weight();
+
 	/**
 	 * Clear the entire cache.
 	 */
@@ -27,14 +34,14 @@ public interface Cache {
 	 * @param obj - the value to put into the cache
 	 * @throws IllegalArgumentException key must not be null
 	 */
-	public void put(String key, Object obj) throws IllegalArgumentException;
+	public void put(K key, V obj) throws IllegalArgumentException;
 
 	/**
 	 * Remove an object from the cache if it exists.
 	 *
 	 * @param key - the key to remove from the cache
 	 */
-	public void remove(String key);
+	public void remove(K key);
 
 	/**
 	 * Determines if the cache contains an object with the given key.
@@ -42,7 +49,7 @@ public interface Cache {
 	 * @param key - the key to search
 	 * @return true if the cache contains the given key, false otherwise
 	 */
-	public boolean contains(String key);
+	public boolean contains(K key);
 
 	/**
 	 * Returns a {@link CacheNode} from a given key, if it exists.
@@ -51,16 +58,17 @@ public interface Cache {
 	 * @return a {@link CacheNode} or null
 	 * @throws IllegalArgumentException key must not be null
 	 */
-	public CacheNode get(String key) throws IllegalArgumentException;
+	public CacheNode<K, V> get(K key) throws IllegalArgumentException;
 
 	/**
-	 * A request to fetch an image from cache. If the image does not exist in cache,
-	 * this will make a blocking request to retrieve the image.
+	 * A request to fetch a value from cache. If the value does not exist in cache,
+	 * this will make a blocking request to the cache's {@link CacheLoader} to
+	 * load the value.
 	 *
 	 * @param key - the key to retrieve
-	 * @return an image, or null if the image is not in cache and unable to be
-	 *         retrieved
+	 * @return a value, or null if the value is not in cache and unable to be
+	 *         loaded
 	 * @throws IllegalArgumentException key must not be null
 	 */
-	public Image fetch(String key) throws IllegalArgumentException;
+	public V fetch(K key) throws IllegalArgumentException;
 }
@@ -0,0 +1,36 @@
+package com.game.engine.cache;
+
+/**
+ * Computes values which are missing from a {@link Cache}, and weighs them so
+ * the cache can account for how much of its capacity they use.
+ *
+ * @author Spencer Imbleau
+ * @version October 2026
+ * @param <K> - the type of keys
+ * @param <V> - the type of values
+ */
+@FunctionalInterface
+public interface CacheLoader<K, V> {
+
+	/**
+	 * A blocking request to compute or retrieve the value for a key.
+	 *
+	 * @param key - the key to load
+	 * @return the value for the key, or null if the value does not exist
+	 * @throws Exception if the value was unable to be loaded
+	 */
+	public V load(K key) throws Exception;
+
+	/**
+	 * Returns the weight of a value, i.e. how much of a cache's capacity it uses.
+	 * By default every value weighs 1, so capacity is measured in objects.
+	 *
+	 * @param key   - the key of the value
+	 * @param value - the value, which may be null
+	 * @return a non-negative weight
+	 */
+	public default int weigh(K key, V value) {
+		return 1;
+	}
+
+}
@@ -6,28 +6,43 @@ package com.game.engine.cache;
  *
  * @author Spencer Imbleau
  * @version July 2020
+ * @param <K> - the type of the key
+ * @param <V> - the type of the value
  */
-public class CacheNode {
+public class CacheNode<K, V> {
 
 	/**
 	 * The identifier for this cache node. Typically a path.
 	 */
-	public final String key;
+	public final K key;
 
 	/**
 	 * The object stored in this node.
 	 */
-	Object value;
+	V value;
+
+	/**
+	 * The share of the owning cache's capacity used by this node.
+	 *
+	 * @see CacheLoader#weigh(Object, Object)
+	 */
+	int weight;
 
 	/**
 	 * The object before this.
 	 */
-	CacheNode prev;
+	CacheNode<K, V> prev;
 
 	/**
 	 * The object after this.
 	 */
-	CacheNode next;
+	CacheNode<K, V> next;
+
+	/**
+	 * The segment which holds this node, for caches which divide their nodes
+	 * between several lists.
+	 */
+	int segment;
 
 	/**
 	 * Initialize a Cache Node.
@@ -35,13 +50,39 @@ public class CacheNode {
 	 * @param key   - the key to this cache node
 	 * @param value - a stored value
 	 */
-	public CacheNode(String key, Object value) {
+	public CacheNode(K key, V value) {
+		this(key, value, 1);
+	}
+
+	/**
+	 * Initialize a Cache Node.
+	 *
+	 * @param key    - the key to this cache node
+	 * @param value  - a stored value
+	 * @param weight - the share of the owning cache's capacity used by this node
+	 */
+	public CacheNode(K key, V value, int weight) {
 		this.key = key;
 		this.value = value;
+		this.weight = weight;
 		this.prev = null;
 		this.next = null;
 	}
 
+	/**
+	 * @return the object stored in this node
+	 */
+	public V getValue() {
+		return this.value;
+	}
+
+	/**
+	 * @return the share of the owning cache's capacity used by this node
+	 */
+	public int getWeight() {
+		return this.weight;
+	}
+
 	/**
 	 * @return whether this node has a previous node
 	 */
@@ -0,0 +1,50 @@
+package com.game.engine.cache;
+
+/**
+ * The eviction policies available for a {@link Cache}.
+ *
+ * @author Spencer Imbleau
+ * @version October 2026
+ */
+public enum CachePolicy {
+
+	/**
+	 * Evict the least recently used object.
+	 *
+	 * @see LRUCache
+	 */
+	LRU {
+		@Override
+		public <K, V> Cache<K, V> create(int capacity, CacheLoader<? super K, V> loader) {
+			return new LRUCache<K, V>(capacity, loader);
+		}
+	},
+
+	/**
+	 * Admit objects by estimated popularity and evict the least frequently used
+	 * object. This policy resists scans of one-off objects.
+	 *
+	 * @see TinyLFUCache
+	 */
+	TINY_LFU {
+		@Override
+		public <K, V> Cache<K, V> create(int capacity, CacheLoader<? super K, V> loader) {
+			return new TinyLFUCache<K, V>(capacity, loader);
+		}
+	};
+
+	/**
+	 * Create a cache which follows this policy.
+	 *
+	 * @param <K>      - the type of keys
+	 * @param <V>      - the type of values
+	 * @param capacity - the capacity for the cache, measured in weight
+	 * @param loader   - the loader for values which are missing from cache
+	 * @return a new, empty cache
+	 * @throws IllegalArgumentException capacity must be positive and loader must
+	 *                                  not be null
+	 */
+	public abstract <K, V> Cache<K, V> create(int capacity, CacheLoader<? super K, V> loader)
+			throws IllegalArgumentException;
+
+}
@@ -0,0 +1,58 @@
+package com.game.engine.cache;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.InputStream;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.file.Paths;
+
+import com.game.engine.graphics.obj.fonts.Font;
+import com.game.engine.graphics.obj.fonts.FontFile;
+
+/**
+ * A blocking loader for compiled fonts which are not yet in a {@link Cache}. A
+ * path may refer to a class resource or a file on the file system, which is
+ * memory mapped.
+ * <br>
+ * <br>
+ * Glyph sheets are compiled to font files with {@link FontFile}, as a sheet
+ * needs the sequence of its keycodes to be read.
+ *
+ * @author Spencer Imbleau
+ * @version October 2026
+ */
+public class FontLoader implements CacheLoader<String, Font> {
+
+	/**
+	 * A blocking request to retrieve a font.
+	 *
+	 * @param path - the path to retrieve
+	 * @return the font retrieved from the path, or null
+	 * @throws Exception if the font could not be read
+	 */
+	@Override
+	public Font load(String path) throws Exception {
+		URL url = FontLoader.class.getResource(path);
+		if (url != null) {
+			// Path refers to a resource, which may be packed in an archive
+			try (InputStream in = url.openStream()) {
+				ByteArrayOutputStream out = new ByteArrayOutputStream();
+				byte[] chunk = new byte[8192];
+				int read;
+				while ((read = in.read(chunk)) != -1) {
+					out.write(chunk, 0, read);
+				}
+				return FontFile.read(ByteBuffer.wrap(out.toByteArray()));
+			}
+		}
+
+		// Path might refer to a file on the file system/local cache
+		File file = new File(path);
+		if (file.exists()) {
+			return FontFile.read(Paths.get(path));
+		}
+		return null;
+	}
+
+}
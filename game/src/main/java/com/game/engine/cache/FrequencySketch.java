@@ -0,0 +1,176 @@
+package com.game.engine.cache;
+
+/**
+ * A count-min sketch which estimates the popularity of keys within a time
+ * window. Counters are 4-bit and saturate at {@link #MAX_COUNT}. Once enough
+ * increments have been sampled, every counter is halved so that old
+ * popularity decays and recent popularity dominates.
+ *
+ * @author Spencer Imbleau
+ * @version October 2026
+ * @see TinyLFUCache
+ */
+public class FrequencySketch {
+
+	/**
+	 * The amount of hash functions (rows) of the sketch.
+	 */
+	private static final int DEPTH = 4;
+
+	/**
+	 * The largest value a counter may hold.
+	 */
+	static final int MAX_COUNT = 15;
+
+	/**
+	 * The amount of counters in a row per key the owning cache may hold. Sparse
+	 * rows make it unlikely for a key to collide with popular keys in every row.
+	 */
+	private static final int COUNTERS_PER_KEY = 4;
+
+	/**
+	 * The smallest width of a row.
+	 */
+	private static final int MIN_WIDTH = 16;
+
+	/**
+	 * The largest width of a row. This bounds memory for very large caches.
+	 */
+	private static final int MAX_WIDTH = 1 << 16;
+
+	/**
+	 * Odd multipliers used to derive an independent index for each row.
+	 */
+	private static final int[] SEEDS = { 0x9E3779B1, 0x85EBCA77, 0xC2B2AE3D, 0x27D4EB2F };
+
+	/**
+	 * The counters, stored row by row. Each byte holds one counter.
+	 */
+	private final byte[] table;
+
+	/**
+	 * The width of each row. Always a power of two.
+	 */
+	private final int width;
+
+	/**
+	 * The shift which selects the top bits of a hash as a column of a row.
+	 */
+	private final int shift;
+
+	/**
+	 * The amount of increments before the counters are aged.
+	 */
+	private final int sampleSize;
+
+	/**
+	 * The amount of increments since the counters were last aged.
+	 */
+	private int samples;
+
+	/**
+	 * Initialize a frequency sketch.
+	 *
+	 * @param capacity - the amount of keys the owning cache may hold
+	 */
+	public FrequencySketch(int capacity) {
+		int w = MIN_WIDTH;
+		while (w < (long) capacity * COUNTERS_PER_KEY && w < MAX_WIDTH) {
+			w <<= 1;
+		}
+		this.width = w;
+		this.shift = Integer.numberOfLeadingZeros(w) + 1;
+		this.table = new byte[DEPTH * w];
+		this.sampleSize = 10 * w / COUNTERS_PER_KEY;
+		this.samples = 0;
+	}
+
+	/**
+	 * Returns the estimated amount of times a key has been seen.
+	 *
+	 * @param key - a key
+	 * @return the estimated frequency of the key, between 0 and
+	 *         {@link #MAX_COUNT}
+	 */
+	public int frequency(Object key) {
+		int hash = spread(key);
+		int frequency = MAX_COUNT;
+		for (int i = 0; i < DEPTH; i++) {
+			frequency = Math.min(frequency, this.table[index(hash, i)]);
+		}
+		return frequency;
+	}
+
+	/**
+	 * Record an occurrence of a key.
+	 *
+	 * @param key - a key
+	 */
+	public void increment(Object key) {
+		int hash = spread(key);
+
+		// Only increment the smallest counters (conservative update)
+		int min = frequency(key);
+		if (min == MAX_COUNT) {
+			return;
+		}
+		for (int i = 0; i < DEPTH; i++) {
+			int index = index(hash, i);
+			if (this.table[index] == min) {
+				this.table[index]++;
+			}
+		}
+
+		if (++this.samples >= this.sampleSize) {
+			age();
+		}
+	}
+
+	/**
+	 * Halve every counter so that stale popularity fades.
+	 */
+	void age() {
+		for (int i = 0; i < this.table.length; i++) {
+			this.table[i] >>= 1;
+		}
+		this.samples /= 2;
+	}
+
+	/**
+	 * Forget every recorded occurrence.
+	 */
+	public void clear() {
+		for (int i = 0; i < this.table.length; i++) {
+			this.table[i] = 0;
+		}
+		this.samples = 0;
+	}
+
+	/**
+	 * Helper method to scramble the hash code of a key.
+	 *
+	 * @param key - a key
+	 * @return a well distributed hash
+	 */
+	private static int spread(Object key) {
+		int h = (key == null) ? 0 : key.hashCode();
+		h ^= h >>> 16;
+		h *= 0x45d9f3b;
+		h ^= h >>> 16;
+		return h;
+	}
+
+	/**
+	 * Helper method to find the index of a counter.
+	 *
+	 * @param hash - a spread hash
+	 * @param row  - the row of the sketch
+	 * @return the table index of the counter for the hash on the given row
+	 */
+	private int index(int hash, int row) {
+		// The top bits of the product depend on every bit of the hash
+		int column = (hash * SEEDS[row]) >>> this.shift;
+		return row * this.width + column;
+	}
+
+}
@@ -0,0 +1,47 @@
+package com.game.engine.cache;
+
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.net.URL;
+
+import javax.imageio.ImageIO;
+
+import com.game.engine.graphics.obj.Image;
+
+/**
+ * A blocking loader for images which are not yet in a {@link Cache}. A path may
+ * refer to a class resource or a file on the file system.
+ *
+ * @author Spencer Imbleau
+ * @version October 2026
+ */
+public class ImageLoader implements CacheLoader<String, Image> {
+
+	/**
+	 * A blocking request to retrieve an image.
+	 *
+	 * @param path - the path to retrieve
+	 * @return the image retrieved from the path, or null
+	 * @throws Exception if the image could not be read
+	 */
+	@Override
+	public Image load(String path) throws Exception {
+		BufferedImage buf = null;
+		URL url = ImageLoader.class.getResource(path);
+		if (url != null) {
+			// Path refers to a resource
+			buf = ImageIO.read(url);
+		} else {
+			// Path might refer to a file on the file system/local cache
+			// Try to retrieve it from the file system
+			File file = new File(path);
+			if (file.exists()) {
+				buf = ImageIO.read(file);
+			} else {
+				return null;
+			}
+		}
+		return new Image(buf);
+	}
+
+}
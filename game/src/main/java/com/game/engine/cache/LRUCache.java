@@ -1,57 +1,69 @@
 package com.game.engine.cache;
 
-import java.awt.image.BufferedImage;
-import java.io.File;
-import java.net.URL;
 import java.util.concurrent.ConcurrentHashMap;
 
-import javax.imageio.ImageIO;
-
-import com.game.engine.graphics.obj.Image;
-
 /**
  * A cache used for retrieving resources. This cache uses the LRU (least
  * recently used) algorithm by combining a hashmap and doubly linked list.
  *
  * @author Spencer Imbleau
  * @version July 2020
+ * @param <K> - the type of keys
+ * @param <V> - the type of values
  */
-public class LRUCache implements Cache {
+public class LRUCache<K, V> implements Cache<K, V> {
 
 	/**
 	 * The most recently used item from cache
 	 */
-	protected CacheNode head;
+	protected CacheNode<K, V> head;
 
 	/**
 	 * The least recently used item from cache
 	 */
-	protected CacheNode tail;
+	protected CacheNode<K, V> tail;
 
 	/**
 	 * The cache map. Maps keys to cache nodes.
 	 */
-	protected ConcurrentHashMap<String, CacheNode> map;
+	protected ConcurrentHashMap<K, CacheNode<K, V>> map;
 
 	/**
-	 * The capacity for the cache
+	 * The loader for values which are missing from cache.
+	 */
+	protected final CacheLoader<? super K, V> loader;
+
+	/**
+	 * The capacity for the cache, measured in weight
 	 */
 	protected int capacity;
 
+	/**
+	 * The total weight of the nodes in cache
+	 */
+	protected long weight;
+
 	/**
 	 * Initialize a cache
 	 *
 	 * @param capacity - the capacity for this cache
-	 * @throws IllegalArgumentException capacity must be positive
+	 * @param loader   - the loader for values which are missing from cache
+	 * @throws IllegalArgumentException capacity must be positive and loader must
+	 *                                  not be null
 	 */
-	public LRUCache(int capacity) throws IllegalArgumentException {
+	public LRUCache(int capacity, CacheLoader<? super K, V> loader) throws IllegalArgumentException {
 		if (capacity < 0) {
 			throw new IllegalArgumentException("Capacity must be > 0, received: " + capacity);
 		}
+		if (loader == null) {
+			throw new IllegalArgumentException("Loader must not be null");
+		}
 		this.head = null;
 		this.tail = null;
-		this.map = new ConcurrentHashMap<String, CacheNode>(capacity);
+		this.map = new ConcurrentHashMap<K, CacheNode<K, V>>(Math.min(capacity, 1 << 16));
+		this.loader = loader;
 		this.capacity = capacity;
+		this.weight = 0;
 	}
 
 	@Override
@@ -60,34 +72,40 @@ public class LRUCache implements Cache {
 	}
 
 	@Override
-	public void purge() {
+	public long weight() {
+		return this.weight;
+	}
+
+	@Override
+	public synchronized void purge() {
 		this.head = null;
 		this.tail = null;
 		this.map.clear();
+		this.weight = 0;
 	}
 
 	@Override
-	public void put(String key, Object obj) throws IllegalArgumentException {
+	public void put(K key, V obj) throws IllegalArgumentException {
 		if (key == null) {
 			throw new IllegalArgumentException("Key must not be null");
 		}
-		CacheNode node = new CacheNode(key, obj);
+		CacheNode<K, V> node = new CacheNode<K, V>(key, obj, this.loader.weigh(key, obj));
 		put(node);
 	}
 
 	@Override
-	public void remove(String key) {
+	public synchronized void remove(K key) {
 		if (key == null) {
 			return;
 		}
-		if (contains(key)) {
-			CacheNode node = get(key);
+		CacheNode<K, V> node = this.map.get(key);
+		if (node != null) {
 			remove(node);
 		}
 	}
 
 	@Override
-	public boolean contains(String key) {
+	public boolean contains(K key) {
 		if (key == null) {
 			return false;
 		}
@@ -95,27 +113,28 @@ public class LRUCache implements Cache {
 	}
 
 	@Override
-	public CacheNode get(String key) throws IllegalArgumentException {
+	public synchronized CacheNode<K, V> get(K key) throws IllegalArgumentException {
 		if (key == null) {
 			throw new IllegalArgumentException("Key must not be null");
 		}
-		return this.map.get(key);
+		CacheNode<K, V> node = this.map.get(key);
+		if (node != null && this.head != node) {
+			// Mark the node as the most recently used
+			unlink(node);
+			link(node);
+		}
+		return node;
 	}
 
 	@Override
-	public Image fetch(String path) throws IllegalArgumentException {
-		CacheNode fetched = get(path);
-		if (fetched == null) {
+	public V fetch(K key) throws IllegalArgumentException {
+		CacheNode<K, V> fetched = get(key);
+		if (fetched == null || fetched.value == null) {
 			// Cache miss
-			return load(path);
+			return load(key);
 		} else {
 			// Cache hit
-			if (fetched.value instanceof Image) {
-				return (Image) fetched.value;
-			} else {
-				remove(fetched);
-				return load(path);
-			}
+			return fetched.value;
 		}
 	}
 
@@ -123,7 +142,7 @@ public class LRUCache implements Cache {
 	public String toString() {
 		StringBuilder sb = new StringBuilder();
 
-		for (CacheNode node : this.map.values()) {
+		for (CacheNode<K, V> node : this.map.values()) {
 			if (sb.length() != 0) {
 				sb.append(", ");
 			}
@@ -136,27 +155,28 @@ public class LRUCache implements Cache {
 	}
 
 	/**
-	 * Put a node into the cache
+	 * Put a node into the cache, replacing any node with the same key
 	 *
 	 * @param node - the node to put
 	 */
-	protected synchronized void put(CacheNode node) {
-		if (this.head == null) {
-			// Cache contains no nodes
-			this.head = node;
-			this.tail = node;
-		} else {
-			// Cache contains nodes
-			node.next = this.head;
-			this.head.prev = node;
-			this.head = node;
+	protected synchronized void put(CacheNode<K, V> node) {
+		CacheNode<K, V> existing = this.map.get(node.key);
+		if (existing != null) {
+			remove(existing);
+		}
+		if (node.weight > this.capacity) {
+			// The node could never fit, so keep the cache as it is
+			return;
 		}
 
+		link(node);
+
 		// Load into map
 		this.map.put(node.key, node);
+		this.weight += node.weight;
 
 		// Eviction policy enforcement
-		if (size() > this.capacity) {
+		while (this.weight > this.capacity && this.tail != null) {
 			pop();
 		}
 	}
@@ -167,33 +187,10 @@ public class LRUCache implements Cache {
 	 *
 	 * @param node - the node to remove
 	 */
-	protected synchronized void remove(CacheNode node) {
+	protected synchronized void remove(CacheNode<K, V> node) {
 		this.map.remove(node.key);
-
-		if (this.head == node && this.tail == node) {
-			// Is the only element
-			this.head = null;
-			this.tail = null;
-		} else if (this.head == node) {
-			// Is a head node
-			// Must have next nodes
-			CacheNode next = node.next;
-			next.prev = null;
-			this.head = next;
-		} else if (this.tail == node) {
-			// Is a tail node
-			// Must have previous nodes
-			CacheNode previous = node.prev;
-			previous.next = null;
-			this.tail = previous;
-		} else {
-			// Node must have previous and next nodes, as it is not head or tail
-			CacheNode previous = node.prev;
-			CacheNode next = node.next;
-			previous.next = next;
-			next.prev = previous;
-		}
-
+		this.weight -= node.weight;
+		unlink(node);
 	}
 
 	/**
@@ -206,36 +203,63 @@ public class LRUCache implements Cache {
 	}
 
 	/**
-	 * A blocking request to retrieve an image. If the request succeeds, the image
-	 * will be cached.
+	 * Link a node as the most recently used node.
 	 *
-	 * @param path - the path to retrieve
-	 * @return the image retrieved from the path, or null
+	 * @param node - an unlinked node
 	 */
-	protected Image load(String path) {
-		try {
-			BufferedImage buf = null;
-			URL url = this.getClass().getResource(path);
-			if (url != null) {
-				// Path refers to a resource
-				buf = ImageIO.read(url);
-			} else {
-				// Path might refer to a file on the file system/local cache
-				// Try to retrieve it from the file system
-				File file = new File(path);
-				if (file.exists()) {
-					buf = ImageIO.read(file);
-				} else {
-					return null;
-				}
-			}
+	private void link(CacheNode<K, V> node) {
+		node.prev = null;
+		node.next = this.head;
+		if (this.head == null) {
+			// Cache contains no nodes
+			this.tail = node;
+		} else {
+			// Cache contains nodes
+			this.head.prev = node;
+		}
+		this.head = node;
+	}
 
-			Image result = new Image(buf);
-			CacheNode node = new CacheNode(path, result);
-			put(node);
-			return result;
+	/**
+	 * Unlink a node from the list of nodes.
+	 *
+	 * @param node - a linked node
+	 */
+	private void unlink(CacheNode<K, V> node) {
+		if (node.prev == null) {
+			// Is a head node
+			this.head = node.next;
+		} else {
+			node.prev.next = node.next;
+		}
+		if (node.next == null) {
+			// Is a tail node
+			this.tail = node.prev;
+		} else {
+			node.next.prev = node.prev;
+		}
+		node.prev = null;
+		node.next = null;
+	}
+
+	/**
+	 * A blocking request to retrieve a value from the loader. If the request
+	 * succeeds, the value will be cached.
+	 *
+	 * @param key - the key to retrieve
+	 * @return the value retrieved by the loader, or null
+	 * @see CacheLoader#load(Object)
+	 */
+	protected V load(K key) {
+		V result;
+		try {
+			result = this.loader.load(key);
 		} catch (Exception e) {
 			return null;
 		}
+		if (result != null) {
+			put(new CacheNode<K, V>(key, result, this.loader.weigh(key, result)));
+		}
+		return result;
 	}
 }
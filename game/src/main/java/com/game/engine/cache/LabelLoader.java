@@ -0,0 +1,98 @@
+package com.game.engine.cache;
+
+import java.awt.image.BufferedImage;
+import java.util.Arrays;
+
+import com.game.engine.graphics.obj.Label;
+import com.game.engine.graphics.obj.fonts.Font;
+
+/**
+ * A loader which bakes the bitmaps of {@link Label}s, so labels showing the
+ * same text in the same font and color share one bitmap rather than baking it
+ * again whenever their text changes. Every bitmap weighs its amount of pixels.
+ * <br>
+ * <br>
+ * Baked bitmaps are shared, so their pixels must not be written.
+ *
+ * @author Spencer Imbleau
+ * @version October 2026
+ * @see Font#bakeImage(int[], int)
+ */
+public class LabelLoader implements CacheLoader<LabelLoader.Key, BufferedImage> {
+
+	/**
+	 * A blocking request to bake the bitmap of a label.
+	 *
+	 * @param key - the font, keycodes and color to bake
+	 * @return the baked bitmap, or null if there are no keycodes
+	 */
+	@Override
+	public BufferedImage load(Key key) {
+		return key.font.bakeImage(key.keycodes, key.argb);
+	}
+
+	@Override
+	public int weigh(Key key, BufferedImage value) {
+		return (value == null) ? 0 : value.getWidth() * value.getHeight();
+	}
+
+	/**
+	 * The identity of a baked bitmap.
+	 *
+	 * @author Spencer Imbleau
+	 * @version October 2026
+	 */
+	public static class Key {
+
+		/**
+		 * The font the bitmap is baked in, compared by identity.
+		 */
+		final Font font;
+
+		/**
+		 * The keycodes baked.
+		 */
+		final int[] keycodes;
+
+		/**
+		 * The ARGB color of the glyphs.
+		 */
+		final int argb;
+
+		/**
+		 * Initialize a key for a bitmap.
+		 *
+		 * @param font     - the font the bitmap is baked in
+		 * @param keycodes - the keycodes baked, which are copied
+		 * @param argb     - the ARGB color of the glyphs
+		 * @throws IllegalArgumentException font and keycodes must not be null
+		 */
+		public Key(Font font, int[] keycodes, int argb) throws IllegalArgumentException {
+			if (font == null || keycodes == null) {
+				throw new IllegalArgumentException("Font and keycodes must not be null");
+			}
+			this.font = font;
+			this.keycodes = keycodes.clone();
+			this.argb = argb;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (!(obj instanceof Key)) {
+				return false;
+			}
+			Key other = (Key) obj;
+			return this.font == other.font && this.argb == other.argb
+					&& Arrays.equals(this.keycodes, other.keycodes);
+		}
+
+		@Override
+		public int hashCode() {
+			int hash = System.identityHashCode(this.font);
+			hash = 31 * hash + this.argb;
+			hash = 31 * hash + Arrays.hashCode(this.keycodes);
+			return hash;
+		}
+	}
+
+}
@@ -0,0 +1,263 @@
+package com.game.engine.cache;
+
+import java.lang.ref.WeakReference;
+import java.nio.IntBuffer;
+
+import com.game.engine.graphics.common.MipChain;
+import com.game.engine.graphics.common.SamplingMode;
+import com.game.engine.graphics.obj.Image;
+
+/**
+ * A cache of images scaled to a size in pixels, so that drawing an image at a
+ * zoom other than 1.0 only needs to copy pixels. Images are keyed by identity
+ * and version, so modifying an image (and flagging it with
+ * {@link Image#flagGLRefresh()}) makes stale scalings unreachable until they
+ * are evicted.
+ * <br>
+ * <br>
+ * Images are sampled with their {@link SamplingMode} from a {@link MipChain},
+ * whose levels are also cached. Every entry weighs its amount of pixels, which
+ * is all the cache keeps alive: keys only weakly reference their image, so
+ * discarded images can be collected while their stale scalings await eviction.
+ *
+ * @author Spencer Imbleau
+ * @version October 2026
+ */
+public class ScaledImageCache {
+
+	/**
+	 * The default capacity of a scaled image cache, in pixels (16 MB).
+	 */
+	public static final int DEFAULT_CAPACITY = 1 << 22;
+
+	/**
+	 * The scaled images, keyed by image, version, sampling, mip level and size.
+	 */
+	protected final Cache<Key, ScaledImage> cache;
+
+	/**
+	 * Initialize a scaled image cache.
+	 *
+	 * @param policy   - the eviction policy of the cache
+	 * @param capacity - the capacity of the cache, in pixels
+	 * @throws IllegalArgumentException capacity must be positive
+	 */
+	public ScaledImageCache(CachePolicy policy, int capacity) throws IllegalArgumentException {
+		this.cache = policy.create(capacity, new CacheLoader<Key, ScaledImage>() {
+			@Override
+			public ScaledImage load(Key key) {
+				return scale(key);
+			}
+
+			@Override
+			public int weigh(Key key, ScaledImage value) {
+				return (value == null) ? 0 : value.pixels.length;
+			}
+		});
+	}
+
+	/**
+	 * Fetch the pixels of an image scaled to a given size with the image's
+	 * {@link SamplingMode}. An image at its own size is not cached, and shares its
+	 * pixels with the image.
+	 *
+	 * @param image  - the image to scale
+	 * @param width  - the width to scale to
+	 * @param height - the height to scale to
+	 * @return the scaled image, or null if the image or the size has no pixels
+	 */
+	public ScaledImage fetch(Image image, int width, int height) {
+		IntBuffer pbo = image.getPBO();
+		if (pbo == null || width <= 0 || height <= 0 || image.getWidth() <= 0 || image.getHeight() <= 0) {
+			return null;
+		}
+		if (width == image.getWidth() && height == image.getHeight()) {
+			return new ScaledImage(pbo.array(), width, height);
+		}
+		return this.cache.fetch(new Key(image, image.getSampling(), 0, width, height));
+	}
+
+	/**
+	 * @return the amount of scaled images in cache
+	 */
+	public int size() {
+		return this.cache.size();
+	}
+
+	/**
+	 * @return the amount of pixels held in cache
+	 */
+	public long weight() {
+		return this.cache.weight();
+	}
+
+	/**
+	 * Clear the cache.
+	 */
+	public void purge() {
+		this.cache.purge();
+	}
+
+	/**
+	 * Helper method to compute a scaled image which is missing from cache.
+	 *
+	 * @param key - the scaled image to compute
+	 * @return the scaled image
+	 */
+	protected ScaledImage scale(Key key) {
+		// The image is strongly held by the caller fetching it
+		MipChain chain = mipChain(key.image.get());
+		if (key.sampling == null) {
+			// The key is a mip level, so halve the level above it
+			return MipChain.halve(chain.level(key.level - 1), key.width, key.height);
+		}
+		return key.sampling.sample(chain, key.width, key.height);
+	}
+
+	/**
+	 * Helper method to create a mip chain of the current version of an image,
+	 * whose levels are kept in this cache.
+	 *
+	 * @param image - the image
+	 * @return a mip chain of the image
+	 */
+	protected MipChain mipChain(Image image) {
+		return new MipChain(image.getWidth(), image.getHeight()) {
+			@Override
+			public ScaledImage level(int level) {
+				if (level == 0) {
+					return new ScaledImage(image.getPBO().array(), image.getWidth(), image.getHeight());
+				}
+				return ScaledImageCache.this.cache
+						.fetch(new Key(image, null, level, levelWidth(level), levelHeight(level)));
+			}
+		};
+	}
+
+	/**
+	 * The pixels of an image at some size.
+	 *
+	 * @author Spencer Imbleau
+	 * @version October 2026
+	 */
+	public static class ScaledImage {
+
+		/**
+		 * The pixels, stored row by row in 0xAARRGGBB format.
+		 */
+		public final int[] pixels;
+
+		/**
+		 * The width of the scaled image.
+		 */
+		public final int width;
+
+		/**
+		 * The height of the scaled image.
+		 */
+		public final int height;
+
+		/**
+		 * Initialize a scaled image.
+		 *
+		 * @param pixels - the pixels, stored row by row
+		 * @param width  - the width of the scaled image
+		 * @param height - the height of the scaled image
+		 */
+		public ScaledImage(int[] pixels, int width, int height) {
+			this.pixels = pixels;
+			this.width = width;
+			this.height = height;
+		}
+	}
+
+	/**
+	 * The identity of a scaled image.
+	 *
+	 * @author Spencer Imbleau
+	 * @version October 2026
+	 */
+	static class Key {
+
+		/**
+		 * The image which was scaled, compared by identity. The reference is weak
+		 * so that cached scalings don't keep discarded images alive.
+		 */
+		final WeakReference<Image> image;
+
+		/**
+		 * The identity hash code of the image, which outlives the reference.
+		 */
+		final int imageHash;
+
+		/**
+		 * The version of the image which was scaled.
+		 */
+		final int version;
+
+		/**
+		 * The sampling of the scaled image, or null if it is a mip level.
+		 */
+		final SamplingMode sampling;
+
+		/**
+		 * The mip level, if the scaled image is a mip level.
+		 */
+		final int level;
+
+		/**
+		 * The width of the scaled image.
+		 */
+		final int width;
+
+		/**
+		 * The height of the scaled image.
+		 */
+		final int height;
+
+		/**
+		 * Initialize a key for the current version of an image.
+		 *
+		 * @param image    - the image which was scaled
+		 * @param sampling - the sampling of the scaled image, or null if it is a mip
+		 *                 level
+		 * @param level    - the mip level, if the scaled image is a mip level
+		 * @param width    - the width of the scaled image
+		 * @param height   - the height of the scaled image
+		 */
+		Key(Image image, SamplingMode sampling, int level, int width, int height) {
+			this.image = new WeakReference<>(image);
+			this.imageHash = System.identityHashCode(image);
+			this.version = image.getVersion();
+			this.sampling = sampling;
+			this.level = level;
+			this.width = width;
+			this.height = height;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (!(obj instanceof Key)) {
+				return false;
+			}
+			Key other = (Key) obj;
+			// A key whose image was collected only equals itself
+			Image image = this.image.get();
+			return (this.image == other.image || (image != null && image == other.image.get()))
+					&& this.version == other.version
+					&& this.sampling == other.sampling && this.level == other.level
+					&& this.width == other.width && this.height == other.height;
+		}
+
+		@Override
+		public int hashCode() {
+			int hash = this.imageHash;
+			hash = 31 * hash + this.version;
+			hash = 31 * hash + ((this.sampling == null) ? -1 : this.sampling.ordinal());
+			hash = 31 * hash + this.level;
+			hash = 31 * hash + this.width;
+			hash = 31 * hash + this.height;
+			return hash;
+		}
+	}
+}
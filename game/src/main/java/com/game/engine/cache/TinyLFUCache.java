@@ -0,0 +1,442 @@
+package com.game.engine.cache;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A cache used for retrieving resources. This cache uses the W-TinyLFU
+ * (windowed tiny least frequently used) algorithm. New entries enter a small
+ * LRU window. Entries leaving the window must win an admission contest against
+ * the victim of the main region, judged by a {@link FrequencySketch}, to stay
+ * cached. The main region is a segmented LRU split into a probation and a
+ * protected segment, so entries must be used twice before they are protected.
+ * <br>
+ * <br>
+ * Unlike an {@link LRUCache}, a long stream of one-off entries cannot flush a
+ * frequently used working set out of this cache.
+ *
+ * @author Spencer Imbleau
+ * @version October 2026
+ * @param <K> - the type of keys
+ * @param <V> - the type of values
+ * @see FrequencySketch
+ */
+public class TinyLFUCache<K, V> implements Cache<K, V> {
+
+	/**
+	 * The segment of new entries.
+	 */
+	static final int WINDOW = 0;
+
+	/**
+	 * The segment of the main region for entries which have not been used since
+	 * they were admitted.
+	 */
+	static final int PROBATION = 1;
+
+	/**
+	 * The segment of the main region for entries which have been used since they
+	 * were admitted.
+	 */
+	static final int PROTECTED = 2;
+
+	/**
+	 * The percentage of the capacity given to the window.
+	 */
+	private static final int WINDOW_PERCENT = 1;
+
+	/**
+	 * The percentage of the main region given to the protected segment.
+	 */
+	private static final int PROTECTED_PERCENT = 80;
+
+	/**
+	 * The cache map. Maps keys to cache nodes.
+	 */
+	protected ConcurrentHashMap<K, CacheNode<K, V>> map;
+
+	/**
+	 * The loader for values which are missing from cache.
+	 */
+	protected final CacheLoader<? super K, V> loader;
+
+	/**
+	 * The popularity estimates of keys.
+	 */
+	protected FrequencySketch sketch;
+
+	/**
+	 * The segments of this cache, indexed by {@link #WINDOW}, {@link #PROBATION}
+	 * and {@link #PROTECTED}.
+	 */
+	protected final Segment<K, V>[] segments;
+
+	/**
+	 * The capacity for the cache, measured in weight
+	 */
+	protected int capacity;
+
+	/**
+	 * The capacity of the window segment.
+	 */
+	protected int windowCapacity;
+
+	/**
+	 * The capacity of the main region.
+	 */
+	protected int mainCapacity;
+
+	/**
+	 * The capacity of the protected segment.
+	 */
+	protected int protectedCapacity;
+
+	/**
+	 * Initialize a cache
+	 *
+	 * @param capacity - the capacity for this cache
+	 * @param loader   - the loader for values which are missing from cache
+	 * @throws IllegalArgumentException capacity must be positive and loader must
+	 *                                  not be null
+	 */
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	public TinyLFUCache(int capacity, CacheLoader<? super K, V> loader) throws IllegalArgumentException {
+		if (capacity < 0) {
+			throw new IllegalArgumentException("Capacity must be > 0, received: " + capacity);
+		}
+		if (loader == null) {
+			throw new IllegalArgumentException("Loader must not be null");
+		}
+		this.map = new ConcurrentHashMap<K, CacheNode<K, V>>(Math.min(capacity, 1 << 16));
+		this.loader = loader;
+		this.sketch = new FrequencySketch(capacity);
+		this.segments = new Segment[] { new Segment<K, V>(), new Segment<K, V>(), new Segment<K, V>() };
+		this.capacity = capacity;
+		this.windowCapacity = (capacity == 0) ? 0 : Math.max(1, (int) ((long) capacity * WINDOW_PERCENT / 100));
+		this.mainCapacity = capacity - this.windowCapacity;
+		this.protectedCapacity = (int) ((long) this.mainCapacity * PROTECTED_PERCENT / 100);
+	}
+
+	@Override
+	public int size() {
+		return this.map.size();
+	}
+
+	@Override
+	public synchronized long weight() {
+		long weight = 0;
+		for (Segment<K, V> segment : this.segments) {
+			weight += segment.weight;
+		}
+		return weight;
+	}
+
+	@Override
+	public synchronized void purge() {
+		for (Segment<K, V> segment : this.segments) {
+			segment.clear();
+		}
+		this.map.clear();
+		this.sketch.clear();
+	}
+
+	@Override
+	public synchronized void put(K key, V obj) throws IllegalArgumentException {
+		if (key == null) {
+			throw new IllegalArgumentException("Key must not be null");
+		}
+		int weight = this.loader.weigh(key, obj);
+		CacheNode<K, V> existing = this.map.get(key);
+		if (existing != null && existing.weight == weight) {
+			existing.value = obj;
+			onAccess(existing);
+		} else {
+			if (existing != null) {
+				remove(existing);
+			}
+			put(new CacheNode<K, V>(key, obj, weight));
+		}
+	}
+
+	@Override
+	public synchronized void remove(K key) {
+		if (key == null) {
+			return;
+		}
+		CacheNode<K, V> node = this.map.get(key);
+		if (node != null) {
+			remove(node);
+		}
+	}
+
+	@Override
+	public boolean contains(K key) {
+		if (key == null) {
+			return false;
+		}
+		return this.map.containsKey(key);
+	}
+
+	@Override
+	public synchronized CacheNode<K, V> get(K key) throws IllegalArgumentException {
+		if (key == null) {
+			throw new IllegalArgumentException("Key must not be null");
+		}
+		CacheNode<K, V> node = this.map.get(key);
+		if (node != null) {
+			onAccess(node);
+		}
+		return node;
+	}
+
+	@Override
+	public V fetch(K key) throws IllegalArgumentException {
+		CacheNode<K, V> fetched = get(key);
+		if (fetched == null || fetched.value == null) {
+			// Cache miss
+			return load(key);
+		} else {
+			// Cache hit
+			return fetched.value;
+		}
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder sb = new StringBuilder();
+
+		for (CacheNode<K, V> node : this.map.values()) {
+			if (sb.length() != 0) {
+				sb.append(", ");
+			}
+			sb.append(node);
+		}
+		sb.insert(0, '{');
+		sb.insert(sb.length(), '}');
+
+		return sb.toString();
+	}
+
+	/**
+	 * Put a new node into the window of the cache
+	 *
+	 * @param node - the node to put
+	 */
+	protected synchronized void put(CacheNode<K, V> node) {
+		this.sketch.increment(node.key);
+		this.map.put(node.key, node);
+		this.segments[WINDOW].addFirst(node, WINDOW);
+
+		// Eviction policy enforcement
+		evict();
+	}
+
+	/**
+	 * Remove a node from the cache. This should be done in the event of a cache
+	 * error or corrupted node, not to enforce an eviction policy.
+	 *
+	 * @param node - the node to remove
+	 */
+	protected synchronized void remove(CacheNode<K, V> node) {
+		this.map.remove(node.key);
+		this.segments[node.segment].unlink(node);
+	}
+
+	/**
+	 * Record a hit on a node and reorder the segments accordingly.
+	 *
+	 * @param node - the node which was used
+	 */
+	protected synchronized void onAccess(CacheNode<K, V> node) {
+		this.sketch.increment(node.key);
+
+		switch (node.segment) {
+		case WINDOW:
+			this.segments[WINDOW].moveToFirst(node);
+			break;
+		case PROBATION:
+			// A second use promotes the node into the protected segment
+			this.segments[PROBATION].unlink(node);
+			this.segments[PROTECTED].addFirst(node, PROTECTED);
+			// Demote the protected overflow back to probation
+			while (this.segments[PROTECTED].weight > this.protectedCapacity) {
+				CacheNode<K, V> demoted = this.segments[PROTECTED].tail;
+				this.segments[PROTECTED].unlink(demoted);
+				this.segments[PROBATION].addFirst(demoted, PROBATION);
+			}
+			break;
+		case PROTECTED:
+		default:
+			this.segments[PROTECTED].moveToFirst(node);
+			break;
+		}
+	}
+
+	/**
+	 * Move the overflow of the window into the main region. A candidate leaving
+	 * the window is admitted only if it is estimated to be more popular than
+	 * every victim which must be evicted to make room for it, and nothing is
+	 * evicted for a candidate which isn't admitted.
+	 */
+	protected synchronized void evict() {
+		Segment<K, V> window = this.segments[WINDOW];
+		Segment<K, V> probation = this.segments[PROBATION];
+		Segment<K, V> protect = this.segments[PROTECTED];
+
+		while (window.weight > this.windowCapacity) {
+			CacheNode<K, V> candidate = window.tail;
+			window.unlink(candidate);
+
+			if (candidate.weight > this.mainCapacity) {
+				// The candidate could never fit in the main region
+				this.map.remove(candidate.key);
+				continue;
+			}
+
+			// Find the victims making room for the candidate before removing any
+			List<CacheNode<K, V>> victims = new ArrayList<>();
+			long excess = probation.weight + protect.weight + candidate.weight - this.mainCapacity;
+			CacheNode<K, V> victim = (probation.tail != null) ? probation.tail : protect.tail;
+			boolean admitted = true;
+			int frequency = this.sketch.frequency(candidate.key);
+			while (excess > 0) {
+				if (frequency <= this.sketch.frequency(victim.key)) {
+					admitted = false;
+					break;
+				}
+				victims.add(victim);
+				excess -= victim.weight;
+				// Victims are taken least recently used first, from probation then protected
+				if (victim.prev != null) {
+					victim = victim.prev;
+				} else {
+					victim = (victim.segment == PROBATION) ? protect.tail : null;
+				}
+			}
+			if (admitted) {
+				victims.forEach(this::remove);
+				probation.addFirst(candidate, PROBATION);
+			} else {
+				this.map.remove(candidate.key);
+			}
+		}
+	}
+
+	/**
+	 * A blocking request to retrieve a value from the loader. If the request
+	 * succeeds, the value will be cached.
+	 *
+	 * @param key - the key to retrieve
+	 * @return the value retrieved by the loader, or null
+	 * @see CacheLoader#load(Object)
+	 */
+	protected V load(K key) {
+		V result;
+		try {
+			result = this.loader.load(key);
+		} catch (Exception e) {
+			return null;
+		}
+		if (result != null) {
+			CacheNode<K, V> node = new CacheNode<K, V>(key, result, this.loader.weigh(key, result));
+			synchronized (this) {
+				CacheNode<K, V> existing = this.map.get(key);
+				if (existing != null) {
+					remove(existing);
+				}
+				put(node);
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * A doubly-linked list of {@link CacheNode}s, ordered from most recently used
+	 * to least recently used.
+	 *
+	 * @author Spencer Imbleau
+	 * @version October 2026
+	 * @param <K> - the type of keys
+	 * @param <V> - the type of values
+	 */
+	protected static class Segment<K, V> {
+
+		/**
+		 * The most recently used node of this segment
+		 */
+		CacheNode<K, V> head;
+
+		/**
+		 * The least recently used node of this segment
+		 */
+		CacheNode<K, V> tail;
+
+		/**
+		 * The total weight of the nodes in this segment
+		 */
+		long weight;
+
+		/**
+		 * Link a node as the most recently used node of this segment.
+		 *
+		 * @param node    - an unlinked node
+		 * @param segment - the identifier of this segment
+		 */
+		void addFirst(CacheNode<K, V> node, int segment) {
+			node.segment = segment;
+			node.prev = null;
+			node.next = this.head;
+			if (this.head == null) {
+				this.tail = node;
+			} else {
+				this.head.prev = node;
+			}
+			this.head = node;
+			this.weight += node.weight;
+		}
+
+		/**
+		 * Unlink a node from this segment.
+		 *
+		 * @param node - a node in this segment
+		 */
+		void unlink(CacheNode<K, V> node) {
+			if (node.prev == null) {
+				this.head = node.next;
+			} else {
+				node.prev.next = node.next;
+			}
+			if (node.next == null) {
+				this.tail = node.prev;
+			} else {
+				node.next.prev = node.prev;
+			}
+			node.prev = null;
+			node.next = null;
+			this.weight -= node.weight;
+		}
+
+		/**
+		 * Mark a node of this segment as the most recently used.
+		 *
+		 * @param node - a node in this segment
+		 */
+		void moveToFirst(CacheNode<K, V> node) {
+			if (this.head != node) {
+				int segment = node.segment;
+				unlink(node);
+				addFirst(node, segment);
+			}
+		}
+
+		/**
+		 * Unlink every node of this segment.
+		 */
+		void clear() {
+			this.head = null;
+			this.tail = null;
+			this.weight = 0;
+		}
+	}
+}
@@ -97,26 +97,53 @@ public class Viewport {
 		this.height = height;
 	}
 
+	/**
+	 * @return the width of the plane visible by this viewport at the camera's
+	 *         current zoom
+	 */
+	public double visibleWidth() {
+		return this.width / this.camera.zoom;
+	}
+
+	/**
+	 * @return the height of the plane visible by this viewport at the camera's
+	 *         current zoom
+	 */
+	public double visibleHeight() {
+		return this.height / this.camera.zoom;
+	}
+
 	/**
 	 * @param x - an x co-ordinate
 	 * @param y - a y co-ordinate
 	 * @return true if the viewport can see the given point, false otherwise
 	 */
 	public boolean canSee(double x, double y) {
+		return this.canSee(x, y, 0, 0);
+	}
+
+	/**
+	 * @param x      - the x co-ordinate of a box
+	 * @param y      - the y co-ordinate of a box
+	 * @param width  - the width of a box
+	 * @param height - the height of a box
+	 * @return true if the viewport can see any of the given box, false otherwise
+	 */
+	public boolean canSee(double x, double y, double width, double height) {
 		// Too far west
-		if (this.origin.x() > x) {
+		if (this.origin.x() > x + width) {
 			return false;
 		}
 		// Too far east
-		if (x > this.origin.x() + this.width) {
+		if (x > this.origin.x() + this.visibleWidth()) {
 			return false;
 		}
 		// Too far north
-		if (this.origin.y() > y) {
+		if (this.origin.y() > y + height) {
 			return false;
 		}
 		// To far south
-		if (y > this.origin.y() + this.height) {
+		if (y > this.origin.y() + this.visibleHeight()) {
 			return false;
 		}
 		return true;
@@ -124,10 +151,11 @@ public class Viewport {
 
 	/**
 	 * @param obj - an object
-	 * @return true if the viewport can see the given object, false otherwise
+	 * @return true if the viewport can see any of the given object's bounds,
+	 *         false otherwise
 	 */
 	public boolean canSee(AbstractGameObject obj) {
-		return this.canSee(obj.position.x(), obj.position.y());
+		return this.canSee(obj.boundsX(), obj.boundsY(), obj.boundsWidth(), obj.boundsHeight());
 	}
 
 	/**
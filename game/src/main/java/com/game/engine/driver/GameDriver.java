@@ -5,9 +5,14 @@ import java.time.Instant;
 import java.util.logging.Level;
 
 import com.game.engine.cache.Cache;
+import com.game.engine.cache.CachePolicy;
+import com.game.engine.cache.FontLoader;
+import com.game.engine.camera.AbstractCamera;
 import com.game.engine.display.DisplaySettings;
 import com.game.engine.display.GameDisplay;
 import com.game.engine.game.AbstractGame;
+import com.game.engine.graphics.obj.Image;
+import com.game.engine.graphics.obj.fonts.Font;
 import com.game.engine.input.Input;
 import com.game.engine.input.MouseKeyboard;
 import com.game.engine.logger.PowerLogger;
@@ -21,15 +26,25 @@ import com.game.engine.logger.PowerLogger;
  */
 public class GameDriver implements Runnable {
 
+	/**
+	 * The amount of fonts kept in the font cache
+	 */
+	public static final int FONT_CAPACITY = 16;
+
 	/**
 	 * The settings for the driver
 	 */
 	public final DriverSettings settings;
 
 	/**
-	 * The cache
+	 * The image cache
 	 */
-	public final Cache cache;
+	public final Cache<String, Image> cache;
+
+	/**
+	 * The font cache, of compiled fonts by path
+	 */
+	public final Cache<String, Font> fonts;
 
 	/**
 	 * The game being played
@@ -78,9 +93,10 @@ public class GameDriver implements Runnable {
 	 * @param cache    - a cache for reusable assets
 	 * @param game     - a game to manage
 	 */
-	public GameDriver(final DriverSettings settings, final Cache cache, final AbstractGame game) {
+	public GameDriver(final DriverSettings settings, final Cache<String, Image> cache, final AbstractGame game) {
 		this.settings = settings;
 		this.cache = cache;
+		this.fonts = CachePolicy.LRU.create(FONT_CAPACITY, new FontLoader());
 		this.game = game;
 		this.display = null;
 		this.input = null;
@@ -190,7 +206,9 @@ public class GameDriver implements Runnable {
 				while (durationSinceLastUpdate.toNanos() >= settings.getTickDuration().toNanos()) {
 					durationSinceLastUpdate = durationSinceLastUpdate.minus(settings.getTickDuration());
 
-					this.display.getRenderer().getCamera().update(this);
+					for (AbstractCamera camera : this.display.getRenderer().getCameras()) {
+						camera.update(this);
+					}
 					this.game.update(this);
 					this.input.update();
 					this.lastUpdate = Instant.now();
@@ -3,7 +3,10 @@ package com.game.engine.driver;
 import java.util.Optional;
 
 import com.game.engine.cache.Cache;
+import com.game.engine.cache.CachePolicy;
+import com.game.engine.cache.ImageLoader;
 import com.game.engine.game.AbstractGame;
+import com.game.engine.graphics.obj.Image;
 
 /**
  * A factory pattern which generates a GameDriver.
@@ -26,7 +29,7 @@ public class GameDriverFactory {
 	/**
 	 * The stage for a cache.
 	 */
-	Optional<Cache> cache = Optional.empty();
+	Optional<Cache<String, Image>> cache = Optional.empty();
 
 	/**
 	 * The stage for a game.
@@ -57,11 +60,23 @@ public class GameDriverFactory {
 	 * 
 	 * @param cache - the cache to be staged.
 	 */
-	public void setCache(Cache cache) {
+	public void setCache(Cache<String, Image> cache) {
 		this.cache = Optional.of(cache);
 		;
 	}
 
+	/**
+	 * Stage a new, empty image cache with a given eviction policy for use by this
+	 * factory.
+	 * 
+	 * @param policy   - the eviction policy of the cache
+	 * @param capacity - the capacity of the cache
+	 * @throws IllegalArgumentException capacity must be positive
+	 */
+	public void setCache(CachePolicy policy, int capacity) {
+		this.cache = Optional.of(policy.create(capacity, new ImageLoader()));
+	}
+
 	/**
 	 * Stage a game for use by this factory.
 	 * 
@@ -0,0 +1,112 @@
+package com.game.engine.ecs;
+
+import java.util.Arrays;
+
+/**
+ * A store of a component made of doubles, such as a position or velocity. Each
+ * field of the component is kept in its own dense array, so a system reading
+ * one field reads contiguous memory.
+ *
+ * @author Spencer Imbleau
+ * @version October 2026
+ */
+public class DoubleStore extends SparseSet {
+
+	/**
+	 * The values of each field, parallel to the dense array of entities.
+	 */
+	private final double[][] columns;
+
+	/**
+	 * Initialize an empty store.
+	 *
+	 * @param fields - the amount of fields of the component
+	 * @throws IllegalArgumentException components need at least 1 field
+	 */
+	public DoubleStore(int fields) throws IllegalArgumentException {
+		if (fields <= 0) {
+			throw new IllegalArgumentException("Components need at least 1 field");
+		}
+		this.columns = new double[fields][INITIAL_CAPACITY];
+	}
+
+	/**
+	 * @return the amount of fields of the component
+	 */
+	public int fields() {
+		return this.columns.length;
+	}
+
+	/**
+	 * Returns the values of a field, parallel to {@link #entities()}. Values may
+	 * be read and written for positions below {@link #size()}. The array is
+	 * replaced when the store grows.
+	 *
+	 * @param field - a field of the component
+	 * @return the dense array of the field's values
+	 */
+	public double[] column(int field) {
+		return this.columns[field];
+	}
+
+	/**
+	 * @param entity - an entity with the component
+	 * @param field  - a field of the component
+	 * @return the value of the field for the entity
+	 * @throws IllegalArgumentException if the entity doesn't have the component
+	 */
+	public double get(int entity, int field) throws IllegalArgumentException {
+		return this.columns[field][require(entity)];
+	}
+
+	/**
+	 * Set the value of a field for an entity, giving it the component if it
+	 * doesn't have it.
+	 *
+	 * @param entity - an entity
+	 * @param field  - a field of the component
+	 * @param value  - the value of the field
+	 */
+	public void set(int entity, int field, double value) {
+		// Add first, as adding may replace the column
+		int position = add(entity);
+		this.columns[field][position] = value;
+	}
+
+	/**
+	 * Helper method to find an entity which must have the component.
+	 *
+	 * @param entity - an entity
+	 * @return the position of the entity's values
+	 * @throws IllegalArgumentException if the entity doesn't have the component
+	 */
+	private int require(int entity) throws IllegalArgumentException {
+		int position = indexOf(entity);
+		if (position < 0) {
+			throw new IllegalArgumentException("Entity " + entity + " doesn't have this component");
+		}
+		return position;
+	}
+
+	@Override
+	protected void grow(int capacity) {
+		for (int field = 0; field < this.columns.length; field++) {
+			this.columns[field] = Arrays.copyOf(this.columns[field], capacity);
+		}
+	}
+
+	@Override
+	protected void move(int from, int to) {
+		for (double[] column : this.columns) {
+			column[to] = column[from];
+		}
+	}
+
+	@Override
+	protected void clear(int position) {
+		for (double[] column : this.columns) {
+			column[position] = 0;
+		}
+	}
+
+}
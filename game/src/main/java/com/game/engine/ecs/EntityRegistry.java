@@ -0,0 +1,235 @@
+package com.game.engine.ecs;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import com.game.engine.driver.GameDriver;
+import com.game.engine.game.AbstractComponent;
+import com.game.engine.game.Access;
+import com.game.engine.game.TickScheduler;
+import com.game.engine.rendering.common.AbstractRenderer;
+
+/**
+ * A registry of entities, the stores of their components, and the systems
+ * which update them. An entity is only an int: the index of a slot, which is
+ * reused after the entity is destroyed, and the generation of the slot, so a
+ * destroyed entity is never mistaken for the entity which reuses its slot.
+ * Components live in {@link SparseSet} stores of primitive arrays rather than
+ * in objects, so a system iterating many entities reads contiguous memory.
+ * <br>
+ * <br>
+ * A registry is a component, so a plane runs its systems each tick alongside
+ * its game objects. Systems which declare their {@link EntitySystem#access()}
+ * are updated at the same time where they don't conflict. Game objects may be given entities with a
+ * {@link GameObjectAdapter}.
+ *
+ * @author Spencer Imbleau
+ * @version October 2026
+ */
+public class EntityRegistry extends AbstractComponent {
+
+	/**
+	 * The entity which is never alive.
+	 */
+	public static final int NONE = -1;
+
+	/**
+	 * The bits of an entity which are the index of its slot.
+	 */
+	public static final int INDEX_BITS = 24;
+
+	/**
+	 * The mask of the bits of an entity which are the index of its slot.
+	 */
+	public static final int INDEX_MASK = (1 << INDEX_BITS) - 1;
+
+	/**
+	 * The generation of each slot, which increases when its entity is destroyed.
+	 */
+	private int[] generations = new int[SparseSet.INITIAL_CAPACITY];
+
+	/**
+	 * The amount of slots ever used.
+	 */
+	private int slots = 0;
+
+	/**
+	 * The slots of destroyed entities, to be reused.
+	 */
+	private int[] free = new int[SparseSet.INITIAL_CAPACITY];
+
+	/**
+	 * The amount of slots to be reused.
+	 */
+	private int freeCount = 0;
+
+	/**
+	 * The stores of components entities are removed from when destroyed.
+	 */
+	private final List<SparseSet> stores = new ArrayList<>();
+
+	/**
+	 * The systems, in the order they run.
+	 */
+	private final List<EntitySystem> systems = new ArrayList<>();
+
+	/**
+	 * The scheduler which updates systems.
+	 */
+	private final TickScheduler scheduler = new TickScheduler();
+
+	/**
+	 * @param entity - an entity
+	 * @return the index of the entity's slot
+	 */
+	public static int index(int entity) {
+		return entity & INDEX_MASK;
+	}
+
+	/**
+	 * @param entity - an entity
+	 * @return the generation of the entity's slot when it was created
+	 */
+	public static int generation(int entity) {
+		return entity >>> INDEX_BITS;
+	}
+
+	/**
+	 * Create an entity with no components.
+	 *
+	 * @return the entity
+	 * @throws IllegalStateException if every slot is in use
+	 */
+	public int create() throws IllegalStateException {
+		int index;
+		if (this.freeCount > 0) {
+			index = this.free[--this.freeCount];
+		} else {
+			if (this.slots == INDEX_MASK) {
+				throw new IllegalStateException("A registry may hold at most " + INDEX_MASK + " entities");
+			}
+			index = this.slots++;
+			if (index == this.generations.length) {
+				this.generations = Arrays.copyOf(this.generations, 2 * index);
+			}
+		}
+		// The last index is never used, so no entity is NONE
+		return this.generations[index] << INDEX_BITS | index;
+	}
+
+	/**
+	 * Destroy an entity, removing it from every registered store. The slot of the
+	 * entity is reused by a later entity.
+	 *
+	 * @param entity - an entity
+	 * @return true if the entity was alive, false otherwise
+	 */
+	public boolean destroy(int entity) {
+		if (!isAlive(entity)) {
+			return false;
+		}
+		for (SparseSet store : this.stores) {
+			store.remove(entity);
+		}
+		int index = index(entity);
+		this.generations[index] = (this.generations[index] + 1) & (-1 >>> INDEX_BITS);
+		if (this.freeCount == this.free.length) {
+			this.free = Arrays.copyOf(this.free, 2 * this.freeCount);
+		}
+		this.free[this.freeCount++] = index;
+		return true;
+	}
+
+	/**
+	 * @param entity - an entity
+	 * @return true if the entity was created and not yet destroyed, false
+	 *         otherwise
+	 */
+	public boolean isAlive(int entity) {
+		int index = index(entity);
+		return entity != NONE && index < this.slots && this.generations[index] == generation(entity);
+	}
+
+	/**
+	 * @return the amount of living entities
+	 */
+	public int count() {
+		return this.slots - this.freeCount;
+	}
+
+	/**
+	 * Register a store of components, so entities are removed from it when
+	 * destroyed.
+	 *
+	 * @param <S>   - the type of the store
+	 * @param store - a store of components
+	 * @return the store
+	 */
+	public <S extends SparseSet> S register(S store) {
+		if (!this.stores.contains(store)) {
+			this.stores.add(store);
+		}
+		return store;
+	}
+
+	/**
+	 * @return the registered stores of components
+	 */
+	public List<SparseSet> stores() {
+		return Collections.unmodifiableList(this.stores);
+	}
+
+	/**
+	 * Add a system, which runs after the systems added before it.
+	 *
+	 * @param system - a system
+	 */
+	public void addSystem(EntitySystem system) {
+		this.systems.add(system);
+	}
+
+	/**
+	 * @param system - a system
+	 * @return true if the system was removed, false if it wasn't added
+	 */
+	public boolean removeSystem(EntitySystem system) {
+		return this.systems.remove(system);
+	}
+
+	/**
+	 * @return the systems, in the order they run
+	 */
+	public List<EntitySystem> systems() {
+		return Collections.unmodifiableList(this.systems);
+	}
+
+	@Override
+	public void update(GameDriver driver) {
+		this.scheduler.run(this.systems, EntitySystem::access, system -> system.update(driver, this));
+	}
+
+	/**
+	 * Returns the access of updating every system, which is exclusive if any
+	 * system is.
+	 *
+	 * @return the access of an update
+	 */
+	@Override
+	public Access access() {
+		Access access = Access.NONE;
+		for (EntitySystem system : this.systems) {
+			access = access.union(system.access());
+		}
+		return access;
+	}
+
+	@Override
+	public void stage(GameDriver driver, AbstractRenderer renderer) {
+		for (EntitySystem system : this.systems) {
+			system.stage(driver, renderer, this);
+		}
+	}
+
+}
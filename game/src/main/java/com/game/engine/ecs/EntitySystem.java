@@ -0,0 +1,52 @@
+package com.game.engine.ecs;
+
+import com.game.engine.driver.GameDriver;
+import com.game.engine.game.Access;
+import com.game.engine.rendering.common.AbstractRenderer;
+
+/**
+ * Behaviour run every tick over the entities of an {@link EntityRegistry} with
+ * certain components, such as moving every entity with a position and a
+ * velocity. Systems hold no entity data of their own beyond the stores they
+ * read and write, and should iterate the dense arrays of those stores rather
+ * than look entities up one at a time.
+ *
+ * @author Spencer Imbleau
+ * @version October 2026
+ */
+public abstract class EntitySystem {
+
+	/**
+	 * Update the entities of a registry.
+	 *
+	 * @param driver   - the driver for the game
+	 * @param registry - the registry the system was added to
+	 */
+	public abstract void update(GameDriver driver, EntityRegistry registry);
+
+	/**
+	 * Returns the stores and other resources this system reads and writes when
+	 * updated, so the registry may update it at the same time as systems it
+	 * doesn't conflict with. Giving entities a component writes its store.
+	 * Systems which create or destroy entities touch every store, and must not
+	 * override this.
+	 *
+	 * @return the access of an update
+	 */
+	public Access access() {
+		return Access.EXCLUSIVE;
+	}
+
+	/**
+	 * Stage any requests for rendering the entities of a registry. Systems which
+	 * don't draw need not override this.
+	 *
+	 * @param driver   - the driver for the game
+	 * @param renderer - the renderer for staging
+	 * @param registry - the registry the system was added to
+	 */
+	public void stage(GameDriver driver, AbstractRenderer renderer, EntityRegistry registry) {
+		// Nothing to draw
+	}
+
+}
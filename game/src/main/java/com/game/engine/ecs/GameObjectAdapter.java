@@ -0,0 +1,113 @@
+package com.game.engine.ecs;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import com.game.engine.driver.GameDriver;
+import com.game.engine.game.AbstractGameObject;
+import com.game.engine.game.Access;
+
+/**
+ * A system which lets game objects take part in a registry. A game object is
+ * attached to an entity with its position, so systems such as a
+ * {@link MotionSystem} move it with the entities, and each tick the adapter
+ * moves every attached object which was moved by a system to its entity's
+ * position. Objects are still updated and drawn by their plane, so the adapter
+ * should run after the systems which move entities.
+ *
+ * @author Spencer Imbleau
+ * @version October 2026
+ */
+public class GameObjectAdapter extends EntitySystem {
+
+	/**
+	 * The game object of each attached entity.
+	 */
+	public final ObjectStore<AbstractGameObject> objects;
+
+	/**
+	 * The positions of entities, with an x and a y field.
+	 */
+	public final DoubleStore positions;
+
+	/**
+	 * The registry objects are attached to.
+	 */
+	private final EntityRegistry registry;
+
+	/**
+	 * Initialize an adapter, registering its stores with a registry.
+	 *
+	 * @param registry  - the registry objects are attached to
+	 * @param positions - the positions of entities, with an x and a y field
+	 * @throws IllegalArgumentException if the positions don't have 2 fields
+	 */
+	public GameObjectAdapter(EntityRegistry registry, DoubleStore positions) throws IllegalArgumentException {
+		if (positions.fields() != 2) {
+			throw new IllegalArgumentException("Positions need an x and a y field");
+		}
+		this.registry = registry;
+		this.objects = registry.register(new ObjectStore<AbstractGameObject>());
+		this.positions = registry.register(positions);
+	}
+
+	/**
+	 * Attach a game object to a new entity with the object's position.
+	 *
+	 * @param obj - a game object
+	 * @return the entity of the object
+	 */
+	public int attach(AbstractGameObject obj) {
+		int entity = this.registry.create();
+		this.objects.set(entity, obj);
+		this.positions.set(entity, 0, obj.position.x());
+		this.positions.set(entity, 1, obj.position.y());
+		return entity;
+	}
+
+	/**
+	 * Detach a game object, destroying its entity.
+	 *
+	 * @param entity - the entity of a game object
+	 * @return true if an object was attached to the entity, false otherwise
+	 */
+	public boolean detach(int entity) {
+		return this.objects.contains(entity) && this.registry.destroy(entity);
+	}
+
+	/**
+	 * Copy the positions of attached objects into their entities, for objects
+	 * which were moved outside of the registry.
+	 */
+	public void pull() {
+		int[] entities = this.objects.entities();
+		for (int i = 0; i < this.objects.size(); i++) {
+			AbstractGameObject obj = this.objects.at(i);
+			int position = this.positions.add(entities[i]);
+			this.positions.column(0)[position] = obj.position.x();
+			this.positions.column(1)[position] = obj.position.y();
+		}
+	}
+
+	@Override
+	public Access access() {
+		return new Access(Arrays.asList(this.objects, this.positions),
+				Collections.singletonList(AbstractGameObject.class));
+	}
+
+	@Override
+	public void update(GameDriver driver, EntityRegistry registry) {
+		int[] entities = this.objects.entities();
+		double[] x = this.positions.column(0);
+		double[] y = this.positions.column(1);
+		for (int i = 0; i < this.objects.size(); i++) {
+			int position = this.positions.indexOf(entities[i]);
+			AbstractGameObject obj = this.objects.at(i);
+			if (position >= 0 && (x[position] != obj.position.x() || y[position] != obj.position.y())) {
+				// Moving re-chunks the object and redraws any cache of it
+				obj.move(driver, x[position], y[position]);
+			}
+		}
+	}
+
+}
@@ -0,0 +1,73 @@
+package com.game.engine.ecs;
+
+import java.util.Collections;
+
+import com.game.engine.driver.GameDriver;
+import com.game.engine.game.Access;
+
+/**
+ * A system which moves every entity with a position and a velocity, such as
+ * bullets or debris, by its velocity each tick.
+ *
+ * @author Spencer Imbleau
+ * @version October 2026
+ */
+public class MotionSystem extends EntitySystem {
+
+	/**
+	 * The positions of entities, with an x and a y field.
+	 */
+	public final DoubleStore positions;
+
+	/**
+	 * The velocities of entities, in pixels per second, with an x and a y field.
+	 */
+	public final DoubleStore velocities;
+
+	/**
+	 * Initialize a motion system.
+	 *
+	 * @param positions  - the positions of entities, with an x and a y field
+	 * @param velocities - the velocities of entities, with an x and a y field
+	 * @throws IllegalArgumentException if either store doesn't have 2 fields
+	 */
+	public MotionSystem(DoubleStore positions, DoubleStore velocities) throws IllegalArgumentException {
+		if (positions.fields() != 2 || velocities.fields() != 2) {
+			throw new IllegalArgumentException("Positions and velocities need an x and a y field");
+		}
+		this.positions = positions;
+		this.velocities = velocities;
+	}
+
+	/**
+	 * Move every entity with a position and a velocity.
+	 *
+	 * @param dt - the time passed, in seconds
+	 */
+	public void step(double dt) {
+		// Walk the dense velocities in order, finding each entity's position
+		int[] entities = this.velocities.entities();
+		double[] vx = this.velocities.column(0);
+		double[] vy = this.velocities.column(1);
+		double[] x = this.positions.column(0);
+		double[] y = this.positions.column(1);
+		for (int i = 0; i < this.velocities.size(); i++) {
+			int position = this.positions.indexOf(entities[i]);
+			if (position >= 0) {
+				x[position] += vx[i] * dt;
+				y[position] += vy[i] * dt;
+			}
+		}
+	}
+
+	@Override
+	public Access access() {
+		return new Access(Collections.singletonList(this.velocities), Collections.singletonList(this.positions));
+	}
+
+	@Override
+	public void update(GameDriver driver, EntityRegistry registry) {
+		step(1d / driver.settings.getTicksPerSecond());
+	}
+
+}
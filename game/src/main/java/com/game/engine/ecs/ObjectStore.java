@@ -0,0 +1,67 @@
+package com.game.engine.ecs;
+
+import java.util.Arrays;
+
+/**
+ * A store of a component which is an object, such as a reference to the game
+ * object an entity stands for. Objects are kept in a dense array of references,
+ * so prefer a {@link DoubleStore} for data systems read every tick.
+ *
+ * @author Spencer Imbleau
+ * @version October 2026
+ * @param <T> - the type of the component
+ */
+public class ObjectStore<T> extends SparseSet {
+
+	/**
+	 * The values, parallel to the dense array of entities.
+	 */
+	private Object[] values = new Object[INITIAL_CAPACITY];
+
+	/**
+	 * @param entity - an entity
+	 * @return the entity's component, or null if it doesn't have it
+	 */
+	@SuppressWarnings("unchecked")
+	public T get(int entity) {
+		int position = indexOf(entity);
+		return (position < 0) ? null : (T) this.values[position];
+	}
+
+	/**
+	 * @param position - a position below {@link #size()}
+	 * @return the component at the position, parallel to {@link #entities()}
+	 */
+	@SuppressWarnings("unchecked")
+	public T at(int position) {
+		return (T) this.values[position];
+	}
+
+	/**
+	 * Set an entity's component, giving it the component if it doesn't have it.
+	 *
+	 * @param entity - an entity
+	 * @param value  - the component
+	 */
+	public void set(int entity, T value) {
+		// Add first, as adding may replace the array
+		int position = add(entity);
+		this.values[position] = value;
+	}
+
+	@Override
+	protected void grow(int capacity) {
+		this.values = Arrays.copyOf(this.values, capacity);
+	}
+
+	@Override
+	protected void move(int from, int to) {
+		this.values[to] = this.values[from];
+	}
+
+	@Override
+	protected void clear(int position) {
+		this.values[position] = null;
+	}
+
+}
@@ -0,0 +1,165 @@
+package com.game.engine.ecs;
+
+import java.util.Arrays;
+
+/**
+ * A store of one kind of component for any number of entities, kept as a
+ * sparse set. The entities with the component are packed at the front of a
+ * dense array, and subclasses keep their component values in arrays parallel
+ * to it, so systems iterate the values of every entity contiguously. A sparse
+ * array maps each entity's index to its position in the dense array, so
+ * entities are found, added and removed in constant time. Removing an entity
+ * moves the last entity into its place.
+ *
+ * @author Spencer Imbleau
+ * @version October 2026
+ * @see EntityRegistry
+ */
+public abstract class SparseSet {
+
+	/**
+	 * The initial capacity of the dense arrays.
+	 */
+	protected static final int INITIAL_CAPACITY = 16;
+
+	/**
+	 * The position of each entity index in the dense array, or -1 if absent.
+	 */
+	private int[] sparse = new int[0];
+
+	/**
+	 * The entities with the component, packed at the front.
+	 */
+	private int[] dense = new int[INITIAL_CAPACITY];
+
+	/**
+	 * The amount of entities with the component.
+	 */
+	private int size = 0;
+
+	/**
+	 * @return the amount of entities with the component
+	 */
+	public int size() {
+		return this.size;
+	}
+
+	/**
+	 * Returns the entities with the component, packed at the front of the array.
+	 * The entity at each position owns the values at that position in the
+	 * subclass's arrays. The array must not be modified, and is replaced when the
+	 * store grows.
+	 *
+	 * @return the dense array of entities
+	 */
+	public int[] entities() {
+		return this.dense;
+	}
+
+	/**
+	 * @param entity - an entity
+	 * @return true if the entity has the component, false otherwise
+	 */
+	public boolean contains(int entity) {
+		return indexOf(entity) >= 0;
+	}
+
+	/**
+	 * @param entity - an entity
+	 * @return the position of the entity's values in the dense arrays, or -1 if
+	 *         the entity doesn't have the component
+	 */
+	public int indexOf(int entity) {
+		int index = EntityRegistry.index(entity);
+		if (index >= this.sparse.length) {
+			return -1;
+		}
+		int position = this.sparse[index];
+		return (position >= 0 && this.dense[position] == entity) ? position : -1;
+	}
+
+	/**
+	 * Give an entity the component, with zeroed values, unless it has it already.
+	 *
+	 * @param entity - an entity
+	 * @return the position of the entity's values in the dense arrays
+	 */
+	public int add(int entity) {
+		int position = indexOf(entity);
+		if (position >= 0) {
+			return position;
+		}
+		int index = EntityRegistry.index(entity);
+		if (index >= this.sparse.length) {
+			int length = this.sparse.length;
+			this.sparse = Arrays.copyOf(this.sparse, Math.max(index + 1, 2 * length));
+			Arrays.fill(this.sparse, length, this.sparse.length, -1);
+		}
+		if (this.size == this.dense.length) {
+			this.dense = Arrays.copyOf(this.dense, 2 * this.size);
+			grow(this.dense.length);
+		}
+		position = this.size++;
+		this.dense[position] = entity;
+		this.sparse[index] = position;
+		return position;
+	}
+
+	/**
+	 * Take the component away from an entity, if it has it.
+	 *
+	 * @param entity - an entity
+	 * @return true if the entity had the component, false otherwise
+	 */
+	public boolean remove(int entity) {
+		int position = indexOf(entity);
+		if (position < 0) {
+			return false;
+		}
+		int last = --this.size;
+		if (position != last) {
+			int moved = this.dense[last];
+			this.dense[position] = moved;
+			this.sparse[EntityRegistry.index(moved)] = position;
+			move(last, position);
+		}
+		this.sparse[EntityRegistry.index(entity)] = -1;
+		clear(last);
+		return true;
+	}
+
+	/**
+	 * Take the component away from every entity.
+	 */
+	public void clear() {
+		for (int position = 0; position < this.size; position++) {
+			this.sparse[EntityRegistry.index(this.dense[position])] = -1;
+			clear(position);
+		}
+		this.size = 0;
+	}
+
+	/**
+	 * Grow the arrays of component values.
+	 *
+	 * @param capacity - the new capacity of the dense arrays
+	 */
+	protected abstract void grow(int capacity);
+
+	/**
+	 * Move the component values at one position of the dense arrays to another.
+	 *
+	 * @param from - the position to move from
+	 * @param to   - the position to move to
+	 */
+	protected abstract void move(int from, int to);
+
+	/**
+	 * Reset the component values at a position of the dense arrays which no
+	 * longer holds an entity.
+	 *
+	 * @param position - a position of the dense arrays
+	 */
+	protected abstract void clear(int position);
+
+}
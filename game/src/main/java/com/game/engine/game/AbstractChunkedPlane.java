@@ -1,5 +1,7 @@
 package com.game.engine.game;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.stream.Stream;
 
 import com.game.engine.driver.GameDriver;
@@ -72,10 +74,18 @@ public abstract class AbstractChunkedPlane extends AbstractPlane {
 		this.chunker.chunk(driver);
 
 		// Update viewable chunks
-		this.chunker.scan(driver, driver.getDisplay().getRenderer().getCamera());
+		this.chunker.scan(driver, driver.getDisplay().getRenderer().getCameras());
+		List<AbstractGameObject> viewable = new ArrayList<>();
 		for (Chunk chunk : this.chunker.viewableChunks()) {
 			chunk.update(driver);
+			chunk.objects().forEach(viewable::add);
 		}
+
+		// Find contacts between bodies, which only move in viewable chunks
+		this.physics.step(viewable);
+
+		// Update all components
+		this.scheduler.run(this.components, AbstractComponent::access, component -> component.update(driver));
 	}
 
 	@Override
@@ -84,6 +94,14 @@ public abstract class AbstractChunkedPlane extends AbstractPlane {
 		for (Chunk chunk : this.chunker.viewableChunks()) {
 			chunk.stage(driver, renderer);
 		}
+
+		// Stage all components
+		this.components.forEach(component -> component.stage(driver, renderer));
+	}
+
+	@Override
+	public Iterable<AbstractGameObject> objectsWithin(double left, double top, double right, double bottom) {
+		return this.chunker.objectsWithin(left, top, right, bottom);
 	}
 
 	@Override
@@ -36,4 +36,16 @@ public abstract class AbstractComponent implements Updateable, Renderable {
 	@Override
 	public abstract void stage(GameDriver driver, AbstractRenderer renderer);
 
+	/**
+	 * Returns what this component reads and writes when updated, so a
+	 * {@link TickScheduler} may update it at the same time as components it
+	 * doesn't conflict with. Components which don't override this are updated
+	 * alone.
+	 *
+	 * @return the access of an update
+	 */
+	public Access access() {
+		return Access.EXCLUSIVE;
+	}
+
 }
@@ -56,6 +56,20 @@ public abstract class AbstractGameObject implements Updateable, Renderable, GLOb
 	 */
 	private PhysicsComponent physics = null;
 
+	/**
+	 * Whether this object is static, i.e. it rarely changes its appearance.
+	 *
+	 * @see #setStatic(boolean)
+	 */
+	private boolean isStatic = false;
+
+	/**
+	 * A counter which changes whenever this object's appearance changes.
+	 *
+	 * @see #invalidate()
+	 */
+	private int version = 0;
+
 	/**
 	 * @return the pixel width of the object
 	 */
@@ -70,6 +84,79 @@ public abstract class AbstractGameObject implements Updateable, Renderable, GLOb
 		return this.height;
 	}
 
+	/**
+	 * @return true if this object is static, false otherwise
+	 * @see #setStatic(boolean)
+	 */
+	public boolean isStatic() {
+		return this.isStatic;
+	}
+
+	/**
+	 * Mark this object as static or dynamic. Static objects in a chunk are drawn
+	 * once into the chunk's static layer, which is drawn in place of them until
+	 * one of them changes. A static object must call {@link #invalidate()}
+	 * whenever its appearance changes.
+	 *
+	 * @param isStatic - true if this object is static, false otherwise
+	 * @see Chunk
+	 */
+	public void setStatic(boolean isStatic) {
+		this.isStatic = isStatic;
+		this.invalidate();
+	}
+
+	/**
+	 * @return a counter which changes whenever this object's appearance changes
+	 * @see #invalidate()
+	 */
+	public int getVersion() {
+		return this.version;
+	}
+
+	/**
+	 * Flag that this object's appearance has changed, so any cached drawing of it
+	 * is redrawn.
+	 */
+	public void invalidate() {
+		this.version++;
+	}
+
+	/**
+	 * Returns the x co-ordinate of the box bounding everything this object
+	 * stages. Objects which stage outside of their position and size should
+	 * override the bounds, or they may be culled while still visible.
+	 *
+	 * @return the x co-ordinate of the bounds of the object
+	 */
+	public double boundsX() {
+		return this.position.x();
+	}
+
+	/**
+	 * @return the y co-ordinate of the bounds of the object
+	 * @see #boundsX()
+	 */
+	public double boundsY() {
+		return this.position.y();
+	}
+
+	/**
+	 * @return the width of the bounds of the object
+	 * @see #boundsX()
+	 */
+	public double boundsWidth() {
+		return this.width;
+	}
+
+	/**
+	 * @return the height of the bounds of the object
+	 * @see #boundsX()
+	 */
+	public double boundsHeight() {
+		return this.height;
+	}
+
 	/**
 	 * Initialize this object.
 	 *
@@ -128,6 +215,7 @@ public abstract class AbstractGameObject implements Updateable, Renderable, GLOb
 		}
 
 		this.position.set(targetPosition);
+		this.invalidate();
 	}
 
 	public boolean hasPhysics() {
@@ -29,6 +29,7 @@ public abstract class AbstractMotionGameObject extends AbstractGameObject {
 	 */
 	public void setSpeed(double speed) {
 		this.speed = speed;
+		wakePhysics();
 	}
 
 	/**
@@ -45,6 +46,7 @@ public abstract class AbstractMotionGameObject extends AbstractGameObject {
 	 */
 	public void setDirection(double direction) {
 		this.direction = direction;
+		wakePhysics();
 	}
 
 	/**
@@ -83,6 +85,7 @@ public abstract class AbstractMotionGameObject extends AbstractGameObject {
 	 */
 	public void turnCW(double radians) {
 		this.direction += radians;
+		wakePhysics();
 	}
 
 	/**
@@ -92,6 +95,17 @@ public abstract class AbstractMotionGameObject extends AbstractGameObject {
 	 */
 	public void turnCCW(double radians) {
 		this.direction -= radians;
+		wakePhysics();
+	}
+
+	/**
+	 * Helper method to wake this object's body, if it has one, when its motion
+	 * changes.
+	 */
+	private void wakePhysics() {
+		if (this.hasPhysics()) {
+			this.getPhysics().wake();
+		}
 	}
 
 	@Override
@@ -102,10 +116,22 @@ public abstract class AbstractMotionGameObject extends AbstractGameObject {
 		double dx = this.dx(uDt);
 		double dy = this.dy(uDt);
 
-		if (dx != 0 && dy != 0) {
-			// TODO Collision check here instead
-			this.move(driver, Math.max(0, Math.min(this.position.x() + dx, parent.width - this.width)),
-					Math.max(0, Math.min(this.position.y() + dy, parent.height - this.height)));
+		if (dx != 0 || dy != 0) {
+			double x = this.position.x() + dx;
+			double y = this.position.y() + dy;
+			if (this.hasPhysics()) {
+				// Stop at the earliest impact rather than pass through thin bodies. Motion
+				// only slides along axes, so never leaves the bounds of the displacement
+				double left = Math.min(this.position.x(), x);
+				double top = Math.min(this.position.y(), y);
+				Iterable<AbstractGameObject> nearby = parent.objectsWithin(left, top,
+						Math.max(this.position.x(), x) + this.width, Math.max(this.position.y(), y) + this.height);
+				Position2D end = parent.physics.sweep(this, dx, dy, nearby);
+				x = end.x();
+				y = end.y();
+			}
+			this.move(driver, Math.max(0, Math.min(x, parent.width - this.width)),
+					Math.max(0, Math.min(y, parent.height - this.height)));
 		}
 	}
 
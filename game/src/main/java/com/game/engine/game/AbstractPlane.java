@@ -5,10 +5,12 @@ import java.util.List;
 import java.util.Stack;
 
 import com.game.engine.driver.GameDriver;
+import com.game.engine.graphics.common.RenderRequest;
 import com.game.engine.graphics.common.Renderable;
 import com.game.engine.graphics.obj.Rectangle;
 import com.game.engine.graphics.request.RectangleRequest;
 import com.game.engine.logger.PowerLogger;
+import com.game.engine.physics2D.PhysicsWorld;
 import com.game.engine.rendering.common.AbstractRenderer;
 import com.game.engine.rendering.common.RenderLevel;
 import com.game.engine.rendering.opengl.JOGLCanvas;
@@ -37,6 +39,19 @@ public abstract class AbstractPlane implements Updateable, Renderable {
 	 */
 	protected List<AbstractComponent> components;
 
+	/**
+	 * The scheduler which updates components, at the same time where their
+	 * accesses allow.
+	 *
+	 * @see AbstractComponent#access()
+	 */
+	protected final TickScheduler scheduler;
+
+	/**
+	 * The world stepping the bodies of game objects with physics.
+	 */
+	public final PhysicsWorld physics;
+
 	/**
 	 * The pixel width of the plane.
 	 */
@@ -64,6 +79,8 @@ public abstract class AbstractPlane implements Updateable, Renderable {
 		this.height = height;
 		this.objects = new ArrayList<AbstractGameObject>();
 		this.components = new ArrayList<AbstractComponent>();
+		this.scheduler = new TickScheduler();
+		this.physics = new PhysicsWorld();
 
 		// OpenGL
 		this.glListeners = new Stack<GLEventListener>();
@@ -129,8 +146,11 @@ public abstract class AbstractPlane implements Updateable, Renderable {
 			}
 		});
 
+		// Find contacts between bodies
+		this.physics.step(this.objects);
+
 		// Update all components
-		this.components.forEach(component -> component.update(driver));
+		this.scheduler.run(this.components, AbstractComponent::access, component -> component.update(driver));
 	}
 
 	@Override
@@ -140,8 +160,15 @@ public abstract class AbstractPlane implements Updateable, Renderable {
 		RectangleRequest request = new RectangleRequest(rect, RenderLevel.VOID, 0, 0, 0);
 		renderer.stage(request);
 
-		// Stage all level objects
-		this.objects.forEach(obj -> obj.stage(driver, renderer));
+		// Stage all level objects a camera can see, drawn only by those cameras
+		for (AbstractGameObject obj : this.objects) {
+			int views = renderer.visibleViews(obj.boundsX(), obj.boundsY(), obj.boundsWidth(), obj.boundsHeight());
+			if (views != 0) {
+				renderer.setStagingViews(views);
+				obj.stage(driver, renderer);
+			}
+		}
+		renderer.setStagingViews(RenderRequest.ALL_VIEWS);
 
 		// Stage all components
 		this.components.forEach(component -> component.stage(driver, renderer));
@@ -154,6 +181,20 @@ public abstract class AbstractPlane implements Updateable, Renderable {
 		return this.objects;
 	}
 
+	/**
+	 * Find the objects which may overlap an area, such as the bounds of an
+	 * object's motion, which may include objects outside of it.
+	 *
+	 * @param left   - the left edge of the area
+	 * @param top    - the top edge of the area
+	 * @param right  - the right edge of the area
+	 * @param bottom - the bottom edge of the area
+	 * @return an iterator for the level objects near the area
+	 */
+	public Iterable<AbstractGameObject> objectsWithin(double left, double top, double right, double bottom) {
+		return this.objects;
+	}
+
 	/**
 	 * Add a game object which exists on the plane.
 	 * 
@@ -0,0 +1,142 @@
+package com.game.engine.game;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * The resources a unit of per-tick work reads and writes, such as the stores
+ * of an entity system or the objects a component moves. A resource is any
+ * object used as a key, compared by equality. Work which writes a resource
+ * conflicts with all other work which reads or writes it, and a
+ * {@link TickScheduler} never runs conflicting work at the same time.
+ * <br>
+ * <br>
+ * Work which reads or moves game objects names {@code AbstractGameObject.class}
+ * as a resource, as moving an object changes the chunks of its plane. Work
+ * which doesn't know what it touches is {@link #EXCLUSIVE}, and conflicts with
+ * everything.
+ *
+ * @author Spencer Imbleau
+ * @version October 2026
+ */
+public final class Access {
+
+	/**
+	 * The access of work which may touch anything.
+	 */
+	public static final Access EXCLUSIVE = new Access();
+
+	/**
+	 * The access of work which touches no shared resource.
+	 */
+	public static final Access NONE = new Access(Collections.emptySet(), Collections.emptySet());
+
+	/**
+	 * The resources read, or null if exclusive.
+	 */
+	private final Set<Object> reads;
+
+	/**
+	 * The resources written, or null if exclusive.
+	 */
+	private final Set<Object> writes;
+
+	/**
+	 * Initialize the exclusive access.
+	 */
+	private Access() {
+		this.reads = null;
+		this.writes = null;
+	}
+
+	/**
+	 * Initialize an access.
+	 *
+	 * @param reads  - the resources read
+	 * @param writes - the resources written, which needn't also be read
+	 */
+	public Access(Collection<?> reads, Collection<?> writes) {
+		this.reads = Collections.unmodifiableSet(new HashSet<>(reads));
+		this.writes = Collections.unmodifiableSet(new HashSet<>(writes));
+	}
+
+	/**
+	 * @return true if this may touch anything, false otherwise
+	 */
+	public boolean isExclusive() {
+		return this.reads == null;
+	}
+
+	/**
+	 * @return the resources read, which are empty if exclusive
+	 */
+	public Set<Object> reads() {
+		return isExclusive() ? Collections.emptySet() : this.reads;
+	}
+
+	/**
+	 * @return the resources written, which are empty if exclusive
+	 */
+	public Set<Object> writes() {
+		return isExclusive() ? Collections.emptySet() : this.writes;
+	}
+
+	/**
+	 * @param other - another access
+	 * @return true if work with this access may not run at the same time as work
+	 *         with the other access, false otherwise
+	 */
+	public boolean conflicts(Access other) {
+		if (isExclusive() || other.isExclusive()) {
+			return true;
+		}
+		for (Object resource : this.writes) {
+			if (other.reads.contains(resource) || other.writes.contains(resource)) {
+				return true;
+			}
+		}
+		for (Object resource : other.writes) {
+			if (this.reads.contains(resource)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * @param other - another access
+	 * @return the access of work doing the work of both accesses
+	 */
+	public Access union(Access other) {
+		if (isExclusive() || other.isExclusive()) {
+			return EXCLUSIVE;
+		}
+		Set<Object> unionReads = new HashSet<>(this.reads);
+		unionReads.addAll(other.reads);
+		Set<Object> unionWrites = new HashSet<>(this.writes);
+		unionWrites.addAll(other.writes);
+		return new Access(unionReads, unionWrites);
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) {
+			return true;
+		}
+		if (!(obj instanceof Access)) {
+			return false;
+		}
+		Access other = (Access) obj;
+		// Only the exclusive access has no resources
+		return !isExclusive() && !other.isExclusive() && this.reads.equals(other.reads)
+				&& this.writes.equals(other.writes);
+	}
+
+	@Override
+	public int hashCode() {
+		return isExclusive() ? 0 : 31 * this.reads.hashCode() + this.writes.hashCode();
+	}
+
+}
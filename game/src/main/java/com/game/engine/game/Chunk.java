@@ -4,17 +4,26 @@ import java.util.ArrayList;
 import java.util.List;
 
 import com.game.engine.driver.GameDriver;
+import com.game.engine.graphics.common.RenderRequest;
 import com.game.engine.graphics.common.Renderable;
 import com.game.engine.graphics.obj.Rectangle;
+import com.game.engine.graphics.obj.RenderTarget;
 import com.game.engine.graphics.request.RectangleRequest;
 import com.game.engine.rendering.common.AbstractRenderer;
 import com.game.engine.rendering.common.RenderLevel;
 
 /**
- * A chunk of a {@link AbstractChunkedPlane}
+ * A chunk of a {@link AbstractChunkedPlane}. The static objects of a chunk are
+ * drawn together into a static layer, which is only redrawn when a static
+ * object is added, removed or changed. The layer keeps a render target for each
+ * level its objects draw on, so static objects stay between the dynamic objects
+ * of the levels around them. Static objects which cross the bounds of their
+ * chunk would be cut off by the layer, so they are staged as dynamic objects
+ * instead.
  *
  * @author Spencer Imbleau
  * @version June 2020
+ * @see AbstractGameObject#setStatic(boolean)
  */
 public class Chunk implements Updateable, Renderable {
 
@@ -48,6 +57,28 @@ public class Chunk implements Updateable, Renderable {
 	 */
 	protected List<AbstractGameObject> chunkObjects;
 
+	/**
+	 * The boundary drawn beneath this chunk
+	 */
+	protected Rectangle boundary;
+
+	/**
+	 * The static objects of this chunk drawn together, a target for each level by
+	 * ordinal, or null where no static object draws on the level
+	 */
+	protected RenderTarget[] staticLayers;
+
+	/**
+	 * The static objects drawn into the {@link #staticLayers}, in order
+	 */
+	protected List<AbstractGameObject> layerObjects;
+
+	/**
+	 * The versions of the static objects when they were drawn into the
+	 * {@link #staticLayers}
+	 */
+	protected int[] layerVersions;
+
 	/**
 	 * Initialize a chunk
 	 *
@@ -62,6 +93,9 @@ public class Chunk implements Updateable, Renderable {
 
 		this.neighbors = new ArrayList<Chunk>();
 		this.chunkObjects = new ArrayList<AbstractGameObject>();
+		this.staticLayers = new RenderTarget[RenderLevel.values().length];
+		this.layerObjects = new ArrayList<AbstractGameObject>();
+		this.layerVersions = new int[0];
 	}
 
 	/**
@@ -136,20 +170,176 @@ public class Chunk implements Updateable, Renderable {
 	@Override
 	public void stage(GameDriver driver, AbstractRenderer renderer) {
 		// Stage a boundary with color differentiation
-		int red = 0xff - (int) ((float) this.row / this.plane.chunker.getRows() * 0xff);
+		if (this.boundary == null) {
+			int red = 0xff - (int) ((float) this.row / this.plane.chunker.getRows() * 0xff);
+			int green = 0xff - (int) ((float) this.column / this.plane.chunker.getColumns() * 0xff);
+			int blue = 0xff - (int) ((float) (this.row + this.column)
+					/ (this.plane.chunker.getRows() + this.plane.chunker.getColumns()) * 0xff);
+			int argb = (0xff << 24 | red << 16 | green << 8 | blue);
+			this.boundary = new Rectangle(this.width(), this.height(), argb);
+		}
+		RectangleRequest request = new RectangleRequest(this.boundary, RenderLevel.VOID, 0, this.x(), this.y());
+		renderer.stage(request);
+
+		// Stage the static layer, redrawing it if its objects changed
+		int chunkViews = renderer.visibleViews(this.x(), this.y(), this.width(), this.height());
+		if (chunkViews != 0 && !isStaticLayerCurrent()) {
+			drawStaticLayer(driver);
+		}
+		if (chunkViews != 0 && !this.layerObjects.isEmpty()) {
+			renderer.setStagingViews(chunkViews);
+			for (RenderLevel level : RenderLevel.values()) {
+				RenderTarget layer = this.staticLayers[level.ordinal()];
+				if (layer != null) {
+					renderer.stage(layer.asRequest(level, this.x(), this.y()));
+				}
+			}
+		}
 
-		int green = 0xff - (int) ((float) this.column / this.plane.chunker.getColumns() * 0xff);
-		int blue = 0xff - (int) ((float) (this.row + this.column)
-				/ (this.plane.chunker.getRows() + this.plane.chunker.getColumns()) * 0xff);
+		// Stage all other chunk objects a camera can see, drawn only by those
+		// cameras
+		for (AbstractGameObject obj : this.chunkObjects) {
+			if (isLayered(obj)) {
+				continue;
+			}
+			int views = renderer.visibleViews(obj.boundsX(), obj.boundsY(), obj.boundsWidth(), obj.boundsHeight());
+			if (views != 0) {
+				renderer.setStagingViews(views);
+				obj.stage(driver, renderer);
+			}
+		}
+		renderer.setStagingViews(RenderRequest.ALL_VIEWS);
+	}
 
-		int argb = (0xff << 24 | red << 16 | green << 8 | blue);
+	/**
+	 * @param obj - an object of this chunk
+	 * @return true if the object is drawn into the static layer, which holds the
+	 *         static objects lying wholly inside of this chunk, false otherwise
+	 */
+	protected boolean isLayered(AbstractGameObject obj) {
+		return obj.isStatic() && obj.boundsX() >= this.x() && obj.boundsY() >= this.y()
+				&& obj.boundsX() + obj.boundsWidth() <= this.x() + this.width()
+				&& obj.boundsY() + obj.boundsHeight() <= this.y() + this.height();
+	}
 
-		Rectangle rect = new Rectangle(this.width(), this.height(), argb);
-		RectangleRequest request = new RectangleRequest(rect, RenderLevel.VOID, 0, this.x(), this.y());
-		renderer.stage(request);
+	/**
+	 * @return true if the static layer has drawn the current static objects of
+	 *         this chunk, false otherwise
+	 */
+	protected boolean isStaticLayerCurrent() {
+		int i = 0;
+		for (AbstractGameObject obj : this.chunkObjects) {
+			if (!isLayered(obj)) {
+				continue;
+			}
+			if (i >= this.layerObjects.size() || this.layerObjects.get(i) != obj
+					|| this.layerVersions[i] != obj.getVersion()) {
+				return false;
+			}
+			i++;
+		}
+		return i == this.layerObjects.size();
+	}
 
-		// Stage all chunk objects
-		this.chunkObjects.forEach(obj -> obj.stage(driver, renderer));
+	/**
+	 * Draw the static objects of this chunk into the static layer, a target for
+	 * each level they draw on.
+	 *
+	 * @param driver - the driver for the game
+	 */
+	protected void drawStaticLayer(GameDriver driver) {
+		this.layerObjects.clear();
+		for (AbstractGameObject obj : this.chunkObjects) {
+			if (isLayered(obj)) {
+				this.layerObjects.add(obj);
+			}
+		}
+		this.layerVersions = new int[this.layerObjects.size()];
+		if (this.layerObjects.isEmpty()) {
+			// Nothing is static, so no layer is drawn
+			trashStaticLayer(driver);
+			return;
+		}
+
+		// Stage the objects into the ground layer, where most static objects draw
+		AbstractRenderer staging = layer(RenderLevel.WORLD_GROUND).getRenderer();
+		for (int i = 0; i < this.layerObjects.size(); i++) {
+			AbstractGameObject obj = this.layerObjects.get(i);
+			obj.stage(driver, staging);
+			this.layerVersions[i] = obj.getVersion();
+		}
+
+		// Move the requests on other levels into their own layers
+		List<RenderRequest> requests = new ArrayList<RenderRequest>();
+		staging.getProcessor().requests().forEach(requests::add);
+		staging.getProcessor().reset();
+		boolean[] drawn = new boolean[this.staticLayers.length];
+		for (RenderRequest request : requests) {
+			layer(request.level).getRenderer().stage(request);
+			drawn[request.level.ordinal()] = true;
+		}
+		for (int i = 0; i < this.staticLayers.length; i++) {
+			if (drawn[i]) {
+				this.staticLayers[i].render(driver.getDisplay().getRenderer().getMode());
+			} else {
+				trashLayer(driver, i);
+			}
+		}
+	}
+
+	/**
+	 * Helper method to retrieve the layer of a level, creating it if needed.
+	 *
+	 * @param level - a level static objects draw on
+	 * @return the layer of the level
+	 */
+	private RenderTarget layer(RenderLevel level) {
+		RenderTarget layer = this.staticLayers[level.ordinal()];
+		if (layer == null) {
+			layer = new RenderTarget(this.width(), this.height());
+			layer.moveTo(this.x(), this.y());
+			this.staticLayers[level.ordinal()] = layer;
+		}
+		return layer;
+	}
+
+	/**
+	 * Helper method to discard the layer of a level, flagged for disposal by
+	 * OpenGL.
+	 *
+	 * @param driver  - the driver for the game
+	 * @param ordinal - the ordinal of the level
+	 */
+	private void trashLayer(GameDriver driver, int ordinal) {
+		if (this.staticLayers[ordinal] != null) {
+			if (driver.getDisplay().isGL()) {
+				this.plane.chunker.flagGLTrash(this.staticLayers[ordinal]);
+			}
+			this.staticLayers[ordinal] = null;
+		}
+	}
+
+	/**
+	 * Discard the static layer, so it is drawn again when next staged. The layer
+	 * is flagged for disposal by OpenGL.
+	 *
+	 * @param driver - the driver for the game
+	 */
+	public void trashStaticLayer(GameDriver driver) {
+		for (int i = 0; i < this.staticLayers.length; i++) {
+			trashLayer(driver, i);
+		}
+		this.layerObjects.clear();
+		this.layerVersions = new int[0];
+	}
+
+	/**
+	 * @param level - a level
+	 * @return the static layer of this chunk on the level, or null if no static
+	 *         object draws on the level
+	 */
+	public RenderTarget getStaticLayer(RenderLevel level) {
+		return this.staticLayers[level.ordinal()];
 	}
 
 	/**
@@ -1,12 +1,16 @@
 package com.game.engine.game;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.LinkedList;
+import java.util.List;
 import java.util.Queue;
 import java.util.concurrent.ConcurrentLinkedQueue;
 
 import com.game.engine.camera.AbstractCamera;
 import com.game.engine.driver.GameDriver;
+import com.game.engine.graphics.obj.RenderTarget;
 import com.game.engine.logger.PowerLogger;
 import com.jogamp.opengl.GL2;
 
@@ -63,6 +67,13 @@ public class Chunker {
 	 */
 	protected Queue<AbstractGameObject> loadingObjects;
 
+	/**
+	 * A queue of static layers which were trashed and need cleanup by OpenGL.
+	 *
+	 * @see Chunk#trashStaticLayer(GameDriver)
+	 */
+	protected Queue<RenderTarget> trashedLayers;
+
 	/**
 	 * Initialize a chunker
 	 *
@@ -81,6 +92,7 @@ public class Chunker {
 		this.viewableChunks = new HashSet<Chunk>();
 		this.trashedObjects = new ConcurrentLinkedQueue<>();
 		this.loadingObjects = new ConcurrentLinkedQueue<>();
+		this.trashedLayers = new ConcurrentLinkedQueue<>();
 	}
 
 	/**
@@ -93,6 +105,7 @@ public class Chunker {
 		this.viewableChunks.clear();
 		this.trashedObjects.clear();
 		this.loadingObjects.clear();
+		this.trashedLayers.clear();
 
 		// Fill the chunk buffer
 		for (int row = 0; row < this.rows; row++) {
@@ -194,19 +207,32 @@ public class Chunker {
 	 * @param camera - the camera
 	 */
 	public void scan(GameDriver driver, AbstractCamera camera) {
-		// Declare the bounds seen from start->end by the camera
-		int fromRow = camera.viewport.closestChunkRow();
-		int fromColumn = camera.viewport.closestChunkColumn();
-		int toRow = camera.viewport.furthestChunkRow();
-		int toColumn = camera.viewport.furthestChunkColumn();
+		scan(driver, Collections.singletonList(camera));
+	}
 
+	/**
+	 * Update the viewable chunk lists relative to the union of the scanned areas
+	 * visible by given cameras. Chunks seen by any camera stay loaded, so cameras
+	 * looking at the same area don't load and trash each other's chunks.
+	 *
+	 * @param driver  - the game driver
+	 * @param cameras - the cameras
+	 */
+	public void scan(GameDriver driver, Iterable<AbstractCamera> cameras) {
 		// Build a new list with the currently visible chunks
-		HashSet<Chunk> currentlyViewableChunks = new HashSet<>(
-				Math.abs(toRow - fromRow) * Math.abs(toColumn - fromColumn));
-		for (int row = fromRow; row <= toRow; row++) {
-			for (int col = fromColumn; col <= toColumn; col++) {
-				if (row >= 0 && row < this.rows && col >= 0 && col < this.columns) {
-					currentlyViewableChunks.add(this.chunks[row][col]);
+		HashSet<Chunk> currentlyViewableChunks = new HashSet<>();
+		for (AbstractCamera camera : cameras) {
+			// Declare the bounds seen from start->end by the camera
+			int fromRow = camera.viewport.closestChunkRow();
+			int fromColumn = camera.viewport.closestChunkColumn();
+			int toRow = camera.viewport.furthestChunkRow();
+			int toColumn = camera.viewport.furthestChunkColumn();
+
+			for (int row = fromRow; row <= toRow; row++) {
+				for (int col = fromColumn; col <= toColumn; col++) {
+					if (row >= 0 && row < this.rows && col >= 0 && col < this.columns) {
+						currentlyViewableChunks.add(this.chunks[row][col]);
+					}
 				}
 			}
 		}
@@ -226,6 +252,7 @@ public class Chunker {
 				// Dispose all chunk objects
 				c.chunkObjects.forEach(obj -> this.trashedObjects.add(obj));
 			}
+			c.trashStaticLayer(driver);
 		}
 
 		// Compare the new list with the last list to determine chunks newly in view
@@ -249,6 +276,32 @@ public class Chunker {
 		return this.viewableChunks;
 	}
 
+	/**
+	 * Find the objects which may overlap an area, from the chunks the area
+	 * overlaps and their neighbors. Objects are chunked by their position at the
+	 * start of a tick, so like collisions, this relies on objects being smaller
+	 * than a chunk and moving less than a chunk per tick.
+	 *
+	 * @param left   - the left edge of the area
+	 * @param top    - the top edge of the area
+	 * @param right  - the right edge of the area
+	 * @param bottom - the bottom edge of the area
+	 * @return the objects of the chunks near the area
+	 */
+	public Iterable<AbstractGameObject> objectsWithin(double left, double top, double right, double bottom) {
+		int firstRow = Math.max(0, (int) Math.floor(top / Chunk.SIZE) - 1);
+		int lastRow = Math.min(this.rows - 1, (int) Math.floor(bottom / Chunk.SIZE) + 1);
+		int firstColumn = Math.max(0, (int) Math.floor(left / Chunk.SIZE) - 1);
+		int lastColumn = Math.min(this.columns - 1, (int) Math.floor(right / Chunk.SIZE) + 1);
+		List<AbstractGameObject> objects = new ArrayList<>();
+		for (int row = firstRow; row <= lastRow; row++) {
+			for (int col = firstColumn; col <= lastColumn; col++) {
+				this.chunks[row][col].objects().forEach(objects::add);
+			}
+		}
+		return objects;
+	}
+
 	/**
 	 * @return an iterable of the currently loading objects for dynamic memory
 	 *         handling such as in OpenGL
@@ -265,6 +318,14 @@ public class Chunker {
 		return this.trashedObjects;
 	}
 
+	/**
+	 * @return an iterable of the currently trashed static layers for dynamic memory
+	 *         handling such as in OpenGL
+	 */
+	public Iterable<RenderTarget> trashedLayers() {
+		return this.trashedLayers;
+	}
+
 	/**
 	 * @return the amount of rows of chunks
 	 */
@@ -320,4 +381,24 @@ public class Chunker {
 		obj.dispose(gl);
 		this.trashedObjects.remove(obj);
 	}
+
+	/**
+	 * Flag this static layer as having resources needing to be disposed by OpenGL.
+	 *
+	 * @param layer - a static layer
+	 */
+	public void flagGLTrash(RenderTarget layer) {
+		this.trashedLayers.add(layer);
+	}
+
+	/**
+	 * Trash a static layer via OpenGL.
+	 *
+	 * @param gl    - an OpenGL context
+	 * @param layer - the static layer to trash
+	 */
+	public void trash(GL2 gl, RenderTarget layer) {
+		layer.dispose(gl);
+		this.trashedLayers.remove(layer);
+	}
 }
@@ -0,0 +1,324 @@
+package com.game.engine.game;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Runs a tick of work, such as the updates of a plane's components, on a
+ * work-stealing pool. Each unit of work declares its {@link Access}, and work
+ * depends on all work before it in the list which it conflicts with, so the
+ * result is the same as running the list in order. Work without dependencies
+ * left runs at the same time as any other such work.
+ * <br>
+ * <br>
+ * When every unit depends on the one before it, as when all work is
+ * {@link Access#EXCLUSIVE}, the tick runs in order on the calling thread.
+ * <br>
+ * <br>
+ * Building the dependencies tests every pair of work, so the graph is kept
+ * and reused by the next tick while the accesses of its work are equal.
+ * <br>
+ * <br>
+ * A tick may be run by work of another tick on the same pool, such as a
+ * system's entities updated within a plane's tick. A worker of the pool never
+ * parks waiting for its tick: it runs the tick's ready work until none is left,
+ * and only then blocks, letting the pool compensate with another worker.
+ *
+ * @author Spencer Imbleau
+ * @version October 2026
+ */
+public class TickScheduler {
+
+	/**
+	 * The pool work runs on.
+	 */
+	private final ForkJoinPool pool;
+
+	/**
+	 * The dependencies of the last tick run, reused while the accesses of its
+	 * work are unchanged.
+	 */
+	private volatile Graph graph;
+
+	/**
+	 * Initialize a scheduler which runs on the common pool.
+	 */
+	public TickScheduler() {
+		this(ForkJoinPool.commonPool());
+	}
+
+	/**
+	 * Initialize a scheduler.
+	 *
+	 * @param pool - the pool work runs on
+	 */
+	public TickScheduler(ForkJoinPool pool) {
+		this.pool = pool;
+	}
+
+	/**
+	 * Run a tick of work, returning once all of it is done. If any work throws,
+	 * work which hasn't started is skipped and the first exception is thrown once
+	 * running work is done.
+	 *
+	 * @param <T>    - the type of work
+	 * @param work   - the work, in the order it would run one at a time
+	 * @param access - the access of a unit of work
+	 * @param action - the action running a unit of work
+	 */
+	public <T> void run(List<T> work, Function<? super T, Access> access, Consumer<? super T> action) {
+		int size = work.size();
+		Access[] accesses = new Access[size];
+		for (int i = 0; i < size; i++) {
+			accesses[i] = access.apply(work.get(i));
+		}
+
+		// Reuse the graph of dependencies while the work is unchanged
+		Graph graph = this.graph;
+		if (graph == null || !Arrays.equals(graph.accesses, accesses)) {
+			graph = new Graph(accesses);
+			this.graph = graph;
+		}
+		if (graph.ordered) {
+			work.forEach(action);
+			return;
+		}
+
+		new Tick<>(work, action, graph.dependents, graph.dependencies).run(graph.dependencies);
+	}
+
+	/**
+	 * The dependencies between a list of work, which a tick of the work runs in
+	 * the order of.
+	 */
+	private static final class Graph {
+
+		/**
+		 * The access of each unit of work.
+		 */
+		private final Access[] accesses;
+
+		/**
+		 * The work depending on each unit of work, in list order.
+		 */
+		private final int[][] dependents;
+
+		/**
+		 * The amount of work each unit of work depends on.
+		 */
+		private final int[] dependencies;
+
+		/**
+		 * Whether every unit of work depends on the one before it.
+		 */
+		private final boolean ordered;
+
+		/**
+		 * Build the graph of dependencies between work, in list order.
+		 *
+		 * @param accesses - the access of each unit of work
+		 */
+		private Graph(Access[] accesses) {
+			int size = accesses.length;
+			int[][] dependents = new int[size][];
+			int[] counts = new int[size];
+			int[] dependencies = new int[size];
+			boolean ordered = true;
+			for (int i = 0; i < size; i++) {
+				dependents[i] = new int[4];
+			}
+			for (int j = 0; j < size; j++) {
+				for (int i = 0; i < j; i++) {
+					if (accesses[i].conflicts(accesses[j])) {
+						if (counts[i] == dependents[i].length) {
+							dependents[i] = Arrays.copyOf(dependents[i], counts[i] * 2);
+						}
+						dependents[i][counts[i]++] = j;
+						dependencies[j]++;
+					} else if (i == j - 1) {
+						ordered = false;
+					}
+				}
+			}
+			for (int i = 0; i < size; i++) {
+				dependents[i] = Arrays.copyOf(dependents[i], counts[i]);
+			}
+			this.accesses = accesses;
+			this.dependents = dependents;
+			this.dependencies = dependencies;
+			this.ordered = ordered;
+		}
+
+	}
+
+	/**
+	 * A tick in progress.
+	 *
+	 * @param <T> - the type of work
+	 */
+	private final class Tick<T> implements ForkJoinPool.ManagedBlocker {
+
+		/**
+		 * The work.
+		 */
+		private final List<T> work;
+
+		/**
+		 * The action running a unit of work.
+		 */
+		private final Consumer<? super T> action;
+
+		/**
+		 * The work depending on each unit of work.
+		 */
+		private final int[][] dependents;
+
+		/**
+		 * The amount of unfinished work each unit of work depends on.
+		 */
+		private final AtomicIntegerArray remaining;
+
+		/**
+		 * The work which is ready to run, claimed by whichever thread polls it
+		 * first.
+		 */
+		private final Queue<Integer> ready = new ConcurrentLinkedQueue<>();
+
+		/**
+		 * Counts down as each unit of work finishes or is skipped.
+		 */
+		private final CountDownLatch done;
+
+		/**
+		 * The first exception thrown by work, if any.
+		 */
+		private final AtomicReference<Throwable> failure = new AtomicReference<>();
+
+		/**
+		 * Initialize a tick.
+		 *
+		 * @param work         - the work
+		 * @param action       - the action running a unit of work
+		 * @param dependents   - the work depending on each unit of work
+		 * @param dependencies - the amount of work each unit of work depends on
+		 */
+		private Tick(List<T> work, Consumer<? super T> action, int[][] dependents, int[] dependencies) {
+			this.work = work;
+			this.action = action;
+			this.dependents = dependents;
+			this.remaining = new AtomicIntegerArray(dependencies);
+			this.done = new CountDownLatch(work.size());
+		}
+
+		/**
+		 * Run the tick, returning once all work is done.
+		 *
+		 * @param dependencies - the amount of work each unit of work depends on
+		 */
+		private void run(int[] dependencies) {
+			// Work submitted here may already have made later work ready
+			for (int i = 0; i < dependencies.length; i++) {
+				if (dependencies[i] == 0) {
+					submit(i);
+				}
+			}
+
+			// Wait for the pool, even if interrupted, as work still references the tick
+			boolean worker = ForkJoinTask.getPool() == TickScheduler.this.pool;
+			boolean interrupted = false;
+			while (this.done.getCount() > 0) {
+				// A worker helps run ready work rather than parking
+				Integer index = worker ? this.ready.poll() : null;
+				if (index != null) {
+					execute(index);
+					continue;
+				}
+				try {
+					ForkJoinPool.managedBlock(this);
+				} catch (InterruptedException e) {
+					interrupted = true;
+				}
+			}
+			if (interrupted) {
+				Thread.currentThread().interrupt();
+			}
+
+			Throwable thrown = this.failure.get();
+			if (thrown instanceof RuntimeException) {
+				throw (RuntimeException) thrown;
+			} else if (thrown instanceof Error) {
+				throw (Error) thrown;
+			} else if (thrown != null) {
+				throw new RuntimeException(thrown);
+			}
+		}
+
+		@Override
+		public boolean block() throws InterruptedException {
+			this.done.await();
+			return true;
+		}
+
+		@Override
+		public boolean isReleasable() {
+			return this.done.getCount() == 0;
+		}
+
+		/**
+		 * Helper method to run a unit of work on the pool. Work made ready by a
+		 * worker is pushed to its own queue, where idle workers may steal it. The
+		 * task runs whichever ready work is left, as a worker waiting for the tick
+		 * may have run it already.
+		 *
+		 * @param index - the index of the work
+		 */
+		private void submit(int index) {
+			this.ready.add(index);
+			ForkJoinTask<?> task = ForkJoinTask.adapt(() -> {
+				Integer next = this.ready.poll();
+				if (next != null) {
+					execute(next);
+				}
+			});
+			if (ForkJoinTask.getPool() == TickScheduler.this.pool) {
+				task.fork();
+			} else {
+				TickScheduler.this.pool.execute(task);
+			}
+		}
+
+		/**
+		 * Helper method to run a unit of work, then submit the work depending on it
+		 * which is ready.
+		 *
+		 * @param index - the index of the work
+		 */
+		private void execute(int index) {
+			try {
+				if (this.failure.get() == null) {
+					this.action.accept(this.work.get(index));
+				}
+			} catch (Throwable t) {
+				this.failure.compareAndSet(null, t);
+			} finally {
+				for (int dependent : this.dependents[index]) {
+					if (this.remaining.decrementAndGet(dependent) == 0) {
+						submit(dependent);
+					}
+				}
+				this.done.countDown();
+			}
+		}
+
+	}
+
+}
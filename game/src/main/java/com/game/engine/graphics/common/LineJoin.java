@@ -0,0 +1,29 @@
+package com.game.engine.graphics.common;
+
+/**
+ * The ways the outer corner between two connected segments of a thick line may
+ * be joined.
+ *
+ * @author Spencer Imbleau
+ * @version October 2026
+ * @see com.game.engine.graphics.obj.Polyline
+ */
+public enum LineJoin {
+
+	/**
+	 * Extend the outer edges of the segments until they meet in a point. Corners
+	 * so sharp that the point would be far from the line are beveled instead.
+	 */
+	MITER,
+
+	/**
+	 * Cut the corner with a straight edge between the outer edges of the
+	 * segments.
+	 */
+	BEVEL,
+
+	/**
+	 * Round the corner with an arc centered on the point the segments share.
+	 */
+	ROUND;
+}
@@ -0,0 +1,312 @@
+package com.game.engine.graphics.common;
+
+import java.util.stream.IntStream;
+
+import com.game.engine.cache.ScaledImageCache.ScaledImage;
+
+/**
+ * A mip chain is a sequence of copies of an image, where each level is half
+ * the size of the level before it. Sampling a shrunken image from the level
+ * nearest its size, instead of from the full image, avoids aliasing and reads
+ * fewer pixels. Levels are built on demand on the CPU, and large levels are
+ * built in parallel.
+ *
+ * @author Spencer Imbleau
+ * @version October 2026
+ * @see SamplingMode
+ */
+public abstract class MipChain {
+
+	/**
+	 * The amount of pixels in a level from which building the next level is split
+	 * between threads.
+	 */
+	public static final int PARALLEL_THRESHOLD = 1 << 16;
+
+	/**
+	 * The width of the base level.
+	 */
+	protected final int width;
+
+	/**
+	 * The height of the base level.
+	 */
+	protected final int height;
+
+	/**
+	 * Initialize a mip chain.
+	 *
+	 * @param width  - the width of the base level
+	 * @param height - the height of the base level
+	 */
+	protected MipChain(int width, int height) {
+		this.width = width;
+		this.height = height;
+	}
+
+	/**
+	 * Create a mip chain which builds levels from an image and keeps them until
+	 * the chain is discarded.
+	 *
+	 * @param base - the base level
+	 * @return a mip chain of the base level
+	 */
+	public static MipChain of(ScaledImage base) {
+		return new MipChain(base.width, base.height) {
+
+			/**
+			 * The levels which have been built.
+			 */
+			private final ScaledImage[] levels = new ScaledImage[levels()];
+
+			{
+				this.levels[0] = base;
+			}
+
+			@Override
+			public ScaledImage level(int level) {
+				if (this.levels[level] == null) {
+					this.levels[level] = halve(level(level - 1), levelWidth(level), levelHeight(level));
+				}
+				return this.levels[level];
+			}
+		};
+	}
+
+	/**
+	 * Retrieve a level of this chain, building it if needed.
+	 *
+	 * @param level - the level to retrieve, between 0 and {@link #levels()}
+	 *              exclusive
+	 * @return the level
+	 */
+	public abstract ScaledImage level(int level);
+
+	/**
+	 * @return the amount of levels in this chain, down to a level 1 pixel wide or
+	 *         high
+	 */
+	public int levels() {
+		int levels = 1;
+		while ((this.width >> levels) > 0 && (this.height >> levels) > 0) {
+			levels++;
+		}
+		return levels;
+	}
+
+	/**
+	 * @param level - a level of this chain
+	 * @return the width of the level
+	 */
+	public int levelWidth(int level) {
+		return Math.max(1, this.width >> level);
+	}
+
+	/**
+	 * @param level - a level of this chain
+	 * @return the height of the level
+	 */
+	public int levelHeight(int level) {
+		return Math.max(1, this.height >> level);
+	}
+
+	/**
+	 * Find the smallest level which is no smaller than a size.
+	 *
+	 * @param width  - a width
+	 * @param height - a height
+	 * @return the smallest level at least as large as the size
+	 */
+	public int levelFor(int width, int height) {
+		int level = 0;
+		while ((this.width >> (level + 1)) >= width && (this.height >> (level + 1)) >= height) {
+			level++;
+		}
+		return level;
+	}
+
+	/**
+	 * Find the fractional level of detail at which an image of a size samples
+	 * this chain, i.e. the base 2 logarithm of its minification.
+	 *
+	 * @param width  - a width
+	 * @param height - a height
+	 * @return the level of detail, between 0 and the last level
+	 */
+	public double levelOfDetail(int width, int height) {
+		double minification = Math.max((double) this.width / width, (double) this.height / height);
+		double lod = Math.log(minification) / Math.log(2);
+		return Math.max(0, Math.min(levels() - 1, lod));
+	}
+
+	/**
+	 * Shrink an image by averaging blocks of 2x2 pixels. Large images are split
+	 * between threads by row.
+	 *
+	 * @param source - the image to shrink
+	 * @param width  - the width to shrink to, half the source width
+	 * @param height - the height to shrink to, half the source height
+	 * @return a new image half the size of the source
+	 */
+	public static ScaledImage halve(ScaledImage source, int width, int height) {
+		int[] pixels = new int[width * height];
+		IntStream rows = IntStream.range(0, height);
+		if (source.pixels.length >= PARALLEL_THRESHOLD) {
+			rows = rows.parallel();
+		}
+		rows.forEach(y -> halveRow(source, pixels, width, y));
+		return new ScaledImage(pixels, width, height);
+	}
+
+	/**
+	 * Helper method to shrink one row of an image.
+	 *
+	 * @param source - the image to shrink
+	 * @param pixels - the pixels of the shrunken image
+	 * @param width  - the width of the shrunken image
+	 * @param y      - the row of the shrunken image to compute
+	 */
+	private static void halveRow(ScaledImage source, int[] pixels, int width, int y) {
+		int lastX = source.width - 1;
+		int lastY = source.height - 1;
+		int row0 = Math.min(2 * y, lastY) * source.width;
+		int row1 = Math.min(2 * y + 1, lastY) * source.width;
+		for (int x = 0; x < width; x++) {
+			int x0 = Math.min(2 * x, lastX);
+			int x1 = Math.min(2 * x + 1, lastX);
+			int p0 = source.pixels[row0 + x0];
+			int p1 = source.pixels[row0 + x1];
+			int p2 = source.pixels[row1 + x0];
+			int p3 = source.pixels[row1 + x1];
+
+			// Average each channel, rounding to nearest
+			int a = ((p0 >>> 24) + (p1 >>> 24) + (p2 >>> 24) + (p3 >>> 24) + 2) >> 2;
+			int r = (((p0 >> 16) & 0xff) + ((p1 >> 16) & 0xff) + ((p2 >> 16) & 0xff) + ((p3 >> 16) & 0xff) + 2) >> 2;
+			int g = (((p0 >> 8) & 0xff) + ((p1 >> 8) & 0xff) + ((p2 >> 8) & 0xff) + ((p3 >> 8) & 0xff) + 2) >> 2;
+			int b = ((p0 & 0xff) + (p1 & 0xff) + (p2 & 0xff) + (p3 & 0xff) + 2) >> 2;
+			pixels[y * width + x] = (a << 24) | (r << 16) | (g << 8) | b;
+		}
+	}
+
+	/**
+	 * Scale an image by sampling the nearest pixels. The source column and row of
+	 * every target pixel are computed once, so sampling does not divide.
+	 *
+	 * @param source - the image to scale
+	 * @param width  - the width to scale to
+	 * @param height - the height to scale to
+	 * @return a new, scaled image, or the source if it is already the size
+	 */
+	public static ScaledImage nearest(ScaledImage source, int width, int height) {
+		if (source.width == width && source.height == height) {
+			return source;
+		}
+		int[] columns = new int[width];
+		for (int x = 0; x < width; x++) {
+			columns[x] = (int) ((long) x * source.width / width);
+		}
+
+		int[] pixels = new int[width * height];
+		for (int y = 0; y < height; y++) {
+			int sourceRow = (int) ((long) y * source.height / height) * source.width;
+			int row = y * width;
+			for (int x = 0; x < width; x++) {
+				pixels[row + x] = source.pixels[sourceRow + columns[x]];
+			}
+		}
+		return new ScaledImage(pixels, width, height);
+	}
+
+	/**
+	 * Scale an image by interpolating between the 4 nearest pixels. Pixel centers
+	 * are aligned, and interpolation weights are 8-bit fixed point and computed
+	 * once per column and row.
+	 *
+	 * @param source - the image to scale
+	 * @param width  - the width to scale to
+	 * @param height - the height to scale to
+	 * @return a new, scaled image, or the source if it is already the size
+	 */
+	public static ScaledImage bilinear(ScaledImage source, int width, int height) {
+		if (source.width == width && source.height == height) {
+			return source;
+		}
+		int[] x0s = new int[width];
+		int[] x1s = new int[width];
+		int[] fxs = new int[width];
+		map(source.width, width, x0s, x1s, fxs);
+		int[] y0s = new int[height];
+		int[] y1s = new int[height];
+		int[] fys = new int[height];
+		map(source.height, height, y0s, y1s, fys);
+
+		int[] pixels = new int[width * height];
+		for (int y = 0; y < height; y++) {
+			int row0 = y0s[y] * source.width;
+			int row1 = y1s[y] * source.width;
+			int fy = fys[y];
+			int row = y * width;
+			for (int x = 0; x < width; x++) {
+				int top = lerp(source.pixels[row0 + x0s[x]], source.pixels[row0 + x1s[x]], fxs[x]);
+				int bottom = lerp(source.pixels[row1 + x0s[x]], source.pixels[row1 + x1s[x]], fxs[x]);
+				pixels[row + x] = lerp(top, bottom, fy);
+			}
+		}
+		return new ScaledImage(pixels, width, height);
+	}
+
+	/**
+	 * Blend two images of the same size.
+	 *
+	 * @param a - an image
+	 * @param b - another image of the same size
+	 * @param t - the weight of b, in 8-bit fixed point between 0 and 256
+	 * @return a new, blended image
+	 */
+	public static ScaledImage blend(ScaledImage a, ScaledImage b, int t) {
+		int[] pixels = new int[a.pixels.length];
+		for (int i = 0; i < pixels.length; i++) {
+			pixels[i] = lerp(a.pixels[i], b.pixels[i], t);
+		}
+		return new ScaledImage(pixels, a.width, a.height);
+	}
+
+	/**
+	 * Helper method to map target pixel centers onto source pixels.
+	 *
+	 * @param sourceSize - the length of a side of the source
+	 * @param size       - the length of a side of the target
+	 * @param lows       - the lower source pixel of each target pixel
+	 * @param highs      - the upper source pixel of each target pixel
+	 * @param weights    - the weight of the upper source pixel, in 8-bit fixed
+	 *                   point
+	 */
+	private static void map(int sourceSize, int size, int[] lows, int[] highs, int[] weights) {
+		double ratio = (double) sourceSize / size;
+		for (int i = 0; i < size; i++) {
+			double center = Math.max(0, Math.min(sourceSize - 1, (i + 0.5) * ratio - 0.5));
+			int low = (int) center;
+			lows[i] = low;
+			highs[i] = Math.min(low + 1, sourceSize - 1);
+			weights[i] = (int) ((center - low) * 256);
+		}
+	}
+
+	/**
+	 * Helper method to interpolate between two colors.
+	 *
+	 * @param c0 - a 0xAARRGGBB color
+	 * @param c1 - another 0xAARRGGBB color
+	 * @param t  - the weight of c1, in 8-bit fixed point between 0 and 256
+	 * @return the interpolated color
+	 */
+	private static int lerp(int c0, int c1, int t) {
+		if (t == 0 || c0 == c1) {
+			return c0;
+		}
+		int s = 256 - t;
+		int rb = (((c0 & 0x00ff00ff) * s + (c1 & 0x00ff00ff) * t) >>> 8) & 0x00ff00ff;
+		int ag = ((((c0 >>> 8) & 0x00ff00ff) * s + ((c1 >>> 8) & 0x00ff00ff) * t)) & 0xff00ff00;
+		return ag | rb;
+	}
+}
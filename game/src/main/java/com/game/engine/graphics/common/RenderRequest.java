@@ -11,6 +11,13 @@ import com.game.engine.rendering.common.RenderLevel;
  */
 public abstract class RenderRequest implements Comparable<RenderRequest> {
 
+	/**
+	 * The views of a request drawn by every view.
+	 *
+	 * @see #views
+	 */
+	public static final int ALL_VIEWS = ~0;
+
 	/**
 	 * The x coordinate, relative to the screen
 	 */
@@ -40,6 +47,15 @@ public abstract class RenderRequest implements Comparable<RenderRequest> {
 	 */
 	public final Drawable drawable;
 
+	/**
+	 * A bitmask of the views which draw this request. The renderer sets the views
+	 * when the request is staged, so only the cameras which can see the object
+	 * which staged it draw it.
+	 *
+	 * @see com.game.engine.rendering.common.AbstractRenderer#setStagingViews(int)
+	 */
+	public int views = ALL_VIEWS;
+
 	/**
 	 * Initialize a render request
 	 *
@@ -0,0 +1,95 @@
+package com.game.engine.graphics.common;
+
+import com.game.engine.cache.ScaledImageCache.ScaledImage;
+import com.jogamp.opengl.GL2;
+
+/**
+ * The ways an image may be sampled when it is drawn at a size other than its
+ * own. Every mode samples shrunken images from a {@link MipChain}, so zooming
+ * out does not alias.
+ *
+ * @author Spencer Imbleau
+ * @version October 2026
+ */
+public enum SamplingMode {
+
+	/**
+	 * Sample the nearest pixel of the nearest mip level. Enlarged images stay
+	 * crisp, which suits pixel art.
+	 */
+	NEAREST(GL2.GL_NEAREST_MIPMAP_NEAREST, GL2.GL_NEAREST, GL2.GL_NEAREST) {
+		@Override
+		public ScaledImage sample(MipChain chain, int width, int height) {
+			return MipChain.nearest(chain.level(chain.levelFor(width, height)), width, height);
+		}
+	},
+
+	/**
+	 * Interpolate between the 4 nearest pixels of the nearest mip level.
+	 */
+	BILINEAR(GL2.GL_LINEAR_MIPMAP_NEAREST, GL2.GL_LINEAR, GL2.GL_LINEAR) {
+		@Override
+		public ScaledImage sample(MipChain chain, int width, int height) {
+			return MipChain.bilinear(chain.level(chain.levelFor(width, height)), width, height);
+		}
+	},
+
+	/**
+	 * Interpolate between the 4 nearest pixels of the 2 nearest mip levels, then
+	 * between the levels. Zooming smoothly does not pop between levels.
+	 */
+	TRILINEAR(GL2.GL_LINEAR_MIPMAP_LINEAR, GL2.GL_LINEAR, GL2.GL_LINEAR) {
+		@Override
+		public ScaledImage sample(MipChain chain, int width, int height) {
+			double lod = chain.levelOfDetail(width, height);
+			int level = (int) lod;
+			int t = (int) ((lod - level) * 256);
+			ScaledImage upper = MipChain.bilinear(chain.level(level), width, height);
+			if (t == 0 || level + 1 >= chain.levels()) {
+				return upper;
+			}
+			ScaledImage lower = MipChain.bilinear(chain.level(level + 1), width, height);
+			return MipChain.blend(upper, lower, t);
+		}
+	};
+
+	/**
+	 * The OpenGL minifying filter of this mode, when mipmaps are available.
+	 */
+	public final int glMinFilter;
+
+	/**
+	 * The OpenGL minifying filter of this mode, when mipmaps are unavailable.
+	 */
+	public final int glFallbackMinFilter;
+
+	/**
+	 * The OpenGL magnifying filter of this mode.
+	 */
+	public final int glMagFilter;
+
+	/**
+	 * Initialize a sampling mode.
+	 *
+	 * @param glMinFilter         - the OpenGL minifying filter with mipmaps
+	 * @param glFallbackMinFilter - the OpenGL minifying filter without mipmaps
+	 * @param glMagFilter         - the OpenGL magnifying filter
+	 */
+	private SamplingMode(int glMinFilter, int glFallbackMinFilter, int glMagFilter) {
+		this.glMinFilter = glMinFilter;
+		this.glFallbackMinFilter = glFallbackMinFilter;
+		this.glMagFilter = glMagFilter;
+	}
+
+	/**
+	 * Sample an image at a size on the CPU.
+	 *
+	 * @param chain  - the mip chain of the image
+	 * @param width  - the width to sample at
+	 * @param height - the height to sample at
+	 * @return the sampled image, which may be a level of the chain if it is
+	 *         already the size
+	 */
+	public abstract ScaledImage sample(MipChain chain, int width, int height);
+
+}
@@ -0,0 +1,263 @@
+package com.game.engine.graphics.obj;
+
+import com.game.engine.graphics.common.Drawable;
+import com.game.engine.graphics.common.RenderRequest;
+import com.game.engine.graphics.request.AnimationRequest;
+import com.game.engine.rendering.common.RenderLevel;
+import com.game.engine.rendering.cpu.CPUProcessor;
+import com.game.engine.rendering.opengl.JOGLProcessor;
+import com.jogamp.opengl.GL2;
+
+/**
+ * An graphics object which plays a sequence of frames from a
+ * {@link SpriteSheet}, each for the same duration. Many animations may play
+ * from one sheet, each at its own frame, and advancing an animation only
+ * changes which frame of the sheet is drawn, so no pixels are copied or
+ * uploaded.
+ *
+ * @author Spencer Imbleau
+ * @version October 2026
+ * @see SpriteSheet
+ */
+public class Animation implements Drawable {
+
+	/**
+	 * The sheet the frames are drawn from.
+	 */
+	private final SpriteSheet sheet;
+
+	/**
+	 * The frames of the sheet to play, in order.
+	 */
+	private final int[] frames;
+
+	/**
+	 * How long each frame is shown, in seconds.
+	 */
+	private double frameDuration;
+
+	/**
+	 * Whether the animation starts over after its last frame.
+	 */
+	private boolean looping;
+
+	/**
+	 * The time played since the first frame, in seconds.
+	 */
+	private double elapsed;
+
+	/**
+	 * Initialize a looping animation of every frame of a sheet.
+	 *
+	 * @param sheet         - the sheet to draw frames from
+	 * @param frameDuration - how long each frame is shown, in seconds
+	 * @throws IllegalArgumentException frame duration must be positive
+	 */
+	public Animation(SpriteSheet sheet, double frameDuration) throws IllegalArgumentException {
+		this(sheet, sequence(sheet.getFrameCount()), frameDuration);
+	}
+
+	/**
+	 * Initialize a looping animation.
+	 *
+	 * @param sheet         - the sheet to draw frames from
+	 * @param frames        - the frames of the sheet to play, in order
+	 * @param frameDuration - how long each frame is shown, in seconds
+	 * @throws IllegalArgumentException if there are no frames, a frame is not in
+	 *                                  the sheet, or the frame duration is not
+	 *                                  positive
+	 */
+	public Animation(SpriteSheet sheet, int[] frames, double frameDuration) throws IllegalArgumentException {
+		if (frames.length == 0) {
+			throw new IllegalArgumentException("Animations need at least 1 frame");
+		}
+		for (int frame : frames) {
+			if (frame < 0 || frame >= sheet.getFrameCount()) {
+				throw new IllegalArgumentException("Frame " + frame + " is not in a sheet of " + sheet.getFrameCount());
+			}
+		}
+		this.sheet = sheet;
+		this.frames = frames.clone();
+		this.looping = true;
+		this.elapsed = 0;
+		setFrameDuration(frameDuration);
+	}
+
+	/**
+	 * Helper method to list frames in order.
+	 *
+	 * @param count - the amount of frames
+	 * @return the frames from 0 to count, exclusive
+	 */
+	private static int[] sequence(int count) {
+		int[] frames = new int[count];
+		for (int i = 0; i < count; i++) {
+			frames[i] = i;
+		}
+		return frames;
+	}
+
+	/**
+	 * @return the sheet the frames are drawn from
+	 */
+	public SpriteSheet getSheet() {
+		return this.sheet;
+	}
+
+	/**
+	 * @return the amount of frames played
+	 */
+	public int getLength() {
+		return this.frames.length;
+	}
+
+	/**
+	 * @return how long each frame is shown, in seconds
+	 */
+	public double getFrameDuration() {
+		return this.frameDuration;
+	}
+
+	/**
+	 * @param frameDuration - how long each frame is shown, in seconds
+	 * @throws IllegalArgumentException frame duration must be positive
+	 */
+	public void setFrameDuration(double frameDuration) throws IllegalArgumentException {
+		if (!(frameDuration > 0)) {
+			throw new IllegalArgumentException("Frame duration must be positive");
+		}
+		this.frameDuration = frameDuration;
+	}
+
+	/**
+	 * @return true if the animation starts over after its last frame, false if
+	 *         it stays on its last frame
+	 */
+	public boolean isLooping() {
+		return this.looping;
+	}
+
+	/**
+	 * @param looping - true to start over after the last frame, false to stay on
+	 *                the last frame
+	 */
+	public void setLooping(boolean looping) {
+		this.looping = looping;
+	}
+
+	/**
+	 * Play the animation for an amount of time, such as the time of a tick.
+	 *
+	 * @param seconds - the time to play, in seconds
+	 */
+	public void advance(double seconds) {
+		this.elapsed += seconds;
+		double duration = this.frameDuration * this.frames.length;
+		if (this.looping && this.elapsed >= duration) {
+			this.elapsed %= duration;
+		}
+	}
+
+	/**
+	 * Start the animation over from its first frame.
+	 */
+	public void reset() {
+		this.elapsed = 0;
+	}
+
+	/**
+	 * @return true if the animation doesn't loop and has played its last frame,
+	 *         false otherwise
+	 */
+	public boolean isFinished() {
+		return !this.looping && this.elapsed >= this.frameDuration * this.frames.length;
+	}
+
+	/**
+	 * @return the position of the current frame in the animation
+	 */
+	public int getFrameIndex() {
+		int index = (int) (this.elapsed / this.frameDuration);
+		return Math.max(0, Math.min(this.frames.length - 1, index));
+	}
+
+	/**
+	 * Skip to a frame of the animation.
+	 *
+	 * @param index - the position of a frame in the animation
+	 * @throws IllegalArgumentException if the position is not in the animation
+	 */
+	public void setFrameIndex(int index) throws IllegalArgumentException {
+		if (index < 0 || index >= this.frames.length) {
+			throw new IllegalArgumentException("Frame " + index + " is not in an animation of " + this.frames.length);
+		}
+		this.elapsed = index * this.frameDuration;
+	}
+
+	/**
+	 * @return the frame of the sheet which is currently drawn
+	 */
+	public int getFrame() {
+		return this.frames[getFrameIndex()];
+	}
+
+	/**
+	 * @return the width of a frame
+	 */
+	public int getWidth() {
+		return this.sheet.getFrameWidth();
+	}
+
+	/**
+	 * @return the height of a frame
+	 */
+	public int getHeight() {
+		return this.sheet.getFrameHeight();
+	}
+
+	@Override
+	public void alloc(GL2 gl) {
+		this.sheet.alloc(gl);
+	}
+
+	@Override
+	public void flagGLRefresh() {
+		this.sheet.getImage().flagGLRefresh();
+	}
+
+	@Override
+	public boolean needsGLRefresh() {
+		return this.sheet.getImage().needsGLRefresh();
+	}
+
+	@Override
+	public void refresh(GL2 gl) {
+		this.sheet.refresh(gl);
+	}
+
+	@Override
+	public void dispose(GL2 gl) {
+		this.sheet.dispose(gl);
+	}
+
+	@Override
+	public void draw(CPUProcessor processor, int x, int y, double sx, double sy) {
+		this.sheet.drawFrame(processor, getFrame(), x, y, sx, sy);
+	}
+
+	@Override
+	public void draw(JOGLProcessor processor, GL2 gl, double x, double y, double sx, double sy) {
+		this.sheet.drawFrame(processor, gl, getFrame(), x, y, sx, sy);
+	}
+
+	@Override
+	public RenderRequest asRequest(RenderLevel level, int x, int y) {
+		return new AnimationRequest(this, level, x, y);
+	}
+
+	@Override
+	public RenderRequest asRequest(RenderLevel level, int depth, int x, int y) {
+		return new AnimationRequest(this, level, depth, x, y);
+	}
+
+}
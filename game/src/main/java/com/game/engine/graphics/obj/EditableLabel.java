@@ -0,0 +1,304 @@
+package com.game.engine.graphics.obj;
+
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferInt;
+import java.util.Arrays;
+
+import com.game.engine.graphics.common.RenderRequest;
+import com.game.engine.graphics.obj.fonts.Font;
+import com.game.engine.graphics.obj.fonts.Glyph;
+import com.game.engine.graphics.request.EditableLabelRequest;
+import com.game.engine.rendering.common.RenderLevel;
+
+/**
+ * A label which is edited in place, such as a text box or a console. Unlike a
+ * {@link Label}, which bakes its whole text on every change, an edit only
+ * redraws the glyphs from the first changed keycode onward, and only that
+ * region of the texture is uploaded. Appending text redraws only the appended
+ * glyphs.
+ * <br>
+ * <br>
+ * The backing image keeps spare capacity on the right, which grows
+ * geometrically, so the image is only replaced when the text outgrows it. The
+ * image never grows past {@link #MAX_WIDTH}, so longer text, such as a long
+ * console history, should be split across several labels.
+ *
+ * @author Spencer Imbleau
+ * @version October 2026
+ */
+public class EditableLabel extends Image {
+
+	/**
+	 * The widest the text of a label may be, in pixels, which is within the
+	 * maximum texture size of most OpenGL devices.
+	 */
+	public static final int MAX_WIDTH = 8192;
+
+	/**
+	 * The font of this label.
+	 */
+	protected final Font font;
+
+	/**
+	 * The color of the text.
+	 */
+	protected final int argb;
+
+	/**
+	 * The keycodes on this label, with spare capacity after {@link #length}.
+	 */
+	protected int[] keycodes;
+
+	/**
+	 * The amount of keycodes on this label.
+	 */
+	protected int length;
+
+	/**
+	 * The x coordinate where each glyph starts, with spare capacity. The entry
+	 * after the last glyph is the width of the text.
+	 */
+	protected int[] offsets;
+
+	/**
+	 * Initializes an editable label.
+	 *
+	 * @param font - the font for this label
+	 * @param text - the text on this label
+	 * @param argb - the color of the label
+	 * @throws IllegalArgumentException if the text is wider than
+	 *                                  {@link #MAX_WIDTH}
+	 */
+	public EditableLabel(Font font, String text, int argb) throws IllegalArgumentException {
+		this(font, Glyph.keycodesOf(text), argb);
+	}
+
+	/**
+	 * Initializes an editable label.
+	 *
+	 * @param font     - the font for this label
+	 * @param keycodes - the keycodes on this label
+	 * @param argb     - the color of the label
+	 * @throws IllegalArgumentException if the text is wider than
+	 *                                  {@link #MAX_WIDTH}
+	 */
+	public EditableLabel(Font font, int[] keycodes, int argb) throws IllegalArgumentException {
+		super(new BufferedImage(Math.max(1, Math.min(MAX_WIDTH, font.measure(keycodes))), Math.max(1, font.size),
+				BufferedImage.TYPE_INT_ARGB));
+		this.font = font;
+		this.argb = argb;
+		// Text changes often and is rarely minified, so it isn't mipmapped
+		this.mipmapped = false;
+		this.keycodes = new int[Math.max(16, keycodes.length)];
+		this.offsets = new int[this.keycodes.length + 1];
+		this.length = 0;
+		replace(0, 0, keycodes);
+	}
+
+	/**
+	 * Initializes an editable label with no text.
+	 *
+	 * @param font - the font for this label
+	 * @param argb - the color of the label
+	 */
+	public EditableLabel(Font font, int argb) {
+		this(font, new int[0], argb);
+	}
+
+	/**
+	 * @return the font of this label
+	 */
+	public Font getFont() {
+		return this.font;
+	}
+
+	/**
+	 * @return the amount of keycodes on this label
+	 */
+	public int length() {
+		return this.length;
+	}
+
+	/**
+	 * @return a copy of the keycodes on this label
+	 */
+	public int[] getKeycodes() {
+		return Arrays.copyOf(this.keycodes, this.length);
+	}
+
+	/**
+	 * @return the text on this label
+	 * @see Label#getText()
+	 */
+	public String getText() {
+		return Arrays.stream(this.keycodes, 0, this.length)
+				.collect(StringBuilder::new, StringBuilder::appendCodePoint, StringBuilder::append)
+				.toString();
+	}
+
+	/**
+	 * @return the width of the text, which is at most the width of the image
+	 */
+	public int getTextWidth() {
+		return this.offsets[this.length];
+	}
+
+	@Override
+	protected int getVisibleWidth() {
+		return getTextWidth();
+	}
+
+	/**
+	 * Change the text on this label. Only the glyphs after the longest common
+	 * prefix of the old and new text are redrawn.
+	 *
+	 * @param keycodes - the keycodes to set for this label
+	 * @throws IllegalArgumentException if the text would be wider than
+	 *                                  {@link #MAX_WIDTH}
+	 */
+	public void setText(int[] keycodes) throws IllegalArgumentException {
+		int prefix = 0;
+		int max = Math.min(this.length, keycodes.length);
+		while (prefix < max && this.keycodes[prefix] == keycodes[prefix]) {
+			prefix++;
+		}
+		replace(prefix, this.length, Arrays.copyOfRange(keycodes, prefix, keycodes.length));
+	}
+
+	/**
+	 * Change the text on this label.
+	 *
+	 * @param text - the text to set for this label
+	 * @see #setText(int[])
+	 * @throws IllegalArgumentException if the text would be wider than
+	 *                                  {@link #MAX_WIDTH}
+	 */
+	public void setText(String text) throws IllegalArgumentException {
+		setText(Glyph.keycodesOf(text));
+	}
+
+	/**
+	 * Append keycodes to the end of this label.
+	 *
+	 * @param keycodes - the keycodes to append
+	 * @throws IllegalArgumentException if the text would be wider than
+	 *                                  {@link #MAX_WIDTH}
+	 */
+	public void append(int[] keycodes) throws IllegalArgumentException {
+		replace(this.length, this.length, keycodes);
+	}
+
+	/**
+	 * Append text to the end of this label.
+	 *
+	 * @param text - the text to append
+	 * @throws IllegalArgumentException if the text would be wider than
+	 *                                  {@link #MAX_WIDTH}
+	 */
+	public void append(String text) throws IllegalArgumentException {
+		append(Glyph.keycodesOf(text));
+	}
+
+	/**
+	 * Insert keycodes into this label.
+	 *
+	 * @param index    - the index to insert at
+	 * @param keycodes - the keycodes to insert
+	 * @throws IllegalArgumentException if the index is out of bounds, or the text
+	 *                                  would be wider than {@link #MAX_WIDTH}
+	 */
+	public void insert(int index, int[] keycodes) throws IllegalArgumentException {
+		replace(index, index, keycodes);
+	}
+
+	/**
+	 * Delete keycodes from this label.
+	 *
+	 * @param start - the first index to delete
+	 * @param end   - the index after the last to delete
+	 * @throws IllegalArgumentException if the range is out of bounds
+	 */
+	public void delete(int start, int end) throws IllegalArgumentException {
+		replace(start, end, new int[0]);
+	}
+
+	/**
+	 * Replace a range of keycodes on this label. Glyphs before the range are left
+	 * as they are, and glyphs from the start of the range onward are redrawn.
+	 *
+	 * @param start    - the first index to replace
+	 * @param end      - the index after the last to replace
+	 * @param keycodes - the keycodes to replace the range with
+	 * @throws IllegalArgumentException if the range is out of bounds, or the text
+	 *                                  would be wider than {@link #MAX_WIDTH}
+	 */
+	public void replace(int start, int end, int[] keycodes) throws IllegalArgumentException {
+		if (start < 0 || end < start || end > this.length) {
+			throw new IllegalArgumentException(
+					"Range [" + start + ", " + end + ") is out of bounds for length " + this.length);
+		}
+		int oldWidth = getTextWidth();
+		long width = (long) oldWidth - (this.offsets[end] - this.offsets[start]) + this.font.measure(keycodes);
+		if (width > MAX_WIDTH) {
+			throw new IllegalArgumentException(
+					"Text " + width + " pixels wide is wider than the maximum of " + MAX_WIDTH + " pixels");
+		}
+		int newLength = this.length - (end - start) + keycodes.length;
+
+		// Splice the keycodes
+		if (newLength > this.keycodes.length) {
+			int capacity = Math.max(newLength, this.keycodes.length * 2);
+			this.keycodes = Arrays.copyOf(this.keycodes, capacity);
+			this.offsets = Arrays.copyOf(this.offsets, capacity + 1);
+		}
+		System.arraycopy(this.keycodes, end, this.keycodes, start + keycodes.length, this.length - end);
+		System.arraycopy(keycodes, 0, this.keycodes, start, keycodes.length);
+		this.length = newLength;
+
+		// Measure the glyphs from the start of the range onward
+		for (int i = start; i < this.length; i++) {
+			Glyph glyph = this.font.glyph(this.keycodes[i]);
+			this.offsets[i + 1] = this.offsets[i] + ((glyph == null) ? this.font.missingGlyphWidth() : glyph.width);
+		}
+		int newWidth = getTextWidth();
+		int x0 = this.offsets[start];
+
+		// Grow the image geometrically, keeping the glyphs before the range
+		if (newWidth > this.width) {
+			int capacity = Math.min(MAX_WIDTH, Math.max(newWidth, this.width * 2));
+			BufferedImage grown = new BufferedImage(capacity, this.height, BufferedImage.TYPE_INT_ARGB);
+			int[] pixels = ((DataBufferInt) grown.getRaster().getDataBuffer()).getData();
+			for (int y = 0; y < this.height; y++) {
+				System.arraycopy(this.pbo.array(), y * this.width, pixels, y * capacity, x0);
+			}
+			setBufferedImage(grown);
+		}
+
+		// Redraw from the start of the range onward
+		int[] pixels = this.pbo.array();
+		int clearEnd = Math.max(oldWidth, newWidth);
+		for (int y = 0; y < this.height; y++) {
+			Arrays.fill(pixels, y * this.width + x0, y * this.width + clearEnd, 0);
+		}
+		for (int i = start; i < this.length; i++) {
+			Glyph glyph = this.font.glyph(this.keycodes[i]);
+			int[] runs = (glyph == null) ? this.font.missingGlyphRuns() : glyph.runs;
+			for (int r = 0; r < runs.length; r += 3) {
+				int row = runs[r] * this.width + this.offsets[i];
+				Arrays.fill(pixels, row + runs[r + 1], row + runs[r + 2], this.argb);
+			}
+		}
+		markDirty(x0, 0, clearEnd - x0, this.height);
+	}
+
+	@Override
+	public RenderRequest asRequest(RenderLevel level, int x, int y) {
+		return new EditableLabelRequest(this, level, x, y);
+	}
+
+	@Override
+	public RenderRequest asRequest(RenderLevel level, int depth, int x, int y) {
+		return new EditableLabelRequest(this, level, depth, x, y);
+	}
+
+}
@@ -5,23 +5,21 @@ import com.game.engine.graphics.common.RenderRequest;
 import com.game.engine.graphics.request.EllipseRequest;
 import com.game.engine.rendering.common.RenderLevel;
 import com.game.engine.rendering.cpu.CPUProcessor;
+import com.game.engine.rendering.opengl.CircleMeshCache;
 import com.game.engine.rendering.opengl.JOGLProcessor;
 import com.jogamp.opengl.GL2;
 
 /**
  * An graphics object which contains information describing an ellipse inside a
- * rectangle.
+ * rectangle, which is either outlined or filled. On OpenGL, ellipses are drawn
+ * from unit circles cached by the processor.
  *
  * @version December 2020
  * @author Spencer Imbleau
+ * @see CircleMeshCache
  */
 public class Ellipse implements Drawable {
 
-	/**
-	 * The acceptable error for circle arclength accuracy.
-	 */
-	private static final double ACCEPTABLE_ERROR = 0.33;
-
 	/**
 	 * The width of the ellipse.
 	 */
@@ -38,16 +36,34 @@ public class Ellipse implements Drawable {
 	private int argb;
 
 	/**
-	 * Initialize an ellipse.
+	 * Whether the ellipse is filled rather than outlined.
+	 */
+	private boolean filled;
+
+	/**
+	 * Initialize an outlined ellipse.
 	 *
 	 * @param width  - the width
 	 * @param height - the height
 	 * @param argb   - the argb color of the ellipse
 	 */
 	public Ellipse(int width, int height, int argb) {
+		this(width, height, argb, false);
+	}
+
+	/**
+	 * Initialize an ellipse.
+	 *
+	 * @param width  - the width
+	 * @param height - the height
+	 * @param argb   - the argb color of the ellipse
+	 * @param filled - true to fill the ellipse, false to outline it
+	 */
+	public Ellipse(int width, int height, int argb, boolean filled) {
 		this.width = width;
 		this.height = height;
 		this.argb = argb;
+		this.filled = filled;
 	}
 
 	/**
@@ -94,30 +110,43 @@ public class Ellipse implements Drawable {
 		this.argb = argb;
 	}
 
+	/**
+	 * @return true if the ellipse is filled, false if it is outlined
+	 */
+	public boolean isFilled() {
+		return this.filled;
+	}
+
+	/**
+	 * @param filled - true to fill the ellipse, false to outline it
+	 */
+	public void setFilled(boolean filled) {
+		this.filled = filled;
+	}
+
 	@Override
 	public void alloc(GL2 gl) {
-		// TODO Allocate retained OpenGL memory
+		// Ellipses draw from the processor's CircleMeshCache and hold no OpenGL memory
 	}
 
 	@Override
 	public void flagGLRefresh() {
-		// TODO Flag this for an OpenGL refresh
+		// Ellipses hold no OpenGL memory
 	}
 
 	@Override
 	public boolean needsGLRefresh() {
-		// TODO Determine if we need to refresh retained OpenGL memory
 		return false;
 	}
 
 	@Override
 	public void refresh(GL2 gl) {
-		// TODO Refresh retained OpenGL memory
+		// Ellipses hold no OpenGL memory
 	}
 
 	@Override
 	public void dispose(GL2 gl) {
-		// TODO Dispose of retained OpenGL memory
+		// The processor's CircleMeshCache disposes of the meshes ellipses draw from
 	}
 
 	/**
@@ -173,17 +202,48 @@ public class Ellipse implements Drawable {
 		}
 	}
 
+	/**
+	 * Helper algorithm to fill an ellipse bounded by a rectangle a row at a time.
+	 * Each row is filled across the pixels whose centers are inside the ellipse.
+	 *
+	 * @param processor - the CPU processor
+	 * @param x0        - starting x co-ordinate
+	 * @param y0        - starting y co-ordinate
+	 * @param x1        - ending x co-ordinate
+	 * @param y1        - ending y co-ordinate
+	 */
+	private void fillEllipseRect(CPUProcessor processor, int x0, int y0, int x1, int y1) {
+		double rx = (x1 - x0 + 1) / 2d;
+		double ry = (y1 - y0 + 1) / 2d;
+		double cx = x0 + rx;
+		double cy = y0 + ry;
+		for (int y = y0; y <= y1; y++) {
+			double dy = (y + 0.5 - cy) / ry;
+			double halfWidth = rx * Math.sqrt(Math.max(0, 1 - dy * dy));
+			int xStart = (int) Math.ceil(cx - halfWidth - 0.5);
+			int xEnd = (int) Math.floor(cx + halfWidth - 0.5);
+			processor.fillRow(xStart, xEnd + 1, y, this.argb);
+		}
+	}
+
 	@Override
 	public void draw(CPUProcessor processor, int x, int y, double sx, double sy) {
 		// The scaled dimensions
 		int sw = (int) (this.width * sx);
 		int sh = (int) (this.height * sy);
-		plotEllipseRect(processor, x, y, Math.max(x, x + sw - 1), Math.max(y, y + sh - 1));
+		if (this.filled) {
+			fillEllipseRect(processor, x, y, Math.max(x, x + sw - 1), Math.max(y, y + sh - 1));
+		} else {
+			plotEllipseRect(processor, x, y, Math.max(x, x + sw - 1), Math.max(y, y + sh - 1));
+		}
 	}
 
 	@Override
 	public void draw(JOGLProcessor processor, GL2 gl, double x, double y, double sx, double sy) {
-		gl.glBegin(GL2.GL_LINE_LOOP);
+		if (this.filled) {
+			// Blend translucent fills
+			processor.blend(gl, false);
+		}
 		float a = (this.argb >> 24 & 0xff) / 255f;
 		float r = (this.argb >> 16 & 0xff) / 255f;
 		float g = (this.argb >> 8 & 0xff) / 255f;
@@ -194,20 +254,11 @@ public class Ellipse implements Drawable {
 		double srx = (this.width / 2d) * sx;
 		double sry = (this.height / 2d) * sy;
 
-		// Calculate the amount of vertices needed using the delta angle between
-		// adjacent vertices
-		double da = Math.acos(2 * (1 - ACCEPTABLE_ERROR / srx) * (1 - ACCEPTABLE_ERROR / sry) - 1);
-		int vertices = (int) Math.ceil(2 * Math.PI / da);
-
-		// Arclength between verticies, in radians
-		double vertexRadian = 2 * Math.PI / vertices;
-		for (int i = 0; i < vertices; i++) {
-			double theta = vertexRadian * i;
-			double xi = srx * Math.cos(theta) + x + srx;
-			double yi = sry * Math.sin(theta) + y + sry;
-			gl.glVertex2d(xi, yi);
+		// Draw the cached unit circle for this size, scaled to the radii
+		processor.getCircles().draw(gl, x + srx, y + sry, srx, sry, this.filled);
+		if (this.filled) {
+			gl.glDisable(GL2.GL_BLEND);
 		}
-		gl.glEnd();
 	}
 
 	@Override
@@ -1,17 +1,23 @@
 package com.game.engine.graphics.obj;
 
 import java.awt.image.BufferedImage;
+import java.awt.image.DataBuffer;
 import java.awt.image.DataBufferInt;
+import java.awt.image.SinglePixelPackedSampleModel;
+import java.awt.image.WritableRaster;
 import java.nio.IntBuffer;
 
+import com.game.engine.cache.ScaledImageCache.ScaledImage;
 import com.game.engine.graphics.common.Drawable;
+import com.game.engine.graphics.common.MipChain;
 import com.game.engine.graphics.common.RenderRequest;
+import com.game.engine.graphics.common.SamplingMode;
 import com.game.engine.graphics.request.ImageRequest;
 import com.game.engine.rendering.common.RenderLevel;
+import com.game.engine.rendering.cpu.Blend;
 import com.game.engine.rendering.cpu.CPUProcessor;
 import com.game.engine.rendering.opengl.JOGLProcessor;
 import com.jogamp.common.nio.Buffers;
-import com.jogamp.opengl.GL;
 import com.jogamp.opengl.GL2;
 
 /**
@@ -58,22 +64,101 @@ public class Image implements Drawable {
 	protected boolean pboUpdated = false;
 
 	/**
-	 * Initializes an image
+	 * The left edge of the region of the PBO modified since the last render call.
+	 */
+	protected int dirtyX0 = 0;
+
+	/**
+	 * The top edge of the region of the PBO modified since the last render call.
+	 */
+	protected int dirtyY0 = 0;
+
+	/**
+	 * The right edge (exclusive) of the region of the PBO modified since the last
+	 * render call.
+	 */
+	protected int dirtyX1 = 0;
+
+	/**
+	 * The bottom edge (exclusive) of the region of the PBO modified since the last
+	 * render call.
+	 */
+	protected int dirtyY1 = 0;
+
+	/**
+	 * The width of the texture allocated for OpenGL.
+	 */
+	protected int texWidth = 0;
+
+	/**
+	 * The height of the texture allocated for OpenGL.
+	 */
+	protected int texHeight = 0;
+
+	/**
+	 * The version of the pixels, which increases whenever the pixels are flagged
+	 * as modified.
+	 */
+	protected int version = 0;
+
+	/**
+	 * How this image is sampled when drawn at a size other than its own.
+	 */
+	protected SamplingMode sampling = SamplingMode.NEAREST;
+
+	/**
+	 * Whether the sampling has changed since the texture was last updated.
+	 */
+	protected boolean samplingUpdated = false;
+
+	/**
+	 * Whether the texture is given mip levels when drawn smaller than its size.
+	 *
+	 * @see #setMipmapped(boolean)
+	 */
+	protected boolean mipmapped = true;
+
+	/**
+	 * Whether the mip levels of the texture match its base level. Until they do,
+	 * the texture is minified with the sampling's fallback filter.
+	 */
+	protected boolean mipmapsCurrent = false;
+
+	/**
+	 * Whether the pixels are stored with their colors premultiplied by their
+	 * alpha.
+	 *
+	 * @see #setPremultiplied(boolean)
+	 */
+	protected boolean premultiplied = false;
+
+	/**
+	 * Initializes an image. The pixels of a {@link BufferedImage#TYPE_INT_ARGB}
+	 * or {@link BufferedImage#TYPE_INT_ARGB_PRE} image are shared rather than
+	 * copied, so later changes to the buffered image are changes to this image.
+	 * Other types of images are converted. A
+	 * {@link BufferedImage#TYPE_INT_ARGB_PRE} image is stored premultiplied.
 	 *
 	 * @param buf - the buffered image
 	 */
 	public Image(BufferedImage buf) {
+		this(buf, buf != null && buf.getType() == BufferedImage.TYPE_INT_ARGB_PRE);
+	}
+
+	/**
+	 * Initializes an image, stored premultiplied or not. The pixels of a buffered
+	 * image already stored that way are shared rather than copied, so later
+	 * changes to the buffered image are changes to this image. Other types of
+	 * images are converted.
+	 *
+	 * @param buf           - the buffered image
+	 * @param premultiplied - whether to store the pixels premultiplied
+	 * @see #setPremultiplied(boolean)
+	 */
+	public Image(BufferedImage buf, boolean premultiplied) {
 		// Standard
-		this.buf = buf;
-		if (this.buf != null) {
-			this.width = buf.getWidth();
-			this.height = buf.getHeight();
-			this.pbo = IntBuffer.wrap(buf.getRGB(0, 0, this.width, this.height, null, 0, this.width));
-		} else {
-			this.width = 0;
-			this.height = 0;
-			this.pbo = null;
-		}
+		this.premultiplied = premultiplied;
+		wrap(buf);
 
 		// OpenGL
 		this.texId = 0;
@@ -98,6 +183,17 @@ public class Image implements Drawable {
 		throw new UnsupportedOperationException("This is not implemented yet");
 	}
 
+	/**
+	 * Returns the width of the image which is drawn, starting from the left edge.
+	 * Images which keep spare capacity on the right may draw less than their
+	 * full width.
+	 *
+	 * @return the width of the image which is drawn
+	 */
+	protected int getVisibleWidth() {
+		return this.width;
+	}
+
 	/**
 	 * @return the height of the image
 	 */
@@ -118,8 +214,9 @@ public class Image implements Drawable {
 	/**
 	 * Gets the writable pixel buffer object backing this image. Modifications to
 	 * the PBO will modify the image. Ensure if you are modifying the PBO to call
-	 * {@link #flagGLRefresh()} after, or the pixels will not update properly on
-	 * OpenGL. Pixels are stored in 0xAARRGGBB format.
+	 * {@link #markDirty(int, int, int, int)} or {@link #flagGLRefresh()} after, or
+	 * the pixels will not update properly on OpenGL. Pixels are stored in
+	 * 0xAARRGGBB format.
 	 *
 	 * @return the pixel buffer object of this image, or null, if no pixels exist
 	 */
@@ -127,6 +224,89 @@ public class Image implements Drawable {
 		return this.pbo;
 	}
 
+	/**
+	 * @return the version of the pixels, which increases whenever the pixels are
+	 *         flagged as modified
+	 * @see #flagGLRefresh()
+	 */
+	public int getVersion() {
+		return this.version;
+	}
+
+	/**
+	 * @return how this image is sampled when drawn at a size other than its own
+	 */
+	public SamplingMode getSampling() {
+		return this.sampling;
+	}
+
+	/**
+	 * Sets how this image is sampled when drawn at a size other than its own.
+	 *
+	 * @param sampling - the sampling mode
+	 * @throws IllegalArgumentException sampling must not be null
+	 */
+	public void setSampling(SamplingMode sampling) throws IllegalArgumentException {
+		if (sampling == null) {
+			throw new IllegalArgumentException("Sampling must not be null");
+		}
+		if (this.sampling != sampling) {
+			this.sampling = sampling;
+			this.samplingUpdated = true;
+		}
+	}
+
+	/**
+	 * @return true if the texture is given mip levels when drawn smaller than
+	 *         its size, false otherwise
+	 * @see #setMipmapped(boolean)
+	 */
+	public boolean isMipmapped() {
+		return this.mipmapped;
+	}
+
+	/**
+	 * Sets whether the texture is given mip levels when drawn smaller than its
+	 * size. Mip levels are rebuilt from the whole image after any change, so
+	 * images which change often and are rarely minified, such as text, should
+	 * not be mipmapped.
+	 *
+	 * @param mipmapped - true to mipmap the texture, false otherwise
+	 */
+	public void setMipmapped(boolean mipmapped) {
+		if (this.mipmapped != mipmapped) {
+			this.mipmapped = mipmapped;
+			this.samplingUpdated = true;
+		}
+	}
+
+	/**
+	 * @return true if the pixels are stored premultiplied, false otherwise
+	 * @see #setPremultiplied(boolean)
+	 */
+	public boolean isPremultiplied() {
+		return this.premultiplied;
+	}
+
+	/**
+	 * Sets whether the pixels are stored with their colors premultiplied by their
+	 * alpha. Premultiplied images blend with one multiply per channel rather than
+	 * two, and are sampled correctly when scaled or filtered, as transparent
+	 * pixels don't bleed their colors into their neighbours. The pixels are
+	 * converted, so this is best set once, when an image is loaded. Pixels
+	 * written to the {@link #getPBO() PBO} must be in the format of the image.
+	 *
+	 * @param premultiplied - whether to store the pixels premultiplied
+	 */
+	public void setPremultiplied(boolean premultiplied) {
+		if (this.premultiplied != premultiplied) {
+			this.premultiplied = premultiplied;
+			if (this.buf != null) {
+				setBufferedImage(this.buf);
+			}
+		}
+	}
+
 	/**
 	 * @return the buffered image, or null, if no pixels exist
 	 */
@@ -135,23 +315,121 @@ public class Image implements Drawable {
 	}
 
 	/**
-	 * Writes over the current buffered image with a new buffered image
+	 * Writes over the current buffered image with a new buffered image. The
+	 * pixels of a buffered image stored the same way as this image, i.e.
+	 * {@link BufferedImage#TYPE_INT_ARGB} or {@link BufferedImage#TYPE_INT_ARGB_PRE}
+	 * when premultiplied, are shared rather than copied.
 	 *
 	 * @param buf - a buffered image
 	 */
 	public void setBufferedImage(BufferedImage buf) {
-		this.width = buf.getWidth();
-		this.height = buf.getHeight();
-		this.pbo = IntBuffer.wrap(buf.getRGB(0, 0, this.width, this.height, null, 0, this.width));
+		wrap(buf);
 		this.flagGLRefresh();
 	}
 
+	/**
+	 * Flag a region of pixels as modified, so that they are updated on OpenGL and
+	 * scaled images of this image are recomputed. The region is clipped to the
+	 * image.
+	 *
+	 * @param x      - the left edge of the region
+	 * @param y      - the top edge of the region
+	 * @param width  - the width of the region
+	 * @param height - the height of the region
+	 */
+	public void markDirty(int x, int y, int width, int height) {
+		int x0 = Math.max(0, x);
+		int y0 = Math.max(0, y);
+		int x1 = Math.min(this.width, x + width);
+		int y1 = Math.min(this.height, y + height);
+		if (x1 <= x0 || y1 <= y0) {
+			return;
+		}
+		if (this.dirtyX1 <= this.dirtyX0 || this.dirtyY1 <= this.dirtyY0) {
+			// Nothing else is dirty
+			this.dirtyX0 = x0;
+			this.dirtyY0 = y0;
+			this.dirtyX1 = x1;
+			this.dirtyY1 = y1;
+		} else {
+			// Grow the dirty region to include this region
+			this.dirtyX0 = Math.min(this.dirtyX0, x0);
+			this.dirtyY0 = Math.min(this.dirtyY0, y0);
+			this.dirtyX1 = Math.max(this.dirtyX1, x1);
+			this.dirtyY1 = Math.max(this.dirtyY1, y1);
+		}
+		this.pboUpdated = true;
+		this.version++;
+	}
+
+	/**
+	 * Helper method to adopt the pixels of a buffered image.
+	 *
+	 * @param buf - a buffered image, or null
+	 */
+	private void wrap(BufferedImage buf) {
+		if (buf != null) {
+			this.buf = normalize(buf, this.premultiplied);
+			this.width = this.buf.getWidth();
+			this.height = this.buf.getHeight();
+			this.pbo = IntBuffer.wrap(((DataBufferInt) this.buf.getRaster().getDataBuffer()).getData());
+		} else {
+			this.buf = null;
+			this.width = 0;
+			this.height = 0;
+			this.pbo = null;
+		}
+	}
+
+	/**
+	 * Convert a buffered image to a {@link BufferedImage#TYPE_INT_ARGB} or
+	 * {@link BufferedImage#TYPE_INT_ARGB_PRE} image whose pixels are a single
+	 * array stored row by row, unless it is one already.
+	 *
+	 * @param buf           - a buffered image
+	 * @param premultiplied - whether to convert to a premultiplied image
+	 * @return the buffered image, or a converted copy of it
+	 */
+	protected static BufferedImage normalize(BufferedImage buf, boolean premultiplied) {
+		int type = premultiplied ? BufferedImage.TYPE_INT_ARGB_PRE : BufferedImage.TYPE_INT_ARGB;
+		if (buf.getType() == type) {
+			WritableRaster raster = buf.getRaster();
+			DataBuffer data = raster.getDataBuffer();
+			// Sub-images share a larger array, so they must be copied
+			if (raster.getParent() == null && data.getNumBanks() == 1 && data.getOffset() == 0
+					&& raster.getSampleModel() instanceof SinglePixelPackedSampleModel
+					&& ((SinglePixelPackedSampleModel) raster.getSampleModel()).getScanlineStride() == buf.getWidth()) {
+				return buf;
+			}
+		}
+		BufferedImage argb = new BufferedImage(buf.getWidth(), buf.getHeight(), type);
+		int[] pixels = ((DataBufferInt) argb.getRaster().getDataBuffer()).getData();
+		buf.getRGB(0, 0, buf.getWidth(), buf.getHeight(), pixels, 0, buf.getWidth());
+		if (premultiplied) {
+			// Straight colors are read, so premultiply them in place
+			for (int i = 0; i < pixels.length; i++) {
+				pixels[i] = Blend.premultiply(pixels[i]);
+			}
+		}
+		return argb;
+	}
+
 	/**
 	 * @param sx - the scale x-axis factor
 	 * @param sy - the scale y-axis factor
-	 * @return a new image, scaled accordingly
+	 * @return a new image, scaled accordingly with this image's sampling
 	 */
 	public Image resize(double sx, double sy) {
+		return resize(sx, sy, this.sampling);
+	}
+
+	/**
+	 * @param sx       - the scale x-axis factor
+	 * @param sy       - the scale y-axis factor
+	 * @param sampling - how to sample this image
+	 * @return a new image, scaled accordingly
+	 */
+	public Image resize(double sx, double sy, SamplingMode sampling) {
 		int sWidth = (int) (this.width * sx);
 		int sHeight = (int) (this.height * sy);
 
@@ -159,19 +437,18 @@ public class Image implements Drawable {
 			return new Image(null);
 		}
 
-		BufferedImage buf = new BufferedImage(sWidth, sHeight, BufferedImage.TYPE_INT_ARGB);
-		int[] sPixels = ((DataBufferInt) buf.getRaster().getDataBuffer()).getData();
-
 		// Resize pixels
-		for (int yi = 0; yi < sHeight; yi++) {
-			int yWidth = this.width * (int) (yi / sy);
-			int syWidth = yi * sWidth;
-			for (int xi = 0; xi < sWidth; xi++) {
-				sPixels[syWidth + xi] = this.pbo.get((int) (xi / sx) + yWidth);
-			}
-		}
+		MipChain chain = MipChain.of(new ScaledImage(this.pbo.array(), this.width, this.height));
+		ScaledImage scaled = sampling.sample(chain, sWidth, sHeight);
+
+		BufferedImage buf = new BufferedImage(sWidth, sHeight,
+				this.premultiplied ? BufferedImage.TYPE_INT_ARGB_PRE : BufferedImage.TYPE_INT_ARGB);
+		int[] sPixels = ((DataBufferInt) buf.getRaster().getDataBuffer()).getData();
+		System.arraycopy(scaled.pixels, 0, sPixels, 0, sPixels.length);
 
-		return new Image(buf);
+		Image resized = new Image(buf, this.premultiplied);
+		resized.setSampling(sampling);
+		return resized;
 	}
 
 	@Override
@@ -186,15 +463,13 @@ public class Image implements Drawable {
 			gl.glBindTexture(GL2.GL_TEXTURE_2D, this.texId);
 
 			// Clamp texture so it doesn't repeat
-			gl.glTexParameteri(GL2.GL_TEXTURE_2D, GL2.GL_TEXTURE_MIN_FILTER, GL2.GL_NEAREST);
-			gl.glTexParameteri(GL2.GL_TEXTURE_2D, GL2.GL_TEXTURE_MAG_FILTER, GL2.GL_NEAREST);
+			applySampling(gl);
 			gl.glTexParameteri(GL2.GL_TEXTURE_2D, GL2.GL_TEXTURE_WRAP_S, GL2.GL_CLAMP);
 			gl.glTexParameteri(GL2.GL_TEXTURE_2D, GL2.GL_TEXTURE_WRAP_T, GL2.GL_CLAMP);
 
 			if (this.pbo != null) {
 				// Bind texture to PBO
-				gl.glTexImage2D(GL2.GL_TEXTURE_2D, 0, GL2.GL_RGBA8, this.buf.getWidth(), this.buf.getHeight(), 0,
-						GL2.GL_BGRA, GL2.GL_UNSIGNED_INT_8_8_8_8_REV, this.pbo);
+				upload(gl);
 			}
 
 			// Unbind texture object
@@ -208,7 +483,7 @@ public class Image implements Drawable {
 			// Bind PBO for texture data
 			if (this.pbo != null) {
 				gl.glBindBuffer(GL2.GL_PIXEL_UNPACK_BUFFER, this.pboId); // Bind the buffer object
-				long size = this.buf.getWidth() * this.buf.getHeight() * Buffers.SIZEOF_INT;
+				long size = this.width * this.height * Buffers.SIZEOF_INT;
 				gl.glBufferData(GL2.GL_PIXEL_UNPACK_BUFFER, size, this.pbo, GL2.GL_STREAM_DRAW); // Bind PBO to texture
 			}
 
@@ -219,25 +494,46 @@ public class Image implements Drawable {
 
 	@Override
 	public void flagGLRefresh() {
+		markDirty(0, 0, this.width, this.height);
 		this.pboUpdated = true;
 	}
 
 	@Override
 	public boolean needsGLRefresh() {
-		return this.pboUpdated;
+		return this.pboUpdated || this.samplingUpdated;
 	}
 
 	@Override
 	public void refresh(GL2 gl) {
-		if (this.pboUpdated) {
+		if (this.pboUpdated || this.samplingUpdated) {
 			// Bind the texture
 			gl.glEnable(GL2.GL_TEXTURE_2D);
 			gl.glBindTexture(GL2.GL_TEXTURE_2D, this.texId);
 
+			if (this.samplingUpdated) {
+				// Mip levels which are no longer wanted are never sampled
+				this.mipmapsCurrent &= this.mipmapped;
+				applySampling(gl);
+			}
+
 			// Update the texture if there was a change
 			if (this.pbo != null) {
-				gl.glTexSubImage2D(GL2.GL_TEXTURE_2D, 0, 0, 0, this.buf.getWidth(), this.buf.getHeight(), GL2.GL_BGRA,
-						GL2.GL_UNSIGNED_INT_8_8_8_8_REV, this.pbo);
+				if (this.width != this.texWidth || this.height != this.texHeight) {
+					// The dimensions changed, so the texture must be reallocated
+					upload(gl);
+				} else {
+					if (this.dirtyX1 > this.dirtyX0 && this.dirtyY1 > this.dirtyY0) {
+						// Only upload the modified region
+						gl.glPixelStorei(GL2.GL_UNPACK_ROW_LENGTH, this.width);
+						this.pbo.position(this.dirtyY0 * this.width + this.dirtyX0);
+						gl.glTexSubImage2D(GL2.GL_TEXTURE_2D, 0, this.dirtyX0, this.dirtyY0,
+								this.dirtyX1 - this.dirtyX0, this.dirtyY1 - this.dirtyY0, GL2.GL_BGRA,
+								GL2.GL_UNSIGNED_INT_8_8_8_8_REV, this.pbo);
+						this.pbo.position(0);
+						gl.glPixelStorei(GL2.GL_UNPACK_ROW_LENGTH, 0);
+						invalidateMipmaps(gl);
+					}
+				}
 			}
 
 			// Unbind texture
@@ -245,6 +541,61 @@ public class Image implements Drawable {
 			gl.glBindTexture(GL2.GL_TEXTURE_2D, 0);
 
 			this.pboUpdated = false;
+			this.samplingUpdated = false;
+			this.dirtyX0 = this.dirtyY0 = this.dirtyX1 = this.dirtyY1 = 0;
+		}
+	}
+
+	/**
+	 * Allocate the bound texture with every pixel of this image.
+	 *
+	 * @param gl - a current GL context
+	 */
+	protected void upload(GL2 gl) {
+		gl.glTexImage2D(GL2.GL_TEXTURE_2D, 0, GL2.GL_RGBA8, this.width, this.height, 0, GL2.GL_BGRA,
+				GL2.GL_UNSIGNED_INT_8_8_8_8_REV, this.pbo);
+		this.texWidth = this.width;
+		this.texHeight = this.height;
+		invalidateMipmaps(gl);
+	}
+
+	/**
+	 * Set the filters of the bound texture to this image's sampling. Mipmapped
+	 * filters fall back to their base filter until the mip levels are current.
+	 *
+	 * @param gl - a current GL context
+	 */
+	protected void applySampling(GL2 gl) {
+		int minFilter = this.mipmapsCurrent ? this.sampling.glMinFilter : this.sampling.glFallbackMinFilter;
+		gl.glTexParameteri(GL2.GL_TEXTURE_2D, GL2.GL_TEXTURE_MIN_FILTER, minFilter);
+		gl.glTexParameteri(GL2.GL_TEXTURE_2D, GL2.GL_TEXTURE_MAG_FILTER, this.sampling.glMagFilter);
+	}
+
+	/**
+	 * Flag the mip levels of the bound texture as out of date after its base
+	 * level changed. They are rebuilt the next time the texture is drawn
+	 * smaller than its size, rather than on every change.
+	 *
+	 * @param gl - a current GL context
+	 */
+	protected void invalidateMipmaps(GL2 gl) {
+		if (this.mipmapsCurrent) {
+			this.mipmapsCurrent = false;
+			applySampling(gl);
+		}
+	}
+
+	/**
+	 * Generate the mip levels of the bound texture from its base level if this
+	 * image is mipmapped, they are out of date, and it is supported.
+	 *
+	 * @param gl - a current GL context
+	 */
+	protected void generateMipmaps(GL2 gl) {
+		if (this.mipmapped && !this.mipmapsCurrent && gl.isFunctionAvailable("glGenerateMipmap")) {
+			gl.glGenerateMipmap(GL2.GL_TEXTURE_2D);
+			this.mipmapsCurrent = true;
+			applySampling(gl);
 		}
 	}
 
@@ -259,12 +610,16 @@ public class Image implements Drawable {
 
 			this.pboId = 0;
 			this.texId = 0;
+			this.texWidth = 0;
+			this.texHeight = 0;
+			this.mipmapsCurrent = false;
 		}
 	}
 
 	@Override
 	public void draw(CPUProcessor processor, int x, int y, double sx, double sy) {
-		int width = (int) (this.width * sx);
+		int scaledWidth = (int) (this.width * sx);
+		int width = Math.min(scaledWidth, (int) (getVisibleWidth() * sx));
 		int height = (int) (this.height * sy);
 
 		// Don't render images that are 0px wide or high
@@ -300,42 +655,51 @@ public class Image implements Drawable {
 			yEnd -= yEnd + y - processor.getImage().getHeight();
 		}
 
+		// Retrieve the pixels at the drawn size
+		ScaledImage scaled = processor.getScaledImages().fetch(this, scaledWidth, height);
+		if (scaled == null) {
+			return;
+		}
+		int[] pixels = scaled.pixels;
+
 		// Draw
 		for (int yi = yStart; yi < yEnd; yi++) {
-			int syi = (int) (yi / sy);
-			int syWidth = syi * this.width;
-			for (int xi = xStart; xi < xEnd; xi++) {
-				int sxi = (int) (xi / sx);
-				processor.setPixel(xi + x, yi + y, this.pbo.get(sxi + syWidth));
-			}
+			processor.setPixels(xStart + x, yi + y, pixels, yi * scaledWidth + xStart, xEnd - xStart,
+					this.premultiplied);
 		}
 	}
 
 	@Override
 	public void draw(JOGLProcessor processor, GL2 gl, double x, double y, double sx, double sy) {
-		// Enable blending
-		gl.glEnable(GL2.GL_BLEND);
-		gl.glBlendFunc(GL.GL_SRC_ALPHA, GL.GL_ONE_MINUS_SRC_ALPHA);
+		// Enable blending, where premultiplied colors are already multiplied by alpha
+		processor.blend(gl, this.premultiplied);
 
 		// Bind the texture
 		gl.glEnable(GL2.GL_TEXTURE_2D);
 		gl.glBindTexture(GL2.GL_TEXTURE_2D, this.texId);
 
+		// Only a minified texture samples its mip levels
+		if (sx < 1 || sy < 1) {
+			generateMipmaps(gl);
+		}
+
 		// Draw quad
+		int visibleWidth = getVisibleWidth();
+		float u = (this.width == 0) ? 1 : (float) visibleWidth / this.width;
 		gl.glColor3f(1, 1, 1);
 		gl.glBegin(GL2.GL_QUADS);
 
-		gl.glTexCoord2i(0, 0);
+		gl.glTexCoord2f(0, 0);
 		gl.glVertex2d(x, y);
 
-		gl.glTexCoord2i(0, 1);
+		gl.glTexCoord2f(0, 1);
 		gl.glVertex2d(x, y + this.height * sy);
 
-		gl.glTexCoord2i(1, 1);
-		gl.glVertex2d(x + this.width * sx, y + this.height * sy);
+		gl.glTexCoord2f(u, 1);
+		gl.glVertex2d(x + visibleWidth * sx, y + this.height * sy);
 
-		gl.glTexCoord2i(1, 0);
-		gl.glVertex2d(x + this.width * sx, y);
+		gl.glTexCoord2f(u, 0);
+		gl.glVertex2d(x + visibleWidth * sx, y);
 
 		gl.glEnd();
 
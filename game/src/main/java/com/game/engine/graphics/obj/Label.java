@@ -1,7 +1,11 @@
 package com.game.engine.graphics.obj;
 
+import java.awt.image.BufferedImage;
 import java.util.Arrays;
 
+import com.game.engine.cache.Cache;
+import com.game.engine.cache.CachePolicy;
+import com.game.engine.cache.LabelLoader;
 import com.game.engine.graphics.common.RenderRequest;
 import com.game.engine.graphics.obj.fonts.Font;
 import com.game.engine.graphics.obj.fonts.Glyph;
@@ -19,6 +23,18 @@ import com.jogamp.opengl.GL2;
  */
 public class Label extends Image {
 
+	/**
+	 * The capacity of the shared cache of baked bitmaps, in pixels (4 MB).
+	 */
+	public static final int BITMAP_CAPACITY = 1 << 20;
+
+	/**
+	 * The baked bitmaps of labels, shared by labels with the same font, text and
+	 * color.
+	 */
+	private static final Cache<LabelLoader.Key, BufferedImage> BITMAPS = CachePolicy.LRU.create(BITMAP_CAPACITY,
+			new LabelLoader());
+
 	/**
 	 * The font of this label.
 	 */
@@ -42,10 +58,12 @@ public class Label extends Image {
 	 * @param argb - the color of the label
 	 */
 	public Label(Font font, String text, int argb) {
-		super(font.bakeImage(text, argb));
+		super(bake(font, Glyph.keycodesOf(text), argb));
 		this.font = font;
 		this.keycodes = Glyph.keycodesOf(text);
 		this.argb = argb;
+		// Text changes often and is rarely minified, so it isn't mipmapped
+		this.mipmapped = false;
 	}
 
 	/**
@@ -56,10 +74,12 @@ public class Label extends Image {
 	 * @param argb     - the color of the label
 	 */
 	public Label(Font font, int[] keycodes, int argb) {
-		super(font.bakeImage(keycodes, argb));
+		super(bake(font, keycodes, argb));
 		this.font = font;
 		this.keycodes = keycodes;
 		this.argb = argb;
+		// Text changes often and is rarely minified, so it isn't mipmapped
+		this.mipmapped = false;
 	}
 
 	/**
@@ -98,7 +118,8 @@ public class Label extends Image {
 	 * @param keycodes - an array of keycodes to bake into this label
 	 */
 	public void setText(int[] keycodes) {
-		super.setBufferedImage(font.bakeImage(keycodes, argb));
+		this.keycodes = keycodes;
+		super.setBufferedImage(bake(this.font, keycodes, this.argb));
 	}
 
 	/**
@@ -107,7 +128,19 @@ public class Label extends Image {
 	 * @param text - the text to set for this label
 	 */
 	public void setText(String text) {
-		super.setBufferedImage(font.bakeImage(text, argb));
+		setText(Glyph.keycodesOf(text));
+	}
+
+	/**
+	 * Helper method to fetch the shared bitmap of a label's text.
+	 *
+	 * @param font     - the font of the label
+	 * @param keycodes - the keycodes on the label
+	 * @param argb     - the color of the label
+	 * @return the baked bitmap, or null if there are no keycodes
+	 */
+	private static BufferedImage bake(Font font, int[] keycodes, int argb) {
+		return BITMAPS.fetch(new LabelLoader.Key(font, keycodes, argb));
 	}
 
 	@Override
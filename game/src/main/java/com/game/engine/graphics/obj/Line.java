@@ -36,6 +36,11 @@ public class Line implements Drawable {
 	 */
 	private int argb;
 
+	/**
+	 * Whether the line is antialiased on the CPU
+	 */
+	private boolean antialiased;
+
 	/**
 	 * Initializes a line
 	 *
@@ -48,6 +53,20 @@ public class Line implements Drawable {
 		this.dy = dy;
 		this.length = Math.sqrt(dx * dx + dy * dy);
 		this.argb = argb;
+		this.antialiased = false;
+	}
+
+	/**
+	 * Initializes a line
+	 *
+	 * @param dx          - the run of this line
+	 * @param dy          - the rise of this line
+	 * @param argb        - the color (ARGB format) of the line
+	 * @param antialiased - true to antialias the line, false otherwise
+	 */
+	public Line(int dx, int dy, int argb, boolean antialiased) {
+		this(dx, dy, argb);
+		this.antialiased = antialiased;
 	}
 
 	/**
@@ -100,6 +119,23 @@ public class Line implements Drawable {
 		this.argb = argb;
 	}
 
+	/**
+	 * @return true if the line is antialiased, false otherwise
+	 */
+	public boolean isAntialiased() {
+		return this.antialiased;
+	}
+
+	/**
+	 * Set whether the line is antialiased. Thick or connected lines should use a
+	 * {@link Polyline}.
+	 *
+	 * @param antialiased - true to antialias the line, false otherwise
+	 */
+	public void setAntialiased(boolean antialiased) {
+		this.antialiased = antialiased;
+	}
+
 	/**
 	 * @return the length of the line
 	 */
@@ -134,15 +170,15 @@ public class Line implements Drawable {
 	}
 
 	/**
-	 * Helper method to calculate the alpha of a pixel with
+	 * Helper method to calculate the color of a pixel partially covered by the
+	 * line
 	 *
-	 * @param argb
-	 * @param error
-	 * @return
+	 * @param error - the distance of the pixel from the line, from 0 to 1
+	 * @return the color of the line with its alpha scaled by the coverage
 	 */
 	int aaColor(float error) {
-		int alpha = 0xff - (int) (0xff * error);
-		int a = this.argb >> 24 & alpha;
+		int coverage = Math.max(0, Math.min(0xff, 0xff - (int) (0xff * error)));
+		int a = ((this.argb >>> 24) * coverage + 127) / 255;
 		int rgb = this.argb & 0x00ffffff;
 		return (int) a << 24 | rgb;
 	}
@@ -232,7 +268,11 @@ public class Line implements Drawable {
 	public void draw(CPUProcessor processor, int x, int y, double sx, double sy) {
 		int sdx = (int) (this.dx * sx); // scaled dx
 		int sdy = (int) (this.dy * sy); // scaled dy
-		plotLine(processor, x, y, x + sdx, y + sdy);
+		if (this.antialiased) {
+			plotLineAA(processor, x, y, x + sdx, y + sdy);
+		} else {
+			plotLine(processor, x, y, x + sdx, y + sdy);
+		}
 	}
 
 	@Override
@@ -0,0 +1,339 @@
+package com.game.engine.graphics.obj;
+
+import java.nio.FloatBuffer;
+import java.util.Arrays;
+
+import com.game.engine.graphics.common.Drawable;
+import com.game.engine.graphics.common.RenderRequest;
+import com.game.engine.graphics.request.PolygonRequest;
+import com.game.engine.rendering.common.RenderLevel;
+import com.game.engine.rendering.cpu.CPUProcessor;
+import com.game.engine.rendering.opengl.JOGLProcessor;
+import com.jogamp.common.nio.Buffers;
+import com.jogamp.opengl.GL2;
+
+/**
+ * An graphics object which contains information describing a filled polygon.
+ * The vertices are relative to where the polygon is drawn, and the edges
+ * between them must not cross. A pixel is filled if its center is inside the
+ * polygon, so polygons which share an edge don't overlap. On OpenGL the
+ * polygon is split into triangles once, which are uploaded to a vertex buffer
+ * object.
+ *
+ * @author Spencer Imbleau
+ * @version October 2026
+ */
+public class Polygon implements Drawable {
+
+	/**
+	 * The x co-ordinates of the vertices.
+	 */
+	private final int[] xs;
+
+	/**
+	 * The y co-ordinates of the vertices.
+	 */
+	private final int[] ys;
+
+	/**
+	 * The width of the box bounding the polygon.
+	 */
+	private final int width;
+
+	/**
+	 * The height of the box bounding the polygon.
+	 */
+	private final int height;
+
+	/**
+	 * The ARGB color of the polygon.
+	 */
+	private int argb;
+
+	/**
+	 * The indices of the vertices of each triangle which the polygon is split
+	 * into, computed when first drawn by OpenGL.
+	 */
+	private int[] triangles = null;
+
+	/**
+	 * The vertex buffer object ID for OpenGL.
+	 */
+	private int vboId = 0;
+
+	/**
+	 * Whether the triangles need to be uploaded to OpenGL.
+	 */
+	private boolean vboUpdated = true;
+
+	/**
+	 * Initialize a polygon.
+	 *
+	 * @param xs   - the x co-ordinates of the vertices
+	 * @param ys   - the y co-ordinates of the vertices
+	 * @param argb - the ARGB color of the polygon
+	 * @throws IllegalArgumentException if there are less than 3 vertices, or
+	 *                                  there aren't as many x co-ordinates as y
+	 *                                  co-ordinates
+	 */
+	public Polygon(int[] xs, int[] ys, int argb) throws IllegalArgumentException {
+		if (xs.length != ys.length) {
+			throw new IllegalArgumentException("Polygons need as many x co-ordinates as y co-ordinates");
+		}
+		if (xs.length < 3) {
+			throw new IllegalArgumentException("Polygons need at least 3 vertices");
+		}
+		this.xs = xs.clone();
+		this.ys = ys.clone();
+		this.width = Math.max(0, Arrays.stream(xs).max().getAsInt());
+		this.height = Math.max(0, Arrays.stream(ys).max().getAsInt());
+		this.argb = argb;
+	}
+
+	/**
+	 * @return the amount of vertices
+	 */
+	public int getVertexCount() {
+		return this.xs.length;
+	}
+
+	/**
+	 * @return the width of the box bounding the polygon
+	 */
+	public int getWidth() {
+		return this.width;
+	}
+
+	/**
+	 * @return the height of the box bounding the polygon
+	 */
+	public int getHeight() {
+		return this.height;
+	}
+
+	/**
+	 * @return the ARGB color of the polygon
+	 */
+	public int getColor() {
+		return this.argb;
+	}
+
+	/**
+	 * Set the color of the polygon
+	 *
+	 * @param argb - the ARGB color to set
+	 */
+	public void setColor(int argb) {
+		this.argb = argb;
+	}
+
+	@Override
+	public void alloc(GL2 gl) {
+		if (this.vboId == 0) {
+			int[] ids = new int[1];
+			gl.glGenBuffers(1, ids, 0);
+			this.vboId = ids[0];
+			this.vboUpdated = true;
+		}
+	}
+
+	@Override
+	public void flagGLRefresh() {
+		this.vboUpdated = true;
+	}
+
+	@Override
+	public boolean needsGLRefresh() {
+		return this.vboUpdated;
+	}
+
+	@Override
+	public void refresh(GL2 gl) {
+		if (this.vboId == 0) {
+			alloc(gl);
+		}
+		if (this.triangles == null) {
+			this.triangles = triangulate();
+		}
+
+		// The vertices of each triangle, relative to where the polygon is drawn
+		FloatBuffer vertices = Buffers.newDirectFloatBuffer(2 * this.triangles.length);
+		for (int vertex : this.triangles) {
+			vertices.put(this.xs[vertex]).put(this.ys[vertex]);
+		}
+		vertices.rewind();
+
+		gl.glBindBuffer(GL2.GL_ARRAY_BUFFER, this.vboId);
+		gl.glBufferData(GL2.GL_ARRAY_BUFFER, (long) vertices.capacity() * Buffers.SIZEOF_FLOAT, vertices,
+				GL2.GL_STATIC_DRAW);
+		gl.glBindBuffer(GL2.GL_ARRAY_BUFFER, 0);
+		this.vboUpdated = false;
+	}
+
+	@Override
+	public void dispose(GL2 gl) {
+		if (this.vboId != 0) {
+			int[] ids = { this.vboId };
+			gl.glDeleteBuffers(ids.length, ids, 0);
+			this.vboId = 0;
+			this.vboUpdated = true;
+		}
+	}
+
+	/**
+	 * Split the polygon into triangles by clipping ears, i.e. triangles of three
+	 * consecutive vertices which contain no other vertex.
+	 *
+	 * @return the indices of the vertices of each triangle
+	 */
+	protected int[] triangulate() {
+		int n = this.xs.length;
+		int[] remaining = new int[n];
+		for (int i = 0; i < n; i++) {
+			remaining[i] = i;
+		}
+
+		// The sign of the area is the winding of the polygon
+		long area = 0;
+		for (int i = 0, j = n - 1; i < n; j = i++) {
+			area += (long) this.xs[j] * this.ys[i] - (long) this.xs[i] * this.ys[j];
+		}
+		int winding = (area < 0) ? -1 : 1;
+
+		int[] result = new int[3 * (n - 2)];
+		int count = 0;
+		int size = n;
+		int i = 0;
+		int misses = 0;
+		while (size > 3) {
+			int prev = remaining[(i + size - 1) % size];
+			int curr = remaining[i % size];
+			int next = remaining[(i + 1) % size];
+			if (isEar(remaining, size, prev, curr, next, winding) || misses >= size) {
+				// Clip the ear, or give up on finding one if the polygon is degenerate
+				result[count++] = prev;
+				result[count++] = curr;
+				result[count++] = next;
+				System.arraycopy(remaining, i % size + 1, remaining, i % size, size - i % size - 1);
+				size--;
+				misses = 0;
+			} else {
+				i++;
+				misses++;
+			}
+			i %= size;
+		}
+		result[count++] = remaining[0];
+		result[count++] = remaining[1];
+		result[count++] = remaining[2];
+		return result;
+	}
+
+	/**
+	 * @param remaining - the vertices not yet clipped
+	 * @param size      - the amount of vertices not yet clipped
+	 * @param prev      - the vertex before the tip
+	 * @param curr      - the tip of the ear
+	 * @param next      - the vertex after the tip
+	 * @param winding   - the sign of the polygon's area
+	 * @return true if the vertices form an ear, false otherwise
+	 */
+	private boolean isEar(int[] remaining, int size, int prev, int curr, int next, int winding) {
+		if (winding * cross(prev, curr, next) <= 0) {
+			// A reflex or flat corner
+			return false;
+		}
+		for (int k = 0; k < size; k++) {
+			int v = remaining[k];
+			if (v == prev || v == curr || v == next) {
+				continue;
+			}
+			if (winding * cross(prev, curr, v) >= 0 && winding * cross(curr, next, v) >= 0
+					&& winding * cross(next, prev, v) >= 0) {
+				// Another vertex is inside the ear
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * @param a - a vertex
+	 * @param b - a vertex
+	 * @param c - a vertex
+	 * @return the cross product of the edges from a to b and from b to c
+	 */
+	private long cross(int a, int b, int c) {
+		return (long) (this.xs[b] - this.xs[a]) * (this.ys[c] - this.ys[b])
+				- (long) (this.ys[b] - this.ys[a]) * (this.xs[c] - this.xs[b]);
+	}
+
+	@Override
+	public void draw(CPUProcessor processor, int x, int y, double sx, double sy) {
+		int n = this.xs.length;
+		double[] crossings = new double[n];
+		int minY = Arrays.stream(this.ys).min().getAsInt();
+
+		// Fill each row between pairs of edge crossings at the centers of its pixels
+		int yStart = Math.max(0, y + (int) Math.floor(minY * sy));
+		int yEnd = Math.min(processor.getImage().getHeight(), y + (int) Math.ceil(this.height * sy));
+		for (int row = yStart; row < yEnd; row++) {
+			double center = row + 0.5 - y;
+			int count = 0;
+			for (int i = 0, j = n - 1; i < n; j = i++) {
+				double y0 = this.ys[j] * sy;
+				double y1 = this.ys[i] * sy;
+				if ((y0 <= center) != (y1 <= center)) {
+					double x0 = this.xs[j] * sx;
+					double x1 = this.xs[i] * sx;
+					crossings[count++] = x0 + (center - y0) * (x1 - x0) / (y1 - y0);
+				}
+			}
+			Arrays.sort(crossings, 0, count);
+			for (int c = 0; c + 1 < count; c += 2) {
+				int xStart = x + (int) Math.ceil(crossings[c] - 0.5);
+				int xEnd = x + (int) Math.ceil(crossings[c + 1] - 0.5);
+				processor.fillRow(xStart, xEnd, row, this.argb);
+			}
+		}
+	}
+
+	@Override
+	public void draw(JOGLProcessor processor, GL2 gl, double x, double y, double sx, double sy) {
+		if (this.vboUpdated || this.vboId == 0) {
+			refresh(gl);
+		}
+
+		// Blend translucent fills
+		processor.blend(gl, false);
+		float a = (this.argb >> 24 & 0xff) / 255f;
+		float r = (this.argb >> 16 & 0xff) / 255f;
+		float g = (this.argb >> 8 & 0xff) / 255f;
+		float b = (this.argb & 0xff) / 255f;
+		gl.glColor4f(r, g, b, a);
+
+		// Draw the uploaded triangles, transformed to the screen
+		gl.glPushMatrix();
+		gl.glTranslated(x, y, 0);
+		gl.glScaled(sx, sy, 1);
+		gl.glBindBuffer(GL2.GL_ARRAY_BUFFER, this.vboId);
+		gl.glEnableClientState(GL2.GL_VERTEX_ARRAY);
+		gl.glVertexPointer(2, GL2.GL_FLOAT, 0, 0);
+		gl.glDrawArrays(GL2.GL_TRIANGLES, 0, this.triangles.length);
+		gl.glDisableClientState(GL2.GL_VERTEX_ARRAY);
+		gl.glBindBuffer(GL2.GL_ARRAY_BUFFER, 0);
+		gl.glPopMatrix();
+		gl.glDisable(GL2.GL_BLEND);
+	}
+
+	@Override
+	public RenderRequest asRequest(RenderLevel level, int x, int y) {
+		return new PolygonRequest(this, level, x, y);
+	}
+
+	@Override
+	public RenderRequest asRequest(RenderLevel level, int depth, int x, int y) {
+		return new PolygonRequest(this, level, depth, x, y);
+	}
+
+}
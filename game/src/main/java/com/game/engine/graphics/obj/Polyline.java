@@ -0,0 +1,660 @@
+package com.game.engine.graphics.obj;
+
+import java.nio.FloatBuffer;
+import java.util.Arrays;
+
+import com.game.engine.graphics.common.Drawable;
+import com.game.engine.graphics.common.LineJoin;
+import com.game.engine.graphics.common.RenderRequest;
+import com.game.engine.graphics.request.PolylineRequest;
+import com.game.engine.rendering.common.RenderLevel;
+import com.game.engine.rendering.cpu.CPUProcessor;
+import com.game.engine.rendering.opengl.CircleMeshCache;
+import com.game.engine.rendering.opengl.JOGLProcessor;
+import com.jogamp.common.nio.Buffers;
+import com.jogamp.opengl.GL2;
+
+/**
+ * An graphics object which contains information describing a thick line through
+ * a sequence of points, such as a path or a route. Every segment of a polyline
+ * is drawn by one request, so long paths are not staged a segment at a time.
+ * The points are relative to where the polyline is drawn.
+ * <br>
+ * <br>
+ * A polyline is drawn as convex pieces: a quad for each segment, and a piece
+ * for each corner with the polyline's {@link LineJoin}. The pieces are built
+ * when the points change. On the CPU the pieces are rasterized a span per row
+ * into a coverage mask, so translucent polylines don't darken where pieces
+ * overlap, and antialiased edges fade over a pixel. On OpenGL the pieces are
+ * uploaded as triangles into a vertex buffer object, which is drawn with a
+ * transform. Translucent polylines are drawn through the stencil buffer, so
+ * each pixel is blended once. The canvas has no sample buffers, so polylines
+ * are not antialiased on OpenGL.
+ *
+ * @author Spencer Imbleau
+ * @version October 2026
+ * @see Line
+ */
+public class Polyline implements Drawable {
+
+	/**
+	 * The longest miter, as a multiple of half the thickness, before a miter join
+	 * is beveled instead.
+	 */
+	public static final double MITER_LIMIT = 4;
+
+	/**
+	 * The x co-ordinates of the points, with spare capacity.
+	 */
+	private double[] xs;
+
+	/**
+	 * The y co-ordinates of the points, with spare capacity.
+	 */
+	private double[] ys;
+
+	/**
+	 * The amount of points.
+	 */
+	private int count;
+
+	/**
+	 * The thickness of the line.
+	 */
+	private double thickness;
+
+	/**
+	 * How corners are joined.
+	 */
+	private LineJoin join;
+
+	/**
+	 * Whether the edges are antialiased.
+	 */
+	private boolean antialiased;
+
+	/**
+	 * The ARGB color of the line.
+	 */
+	private int argb;
+
+	/**
+	 * The vertices of every piece, as x and y co-ordinates, or null if the pieces
+	 * must be rebuilt.
+	 */
+	private double[] pieces = null;
+
+	/**
+	 * The index of the first vertex of each piece, followed by the amount of
+	 * vertices.
+	 */
+	private int[] pieceStarts;
+
+	/**
+	 * The amount of pieces.
+	 */
+	private int pieceCount;
+
+	/**
+	 * The coverage of each pixel while drawing on the CPU, reused between draws.
+	 */
+	private byte[] mask = new byte[0];
+
+	/**
+	 * The vertex buffer object ID for OpenGL.
+	 */
+	private int vboId = 0;
+
+	/**
+	 * The amount of vertices in the vertex buffer object.
+	 */
+	private int vboVertices = 0;
+
+	/**
+	 * Whether the pieces have changed since they were uploaded to OpenGL.
+	 */
+	private boolean vboUpdated = false;
+
+	/**
+	 * Initialize a polyline with no points.
+	 *
+	 * @param thickness - the thickness of the line
+	 * @param argb      - the ARGB color of the line
+	 */
+	public Polyline(double thickness, int argb) {
+		this.xs = new double[16];
+		this.ys = new double[16];
+		this.count = 0;
+		this.thickness = thickness;
+		this.join = LineJoin.MITER;
+		this.antialiased = false;
+		this.argb = argb;
+	}
+
+	/**
+	 * Initialize a polyline.
+	 *
+	 * @param xs        - the x co-ordinates of the points
+	 * @param ys        - the y co-ordinates of the points
+	 * @param thickness - the thickness of the line
+	 * @param argb      - the ARGB color of the line
+	 * @throws IllegalArgumentException if there aren't as many x co-ordinates as
+	 *                                  y co-ordinates
+	 */
+	public Polyline(double[] xs, double[] ys, double thickness, int argb) throws IllegalArgumentException {
+		this(thickness, argb);
+		if (xs.length != ys.length) {
+			throw new IllegalArgumentException("Polylines need as many x co-ordinates as y co-ordinates");
+		}
+		for (int i = 0; i < xs.length; i++) {
+			add(xs[i], ys[i]);
+		}
+	}
+
+	/**
+	 * Add a point to the end of the line. A point equal to the last point is
+	 * ignored.
+	 *
+	 * @param x - the x co-ordinate of the point
+	 * @param y - the y co-ordinate of the point
+	 */
+	public void add(double x, double y) {
+		if (this.count > 0 && this.xs[this.count - 1] == x && this.ys[this.count - 1] == y) {
+			return;
+		}
+		if (this.count == this.xs.length) {
+			this.xs = Arrays.copyOf(this.xs, this.count * 2);
+			this.ys = Arrays.copyOf(this.ys, this.count * 2);
+		}
+		this.xs[this.count] = x;
+		this.ys[this.count] = y;
+		this.count++;
+		flagGLRefresh();
+	}
+
+	/**
+	 * Remove every point.
+	 */
+	public void clear() {
+		this.count = 0;
+		flagGLRefresh();
+	}
+
+	/**
+	 * @return the amount of points
+	 */
+	public int getPointCount() {
+		return this.count;
+	}
+
+	/**
+	 * @return the thickness of the line
+	 */
+	public double getThickness() {
+		return this.thickness;
+	}
+
+	/**
+	 * @param thickness - the thickness of the line
+	 */
+	public void setThickness(double thickness) {
+		this.thickness = thickness;
+		flagGLRefresh();
+	}
+
+	/**
+	 * @return how corners are joined
+	 */
+	public LineJoin getJoin() {
+		return this.join;
+	}
+
+	/**
+	 * @param join - how corners are joined
+	 * @throws IllegalArgumentException join must not be null
+	 */
+	public void setJoin(LineJoin join) throws IllegalArgumentException {
+		if (join == null) {
+			throw new IllegalArgumentException("Join must not be null");
+		}
+		this.join = join;
+		flagGLRefresh();
+	}
+
+	/**
+	 * @return true if the edges are antialiased, false otherwise
+	 */
+	public boolean isAntialiased() {
+		return this.antialiased;
+	}
+
+	/**
+	 * Set whether the edges are antialiased. Only the CPU antialiases edges.
+	 *
+	 * @param antialiased - true to antialias the edges, false otherwise
+	 */
+	public void setAntialiased(boolean antialiased) {
+		this.antialiased = antialiased;
+	}
+
+	/**
+	 * @return the ARGB color of the line
+	 */
+	public int getColor() {
+		return this.argb;
+	}
+
+	/**
+	 * Set the color of the line
+	 *
+	 * @param argb - the ARGB color to set
+	 */
+	public void setColor(int argb) {
+		this.argb = argb;
+	}
+
+	/**
+	 * @return the furthest x co-ordinate the line covers
+	 */
+	public int getWidth() {
+		double max = 0;
+		for (int i = 0; i < this.count; i++) {
+			max = Math.max(max, this.xs[i]);
+		}
+		return (int) Math.ceil(max + this.thickness / 2);
+	}
+
+	/**
+	 * @return the furthest y co-ordinate the line covers
+	 */
+	public int getHeight() {
+		double max = 0;
+		for (int i = 0; i < this.count; i++) {
+			max = Math.max(max, this.ys[i]);
+		}
+		return (int) Math.ceil(max + this.thickness / 2);
+	}
+
+	/**
+	 * @return the amount of convex pieces the line is drawn with
+	 */
+	public int getPieceCount() {
+		build();
+		return this.pieceCount;
+	}
+
+	/**
+	 * Build the convex pieces of the line, if they changed.
+	 */
+	protected void build() {
+		if (this.pieces != null) {
+			return;
+		}
+		this.pieces = new double[0];
+		this.pieceStarts = new int[1];
+		this.pieceCount = 0;
+		double h = this.thickness / 2;
+		if (this.count < 2 || h <= 0) {
+			return;
+		}
+
+		// A quad for each segment
+		for (int i = 0; i + 1 < this.count; i++) {
+			double dx = this.xs[i + 1] - this.xs[i];
+			double dy = this.ys[i + 1] - this.ys[i];
+			double length = Math.hypot(dx, dy);
+			double nx = -dy / length * h;
+			double ny = dx / length * h;
+			addPiece(this.xs[i] + nx, this.ys[i] + ny, this.xs[i + 1] + nx, this.ys[i + 1] + ny,
+					this.xs[i + 1] - nx, this.ys[i + 1] - ny, this.xs[i] - nx, this.ys[i] - ny);
+		}
+
+		// A piece for each corner
+		for (int i = 1; i + 1 < this.count; i++) {
+			double px = this.xs[i];
+			double py = this.ys[i];
+			double l0 = Math.hypot(px - this.xs[i - 1], py - this.ys[i - 1]);
+			double l1 = Math.hypot(this.xs[i + 1] - px, this.ys[i + 1] - py);
+			double d0x = (px - this.xs[i - 1]) / l0;
+			double d0y = (py - this.ys[i - 1]) / l0;
+			double d1x = (this.xs[i + 1] - px) / l1;
+			double d1y = (this.ys[i + 1] - py) / l1;
+			double cross = d0x * d1y - d0y * d1x;
+			if (Math.abs(cross) < 1e-9 && d0x * d1x + d0y * d1y > 0) {
+				// The segments are straight
+				continue;
+			}
+
+			if (this.join == LineJoin.ROUND) {
+				int vertices = CircleMeshCache.vertices(CircleMeshCache.bucket(h));
+				double[] circle = new double[2 * vertices];
+				for (int v = 0; v < vertices; v++) {
+					double theta = 2 * Math.PI * v / vertices;
+					circle[2 * v] = px + h * Math.cos(theta);
+					circle[2 * v + 1] = py + h * Math.sin(theta);
+				}
+				addPiece(circle);
+				continue;
+			}
+
+			// The outer side of the corner is away from the turn
+			double side = (cross > 0) ? -1 : 1;
+			double o0x = side * -d0y * h;
+			double o0y = side * d0x * h;
+			double o1x = side * -d1y * h;
+			double o1y = side * d1x * h;
+			double mx = o0x + o1x;
+			double my = o0y + o1y;
+			double m = Math.hypot(mx, my);
+			double miter = (m == 0) ? Double.POSITIVE_INFINITY : 2 * h * h / m;
+			if (this.join == LineJoin.MITER && miter <= MITER_LIMIT * h) {
+				addPiece(px, py, px + o0x, py + o0y, px + mx / m * miter, py + my / m * miter, px + o1x, py + o1y);
+			} else {
+				addPiece(px, py, px + o0x, py + o0y, px + o1x, py + o1y);
+			}
+		}
+	}
+
+	/**
+	 * Add a convex piece.
+	 *
+	 * @param vertices - the x and y co-ordinates of each vertex, in order around
+	 *                 the piece
+	 */
+	private void addPiece(double... vertices) {
+		int start = this.pieceStarts[this.pieceCount];
+		if (start + vertices.length > this.pieces.length) {
+			this.pieces = Arrays.copyOf(this.pieces, Math.max(start + vertices.length, this.pieces.length * 2));
+		}
+		if (this.pieceCount + 2 > this.pieceStarts.length) {
+			this.pieceStarts = Arrays.copyOf(this.pieceStarts, (this.pieceCount + 2) * 2);
+		}
+		System.arraycopy(vertices, 0, this.pieces, start, vertices.length);
+		this.pieceCount++;
+		this.pieceStarts[this.pieceCount] = start + vertices.length;
+	}
+
+	@Override
+	public void alloc(GL2 gl) {
+		if (this.vboId == 0) {
+			int[] ids = new int[1];
+			gl.glGenBuffers(1, ids, 0);
+			this.vboId = ids[0];
+			this.vboUpdated = true;
+		}
+	}
+
+	@Override
+	public void flagGLRefresh() {
+		this.pieces = null;
+		this.vboUpdated = true;
+	}
+
+	@Override
+	public boolean needsGLRefresh() {
+		return this.vboUpdated;
+	}
+
+	@Override
+	public void refresh(GL2 gl) {
+		if (this.vboId == 0) {
+			alloc(gl);
+		}
+		build();
+
+		// Split each convex piece into a fan of triangles
+		int triangles = 0;
+		for (int p = 0; p < this.pieceCount; p++) {
+			triangles += (this.pieceStarts[p + 1] - this.pieceStarts[p]) / 2 - 2;
+		}
+		FloatBuffer vertices = Buffers.newDirectFloatBuffer(Math.max(1, 6 * triangles));
+		for (int p = 0; p < this.pieceCount; p++) {
+			int start = this.pieceStarts[p];
+			for (int v = start + 2; v + 2 < this.pieceStarts[p + 1]; v += 2) {
+				vertices.put((float) this.pieces[start]).put((float) this.pieces[start + 1]);
+				vertices.put((float) this.pieces[v]).put((float) this.pieces[v + 1]);
+				vertices.put((float) this.pieces[v + 2]).put((float) this.pieces[v + 3]);
+			}
+		}
+		vertices.rewind();
+
+		gl.glBindBuffer(GL2.GL_ARRAY_BUFFER, this.vboId);
+		gl.glBufferData(GL2.GL_ARRAY_BUFFER, (long) vertices.capacity() * Buffers.SIZEOF_FLOAT, vertices,
+				GL2.GL_STATIC_DRAW);
+		gl.glBindBuffer(GL2.GL_ARRAY_BUFFER, 0);
+		this.vboVertices = 3 * triangles;
+		this.vboUpdated = false;
+	}
+
+	@Override
+	public void dispose(GL2 gl) {
+		if (this.vboId != 0) {
+			int[] ids = { this.vboId };
+			gl.glDeleteBuffers(ids.length, ids, 0);
+			this.vboId = 0;
+			this.vboVertices = 0;
+			this.vboUpdated = true;
+		}
+	}
+
+	@Override
+	public void draw(CPUProcessor processor, int x, int y, double sx, double sy) {
+		build();
+		if (this.pieceCount == 0) {
+			return;
+		}
+		int width = processor.getImage().getWidth();
+		int height = processor.getImage().getHeight();
+
+		// Clip the mask to the line on the screen
+		double minX = Double.POSITIVE_INFINITY, minY = Double.POSITIVE_INFINITY;
+		double maxX = Double.NEGATIVE_INFINITY, maxY = Double.NEGATIVE_INFINITY;
+		for (int v = 0; v < this.pieceStarts[this.pieceCount]; v += 2) {
+			minX = Math.min(minX, this.pieces[v]);
+			maxX = Math.max(maxX, this.pieces[v]);
+			minY = Math.min(minY, this.pieces[v + 1]);
+			maxY = Math.max(maxY, this.pieces[v + 1]);
+		}
+		int x0 = Math.max(0, (int) Math.floor(x + minX * sx) - 1);
+		int y0 = Math.max(0, (int) Math.floor(y + minY * sy) - 1);
+		int x1 = Math.min(width, (int) Math.ceil(x + maxX * sx) + 1);
+		int y1 = Math.min(height, (int) Math.ceil(y + maxY * sy) + 1);
+		if (x1 <= x0 || y1 <= y0) {
+			return;
+		}
+		int maskWidth = x1 - x0;
+		int maskHeight = y1 - y0;
+		if (this.mask.length < maskWidth * maskHeight) {
+			this.mask = new byte[maskWidth * maskHeight];
+		}
+		int[] rowStarts = new int[maskHeight];
+		int[] rowEnds = new int[maskHeight];
+		Arrays.fill(rowStarts, maskWidth);
+
+		// Rasterize the coverage of each piece
+		double[] vx = new double[0];
+		double[] vy = new double[0];
+		for (int p = 0; p < this.pieceCount; p++) {
+			int start = this.pieceStarts[p];
+			int vertices = (this.pieceStarts[p + 1] - start) / 2;
+			if (vx.length < vertices) {
+				vx = new double[vertices];
+				vy = new double[vertices];
+			}
+			for (int v = 0; v < vertices; v++) {
+				vx[v] = x + this.pieces[start + 2 * v] * sx - x0;
+				vy[v] = y + this.pieces[start + 2 * v + 1] * sy - y0;
+			}
+			rasterize(vx, vy, vertices, maskWidth, maskHeight, rowStarts, rowEnds);
+		}
+
+		// Blend the covered pixels once each, clearing the mask for the next draw
+		int alpha = this.argb >>> 24;
+		int rgb = this.argb & 0x00ffffff;
+		for (int row = 0; row < maskHeight; row++) {
+			int maskRow = row * maskWidth;
+			for (int col = rowStarts[row]; col < rowEnds[row]; col++) {
+				int coverage = this.mask[maskRow + col] & 0xff;
+				if (coverage != 0) {
+					int a = (alpha * coverage + 127) / 255;
+					processor.setPixel(x0 + col, y0 + row, a << 24 | rgb);
+					this.mask[maskRow + col] = 0;
+				}
+			}
+		}
+	}
+
+	/**
+	 * Rasterize the coverage of a convex piece into the mask, a span per row. A
+	 * pixel is covered if its center is inside the piece. Antialiased pixels are
+	 * partially covered by their distance from the nearest edge, fading over a
+	 * pixel. The coverage of each piece is added to the mask, saturating, so the
+	 * halves of a pixel on an edge shared by two pieces cover it fully.
+	 *
+	 * @param vx         - the x co-ordinates of the vertices in the mask
+	 * @param vy         - the y co-ordinates of the vertices in the mask
+	 * @param vertices   - the amount of vertices
+	 * @param maskWidth  - the width of the mask
+	 * @param maskHeight - the height of the mask
+	 * @param rowStarts  - the first covered column of each row
+	 * @param rowEnds    - the column after the last covered column of each row
+	 */
+	private void rasterize(double[] vx, double[] vy, int vertices, int maskWidth, int maskHeight, int[] rowStarts,
+			int[] rowEnds) {
+		// Find the inward normal and offset of each edge
+		double cx = 0, cy = 0;
+		for (int v = 0; v < vertices; v++) {
+			cx += vx[v] / vertices;
+			cy += vy[v] / vertices;
+		}
+		double[] nx = new double[vertices];
+		double[] ny = new double[vertices];
+		double[] offsets = new double[vertices];
+		int edges = 0;
+		double minY = Double.POSITIVE_INFINITY, maxY = Double.NEGATIVE_INFINITY;
+		for (int v = 0; v < vertices; v++) {
+			int w = (v + 1) % vertices;
+			minY = Math.min(minY, vy[v]);
+			maxY = Math.max(maxY, vy[v]);
+			double ex = vx[w] - vx[v];
+			double ey = vy[w] - vy[v];
+			double length = Math.hypot(ex, ey);
+			if (length == 0) {
+				continue;
+			}
+			double normalX = -ey / length;
+			double normalY = ex / length;
+			if (normalX * (cx - vx[v]) + normalY * (cy - vy[v]) < 0) {
+				normalX = -normalX;
+				normalY = -normalY;
+			}
+			nx[edges] = normalX;
+			ny[edges] = normalY;
+			offsets[edges] = normalX * vx[v] + normalY * vy[v];
+			edges++;
+		}
+
+		// Pixels are covered within half a pixel outside an antialiased edge
+		double margin = this.antialiased ? 0.5 : 0;
+		int rowStart = Math.max(0, (int) Math.floor(minY - margin));
+		int rowEnd = Math.min(maskHeight, (int) Math.ceil(maxY + margin) + 1);
+		for (int row = rowStart; row < rowEnd; row++) {
+			double py = row + 0.5;
+
+			// Each edge bounds the span on one side
+			double left = Double.NEGATIVE_INFINITY;
+			double right = Double.POSITIVE_INFINITY;
+			for (int e = 0; e < edges; e++) {
+				double bound = offsets[e] - margin - ny[e] * py;
+				if (nx[e] > 1e-12) {
+					left = Math.max(left, bound / nx[e]);
+				} else if (nx[e] < -1e-12) {
+					right = Math.min(right, bound / nx[e]);
+				} else if (bound > 0) {
+					right = Double.NEGATIVE_INFINITY;
+				}
+			}
+			int colStart = (int) Math.max(0, Math.ceil(left - 0.5));
+			int colEnd = (int) Math.min(maskWidth, Math.floor(right - 0.5) + 1);
+			if (colEnd <= colStart) {
+				continue;
+			}
+			rowStarts[row] = Math.min(rowStarts[row], colStart);
+			rowEnds[row] = Math.max(rowEnds[row], colEnd);
+
+			// Cover the span, adding to the coverage of the other pieces
+			int maskRow = row * maskWidth;
+			for (int col = colStart; col < colEnd; col++) {
+				int coverage = 0xff;
+				if (this.antialiased) {
+					double px = col + 0.5;
+					double inside = 1;
+					for (int e = 0; e < edges; e++) {
+						inside = Math.min(inside, nx[e] * px + ny[e] * py - offsets[e] + 0.5);
+					}
+					coverage = (int) Math.round(Math.max(0, inside) * 0xff);
+				}
+				coverage += this.mask[maskRow + col] & 0xff;
+				this.mask[maskRow + col] = (byte) Math.min(0xff, coverage);
+			}
+		}
+	}
+
+	@Override
+	public void draw(JOGLProcessor processor, GL2 gl, double x, double y, double sx, double sy) {
+		if (this.vboUpdated || this.vboId == 0) {
+			refresh(gl);
+		}
+		if (this.vboVertices == 0) {
+			return;
+		}
+
+		// Blend translucent lines
+		processor.blend(gl, false);
+		float a = (this.argb >> 24 & 0xff) / 255f;
+		float r = (this.argb >> 16 & 0xff) / 255f;
+		float g = (this.argb >> 8 & 0xff) / 255f;
+		float b = (this.argb & 0xff) / 255f;
+		gl.glColor4f(r, g, b, a);
+
+		// Draw the uploaded triangles, transformed to the screen
+		gl.glPushMatrix();
+		gl.glTranslated(x, y, 0);
+		gl.glScaled(sx, sy, 1);
+		gl.glBindBuffer(GL2.GL_ARRAY_BUFFER, this.vboId);
+		gl.glEnableClientState(GL2.GL_VERTEX_ARRAY);
+		gl.glVertexPointer(2, GL2.GL_FLOAT, 0, 0);
+		boolean translucent = (this.argb >>> 24) != 0xff;
+		if (translucent) {
+			// Only blend pixels no other piece has, so overlapping pieces don't darken
+			gl.glEnable(GL2.GL_STENCIL_TEST);
+			gl.glStencilFunc(GL2.GL_EQUAL, 0, 0xff);
+			gl.glStencilOp(GL2.GL_KEEP, GL2.GL_KEEP, GL2.GL_INCR);
+		}
+		gl.glDrawArrays(GL2.GL_TRIANGLES, 0, this.vboVertices);
+		if (translucent) {
+			// Clear the stencil beneath the line for the next draw
+			gl.glColorMask(false, false, false, false);
+			gl.glStencilFunc(GL2.GL_ALWAYS, 0, 0xff);
+			gl.glStencilOp(GL2.GL_KEEP, GL2.GL_KEEP, GL2.GL_ZERO);
+			gl.glDrawArrays(GL2.GL_TRIANGLES, 0, this.vboVertices);
+			gl.glColorMask(true, true, true, true);
+			gl.glDisable(GL2.GL_STENCIL_TEST);
+		}
+		gl.glDisableClientState(GL2.GL_VERTEX_ARRAY);
+		gl.glBindBuffer(GL2.GL_ARRAY_BUFFER, 0);
+		gl.glPopMatrix();
+		gl.glDisable(GL2.GL_BLEND);
+	}
+
+	@Override
+	public RenderRequest asRequest(RenderLevel level, int x, int y) {
+		return new PolylineRequest(this, level, x, y);
+	}
+
+	@Override
+	public RenderRequest asRequest(RenderLevel level, int depth, int x, int y) {
+		return new PolylineRequest(this, level, depth, x, y);
+	}
+
+}
@@ -9,7 +9,8 @@ import com.game.engine.rendering.opengl.JOGLProcessor;
 import com.jogamp.opengl.GL2;
 
 /**
- * An graphics object which contains information describing a rectangle
+ * An graphics object which contains information describing a rectangle, which
+ * is either outlined or filled
  *
  * @version June 2020
  * @author Spencer Imbleau
@@ -32,16 +33,34 @@ public class Rectangle implements Drawable {
 	private int argb;
 
 	/**
-	 * Initializes a rectangle
+	 * Whether the rectangle is filled rather than outlined
+	 */
+	private boolean filled;
+
+	/**
+	 * Initializes an outlined rectangle
 	 *
 	 * @param width  - width of the rectangle
 	 * @param height - height of the rectangle
 	 * @param argb   - the ARGB color of the rectangle
 	 */
 	public Rectangle(int width, int height, int argb) {
+		this(width, height, argb, false);
+	}
+
+	/**
+	 * Initializes a rectangle
+	 *
+	 * @param width  - width of the rectangle
+	 * @param height - height of the rectangle
+	 * @param argb   - the ARGB color of the rectangle
+	 * @param filled - true to fill the rectangle, false to outline it
+	 */
+	public Rectangle(int width, int height, int argb, boolean filled) {
 		this.width = width;
 		this.height = height;
 		this.argb = argb;
+		this.filled = filled;
 	}
 
 	/**
@@ -92,6 +111,22 @@ public class Rectangle implements Drawable {
 		this.argb = argb;
 	}
 
+	/**
+	 * @return true if the rectangle is filled, false if it is outlined
+	 */
+	public boolean isFilled() {
+		return this.filled;
+	}
+
+	/**
+	 * Set whether the rectangle is filled or outlined
+	 *
+	 * @param filled - true to fill the rectangle, false to outline it
+	 */
+	public void setFilled(boolean filled) {
+		this.filled = filled;
+	}
+
 	@Override
 	public void alloc(GL2 gl) {
 		// TODO Allocate retained OpenGL memory
@@ -162,26 +197,60 @@ public class Rectangle implements Drawable {
 		}
 	}
 
+	/**
+	 * Helper algorithm to fill a rectangle a row at a time.
+	 *
+	 * @param processor - the CPU processor
+	 * @param x0        - starting x co-ordinate
+	 * @param y0        - starting y co-ordinate
+	 * @param x1        - ending x co-ordinate
+	 * @param y1        - ending y co-ordinate
+	 */
+	private void fillRect(CPUProcessor processor, int x0, int y0, int x1, int y1) {
+		for (int y = y0; y <= y1; y++) {
+			processor.fillRow(x0, x1 + 1, y, this.argb);
+		}
+	}
+
 	@Override
 	public void draw(CPUProcessor processor, int x, int y, double sx, double sy) {
 		int sw = (int) (this.width * sx);
 		int sh = (int) (this.height * sy);
-		plotRect(processor, x, y, Math.max(x, x + sw - 1), Math.max(y, y + sh - 1));
+		if (this.filled) {
+			fillRect(processor, x, y, Math.max(x, x + sw - 1), Math.max(y, y + sh - 1));
+		} else {
+			plotRect(processor, x, y, Math.max(x, x + sw - 1), Math.max(y, y + sh - 1));
+		}
 	}
 
 	@Override
 	public void draw(JOGLProcessor processor, GL2 gl, double x, double y, double sx, double sy) {
-		gl.glBegin(GL2.GL_LINE_LOOP);
+		if (this.filled) {
+			// Blend translucent fills
+			processor.blend(gl, false);
+			gl.glBegin(GL2.GL_TRIANGLE_STRIP);
+		} else {
+			gl.glBegin(GL2.GL_LINE_LOOP);
+		}
 		float a = (this.argb >> 24 & 0xff) / 255f;
 		float r = (this.argb >> 16 & 0xff) / 255f;
 		float g = (this.argb >> 8 & 0xff) / 255f;
 		float b = (this.argb & 0xff) / 255f;
 		gl.glColor4f(r, g, b, a);
-		gl.glVertex2d(x, y);
-		gl.glVertex2d(x + this.width * sx, y);
-		gl.glVertex2d(x + this.width * sx, y + this.height * sy);
-		gl.glVertex2d(x, y + this.height * sy);
-		gl.glEnd();
+		if (this.filled) {
+			gl.glVertex2d(x, y);
+			gl.glVertex2d(x + this.width * sx, y);
+			gl.glVertex2d(x, y + this.height * sy);
+			gl.glVertex2d(x + this.width * sx, y + this.height * sy);
+			gl.glEnd();
+			gl.glDisable(GL2.GL_BLEND);
+		} else {
+			gl.glVertex2d(x, y);
+			gl.glVertex2d(x + this.width * sx, y);
+			gl.glVertex2d(x + this.width * sx, y + this.height * sy);
+			gl.glVertex2d(x, y + this.height * sy);
+			gl.glEnd();
+		}
 	}
 
 	@Override
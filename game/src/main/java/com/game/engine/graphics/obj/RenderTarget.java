@@ -0,0 +1,311 @@
+package com.game.engine.graphics.obj;
+
+import java.awt.Canvas;
+import java.awt.image.BufferedImage;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import com.game.engine.camera.StationaryCamera;
+import com.game.engine.driver.GameDriver;
+import com.game.engine.graphics.common.RenderRequest;
+import com.game.engine.graphics.common.Renderable;
+import com.game.engine.rendering.common.AbstractRenderer;
+import com.game.engine.rendering.common.RenderMode;
+import com.game.engine.rendering.cpu.CPUProcessor;
+import com.game.engine.rendering.opengl.JOGLProcessor;
+import com.jogamp.opengl.GL2;
+
+/**
+ * An image which renderables are drawn into offscreen, so what they draw can be
+ * cached and drawn again as a single image. Requests are staged into the
+ * target's {@link #getRenderer() renderer}, as they would be for the screen,
+ * and drawn into the target by {@link #render(RenderMode)}.
+ * <br>
+ * <br>
+ * In {@link RenderMode#SAFE} mode, requests are drawn into the pixels of the
+ * image immediately. In {@link RenderMode#OPENGL} mode, requests are drawn into
+ * the texture of the image through a framebuffer object the next time the
+ * target is refreshed, and the pixels of the image are left as they were.
+ * <br>
+ * <br>
+ * The target is stored premultiplied in both modes. Translucent requests are
+ * drawn over its pixels keeping their alpha, so the target draws as the
+ * requests would have drawn onto the screen.
+ *
+ * @author Spencer Imbleau
+ * @version October 2026
+ */
+public class RenderTarget extends Image {
+
+	/**
+	 * The renderer which requests are staged into.
+	 */
+	protected final TargetRenderer renderer;
+
+	/**
+	 * The requests waiting to be drawn into the texture by OpenGL.
+	 */
+	protected final List<RenderRequest> glRequests;
+
+	/**
+	 * The framebuffer object ID for OpenGL.
+	 */
+	protected int fboId = 0;
+
+	/**
+	 * The renderbuffer ID of the framebuffer's depth and stencil buffer.
+	 */
+	protected int rboId = 0;
+
+	/**
+	 * Initialize a render target.
+	 *
+	 * @param width  - the width of the target
+	 * @param height - the height of the target
+	 * @throws IllegalArgumentException if the width or height is not positive
+	 */
+	public RenderTarget(int width, int height) throws IllegalArgumentException {
+		super(blank(width, height));
+		this.renderer = new TargetRenderer(this);
+		this.glRequests = new ArrayList<>();
+	}
+
+	/**
+	 * Helper method to create a transparent image for a target.
+	 *
+	 * @param width  - the width of the target
+	 * @param height - the height of the target
+	 * @return a transparent premultiplied image
+	 * @throws IllegalArgumentException if the width or height is not positive
+	 */
+	private static BufferedImage blank(int width, int height) throws IllegalArgumentException {
+		if (width <= 0 || height <= 0) {
+			throw new IllegalArgumentException("A render target must have a positive width and height");
+		}
+		return new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB_PRE);
+	}
+
+	/**
+	 * Returns the renderer which requests are staged into. Its camera sees the
+	 * area of the plane covered by this target, and objects outside of it are
+	 * culled as they would be on the screen.
+	 *
+	 * @return the renderer of this target
+	 */
+	public AbstractRenderer getRenderer() {
+		return this.renderer;
+	}
+
+	/**
+	 * Move the area of the plane covered by this target.
+	 *
+	 * @param x - the x co-ordinate of the plane at the left of this target
+	 * @param y - the y co-ordinate of the plane at the top of this target
+	 */
+	public void moveTo(double x, double y) {
+		this.renderer.getCamera().viewport.setOrigin(x, y);
+	}
+
+	/**
+	 * Stage a renderable into this target and draw it.
+	 *
+	 * @param driver     - the driver for the game
+	 * @param renderable - the renderable to draw
+	 */
+	public void render(GameDriver driver, Renderable renderable) {
+		renderable.stage(driver, this.renderer);
+		render(driver.getDisplay().getRenderer().getMode());
+	}
+
+	/**
+	 * Replace the contents of this target with the requests staged since the last
+	 * render.
+	 *
+	 * @param mode - the mode the target is drawn in
+	 */
+	public void render(RenderMode mode) {
+		CPUProcessor processor = this.renderer.getProcessor();
+		processor.sort();
+		if (mode == RenderMode.OPENGL) {
+			// Draw when the texture is next refreshed
+			this.glRequests.clear();
+			for (RenderRequest request : processor.requests()) {
+				this.glRequests.add(request);
+			}
+		} else {
+			// Draw into the pixels now
+			Arrays.fill(this.pbo.array(), 0);
+			for (RenderRequest request : processor.requests()) {
+				if (request.level.isUI()) {
+					processor.drawUI(request);
+				} else {
+					processor.draw(request);
+				}
+			}
+			flagGLRefresh();
+		}
+		processor.reset();
+	}
+
+	@Override
+	public boolean needsGLRefresh() {
+		return super.needsGLRefresh() || !this.glRequests.isEmpty();
+	}
+
+	@Override
+	public void refresh(GL2 gl) {
+		super.refresh(gl);
+		if (this.glRequests.isEmpty()) {
+			return;
+		}
+		if (this.texId == 0) {
+			alloc(gl);
+		}
+
+		// Attach the texture to a framebuffer
+		if (this.fboId == 0) {
+			int[] fboIds = new int[1];
+			gl.glGenFramebuffers(1, fboIds, 0);
+			this.fboId = fboIds[0];
+			gl.glBindFramebuffer(GL2.GL_FRAMEBUFFER, this.fboId);
+			gl.glFramebufferTexture2D(GL2.GL_FRAMEBUFFER, GL2.GL_COLOR_ATTACHMENT0, GL2.GL_TEXTURE_2D, this.texId,
+					0);
+
+			// A stencil buffer for drawables which blend each pixel once
+			int[] rboIds = new int[1];
+			gl.glGenRenderbuffers(1, rboIds, 0);
+			this.rboId = rboIds[0];
+			gl.glBindRenderbuffer(GL2.GL_RENDERBUFFER, this.rboId);
+			gl.glRenderbufferStorage(GL2.GL_RENDERBUFFER, GL2.GL_DEPTH24_STENCIL8, this.width, this.height);
+			gl.glBindRenderbuffer(GL2.GL_RENDERBUFFER, 0);
+			gl.glFramebufferRenderbuffer(GL2.GL_FRAMEBUFFER, GL2.GL_DEPTH_STENCIL_ATTACHMENT, GL2.GL_RENDERBUFFER,
+					this.rboId);
+		} else {
+			gl.glBindFramebuffer(GL2.GL_FRAMEBUFFER, this.fboId);
+		}
+
+		// Draw into the texture, whose first row is the top of the target
+		int[] viewport = new int[4];
+		gl.glGetIntegerv(GL2.GL_VIEWPORT, viewport, 0);
+		gl.glViewport(0, 0, this.width, this.height);
+		gl.glMatrixMode(GL2.GL_PROJECTION);
+		gl.glPushMatrix();
+		gl.glLoadIdentity();
+		gl.glOrtho(0, this.width, 0, this.height, -1, 1);
+		gl.glMatrixMode(GL2.GL_MODELVIEW);
+		gl.glClearColor(0, 0, 0, 0);
+		gl.glClear(GL2.GL_COLOR_BUFFER_BIT | GL2.GL_STENCIL_BUFFER_BIT);
+		JOGLProcessor processor = this.renderer.getGLProcessor();
+		for (RenderRequest request : this.glRequests) {
+			if (request.drawable.needsGLRefresh()) {
+				request.drawable.refresh(gl);
+			}
+			if (request.level.isUI()) {
+				processor.drawUI(gl, request);
+			} else {
+				processor.draw(gl, request);
+			}
+		}
+		this.glRequests.clear();
+
+		// Restore the screen
+		gl.glClearColor(0, 0, 0, 1);
+		gl.glMatrixMode(GL2.GL_PROJECTION);
+		gl.glPopMatrix();
+		gl.glMatrixMode(GL2.GL_MODELVIEW);
+		gl.glViewport(viewport[0], viewport[1], viewport[2], viewport[3]);
+		gl.glBindFramebuffer(GL2.GL_FRAMEBUFFER, 0);
+
+		// The mipmaps of the texture are rebuilt when it is next drawn minified
+		gl.glBindTexture(GL2.GL_TEXTURE_2D, this.texId);
+		invalidateMipmaps(gl);
+		gl.glBindTexture(GL2.GL_TEXTURE_2D, 0);
+	}
+
+	@Override
+	public void dispose(GL2 gl) {
+		if (this.fboId != 0) {
+			int[] fboIds = { this.fboId };
+			gl.glDeleteFramebuffers(fboIds.length, fboIds, 0);
+			this.fboId = 0;
+		}
+		if (this.rboId != 0) {
+			int[] rboIds = { this.rboId };
+			gl.glDeleteRenderbuffers(rboIds.length, rboIds, 0);
+			this.rboId = 0;
+		}
+		this.renderer.getGLProcessor().getCircles().dispose(gl);
+		super.dispose(gl);
+	}
+
+	/**
+	 * A renderer which stages requests for a {@link RenderTarget}.
+	 *
+	 * @author Spencer Imbleau
+	 * @version October 2026
+	 */
+	protected static class TargetRenderer extends AbstractRenderer {
+
+		/**
+		 * The processor which stages requests and draws them into the target's
+		 * pixels.
+		 */
+		private final CPUProcessor processor;
+
+		/**
+		 * The processor which draws requests into the target's texture.
+		 */
+		private final JOGLProcessor glProcessor;
+
+		/**
+		 * Initialize a renderer for a render target.
+		 *
+		 * @param target - the render target
+		 */
+		protected TargetRenderer(RenderTarget target) {
+			super(new StationaryCamera(0, 0, target.width, target.height, 1));
+			this.processor = new CPUProcessor(this);
+			this.processor.setImage(target.buf);
+			this.glProcessor = new JOGLProcessor(this);
+			this.glProcessor.setPremultiplied(true);
+		}
+
+		@Override
+		public void init() {
+			// Render targets need no initialization
+		}
+
+		@Override
+		public void render() {
+			// Render targets are drawn by RenderTarget#render(RenderMode)
+		}
+
+		@Override
+		public void stage(RenderRequest request) {
+			this.processor.stage(request);
+		}
+
+		@Override
+		public Canvas getCanvas() {
+			return null;
+		}
+
+		@Override
+		public CPUProcessor getProcessor() {
+			return this.processor;
+		}
+
+		/**
+		 * @return the processor which draws requests into the target's texture
+		 */
+		public JOGLProcessor getGLProcessor() {
+			return this.glProcessor;
+		}
+
+		@Override
+		public RenderMode getMode() {
+			return RenderMode.SAFE;
+		}
+	}
+}
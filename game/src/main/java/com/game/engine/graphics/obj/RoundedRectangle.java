@@ -0,0 +1,219 @@
+package com.game.engine.graphics.obj;
+
+import com.game.engine.graphics.common.Drawable;
+import com.game.engine.graphics.common.RenderRequest;
+import com.game.engine.graphics.request.RoundedRectangleRequest;
+import com.game.engine.rendering.common.RenderLevel;
+import com.game.engine.rendering.cpu.CPUProcessor;
+import com.game.engine.rendering.opengl.JOGLProcessor;
+import com.jogamp.opengl.GL2;
+
+/**
+ * An graphics object which contains information describing a filled rectangle
+ * with rounded corners, such as a panel or a health bar. A pixel is filled if
+ * its center is inside the rectangle.
+ *
+ * @author Spencer Imbleau
+ * @version October 2026
+ */
+public class RoundedRectangle implements Drawable {
+
+	/**
+	 * The acceptable error for corner arclength accuracy.
+	 */
+	private static final double ACCEPTABLE_ERROR = 0.33;
+
+	/**
+	 * The width of the rectangle.
+	 */
+	private int width;
+
+	/**
+	 * The height of the rectangle.
+	 */
+	private int height;
+
+	/**
+	 * The radius of the corners.
+	 */
+	private int radius;
+
+	/**
+	 * The ARGB color of the rectangle.
+	 */
+	private int argb;
+
+	/**
+	 * Initialize a rounded rectangle.
+	 *
+	 * @param width  - the width
+	 * @param height - the height
+	 * @param radius - the radius of the corners, which is at most half the width
+	 *               and height
+	 * @param argb   - the ARGB color of the rectangle
+	 */
+	public RoundedRectangle(int width, int height, int radius, int argb) {
+		this.width = width;
+		this.height = height;
+		this.radius = radius;
+		this.argb = argb;
+	}
+
+	/**
+	 * @return the width
+	 */
+	public int getWidth() {
+		return this.width;
+	}
+
+	/**
+	 * @param width - a new width
+	 */
+	public void setWidth(int width) {
+		this.width = width;
+	}
+
+	/**
+	 * @return the height
+	 */
+	public int getHeight() {
+		return this.height;
+	}
+
+	/**
+	 * @param height - a new height
+	 */
+	public void setHeight(int height) {
+		this.height = height;
+	}
+
+	/**
+	 * @return the radius of the corners
+	 */
+	public int getRadius() {
+		return this.radius;
+	}
+
+	/**
+	 * @param radius - a new radius of the corners
+	 */
+	public void setRadius(int radius) {
+		this.radius = radius;
+	}
+
+	/**
+	 * @return the ARGB color of the rectangle
+	 */
+	public int getColor() {
+		return this.argb;
+	}
+
+	/**
+	 * Set the color of the rectangle
+	 *
+	 * @param argb - the ARGB color to set
+	 */
+	public void setColor(int argb) {
+		this.argb = argb;
+	}
+
+	@Override
+	public void alloc(GL2 gl) {
+		// The corners depend on the zoom, so the fan is emitted every frame
+	}
+
+	@Override
+	public void flagGLRefresh() {
+		// Rounded rectangles hold no OpenGL memory
+	}
+
+	@Override
+	public boolean needsGLRefresh() {
+		return false;
+	}
+
+	@Override
+	public void refresh(GL2 gl) {
+		// Rounded rectangles hold no OpenGL memory
+	}
+
+	@Override
+	public void dispose(GL2 gl) {
+		// Rounded rectangles hold no OpenGL memory
+	}
+
+	@Override
+	public void draw(CPUProcessor processor, int x, int y, double sx, double sy) {
+		double sw = this.width * sx;
+		double sh = this.height * sy;
+		double rx = Math.max(0, Math.min(this.radius * sx, sw / 2));
+		double ry = Math.max(0, Math.min(this.radius * sy, sh / 2));
+
+		// Fill each row, inset by the corners at the top and bottom
+		int rows = (int) sh;
+		for (int row = 0; row < rows; row++) {
+			double center = row + 0.5;
+			double dy = 0;
+			if (center < ry) {
+				dy = (ry - center) / ry;
+			} else if (center > sh - ry) {
+				dy = (center - (sh - ry)) / ry;
+			}
+			double inset = rx - rx * Math.sqrt(Math.max(0, 1 - dy * dy));
+			int xStart = x + (int) Math.ceil(inset - 0.5);
+			int xEnd = x + (int) Math.ceil(sw - inset - 0.5);
+			processor.fillRow(xStart, xEnd, y + row, this.argb);
+		}
+	}
+
+	@Override
+	public void draw(JOGLProcessor processor, GL2 gl, double x, double y, double sx, double sy) {
+		double sw = this.width * sx;
+		double sh = this.height * sy;
+		double rx = Math.max(0, Math.min(this.radius * sx, sw / 2));
+		double ry = Math.max(0, Math.min(this.radius * sy, sh / 2));
+
+		// Calculate the amount of vertices needed for each corner
+		int segments = 1;
+		if (rx > ACCEPTABLE_ERROR && ry > ACCEPTABLE_ERROR) {
+			double da = Math.acos(2 * (1 - ACCEPTABLE_ERROR / rx) * (1 - ACCEPTABLE_ERROR / ry) - 1);
+			segments = Math.max(1, (int) Math.ceil(Math.PI / 2 / da));
+		}
+
+		// Blend translucent fills
+		processor.blend(gl, false);
+		gl.glBegin(GL2.GL_TRIANGLE_FAN);
+		float a = (this.argb >> 24 & 0xff) / 255f;
+		float r = (this.argb >> 16 & 0xff) / 255f;
+		float g = (this.argb >> 8 & 0xff) / 255f;
+		float b = (this.argb & 0xff) / 255f;
+		gl.glColor4f(r, g, b, a);
+
+		// The fan starts at the center and sweeps each corner, clockwise from the
+		// bottom right
+		gl.glVertex2d(x + sw / 2, y + sh / 2);
+		double[] cornerX = { x + sw - rx, x + rx, x + rx, x + sw - rx };
+		double[] cornerY = { y + sh - ry, y + sh - ry, y + ry, y + ry };
+		for (int corner = 0; corner < 4; corner++) {
+			for (int i = 0; i <= segments; i++) {
+				double theta = Math.PI / 2 * (corner + (double) i / segments);
+				gl.glVertex2d(cornerX[corner] + rx * Math.cos(theta), cornerY[corner] + ry * Math.sin(theta));
+			}
+		}
+		// Close the fan
+		gl.glVertex2d(cornerX[0] + rx, cornerY[0]);
+		gl.glEnd();
+		gl.glDisable(GL2.GL_BLEND);
+	}
+
+	@Override
+	public RenderRequest asRequest(RenderLevel level, int x, int y) {
+		return new RoundedRectangleRequest(this, level, x, y);
+	}
+
+	@Override
+	public RenderRequest asRequest(RenderLevel level, int depth, int x, int y) {
+		return new RoundedRectangleRequest(this, level, depth, x, y);
+	}
+
+}
@@ -0,0 +1,314 @@
+package com.game.engine.graphics.obj;
+
+import com.game.engine.cache.ScaledImageCache.ScaledImage;
+import com.game.engine.graphics.common.GLObject;
+import com.game.engine.rendering.cpu.CPUProcessor;
+import com.game.engine.rendering.opengl.JOGLProcessor;
+import com.jogamp.opengl.GL2;
+
+/**
+ * A sheet of equally sized frames laid out in a grid in one image, such as the
+ * frames of a walk cycle or a set of icons. Frames are numbered row by row,
+ * starting from the top left. The pixels and texture of the image are shared
+ * by everything drawing from the sheet, so drawing another frame selects
+ * another sub-rectangle of the same texture rather than uploading pixels.
+ * <br>
+ * <br>
+ * A sheet is allocated on OpenGL by its first user and disposed by its last, so
+ * each {@link Animation} of a sheet allocates and disposes it like it would an
+ * image of its own. Sheets sampled with a filter other than
+ * {@link com.game.engine.graphics.common.SamplingMode#NEAREST} may blend the
+ * edges of neighbouring frames when scaled, so their frames should be padded
+ * with transparent pixels.
+ *
+ * @author Spencer Imbleau
+ * @version October 2026
+ * @see Animation
+ */
+public class SpriteSheet implements GLObject {
+
+	/**
+	 * The image of every frame.
+	 */
+	private final Image image;
+
+	/**
+	 * The width of each frame.
+	 */
+	private final int frameWidth;
+
+	/**
+	 * The height of each frame.
+	 */
+	private final int frameHeight;
+
+	/**
+	 * The amount of frames in each row of the sheet.
+	 */
+	private final int columns;
+
+	/**
+	 * The amount of rows of frames in the sheet.
+	 */
+	private final int rows;
+
+	/**
+	 * The amount of users which allocated the sheet on OpenGL and haven't yet
+	 * disposed of it.
+	 */
+	private int users = 0;
+
+	/**
+	 * Initialize a sprite sheet. Pixels on the right or bottom of the image which
+	 * don't fill a whole frame are ignored.
+	 *
+	 * @param image       - the image of every frame
+	 * @param frameWidth  - the width of each frame
+	 * @param frameHeight - the height of each frame
+	 * @throws IllegalArgumentException if the frame size isn't positive, or the
+	 *                                  image is smaller than a frame
+	 */
+	public SpriteSheet(Image image, int frameWidth, int frameHeight) throws IllegalArgumentException {
+		if (frameWidth <= 0 || frameHeight <= 0) {
+			throw new IllegalArgumentException("Frames must be at least 1 pixel wide and high");
+		}
+		if (image.getWidth() < frameWidth || image.getHeight() < frameHeight) {
+			throw new IllegalArgumentException("Sprite sheets must fit at least 1 frame");
+		}
+		this.image = image;
+		this.frameWidth = frameWidth;
+		this.frameHeight = frameHeight;
+		this.columns = image.getWidth() / frameWidth;
+		this.rows = image.getHeight() / frameHeight;
+	}
+
+	/**
+	 * @return the image of every frame
+	 */
+	public Image getImage() {
+		return this.image;
+	}
+
+	/**
+	 * @return the width of each frame
+	 */
+	public int getFrameWidth() {
+		return this.frameWidth;
+	}
+
+	/**
+	 * @return the height of each frame
+	 */
+	public int getFrameHeight() {
+		return this.frameHeight;
+	}
+
+	/**
+	 * @return the amount of frames
+	 */
+	public int getFrameCount() {
+		return this.columns * this.rows;
+	}
+
+	/**
+	 * @param frame - a frame
+	 * @return the x co-ordinate of the left edge of the frame in the image
+	 * @throws IllegalArgumentException if the frame is not in the sheet
+	 */
+	public int getFrameX(int frame) throws IllegalArgumentException {
+		checkFrame(frame);
+		return (frame % this.columns) * this.frameWidth;
+	}
+
+	/**
+	 * @param frame - a frame
+	 * @return the y co-ordinate of the top edge of the frame in the image
+	 * @throws IllegalArgumentException if the frame is not in the sheet
+	 */
+	public int getFrameY(int frame) throws IllegalArgumentException {
+		checkFrame(frame);
+		return (frame / this.columns) * this.frameHeight;
+	}
+
+	/**
+	 * Helper method to check a frame is in the sheet.
+	 *
+	 * @param frame - a frame
+	 * @throws IllegalArgumentException if the frame is not in the sheet
+	 */
+	private void checkFrame(int frame) throws IllegalArgumentException {
+		if (frame < 0 || frame >= getFrameCount()) {
+			throw new IllegalArgumentException("Frame " + frame + " is not in a sheet of " + getFrameCount());
+		}
+	}
+
+	/**
+	 * @return the amount of users which allocated the sheet on OpenGL and haven't
+	 *         yet disposed of it
+	 */
+	public int getUsers() {
+		return this.users;
+	}
+
+	/**
+	 * Allocate the image on OpenGL, if this is the first user.
+	 *
+	 * @param gl - a current GL context
+	 */
+	@Override
+	public void alloc(GL2 gl) {
+		if (this.users++ == 0) {
+			this.image.alloc(gl);
+		}
+	}
+
+	/**
+	 * Upload the pixels of the image which were modified, if any.
+	 *
+	 * @param gl - a current GL context
+	 */
+	@Override
+	public void refresh(GL2 gl) {
+		if (this.image.needsGLRefresh()) {
+			this.image.refresh(gl);
+		}
+	}
+
+	/**
+	 * Dispose of the image on OpenGL, if this is the last user.
+	 *
+	 * @param gl - a current GL context
+	 */
+	@Override
+	public void dispose(GL2 gl) {
+		if (this.users > 0 && --this.users == 0) {
+			this.image.dispose(gl);
+		}
+	}
+
+	/**
+	 * Draw a frame for a CPU processor. The sheet is scaled as a whole, so every
+	 * frame drawn at the same scale shares one scaled image.
+	 *
+	 * @param processor - the graphic processor
+	 * @param frame     - the frame to draw
+	 * @param x         - the x coordinate to draw at
+	 * @param y         - the y coordinate to draw at
+	 * @param sx        - the scale x
+	 * @param sy        - the scale y
+	 * @throws IllegalArgumentException if the frame is not in the sheet
+	 */
+	public void drawFrame(CPUProcessor processor, int frame, int x, int y, double sx, double sy)
+			throws IllegalArgumentException {
+		int fx = getFrameX(frame);
+		int fy = getFrameY(frame);
+
+		// The frame's edges in the scaled sheet
+		int left = (int) (fx * sx);
+		int top = (int) (fy * sy);
+		int width = (int) ((fx + this.frameWidth) * sx) - left;
+		int height = (int) ((fy + this.frameHeight) * sy) - top;
+		if (width <= 0 || height <= 0) {
+			return;
+		}
+
+		// Clip the frame to the screen
+		int xStart = Math.max(0, -x);
+		int yStart = Math.max(0, -y);
+		int xEnd = Math.min(width, processor.getImage().getWidth() - x);
+		int yEnd = Math.min(height, processor.getImage().getHeight() - y);
+		if (xEnd <= xStart || yEnd <= yStart) {
+			return;
+		}
+
+		// Retrieve the pixels of the sheet at the drawn size
+		int scaledWidth = (int) (this.image.getWidth() * sx);
+		int scaledHeight = (int) (this.image.getHeight() * sy);
+		ScaledImage scaled = processor.getScaledImages().fetch(this.image, scaledWidth, scaledHeight);
+		if (scaled == null) {
+			return;
+		}
+
+		// Draw
+		for (int yi = yStart; yi < yEnd; yi++) {
+			processor.setPixels(x + xStart, y + yi, scaled.pixels, (top + yi) * scaledWidth + left + xStart,
+					xEnd - xStart, this.image.isPremultiplied());
+		}
+	}
+
+	/**
+	 * Draw a frame for a JOGL processor.
+	 *
+	 * @param processor - the graphic processor
+	 * @param gl        - the gl context
+	 * @param frame     - the frame to draw
+	 * @param x         - the x coordinate to draw at
+	 * @param y         - the y coordinate to draw at
+	 * @param sx        - the scale x
+	 * @param sy        - the scale y
+	 * @throws IllegalArgumentException if the frame is not in the sheet
+	 */
+	public void drawFrame(JOGLProcessor processor, GL2 gl, int frame, double x, double y, double sx, double sy)
+			throws IllegalArgumentException {
+		float u0 = (float) getFrameX(frame) / this.image.getWidth();
+		float v0 = (float) getFrameY(frame) / this.image.getHeight();
+		float u1 = u0 + (float) this.frameWidth / this.image.getWidth();
+		float v1 = v0 + (float) this.frameHeight / this.image.getHeight();
+		double width = this.frameWidth * sx;
+		double height = this.frameHeight * sy;
+		bind(processor, gl);
+
+		// Draw quad of the frame
+		gl.glBegin(GL2.GL_QUADS);
+
+		gl.glTexCoord2f(u0, v0);
+		gl.glVertex2d(x, y);
+
+		gl.glTexCoord2f(u0, v1);
+		gl.glVertex2d(x, y + height);
+
+		gl.glTexCoord2f(u1, v1);
+		gl.glVertex2d(x + width, y + height);
+
+		gl.glTexCoord2f(u1, v0);
+		gl.glVertex2d(x + width, y);
+
+		gl.glEnd();
+		unbind(gl);
+	}
+
+	/**
+	 * Bind the texture of the sheet with blending enabled, to draw frames with
+	 * texture co-ordinates from {@link #getFrameX(int)} and
+	 * {@link #getFrameY(int)}.
+	 *
+	 * @param processor - the processor drawing the frames
+	 * @param gl        - the gl context
+	 * @see #unbind(GL2)
+	 */
+	public void bind(JOGLProcessor processor, GL2 gl) {
+		// Enable blending, where premultiplied colors are already multiplied by alpha
+		processor.blend(gl, this.image.isPremultiplied());
+
+		// Bind the texture
+		gl.glEnable(GL2.GL_TEXTURE_2D);
+		gl.glBindTexture(GL2.GL_TEXTURE_2D, this.image.texId);
+		gl.glColor3f(1, 1, 1);
+	}
+
+	/**
+	 * Unbind the texture of the sheet and disable blending.
+	 *
+	 * @param gl - the gl context
+	 * @see #bind(JOGLProcessor, GL2)
+	 */
+	public void unbind(GL2 gl) {
+		// Disable blending and texture
+		gl.glDisable(GL2.GL_TEXTURE_2D);
+		gl.glDisable(GL2.GL_BLEND);
+
+		// Unbind texture
+		gl.glBindTexture(GL2.GL_TEXTURE_2D, 0);
+	}
+
+}
@@ -0,0 +1,278 @@
+package com.game.engine.graphics.obj;
+
+import com.game.engine.graphics.common.Drawable;
+import com.game.engine.graphics.common.RenderRequest;
+import com.game.engine.graphics.obj.fonts.Font;
+import com.game.engine.graphics.obj.fonts.Glyph;
+import com.game.engine.graphics.obj.fonts.GlyphAtlas;
+import com.game.engine.graphics.request.TextRequest;
+import com.game.engine.rendering.common.RenderLevel;
+import com.game.engine.rendering.cpu.CPUProcessor;
+import com.game.engine.rendering.opengl.JOGLProcessor;
+import com.jogamp.opengl.GL2;
+
+/**
+ * A graphics object which draws text glyph by glyph from its font's
+ * {@link GlyphAtlas}. Unlike a {@link Label}, changing the text of this object
+ * bakes no image and uploads no texture, which makes it suited to text which
+ * changes often, such as counters and debug overlays.
+ *
+ * @author Spencer Imbleau
+ * @version October 2026
+ * @see GlyphAtlas
+ */
+public class Text implements Drawable {
+
+	/**
+	 * The font of the text
+	 */
+	protected final Font font;
+
+	/**
+	 * The keycodes of the text
+	 */
+	protected int[] keycodes;
+
+	/**
+	 * The ARGB color of the text
+	 */
+	protected int argb;
+
+	/**
+	 * The width of the text
+	 */
+	protected int width;
+
+	/**
+	 * Initializes text
+	 *
+	 * @param font - the font of the text
+	 * @param text - the text
+	 * @param argb - the ARGB color of the text
+	 */
+	public Text(Font font, String text, int argb) {
+		this(font, Glyph.keycodesOf(text), argb);
+	}
+
+	/**
+	 * Initializes text
+	 *
+	 * @param font     - the font of the text
+	 * @param keycodes - the keycodes of the text
+	 * @param argb     - the ARGB color of the text
+	 */
+	public Text(Font font, int[] keycodes, int argb) {
+		this.font = font;
+		this.argb = argb;
+		setText(keycodes);
+	}
+
+	/**
+	 * @return the font of the text
+	 */
+	public Font getFont() {
+		return this.font;
+	}
+
+	/**
+	 * @return the keycodes of the text
+	 */
+	public int[] getKeycodes() {
+		return this.keycodes;
+	}
+
+	/**
+	 * Change the text.
+	 *
+	 * @param keycodes - the keycodes of the text
+	 */
+	public void setText(int[] keycodes) {
+		this.keycodes = keycodes;
+		this.width = this.font.measure(keycodes);
+	}
+
+	/**
+	 * Change the text.
+	 *
+	 * @param text - the text
+	 */
+	public void setText(String text) {
+		setText(Glyph.keycodesOf(text));
+	}
+
+	/**
+	 * @return the ARGB color of the text
+	 */
+	public int getColor() {
+		return this.argb;
+	}
+
+	/**
+	 * Set the color of the text
+	 *
+	 * @param argb - the ARGB color to set
+	 */
+	public void setColor(int argb) {
+		this.argb = argb;
+	}
+
+	/**
+	 * @return the width of the text
+	 */
+	public int getWidth() {
+		return this.width;
+	}
+
+	/**
+	 * @return the height of the text
+	 */
+	public int getHeight() {
+		return this.font.size;
+	}
+
+	@Override
+	public void alloc(GL2 gl) {
+		this.font.getAtlas().alloc(gl);
+	}
+
+	@Override
+	public void flagGLRefresh() {
+		// Text holds no OpenGL memory of its own
+	}
+
+	@Override
+	public boolean needsGLRefresh() {
+		return false;
+	}
+
+	@Override
+	public void refresh(GL2 gl) {
+		// Text holds no OpenGL memory of its own
+	}
+
+	@Override
+	public void dispose(GL2 gl) {
+		this.font.getAtlas().dispose(gl);
+	}
+
+	@Override
+	public void draw(CPUProcessor processor, int x, int y, double sx, double sy) {
+		// Don't render off-screen text
+		int width = processor.getImage().getWidth();
+		int height = processor.getImage().getHeight();
+		if (y >= height || y + this.font.size * sy <= 0 || x >= width) {
+			return;
+		}
+
+		GlyphAtlas atlas = this.font.getAtlas();
+		int cursor = 0;
+		for (int i = 0; i < this.keycodes.length; i++) {
+			Glyph glyph = this.font.glyph(this.keycodes[i]);
+			int[] spans = atlas.spans(glyph);
+
+			// Fill each span of the glyph, scaled to whole pixels
+			for (int s = 0; s < spans.length; s += 3) {
+				int y0 = Math.max(0, y + (int) (spans[s] * sy));
+				int y1 = Math.min(height, y + (int) ((spans[s] + 1) * sy));
+				int x0 = x + (int) ((cursor + spans[s + 1]) * sx);
+				int x1 = x + (int) ((cursor + spans[s + 2]) * sx);
+				for (int yi = y0; yi < y1; yi++) {
+					processor.fillRow(x0, x1, yi, this.argb);
+				}
+			}
+
+			cursor += (glyph == null) ? this.font.missingGlyphWidth() : glyph.width;
+			if (x + cursor * sx >= width) {
+				// The rest of the text is off-screen
+				return;
+			}
+		}
+	}
+
+	@Override
+	public void draw(JOGLProcessor processor, GL2 gl, double x, double y, double sx, double sy) {
+		GlyphAtlas atlas = this.font.getAtlas();
+
+		// Enable blending
+		processor.blend(gl, false);
+
+		// Bind the atlas
+		gl.glEnable(GL2.GL_TEXTURE_2D);
+		gl.glBindTexture(GL2.GL_TEXTURE_2D, atlas.getTextureId());
+
+		// Tint the white glyphs
+		float a = (this.argb >> 24 & 0xff) / 255f;
+		float r = (this.argb >> 16 & 0xff) / 255f;
+		float g = (this.argb >> 8 & 0xff) / 255f;
+		float b = (this.argb & 0xff) / 255f;
+		gl.glColor4f(r, g, b, a);
+
+		// Draw one quad per glyph in a single batch
+		double h = this.font.size * sy;
+		double cursor = x;
+		gl.glBegin(GL2.GL_QUADS);
+		for (int i = 0; i < this.keycodes.length; i++) {
+			Glyph glyph = this.font.glyph(this.keycodes[i]);
+			float u0 = atlas.u0(glyph);
+			float u1 = atlas.u1(glyph);
+			if (glyph != null) {
+				double w = glyph.width * sx;
+				quad(gl, cursor, y, w, h, u0, u1);
+				cursor += w;
+			} else {
+				// Outline a box from the solid column of the atlas
+				double w = this.font.missingGlyphWidth() * sx;
+				quad(gl, cursor, y, w, sy, u0, u1);
+				quad(gl, cursor, y + h - sy, w, sy, u0, u1);
+				quad(gl, cursor, y, sx, h, u0, u1);
+				quad(gl, cursor + w - sx, y, sx, h, u0, u1);
+				cursor += w;
+			}
+		}
+		gl.glEnd();
+
+		// Disable blending and texture
+		gl.glColor4f(1, 1, 1, 1);
+		gl.glDisable(GL2.GL_TEXTURE_2D);
+		gl.glDisable(GL2.GL_BLEND);
+
+		// Unbind texture
+		gl.glBindTexture(GL2.GL_TEXTURE_2D, 0);
+	}
+
+	/**
+	 * Helper method to emit a textured quad spanning the height of the atlas.
+	 *
+	 * @param gl - a current GL context, between glBegin and glEnd
+	 * @param x  - the left edge of the quad
+	 * @param y  - the top edge of the quad
+	 * @param w  - the width of the quad
+	 * @param h  - the height of the quad
+	 * @param u0 - the left texture coordinate
+	 * @param u1 - the right texture coordinate
+	 */
+	private static void quad(GL2 gl, double x, double y, double w, double h, float u0, float u1) {
+		gl.glTexCoord2f(u0, 0);
+		gl.glVertex2d(x, y);
+
+		gl.glTexCoord2f(u0, 1);
+		gl.glVertex2d(x, y + h);
+
+		gl.glTexCoord2f(u1, 1);
+		gl.glVertex2d(x + w, y + h);
+
+		gl.glTexCoord2f(u1, 0);
+		gl.glVertex2d(x + w, y);
+	}
+
+	@Override
+	public RenderRequest asRequest(RenderLevel level, int x, int y) {
+		return new TextRequest(this, level, x, y);
+	}
+
+	@Override
+	public RenderRequest asRequest(RenderLevel level, int depth, int x, int y) {
+		return new TextRequest(this, level, depth, x, y);
+	}
+
+}
@@ -3,6 +3,7 @@ package com.game.engine.graphics.obj.fonts;
 import java.awt.image.BufferedImage;
 import java.awt.image.DataBufferInt;
 import java.nio.IntBuffer;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -32,11 +33,31 @@ public class Font {
 	 */
 	public final Map<Integer, Glyph> glyphs;
 
+	/**
+	 * A dense table of the glyphs in the Basic Multilingual Plane, indexed by
+	 * keycode, which avoids hashing and boxing when looking up common glyphs.
+	 * Glyphs outside the table are looked up in {@link #glyphs}.
+	 */
+	private final Glyph[] table;
+
+	/**
+	 * The coverage mask of the box drawn in place of a glyph missing from this
+	 * font.
+	 *
+	 * @see Glyph#runs
+	 */
+	private final int[] missingGlyphRuns;
+
 	/**
 	 * The size of the font, i.e. the pixel height.
 	 */
 	public final int size;
 
+	/**
+	 * The atlas of this font's glyphs, created when first needed.
+	 */
+	private GlyphAtlas atlas;
+
 	/**
 	 * Construct a font.
 	 * 
@@ -49,6 +70,47 @@ public class Font {
 		this.size = size;
 		this.pbo = glyphPBO;
 		this.glyphs = glyphs;
+
+		// Size the table to the largest glyph in the Basic Multilingual Plane
+		int tableSize = 0;
+		for (Integer keycode : glyphs.keySet()) {
+			if (keycode >= 0 && keycode <= Character.MAX_VALUE) {
+				tableSize = Math.max(tableSize, keycode + 1);
+			}
+		}
+		this.table = new Glyph[tableSize];
+		for (Glyph glyph : glyphs.values()) {
+			if (glyph.keycode >= 0 && glyph.keycode < tableSize) {
+				this.table[glyph.keycode] = glyph;
+			}
+		}
+		this.missingGlyphRuns = boxRuns(missingGlyphWidth(), size);
+	}
+
+	/**
+	 * Returns the glyph of a keycode.
+	 *
+	 * @param keycode - the keycode for a glyph
+	 * @return the glyph, or null if the glyph is not in this font
+	 */
+	public Glyph glyph(int keycode) {
+		if (keycode >= 0 && keycode < this.table.length) {
+			return this.table[keycode];
+		}
+		if (keycode >= 0 && keycode <= Character.MAX_VALUE) {
+			// The table holds every glyph in the Basic Multilingual Plane
+			return null;
+		}
+		return this.glyphs.get(keycode);
+	}
+
+	/**
+	 * @return the coverage mask of the box drawn in place of a glyph missing from
+	 *         this font
+	 * @see Glyph#runs
+	 */
+	public int[] missingGlyphRuns() {
+		return this.missingGlyphRuns;
 	}
 
 	/**
@@ -59,7 +121,40 @@ public class Font {
 	 * @see KeyCode
 	 */
 	public boolean isGlyphRenderable(Integer keycode) {
-		return this.glyphs.containsKey(keycode);
+		return keycode != null && glyph(keycode) != null;
+	}
+
+	/**
+	 * @return the width of the box drawn in place of a glyph missing from this font
+	 */
+	public int missingGlyphWidth() {
+		return this.size / 2;
+	}
+
+	/**
+	 * Returns the width of the keycodes provided, if drawn in this font.
+	 *
+	 * @param keycodeSequence - a sequence of keycodes
+	 * @return the width of the keycodes in pixels
+	 */
+	public int measure(int[] keycodeSequence) {
+		int width = 0;
+		for (int i = 0; i < keycodeSequence.length; i++) {
+			Glyph glyph = glyph(keycodeSequence[i]);
+			width += (glyph == null) ? missingGlyphWidth() : glyph.width;
+		}
+		return width;
+	}
+
+	/**
+	 * @return the atlas of this font's glyphs, shared by every text drawn in this
+	 *         font
+	 */
+	public synchronized GlyphAtlas getAtlas() {
+		if (this.atlas == null) {
+			this.atlas = new GlyphAtlas(this);
+		}
+		return this.atlas;
 	}
 
 	/**
@@ -71,68 +166,33 @@ public class Font {
 	 *         are provided
 	 */
 	public BufferedImage bakeImage(int[] keycodeSequence, int argb) {
-		// Calculate the width this image will be
-		int imgWidth = 0;
-
 		// Check if there's any keycodes to render
 		if (keycodeSequence.length == 0) {
 			return null;
 		}
 
-		// Calculate the image width
-		int invalidGlyphWidth = (this.size / 2);
+		// Look up each glyph once
+		Glyph[] sequence = new Glyph[keycodeSequence.length];
+		int imgWidth = 0;
 		for (int i = 0; i < keycodeSequence.length; i++) {
-			int keycode = keycodeSequence[i];
-			if (this.isGlyphRenderable(keycode)) {
-				// Add the width of the glyph
-				imgWidth += this.glyphs.get(keycode).width;
-			} else {
-				// If not a keycode is not a valid glyph, we draw a box half the font size wide
-				// Hence, add half the font size
-				imgWidth += invalidGlyphWidth;
-			}
+			sequence[i] = glyph(keycodeSequence[i]);
+			// If a keycode is not a valid glyph, we draw a box in its place
+			imgWidth += (sequence[i] == null) ? missingGlyphWidth() : sequence[i].width;
 		}
 
 		// Draw the keycode sequence into a buffered image
 		BufferedImage buf = new BufferedImage(imgWidth, this.size, BufferedImage.TYPE_INT_ARGB);
 		final int[] pixels = ((DataBufferInt) buf.getRaster().getDataBuffer()).getData();
-		final int glyphSheetWidth = this.pbo.remaining() / this.size;
 
 		int x = 0;
-		for (int i = 0; i < keycodeSequence.length; i++) {
-			int keycode = keycodeSequence[i];
-			if (this.isGlyphRenderable(keycode)) {
-				// Draw the glyph
-				Glyph glyph = this.glyphs.get(keycode);
-
-				// Draw the character as from the glyph sheet image
-				for (int y = 0; y < this.size; y++) {
-					int yGlyphStart = y * glyphSheetWidth;
-					int yImgStart = y * imgWidth;
-					for (int xi = 0; xi < glyph.width; xi++) {
-						// Only render white pixels
-						if (this.pbo.get((xi + glyph.offset) + yGlyphStart) == Glyph.DATA_COLOR) {
-							pixels[yImgStart + x + xi] = argb;
-						}
-					}
-				}
-				x += glyph.width;
-			} else {
-				// Draw a box, since we don't have a character map for this.
-				// Vertical Bars
-				for (int yi = 0; yi < this.size; yi++) {
-					int yStart = yi * imgWidth;
-					pixels[yStart + x] = argb;
-					pixels[yStart + x + invalidGlyphWidth - 1] = argb;
-				}
-				// Horizontal Bars
-				int yFloorStart = (this.size - 1) * imgWidth;
-				for (int xi = 0; xi < invalidGlyphWidth; xi++) {
-					pixels[x + xi] = argb;
-					pixels[yFloorStart + x + xi] = argb;
-				}
-				x += invalidGlyphWidth;
+		for (Glyph glyph : sequence) {
+			// Copy the runs of the glyph's coverage mask
+			int[] runs = (glyph == null) ? this.missingGlyphRuns : glyph.runs;
+			for (int r = 0; r < runs.length; r += 3) {
+				int rowStart = runs[r] * imgWidth + x;
+				Arrays.fill(pixels, rowStart + runs[r + 1], rowStart + runs[r + 2], argb);
 			}
+			x += (glyph == null) ? missingGlyphWidth() : glyph.width;
 		}
 
 		return buf;
@@ -149,4 +209,37 @@ public class Font {
 		return this.bakeImage(Glyph.keycodesOf(text), argb);
 	}
 
+	/**
+	 * Helper method to create the coverage mask of the outline of a box.
+	 *
+	 * @param width  - the width of the box
+	 * @param height - the height of the box
+	 * @return the runs of the box
+	 * @see Glyph#runs
+	 */
+	private static int[] boxRuns(int width, int height) {
+		if (width <= 0 || height <= 0) {
+			return new int[0];
+		}
+		int[] runs = new int[3 * (2 * height)];
+		int length = 0;
+		for (int y = 0; y < height; y++) {
+			if (y == 0 || y == height - 1 || width <= 2) {
+				// Horizontal bars
+				runs[length++] = y;
+				runs[length++] = 0;
+				runs[length++] = width;
+			} else {
+				// Vertical bars
+				runs[length++] = y;
+				runs[length++] = 0;
+				runs[length++] = 1;
+				runs[length++] = y;
+				runs[length++] = width - 1;
+				runs[length++] = width;
+			}
+		}
+		return Arrays.copyOf(runs, length);
+	}
+
 }
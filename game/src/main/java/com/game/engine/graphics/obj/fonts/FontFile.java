@@ -0,0 +1,254 @@
+package com.game.engine.graphics.obj.fonts;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+
+import javax.imageio.ImageIO;
+
+/**
+ * A compiled font, which loads without decoding or scanning a glyph sheet.
+ * {@link GlyphReader} remains the way to import a font from a glyph sheet, and
+ * this format is the way to ship it.
+ * <br>
+ * <br>
+ * A font file is a sequence of big-endian integers:
+ * <ol>
+ * <li>A header of {@link #MAGIC}, {@link #VERSION}, the font size, the width of
+ * the packed atlas (0 if there is none) and the amount of glyphs.</li>
+ * <li>A metrics table with the keycode, offset, width and amount of runs of
+ * each glyph.</li>
+ * <li>The coverage masks of each glyph, in the order of the metrics table.</li>
+ * <li>Optionally, the packed atlas: the glyph sheet with every pixel which is
+ * not {@link Glyph#DATA_COLOR} cleared.</li>
+ * </ol>
+ * Font files are read by memory mapping, and a packed atlas is used as the
+ * font's pixel buffer in place. Without a packed atlas, the pixel buffer is
+ * rebuilt from the coverage masks.
+ *
+ * @author Spencer Imbleau
+ * @version October 2026
+ * @see GlyphReader
+ */
+public class FontFile {
+
+	/**
+	 * The first integer of every font file, "PWFT".
+	 */
+	public static final int MAGIC = 0x50574654;
+
+	/**
+	 * The version of the font file format.
+	 */
+	public static final int VERSION = 1;
+
+	/**
+	 * The amount of integers in the header.
+	 */
+	private static final int HEADER_INTS = 5;
+
+	/**
+	 * The amount of integers for each glyph in the metrics table.
+	 */
+	private static final int METRICS_INTS = 4;
+
+	/**
+	 * Write a compiled font.
+	 *
+	 * @param font  - the font to write
+	 * @param out   - the stream to write to
+	 * @param atlas - whether to include the packed atlas
+	 * @throws IOException if the stream could not be written
+	 */
+	public static void write(Font font, OutputStream out, boolean atlas) throws IOException {
+		int sheetWidth = (font.size == 0) ? 0 : font.pbo.limit() / font.size;
+		List<Glyph> glyphs = new ArrayList<>(font.glyphs.values());
+
+		DataOutputStream data = new DataOutputStream(new BufferedOutputStream(out));
+		// Header
+		data.writeInt(MAGIC);
+		data.writeInt(VERSION);
+		data.writeInt(font.size);
+		data.writeInt(atlas ? sheetWidth : 0);
+		data.writeInt(glyphs.size());
+		// Metrics table
+		for (Glyph glyph : glyphs) {
+			data.writeInt(glyph.keycode);
+			data.writeInt(glyph.offset);
+			data.writeInt(glyph.width);
+			data.writeInt(glyph.runs.length / 3);
+		}
+		// Coverage masks
+		for (Glyph glyph : glyphs) {
+			for (int run : glyph.runs) {
+				data.writeInt(run);
+			}
+		}
+		// Packed atlas
+		if (atlas) {
+			for (int i = 0; i < sheetWidth * font.size; i++) {
+				data.writeInt(font.pbo.get(i) == Glyph.DATA_COLOR ? Glyph.DATA_COLOR : 0);
+			}
+		}
+		data.flush();
+	}
+
+	/**
+	 * Write a compiled font to a file.
+	 *
+	 * @param font  - the font to write
+	 * @param path  - the file to write
+	 * @param atlas - whether to include the packed atlas
+	 * @throws IOException if the file could not be written
+	 */
+	public static void write(Font font, Path path, boolean atlas) throws IOException {
+		try (OutputStream out = Files.newOutputStream(path)) {
+			write(font, out, atlas);
+		}
+	}
+
+	/**
+	 * Read a compiled font.
+	 *
+	 * @param buffer - the contents of a font file
+	 * @return the font
+	 * @throws IllegalArgumentException if the buffer is not a font file
+	 */
+	public static Font read(ByteBuffer buffer) {
+		IntBuffer ints = buffer.asIntBuffer();
+		if (ints.limit() < HEADER_INTS || ints.get(0) != MAGIC) {
+			throw new IllegalArgumentException("Not a font file");
+		}
+		if (ints.get(1) != VERSION) {
+			throw new IllegalArgumentException("Unsupported font file version: " + ints.get(1));
+		}
+		int size = ints.get(2);
+		int sheetWidth = ints.get(3);
+		int glyphCount = ints.get(4);
+		if (size < 0 || sheetWidth < 0 || glyphCount < 0
+				|| ints.limit() < HEADER_INTS + (long) glyphCount * METRICS_INTS) {
+			throw new IllegalArgumentException("Corrupt font file header");
+		}
+
+		// Read the metrics table and coverage masks
+		HashMap<Integer, Glyph> glyphs = new HashMap<>(glyphCount * 2);
+		int runsPosition = HEADER_INTS + glyphCount * METRICS_INTS;
+		int maxExtent = 0;
+		for (int i = 0; i < glyphCount; i++) {
+			int metrics = HEADER_INTS + i * METRICS_INTS;
+			int keycode = ints.get(metrics);
+			int offset = ints.get(metrics + 1);
+			int width = ints.get(metrics + 2);
+			int runCount = ints.get(metrics + 3);
+			if (offset < 0 || width < 0 || runCount < 0 || (long) offset + width > Integer.MAX_VALUE
+					|| (sheetWidth > 0 && offset + width > sheetWidth)
+					|| ints.limit() < runsPosition + 3L * runCount) {
+				throw new IllegalArgumentException("Corrupt font file glyph: " + keycode);
+			}
+
+			int[] runs = new int[3 * runCount];
+			ints.position(runsPosition);
+			ints.get(runs);
+			runsPosition += runs.length;
+			// Runs must lie within the glyph, as they are drawn without bounds checks
+			for (int r = 0; r < runs.length; r += 3) {
+				if (runs[r] < 0 || runs[r] >= size || runs[r + 1] < 0 || runs[r + 1] > runs[r + 2]
+						|| runs[r + 2] > width) {
+					throw new IllegalArgumentException("Corrupt font file runs: " + keycode);
+				}
+			}
+
+			glyphs.put(keycode, new Glyph(keycode, offset, width, runs));
+			maxExtent = Math.max(maxExtent, offset + width);
+		}
+
+		// Use the packed atlas in place, or rebuild it from the coverage masks
+		IntBuffer pbo;
+		if (sheetWidth > 0) {
+			if (ints.limit() < runsPosition + (long) sheetWidth * size) {
+				throw new IllegalArgumentException("Corrupt font file atlas");
+			}
+			ints.position(runsPosition);
+			ints.limit(runsPosition + sheetWidth * size);
+			pbo = ints.slice();
+		} else {
+			int[] pixels = new int[maxExtent * size];
+			for (Glyph glyph : glyphs.values()) {
+				for (int r = 0; r < glyph.runs.length; r += 3) {
+					int row = glyph.runs[r] * maxExtent + glyph.offset;
+					for (int x = glyph.runs[r + 1]; x < glyph.runs[r + 2]; x++) {
+						pixels[row + x] = Glyph.DATA_COLOR;
+					}
+				}
+			}
+			pbo = IntBuffer.wrap(pixels);
+		}
+
+		return new Font(size, pbo, glyphs);
+	}
+
+	/**
+	 * Read a compiled font from a file by memory mapping it.
+	 *
+	 * @param path - the font file
+	 * @return the font
+	 * @throws IOException              if the file could not be read
+	 * @throws IllegalArgumentException if the file is not a font file
+	 */
+	public static Font read(Path path) throws IOException {
+		try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+			// The mapping remains valid after the channel is closed
+			MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+			return read(buffer);
+		}
+	}
+
+	/**
+	 * Compile a glyph sheet to a font file.
+	 * <br>
+	 * <br>
+	 * Usage: {@code FontFile <glyph sheet> <font file> [--no-atlas] <keycodes>...}
+	 * where each keycode is a number, or an inclusive range of numbers such as
+	 * {@code 32-126}, in the order the glyphs appear in the glyph sheet.
+	 *
+	 * @param args - the arguments
+	 * @throws IOException if the glyph sheet could not be read or the font file
+	 *                     could not be written
+	 */
+	public static void main(String[] args) throws IOException {
+		if (args.length < 3) {
+			System.err.println("Usage: FontFile <glyph sheet> <font file> [--no-atlas] <keycodes>...");
+			System.exit(1);
+		}
+
+		GlyphSheet sheet = new GlyphSheet(ImageIO.read(new File(args[0])));
+		boolean atlas = true;
+		for (int i = 2; i < args.length; i++) {
+			if (args[i].equals("--no-atlas")) {
+				atlas = false;
+				continue;
+			}
+			int dash = args[i].indexOf('-', 1);
+			int first = Integer.parseInt(dash < 0 ? args[i] : args[i].substring(0, dash));
+			int last = (dash < 0) ? first : Integer.parseInt(args[i].substring(dash + 1));
+			for (int keycode = first; keycode <= last; keycode++) {
+				sheet.add(keycode);
+			}
+		}
+
+		write(GlyphReader.read(sheet), Paths.get(args[1]), atlas);
+	}
+}
@@ -31,17 +31,26 @@ public class Glyph {
 	 */
 	public final int width;
 
+	/**
+	 * The coverage mask of the glyph, run-length encoded. Each run of
+	 * {@link #DATA_COLOR} pixels is stored as a triple of a row, a start column
+	 * and an end column (exclusive), relative to the glyph.
+	 */
+	public final int[] runs;
+
 	/**
 	 * Create a glyph information object.
 	 *
 	 * @param keycode - the keycode of this glyph
 	 * @param offset  - the offset of the glyph's pixel data
 	 * @param width   - the width of the glyph's pixel data
+	 * @param runs    - the coverage mask of the glyph
 	 */
-	public Glyph(int keycode, int offset, int width) {
+	public Glyph(int keycode, int offset, int width, int[] runs) {
 		this.keycode = keycode;
 		this.offset = offset;
 		this.width = width;
+		this.runs = runs;
 	}
 
 	/**
@@ -0,0 +1,149 @@
+package com.game.engine.graphics.obj.fonts;
+
+import java.nio.IntBuffer;
+
+import com.game.engine.graphics.common.GLObject;
+import com.jogamp.opengl.GL2;
+
+/**
+ * The glyphs of a {@link Font}, prepared once so text can be drawn without
+ * baking a bitmap. On OpenGL, the glyph sheet is uploaded as a single white
+ * texture whose alpha masks each glyph, to be tinted per draw. On the CPU,
+ * each glyph is drawn from its coverage mask.
+ * <br>
+ * <br>
+ * The atlas is shared by every text of the font. Its texture is allocated by
+ * the first {@link #alloc(GL2)} and deleted once every allocation has been
+ * matched by a {@link #dispose(GL2)}.
+ *
+ * @author Spencer Imbleau
+ * @version October 2026
+ * @see com.game.engine.graphics.obj.Text
+ */
+public class GlyphAtlas implements GLObject {
+
+	/**
+	 * The font of this atlas.
+	 */
+	protected final Font font;
+
+	/**
+	 * The width of the font's glyph sheet.
+	 */
+	protected final int sheetWidth;
+
+	/**
+	 * The width of the texture, which has a column of solid pixels after the
+	 * glyph sheet for drawing glyphs missing from the font.
+	 */
+	protected final int textureWidth;
+
+	/**
+	 * The texture ID for OpenGL.
+	 */
+	protected int texId = 0;
+
+	/**
+	 * The amount of allocations which have not been disposed.
+	 */
+	protected int allocations = 0;
+
+	/**
+	 * Initialize a glyph atlas.
+	 *
+	 * @param font - the font of this atlas
+	 */
+	public GlyphAtlas(Font font) {
+		this.font = font;
+		this.sheetWidth = (font.size == 0) ? 0 : font.pbo.limit() / font.size;
+		this.textureWidth = this.sheetWidth + 1;
+	}
+
+	/**
+	 * Returns the coverage mask of a glyph.
+	 *
+	 * @param glyph - a glyph of the font, or null for a missing glyph
+	 * @return the runs of the glyph
+	 * @see Glyph#runs
+	 */
+	public int[] spans(Glyph glyph) {
+		return (glyph == null) ? this.font.missingGlyphRuns() : glyph.runs;
+	}
+
+	/**
+	 * @param glyph - a glyph of the font, or null for a missing glyph
+	 * @return the left texture coordinate of the glyph
+	 */
+	public float u0(Glyph glyph) {
+		if (glyph == null) {
+			return (this.sheetWidth + 0.25f) / this.textureWidth;
+		}
+		return (float) glyph.offset / this.textureWidth;
+	}
+
+	/**
+	 * @param glyph - a glyph of the font, or null for a missing glyph
+	 * @return the right texture coordinate of the glyph
+	 */
+	public float u1(Glyph glyph) {
+		if (glyph == null) {
+			return (this.sheetWidth + 0.75f) / this.textureWidth;
+		}
+		return (float) (glyph.offset + glyph.width) / this.textureWidth;
+	}
+
+	/**
+	 * @return the texture ID for OpenGL, or 0 if it is not allocated
+	 */
+	public int getTextureId() {
+		return this.texId;
+	}
+
+	@Override
+	public void alloc(GL2 gl) {
+		if (this.allocations++ > 0) {
+			return;
+		}
+
+		// Mask the glyph sheet as white with the alpha of the glyph pixels
+		int[] pixels = new int[this.textureWidth * this.font.size];
+		for (int y = 0; y < this.font.size; y++) {
+			for (int x = 0; x < this.sheetWidth; x++) {
+				boolean data = this.font.pbo.get(y * this.sheetWidth + x) == Glyph.DATA_COLOR;
+				pixels[y * this.textureWidth + x] = data ? 0xffffffff : 0x00ffffff;
+			}
+			pixels[y * this.textureWidth + this.sheetWidth] = 0xffffffff;
+		}
+
+		// Generate texture object
+		int[] texIds = new int[1];
+		gl.glGenTextures(1, texIds, 0);
+		this.texId = texIds[0];
+		gl.glBindTexture(GL2.GL_TEXTURE_2D, this.texId);
+
+		// Glyphs are drawn crisp and clamped so they don't bleed
+		gl.glTexParameteri(GL2.GL_TEXTURE_2D, GL2.GL_TEXTURE_MIN_FILTER, GL2.GL_NEAREST);
+		gl.glTexParameteri(GL2.GL_TEXTURE_2D, GL2.GL_TEXTURE_MAG_FILTER, GL2.GL_NEAREST);
+		gl.glTexParameteri(GL2.GL_TEXTURE_2D, GL2.GL_TEXTURE_WRAP_S, GL2.GL_CLAMP);
+		gl.glTexParameteri(GL2.GL_TEXTURE_2D, GL2.GL_TEXTURE_WRAP_T, GL2.GL_CLAMP);
+		gl.glTexImage2D(GL2.GL_TEXTURE_2D, 0, GL2.GL_RGBA8, this.textureWidth, this.font.size, 0, GL2.GL_BGRA,
+				GL2.GL_UNSIGNED_INT_8_8_8_8_REV, IntBuffer.wrap(pixels));
+
+		// Unbind texture object
+		gl.glBindTexture(GL2.GL_TEXTURE_2D, 0);
+	}
+
+	@Override
+	public void refresh(GL2 gl) {
+		// The glyph sheet never changes
+	}
+
+	@Override
+	public void dispose(GL2 gl) {
+		if (this.allocations > 0 && --this.allocations == 0) {
+			int[] textures = { this.texId };
+			gl.glDeleteTextures(textures.length, textures, 0);
+			this.texId = 0;
+		}
+	}
+}
@@ -1,6 +1,7 @@
 package com.game.engine.graphics.obj.fonts;
 
 import java.nio.IntBuffer;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Iterator;
 
@@ -74,7 +75,8 @@ public class GlyphReader {
 				}
 				int keycode = glyphKeycodes.next();
 				int glyphWidth = i - glyphOffset;
-				glyphMap.put(keycode, new Glyph(keycode, glyphOffset, glyphWidth));
+				int[] runs = readRuns(pbo, glyphSheetWidth, fontSize, glyphOffset, glyphWidth);
+				glyphMap.put(keycode, new Glyph(keycode, glyphOffset, glyphWidth, runs));
 			}
 		}
 		pbo.rewind();
@@ -85,4 +87,40 @@ public class GlyphReader {
 
 		return new Font(fontSize, pbo, glyphMap);
 	}
+
+	/**
+	 * Read the coverage mask of a glyph, i.e. the runs of {@link Glyph#DATA_COLOR}
+	 * pixels on each row.
+	 *
+	 * @param pbo             - the pixels of the glyph sheet
+	 * @param glyphSheetWidth - the width of the glyph sheet
+	 * @param fontSize        - the height of the glyph sheet
+	 * @param glyphOffset     - the column where the glyph starts
+	 * @param glyphWidth      - the width of the glyph
+	 * @return the runs of the glyph
+	 * @see Glyph#runs
+	 */
+	private static int[] readRuns(IntBuffer pbo, int glyphSheetWidth, int fontSize, int glyphOffset,
+			int glyphWidth) {
+		int[] runs = new int[3 * ((glyphWidth + 1) / 2) * fontSize];
+		int length = 0;
+		for (int y = 0; y < fontSize; y++) {
+			int row = y * glyphSheetWidth + glyphOffset;
+			int x = 0;
+			while (x < glyphWidth) {
+				if (pbo.get(row + x) != Glyph.DATA_COLOR) {
+					x++;
+					continue;
+				}
+				int start = x;
+				while (x < glyphWidth && pbo.get(row + x) == Glyph.DATA_COLOR) {
+					x++;
+				}
+				runs[length++] = y;
+				runs[length++] = start;
+				runs[length++] = x;
+			}
+		}
+		return Arrays.copyOf(runs, length);
+	}
 }
@@ -0,0 +1,41 @@
+package com.game.engine.graphics.request;
+
+import com.game.engine.graphics.common.RenderRequest;
+import com.game.engine.graphics.obj.Animation;
+import com.game.engine.rendering.common.RenderLevel;
+
+/**
+ * This is an {@link RenderRequest} which will encapsulate an {@link Animation}
+ * and where to draw it.
+ *
+ * @version October 2026
+ * @author Spencer Imbleau
+ */
+public class AnimationRequest extends RenderRequest {
+
+	/**
+	 * Initialize animation request
+	 *
+	 * @param animation - the animation to render
+	 * @param level     - the render level
+	 * @param x         - The x coordinate to render at
+	 * @param y         - The y coordinate to render at
+	 */
+	public AnimationRequest(Animation animation, RenderLevel level, int x, int y) {
+		super(animation, level, y + animation.getHeight(), x, y);
+	}
+
+	/**
+	 * Initialize animation request with special depth
+	 *
+	 * @param animation - the animation to render
+	 * @param level     - the render level
+	 * @param depth     - a special depth
+	 * @param x         - The x coordinate to render at
+	 * @param y         - The y coordinate to render at
+	 */
+	public AnimationRequest(Animation animation, RenderLevel level, int depth, int x, int y) {
+		super(animation, level, depth, x, y);
+	}
+
+}
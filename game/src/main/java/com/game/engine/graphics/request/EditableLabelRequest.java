@@ -0,0 +1,41 @@
+package com.game.engine.graphics.request;
+
+import com.game.engine.graphics.common.RenderRequest;
+import com.game.engine.graphics.obj.EditableLabel;
+import com.game.engine.rendering.common.RenderLevel;
+
+/**
+ * This is an {@link RenderRequest} which will encapsulate an
+ * {@link EditableLabel} and where to draw it.
+ *
+ * @version October 2026
+ * @author Spencer Imbleau
+ */
+public class EditableLabelRequest extends ImageRequest {
+
+	/**
+	 * Initialize editable label request
+	 *
+	 * @param label - the label to render
+	 * @param level - the render level
+	 * @param x     - The x coordinate to render at
+	 * @param y     - The y coordinate to render at
+	 */
+	public EditableLabelRequest(EditableLabel label, RenderLevel level, int x, int y) {
+		super(label, level, y + label.getHeight(), x, y);
+	}
+
+	/**
+	 * Initialize editable label request with special depth
+	 *
+	 * @param label - the label to render
+	 * @param level - the render level
+	 * @param depth - a special depth
+	 * @param x     - The x coordinate to render at
+	 * @param y     - The y coordinate to render at
+	 */
+	public EditableLabelRequest(EditableLabel label, RenderLevel level, int depth, int x, int y) {
+		super(label, level, depth, x, y);
+	}
+
+}
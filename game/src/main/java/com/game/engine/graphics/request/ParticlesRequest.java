@@ -0,0 +1,41 @@
+package com.game.engine.graphics.request;
+
+import com.game.engine.graphics.common.RenderRequest;
+import com.game.engine.particles.Particles;
+import com.game.engine.rendering.common.RenderLevel;
+
+/**
+ * This is an {@link RenderRequest} which will encapsulate {@link Particles}
+ * and where to draw them.
+ *
+ * @version October 2026
+ * @author Spencer Imbleau
+ */
+public class ParticlesRequest extends RenderRequest {
+
+	/**
+	 * Initialize a particles request
+	 *
+	 * @param particles - the particles to render
+	 * @param level     - the render level
+	 * @param x         - The x coordinate to render at
+	 * @param y         - The y coordinate to render at
+	 */
+	public ParticlesRequest(Particles particles, RenderLevel level, int x, int y) {
+		super(particles, level, y + particles.getHeight(), x, y);
+	}
+
+	/**
+	 * Initialize a particles request with special depth
+	 *
+	 * @param particles - the particles to render
+	 * @param level     - the render level
+	 * @param depth     - a special depth
+	 * @param x         - The x coordinate to render at
+	 * @param y         - The y coordinate to render at
+	 */
+	public ParticlesRequest(Particles particles, RenderLevel level, int depth, int x, int y) {
+		super(particles, level, depth, x, y);
+	}
+
+}
@@ -0,0 +1,41 @@
+package com.game.engine.graphics.request;
+
+import com.game.engine.graphics.common.RenderRequest;
+import com.game.engine.graphics.obj.Polygon;
+import com.game.engine.rendering.common.RenderLevel;
+
+/**
+ * This is an {@link RenderRequest} which will encapsulate a {@link Polygon}
+ * and where to draw it.
+ *
+ * @version October 2026
+ * @author Spencer Imbleau
+ */
+public class PolygonRequest extends RenderRequest {
+
+	/**
+	 * Initialize polygon request
+	 *
+	 * @param polygon - the polygon to render
+	 * @param level   - the render level
+	 * @param x       - The x coordinate to render at
+	 * @param y       - The y coordinate to render at
+	 */
+	public PolygonRequest(Polygon polygon, RenderLevel level, int x, int y) {
+		super(polygon, level, y + polygon.getHeight(), x, y);
+	}
+
+	/**
+	 * Initialize polygon request with special depth
+	 *
+	 * @param polygon - the polygon to render
+	 * @param level   - the render level
+	 * @param depth   - a special depth
+	 * @param x       - The x coordinate to render at
+	 * @param y       - The y coordinate to render at
+	 */
+	public PolygonRequest(Polygon polygon, RenderLevel level, int depth, int x, int y) {
+		super(polygon, level, depth, x, y);
+	}
+
+}
@@ -0,0 +1,41 @@
+package com.game.engine.graphics.request;
+
+import com.game.engine.graphics.common.RenderRequest;
+import com.game.engine.graphics.obj.Polyline;
+import com.game.engine.rendering.common.RenderLevel;
+
+/**
+ * This is an {@link RenderRequest} which will encapsulate a {@link Polyline}
+ * and where to draw it.
+ *
+ * @version October 2026
+ * @author Spencer Imbleau
+ */
+public class PolylineRequest extends RenderRequest {
+
+	/**
+	 * Initialize polyline request
+	 *
+	 * @param polyline - the polyline to render
+	 * @param level    - the render level
+	 * @param x        - The x coordinate to render at
+	 * @param y        - The y coordinate to render at
+	 */
+	public PolylineRequest(Polyline polyline, RenderLevel level, int x, int y) {
+		super(polyline, level, y + polyline.getHeight(), x, y);
+	}
+
+	/**
+	 * Initialize polyline request with special depth
+	 *
+	 * @param polyline - the polyline to render
+	 * @param level    - the render level
+	 * @param depth    - a special depth
+	 * @param x        - The x coordinate to render at
+	 * @param y        - The y coordinate to render at
+	 */
+	public PolylineRequest(Polyline polyline, RenderLevel level, int depth, int x, int y) {
+		super(polyline, level, depth, x, y);
+	}
+
+}
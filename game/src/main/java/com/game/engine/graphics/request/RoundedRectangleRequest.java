@@ -0,0 +1,41 @@
+package com.game.engine.graphics.request;
+
+import com.game.engine.graphics.common.RenderRequest;
+import com.game.engine.graphics.obj.RoundedRectangle;
+import com.game.engine.rendering.common.RenderLevel;
+
+/**
+ * This is an {@link RenderRequest} which will encapsulate a
+ * {@link RoundedRectangle} and where to draw it.
+ *
+ * @version October 2026
+ * @author Spencer Imbleau
+ */
+public class RoundedRectangleRequest extends RenderRequest {
+
+	/**
+	 * Initialize rounded rectangle request
+	 *
+	 * @param rect  - the rounded rectangle to render
+	 * @param level - the render level
+	 * @param x     - The x coordinate to render at
+	 * @param y     - The y coordinate to render at
+	 */
+	public RoundedRectangleRequest(RoundedRectangle rect, RenderLevel level, int x, int y) {
+		super(rect, level, y + rect.getHeight(), x, y);
+	}
+
+	/**
+	 * Initialize rounded rectangle request with special depth
+	 *
+	 * @param rect  - the rounded rectangle to render
+	 * @param level - the render level
+	 * @param depth - a special depth
+	 * @param x     - The x coordinate to render at
+	 * @param y     - The y coordinate to render at
+	 */
+	public RoundedRectangleRequest(RoundedRectangle rect, RenderLevel level, int depth, int x, int y) {
+		super(rect, level, depth, x, y);
+	}
+
+}
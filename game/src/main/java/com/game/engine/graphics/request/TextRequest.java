@@ -0,0 +1,41 @@
+package com.game.engine.graphics.request;
+
+import com.game.engine.graphics.common.RenderRequest;
+import com.game.engine.graphics.obj.Text;
+import com.game.engine.rendering.common.RenderLevel;
+
+/**
+ * This is an {@link RenderRequest} which will encapsulate a {@link Text}
+ * and where to draw it.
+ *
+ * @version October 2026
+ * @author Spencer Imbleau
+ */
+public class TextRequest extends RenderRequest {
+
+	/**
+	 * Initialize text request
+	 *
+	 * @param text  - the text to render
+	 * @param level - the render level
+	 * @param x     - The x coordinate to render at
+	 * @param y     - The y coordinate to render at
+	 */
+	public TextRequest(Text text, RenderLevel level, int x, int y) {
+		super(text, level, y + text.getHeight(), x, y);
+	}
+
+	/**
+	 * Initialize text request with special depth
+	 *
+	 * @param text  - the text to render
+	 * @param level - the render level
+	 * @param depth - a special depth
+	 * @param x     - The x coordinate to render at
+	 * @param y     - The y coordinate to render at
+	 */
+	public TextRequest(Text text, RenderLevel level, int depth, int x, int y) {
+		super(text, level, depth, x, y);
+	}
+
+}
@@ -0,0 +1,41 @@
+package com.game.engine.graphics.request;
+
+import com.game.engine.graphics.common.RenderRequest;
+import com.game.engine.rendering.common.RenderLevel;
+import com.game.engine.tiles.TileChunk;
+
+/**
+ * This is an {@link RenderRequest} which will encapsulate a {@link TileChunk}
+ * and where to draw it.
+ *
+ * @version October 2026
+ * @author Spencer Imbleau
+ */
+public class TileChunkRequest extends RenderRequest {
+
+	/**
+	 * Initialize tile chunk request
+	 *
+	 * @param chunk - the chunk of tiles to render
+	 * @param level - the render level
+	 * @param x     - The x coordinate to render at
+	 * @param y     - The y coordinate to render at
+	 */
+	public TileChunkRequest(TileChunk chunk, RenderLevel level, int x, int y) {
+		super(chunk, level, y + chunk.getHeight(), x, y);
+	}
+
+	/**
+	 * Initialize tile chunk request with special depth
+	 *
+	 * @param chunk - the chunk of tiles to render
+	 * @param level - the render level
+	 * @param depth - a special depth
+	 * @param x     - The x coordinate to render at
+	 * @param y     - The y coordinate to render at
+	 */
+	public TileChunkRequest(TileChunk chunk, RenderLevel level, int depth, int x, int y) {
+		super(chunk, level, depth, x, y);
+	}
+
+}
@@ -0,0 +1,349 @@
+package com.game.engine.particles;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import com.game.engine.driver.GameDriver;
+import com.game.engine.game.AbstractComponent;
+import com.game.engine.game.Access;
+import com.game.engine.game.AbstractGameObject;
+import com.game.engine.graphics.common.GLObject;
+import com.game.engine.rendering.common.AbstractRenderer;
+import com.game.engine.rendering.common.RenderLevel;
+import com.jogamp.opengl.GL2;
+
+/**
+ * A component which emits particles at a steady rate from a point, or from the
+ * center of a parent object, and draws every particle it emitted with one
+ * request. Particles are emitted in a random direction within a spread, at a
+ * random speed and lifetime within a range, and are accelerated by a constant
+ * force such as gravity.
+ * <br>
+ * <br>
+ * Emitters hold a vertex buffer object on OpenGL, so the object or plane owning
+ * an emitter should allocate and dispose of it with its own resources.
+ *
+ * @author Spencer Imbleau
+ * @version October 2026
+ * @see Particles
+ */
+public class ParticleEmitter extends AbstractComponent implements GLObject {
+
+	/**
+	 * The object particles are emitted from the center of, or null to emit from a
+	 * fixed point.
+	 */
+	public final AbstractGameObject parent;
+
+	/**
+	 * The particles emitted.
+	 */
+	private final Particles particles;
+
+	/**
+	 * Randomizes the particles emitted.
+	 */
+	private final Random rng;
+
+	/**
+	 * The x co-ordinate of the fixed point particles are emitted from.
+	 */
+	private double x;
+
+	/**
+	 * The y co-ordinate of the fixed point particles are emitted from.
+	 */
+	private double y;
+
+	/**
+	 * The amount of particles emitted per second.
+	 */
+	private double rate;
+
+	/**
+	 * The particles owed since the last emitted particle, as a fraction.
+	 */
+	private double owed;
+
+	/**
+	 * The direction particles are emitted in, in radians.
+	 */
+	private double direction;
+
+	/**
+	 * How far from the direction particles may be emitted, in radians either way.
+	 */
+	private double spread;
+
+	/**
+	 * The least and greatest speed of emitted particles, in pixels per second.
+	 */
+	private double minSpeed, maxSpeed;
+
+	/**
+	 * The least and greatest lifetime of emitted particles, in seconds.
+	 */
+	private double minLife, maxLife;
+
+	/**
+	 * The acceleration of every particle, in pixels per second squared.
+	 */
+	private double ax, ay;
+
+	/**
+	 * The ARGB color of emitted particles.
+	 */
+	private int argb;
+
+	/**
+	 * The level particles are drawn at.
+	 */
+	private RenderLevel level;
+
+	/**
+	 * Initialize an emitter which emits from a fixed point.
+	 *
+	 * @param capacity - the most particles alive at once
+	 * @param size     - the width and height of each particle
+	 * @throws IllegalArgumentException capacity must be positive
+	 */
+	public ParticleEmitter(int capacity, double size) throws IllegalArgumentException {
+		this(null, capacity, size);
+	}
+
+	/**
+	 * Initialize an emitter which emits from the center of a parent object.
+	 *
+	 * @param parent   - the object to emit from the center of, or null to emit
+	 *                 from a fixed point
+	 * @param capacity - the most particles alive at once
+	 * @param size     - the width and height of each particle
+	 * @throws IllegalArgumentException capacity must be positive
+	 */
+	public ParticleEmitter(AbstractGameObject parent, int capacity, double size) throws IllegalArgumentException {
+		this.parent = parent;
+		this.particles = new Particles(capacity, size);
+		this.rng = new Random();
+		this.rate = 0;
+		this.owed = 0;
+		this.direction = 0;
+		this.spread = Math.PI;
+		this.minSpeed = this.maxSpeed = 0;
+		this.minLife = this.maxLife = 1;
+		this.argb = 0xffffffff;
+		this.level = RenderLevel.WORLD_FOREGROUND;
+	}
+
+	/**
+	 * @return the particles emitted
+	 */
+	public Particles getParticles() {
+		return this.particles;
+	}
+
+	/**
+	 * Set the fixed point particles are emitted from, if there is no parent.
+	 *
+	 * @param x - the x co-ordinate to emit from
+	 * @param y - the y co-ordinate to emit from
+	 */
+	public void setPosition(double x, double y) {
+		this.x = x;
+		this.y = y;
+	}
+
+	/**
+	 * @return the x co-ordinate particles are emitted from
+	 */
+	public double x() {
+		return (this.parent == null) ? this.x : this.parent.position.x() + this.parent.width() / 2d;
+	}
+
+	/**
+	 * @return the y co-ordinate particles are emitted from
+	 */
+	public double y() {
+		return (this.parent == null) ? this.y : this.parent.position.y() + this.parent.height() / 2d;
+	}
+
+	/**
+	 * @return the amount of particles emitted per second
+	 */
+	public double getRate() {
+		return this.rate;
+	}
+
+	/**
+	 * @param rate - the amount of particles emitted per second, or 0 to stop
+	 *             emitting
+	 * @throws IllegalArgumentException rate must not be negative
+	 */
+	public void setRate(double rate) throws IllegalArgumentException {
+		if (!(rate >= 0)) {
+			throw new IllegalArgumentException("Rate must not be negative");
+		}
+		this.rate = rate;
+	}
+
+	/**
+	 * Set the directions particles are emitted in.
+	 *
+	 * @param direction - the direction, in radians
+	 * @param spread    - how far from the direction particles may be emitted, in
+	 *                  radians either way
+	 */
+	public void setDirection(double direction, double spread) {
+		this.direction = direction;
+		this.spread = spread;
+	}
+
+	/**
+	 * Set the speeds particles are emitted at.
+	 *
+	 * @param minSpeed - the least speed, in pixels per second
+	 * @param maxSpeed - the greatest speed, in pixels per second
+	 * @throws IllegalArgumentException if the least speed is greater than the
+	 *                                  greatest
+	 */
+	public void setSpeed(double minSpeed, double maxSpeed) throws IllegalArgumentException {
+		if (minSpeed > maxSpeed) {
+			throw new IllegalArgumentException("The least speed must not be greater than the greatest");
+		}
+		this.minSpeed = minSpeed;
+		this.maxSpeed = maxSpeed;
+	}
+
+	/**
+	 * Set the lifetimes of emitted particles.
+	 *
+	 * @param minLife - the least lifetime, in seconds
+	 * @param maxLife - the greatest lifetime, in seconds
+	 * @throws IllegalArgumentException if the least lifetime is not positive or
+	 *                                  is greater than the greatest
+	 */
+	public void setLife(double minLife, double maxLife) throws IllegalArgumentException {
+		if (!(minLife > 0) || minLife > maxLife) {
+			throw new IllegalArgumentException("Lifetimes must be positive, and the least not greater than the greatest");
+		}
+		this.minLife = minLife;
+		this.maxLife = maxLife;
+	}
+
+	/**
+	 * Set the acceleration of every particle, such as gravity or wind.
+	 *
+	 * @param ax - the horizontal acceleration, in pixels per second squared
+	 * @param ay - the vertical acceleration, in pixels per second squared
+	 */
+	public void setAcceleration(double ax, double ay) {
+		this.ax = ax;
+		this.ay = ay;
+	}
+
+	/**
+	 * @return the ARGB color of emitted particles
+	 */
+	public int getColor() {
+		return this.argb;
+	}
+
+	/**
+	 * @param argb - the ARGB color of emitted particles
+	 */
+	public void setColor(int argb) {
+		this.argb = argb;
+	}
+
+	/**
+	 * @return the level particles are drawn at
+	 */
+	public RenderLevel getLevel() {
+		return this.level;
+	}
+
+	/**
+	 * @param level - the level particles are drawn at
+	 */
+	public void setLevel(RenderLevel level) {
+		this.level = level;
+	}
+
+	/**
+	 * Emit a burst of particles at once, as many as there is room for.
+	 *
+	 * @param amount - the amount of particles to emit
+	 * @return the amount of particles emitted
+	 */
+	public int burst(int amount) {
+		double ox = x();
+		double oy = y();
+		for (int i = 0; i < amount; i++) {
+			double theta = this.direction + (2 * this.rng.nextDouble() - 1) * this.spread;
+			double speed = this.minSpeed + this.rng.nextDouble() * (this.maxSpeed - this.minSpeed);
+			double life = this.minLife + this.rng.nextDouble() * (this.maxLife - this.minLife);
+			if (!this.particles.spawn(ox, oy, speed * Math.cos(theta), speed * Math.sin(theta), life, this.argb)) {
+				return i;
+			}
+		}
+		return amount;
+	}
+
+	/**
+	 * Emit and move particles for an amount of time.
+	 *
+	 * @param dt - the time passed, in seconds
+	 */
+	public void advance(double dt) {
+		this.particles.update(dt, this.ax, this.ay);
+		this.owed += this.rate * dt;
+		int amount = (int) this.owed;
+		this.owed -= amount;
+		burst(amount);
+	}
+
+	@Override
+	public void update(GameDriver driver) {
+		advance(1d / driver.settings.getTicksPerSecond());
+	}
+
+	@Override
+	public Access access() {
+		// Emitting from a parent reads its position
+		List<Object> reads = (this.parent == null) ? Collections.emptyList()
+				: Collections.singletonList(AbstractGameObject.class);
+		return new Access(reads, Collections.singletonList(this.particles));
+	}
+
+	@Override
+	public void stage(GameDriver driver, AbstractRenderer renderer) {
+		if (this.particles.getCount() == 0) {
+			return;
+		}
+		// Only the views which can see a particle draw them
+		int views = renderer.visibleViews(this.particles.boundsX(), this.particles.boundsY(),
+				this.particles.boundsWidth(), this.particles.boundsHeight());
+		if (views != 0) {
+			int previous = renderer.getStagingViews();
+			renderer.setStagingViews(views);
+			renderer.stage(this.particles.asRequest(this.level, 0, 0));
+			renderer.setStagingViews(previous);
+		}
+	}
+
+	@Override
+	public void alloc(GL2 gl) {
+		this.particles.alloc(gl);
+	}
+
+	@Override
+	public void refresh(GL2 gl) {
+		this.particles.refresh(gl);
+	}
+
+	@Override
+	public void dispose(GL2 gl) {
+		this.particles.dispose(gl);
+	}
+
+}
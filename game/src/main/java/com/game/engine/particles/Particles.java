@@ -0,0 +1,483 @@
+package com.game.engine.particles;
+
+import java.nio.FloatBuffer;
+import java.nio.IntBuffer;
+import java.util.stream.IntStream;
+
+import com.game.engine.graphics.common.Drawable;
+import com.game.engine.graphics.common.RenderRequest;
+import com.game.engine.graphics.request.ParticlesRequest;
+import com.game.engine.rendering.common.RenderLevel;
+import com.game.engine.rendering.cpu.CPUProcessor;
+import com.game.engine.rendering.opengl.JOGLProcessor;
+import com.jogamp.common.nio.Buffers;
+import com.jogamp.opengl.GL2;
+
+/**
+ * A pool of particles, such as sparks or smoke, drawn together by one request.
+ * Particles are square points with a position, velocity, age, lifetime and
+ * color, and are stored as parallel arrays of primitives, so updating them is
+ * a few tight loops over arrays rather than an object per particle. Particles
+ * are positioned in the plane, relative to where they are drawn, and expire
+ * when their age reaches their lifetime, fading out as they age if asked.
+ * <br>
+ * <br>
+ * Live particles are kept packed at the front of the arrays, so an expired
+ * particle is replaced by the last live particle. On OpenGL the particles are
+ * streamed each frame into one vertex buffer object and drawn as points with a
+ * single draw call.
+ *
+ * @author Spencer Imbleau
+ * @version October 2026
+ * @see ParticleEmitter
+ */
+public class Particles implements Drawable {
+
+	/**
+	 * The least amount of particles updated in parallel. Fewer particles are
+	 * quicker to update on one thread.
+	 */
+	public static final int PARALLEL_THRESHOLD = 1 << 14;
+
+	/**
+	 * The x co-ordinates of the particles.
+	 */
+	private final float[] x;
+
+	/**
+	 * The y co-ordinates of the particles.
+	 */
+	private final float[] y;
+
+	/**
+	 * The horizontal velocities of the particles, in pixels per second.
+	 */
+	private final float[] vx;
+
+	/**
+	 * The vertical velocities of the particles, in pixels per second.
+	 */
+	private final float[] vy;
+
+	/**
+	 * The ages of the particles, in seconds.
+	 */
+	private final float[] age;
+
+	/**
+	 * The lifetimes of the particles, in seconds.
+	 */
+	private final float[] life;
+
+	/**
+	 * The ARGB colors of the particles.
+	 */
+	private final int[] argb;
+
+	/**
+	 * The amount of live particles.
+	 */
+	private int count = 0;
+
+	/**
+	 * The width and height of each particle.
+	 */
+	private double size;
+
+	/**
+	 * Whether particles fade out as they age.
+	 */
+	private boolean fading;
+
+	/**
+	 * The box bounding the live particles, as of the last update.
+	 */
+	private double minX, minY, maxX, maxY;
+
+	/**
+	 * The vertex buffer object ID for OpenGL.
+	 */
+	private int vboId = 0;
+
+	/**
+	 * The positions streamed to OpenGL.
+	 */
+	private FloatBuffer positions = null;
+
+	/**
+	 * The colors streamed to OpenGL, as ABGR so they are RGBA bytes in memory.
+	 */
+	private IntBuffer colors = null;
+
+	/**
+	 * Initialize an empty pool of particles.
+	 *
+	 * @param capacity - the most particles alive at once
+	 * @param size     - the width and height of each particle
+	 * @throws IllegalArgumentException capacity must be positive
+	 */
+	public Particles(int capacity, double size) throws IllegalArgumentException {
+		if (capacity <= 0) {
+			throw new IllegalArgumentException("Capacity must be positive");
+		}
+		this.x = new float[capacity];
+		this.y = new float[capacity];
+		this.vx = new float[capacity];
+		this.vy = new float[capacity];
+		this.age = new float[capacity];
+		this.life = new float[capacity];
+		this.argb = new int[capacity];
+		this.size = size;
+		this.fading = true;
+		resetBounds();
+	}
+
+	/**
+	 * @return the most particles alive at once
+	 */
+	public int getCapacity() {
+		return this.x.length;
+	}
+
+	/**
+	 * @return the amount of live particles
+	 */
+	public int getCount() {
+		return this.count;
+	}
+
+	/**
+	 * @return the width and height of each particle
+	 */
+	public double getSize() {
+		return this.size;
+	}
+
+	/**
+	 * @param size - the width and height of each particle
+	 */
+	public void setSize(double size) {
+		this.size = size;
+	}
+
+	/**
+	 * @return true if particles fade out as they age, false otherwise
+	 */
+	public boolean isFading() {
+		return this.fading;
+	}
+
+	/**
+	 * @param fading - true to fade particles out as they age, false otherwise
+	 */
+	public void setFading(boolean fading) {
+		this.fading = fading;
+	}
+
+	/**
+	 * Spawn a particle, unless the pool is full.
+	 *
+	 * @param x    - the x co-ordinate of the particle
+	 * @param y    - the y co-ordinate of the particle
+	 * @param vx   - the horizontal velocity, in pixels per second
+	 * @param vy   - the vertical velocity, in pixels per second
+	 * @param life - the lifetime, in seconds
+	 * @param argb - the ARGB color of the particle
+	 * @return true if the particle was spawned, false if the pool is full
+	 */
+	public boolean spawn(double x, double y, double vx, double vy, double life, int argb) {
+		if (this.count == this.x.length) {
+			return false;
+		}
+		int i = this.count++;
+		this.x[i] = (float) x;
+		this.y[i] = (float) y;
+		this.vx[i] = (float) vx;
+		this.vy[i] = (float) vy;
+		this.age[i] = 0;
+		this.life[i] = (float) life;
+		this.argb[i] = argb;
+		includeInBounds(i);
+		return true;
+	}
+
+	/**
+	 * Remove every particle.
+	 */
+	public void clear() {
+		this.count = 0;
+		resetBounds();
+	}
+
+	/**
+	 * Move and age every particle, then remove the expired particles. Large pools
+	 * are moved in parallel on the common pool, which a
+	 * {@link com.game.engine.game.TickScheduler} also runs on by default. Within
+	 * a tick the blocks of particles share the pool's workers with the tick's
+	 * other work, and the calling worker helps move them rather than waiting.
+	 *
+	 * @param dt - the time passed, in seconds
+	 * @param ax - the horizontal acceleration of every particle, such as wind
+	 * @param ay - the vertical acceleration of every particle, such as gravity
+	 */
+	public void update(double dt, double ax, double ay) {
+		final float t = (float) dt;
+		final float dvx = (float) (ax * dt);
+		final float dvy = (float) (ay * dt);
+		final int n = this.count;
+		if (n >= PARALLEL_THRESHOLD) {
+			int blocks = (n + PARALLEL_THRESHOLD - 1) / PARALLEL_THRESHOLD;
+			IntStream.range(0, blocks).parallel().forEach(
+					b -> integrate(b * PARALLEL_THRESHOLD, Math.min(n, (b + 1) * PARALLEL_THRESHOLD), t, dvx, dvy));
+		} else {
+			integrate(0, n, t, dvx, dvy);
+		}
+		compact();
+	}
+
+	/**
+	 * Helper method to move and age a range of particles. Each array is visited
+	 * in order with no branches, so the loops may be vectorized.
+	 *
+	 * @param from - the first particle
+	 * @param to   - the particle after the last
+	 * @param dt   - the time passed, in seconds
+	 * @param dvx  - the change in horizontal velocity
+	 * @param dvy  - the change in vertical velocity
+	 */
+	private void integrate(int from, int to, float dt, float dvx, float dvy) {
+		for (int i = from; i < to; i++) {
+			this.vx[i] += dvx;
+			this.x[i] += this.vx[i] * dt;
+		}
+		for (int i = from; i < to; i++) {
+			this.vy[i] += dvy;
+			this.y[i] += this.vy[i] * dt;
+		}
+		for (int i = from; i < to; i++) {
+			this.age[i] += dt;
+		}
+	}
+
+	/**
+	 * Helper method to replace expired particles with the last live particles,
+	 * and bound the particles which remain.
+	 */
+	private void compact() {
+		resetBounds();
+		int i = 0;
+		while (i < this.count) {
+			if (this.age[i] >= this.life[i]) {
+				int last = --this.count;
+				this.x[i] = this.x[last];
+				this.y[i] = this.y[last];
+				this.vx[i] = this.vx[last];
+				this.vy[i] = this.vy[last];
+				this.age[i] = this.age[last];
+				this.life[i] = this.life[last];
+				this.argb[i] = this.argb[last];
+			} else {
+				includeInBounds(i);
+				i++;
+			}
+		}
+	}
+
+	/**
+	 * Helper method to empty the bounds.
+	 */
+	private void resetBounds() {
+		this.minX = this.minY = Double.POSITIVE_INFINITY;
+		this.maxX = this.maxY = Double.NEGATIVE_INFINITY;
+	}
+
+	/**
+	 * Helper method to grow the bounds to include a particle.
+	 *
+	 * @param i - a live particle
+	 */
+	private void includeInBounds(int i) {
+		double half = this.size / 2;
+		this.minX = Math.min(this.minX, this.x[i] - half);
+		this.minY = Math.min(this.minY, this.y[i] - half);
+		this.maxX = Math.max(this.maxX, this.x[i] + half);
+		this.maxY = Math.max(this.maxY, this.y[i] + half);
+	}
+
+	/**
+	 * @return the x co-ordinate of the box bounding the live particles, as of the
+	 *         last update
+	 */
+	public double boundsX() {
+		return (this.count == 0) ? 0 : this.minX;
+	}
+
+	/**
+	 * @return the y co-ordinate of the box bounding the live particles
+	 * @see #boundsX()
+	 */
+	public double boundsY() {
+		return (this.count == 0) ? 0 : this.minY;
+	}
+
+	/**
+	 * @return the width of the box bounding the live particles
+	 * @see #boundsX()
+	 */
+	public double boundsWidth() {
+		return (this.count == 0) ? 0 : this.maxX - this.minX;
+	}
+
+	/**
+	 * @return the height of the box bounding the live particles
+	 * @see #boundsX()
+	 */
+	public double boundsHeight() {
+		return (this.count == 0) ? 0 : this.maxY - this.minY;
+	}
+
+	/**
+	 * @return the furthest y co-ordinate the particles cover, as of the last
+	 *         update
+	 */
+	public int getHeight() {
+		return (this.count == 0) ? 0 : (int) Math.ceil(this.maxY);
+	}
+
+	/**
+	 * Helper method to compute the color a particle is drawn with.
+	 *
+	 * @param i - a live particle
+	 * @return the ARGB color of the particle, faded by its age if fading
+	 */
+	private int colorOf(int i) {
+		int color = this.argb[i];
+		if (!this.fading) {
+			return color;
+		}
+		int remaining = (int) (0xff * (1 - this.age[i] / this.life[i]));
+		int a = ((color >>> 24) * Math.max(0, Math.min(0xff, remaining)) + 127) / 255;
+		return a << 24 | (color & 0x00ffffff);
+	}
+
+	@Override
+	public void alloc(GL2 gl) {
+		if (this.vboId == 0) {
+			int[] ids = new int[1];
+			gl.glGenBuffers(1, ids, 0);
+			this.vboId = ids[0];
+		}
+	}
+
+	@Override
+	public void flagGLRefresh() {
+		// Particles are streamed every frame
+	}
+
+	@Override
+	public boolean needsGLRefresh() {
+		return false;
+	}
+
+	@Override
+	public void refresh(GL2 gl) {
+		// Particles are streamed every frame
+	}
+
+	@Override
+	public void dispose(GL2 gl) {
+		if (this.vboId != 0) {
+			int[] ids = { this.vboId };
+			gl.glDeleteBuffers(ids.length, ids, 0);
+			this.vboId = 0;
+		}
+	}
+
+	@Override
+	public void draw(CPUProcessor processor, int x, int y, double sx, double sy) {
+		int height = processor.getImage().getHeight();
+		int sw = Math.max(1, (int) Math.round(this.size * sx));
+		int sh = Math.max(1, (int) Math.round(this.size * sy));
+		for (int i = 0; i < this.count; i++) {
+			int color = colorOf(i);
+			if ((color >>> 24) == 0) {
+				continue;
+			}
+			int px = (int) Math.floor(x + this.x[i] * sx - sw / 2d);
+			int py = (int) Math.floor(y + this.y[i] * sy - sh / 2d);
+			if (sw == 1 && sh == 1) {
+				// Most particles are a pixel
+				processor.setPixel(px, py, color);
+			} else {
+				for (int row = Math.max(0, py); row < Math.min(height, py + sh); row++) {
+					processor.fillRow(px, px + sw, row, color);
+				}
+			}
+		}
+	}
+
+	@Override
+	public void draw(JOGLProcessor processor, GL2 gl, double x, double y, double sx, double sy) {
+		if (this.count == 0) {
+			return;
+		}
+		if (this.vboId == 0) {
+			alloc(gl);
+		}
+		if (this.positions == null) {
+			this.positions = Buffers.newDirectFloatBuffer(2 * this.x.length);
+			this.colors = Buffers.newDirectIntBuffer(this.x.length);
+		}
+
+		// Pack the live particles
+		this.positions.clear();
+		this.colors.clear();
+		for (int i = 0; i < this.count; i++) {
+			int color = colorOf(i);
+			this.positions.put(this.x[i]).put(this.y[i]);
+			this.colors.put((color & 0xff00ff00) | (color >> 16 & 0xff) | (color & 0xff) << 16);
+		}
+		this.positions.flip();
+		this.colors.flip();
+
+		// Stream them into the buffer, positions first and colors after
+		long positionBytes = (long) this.count * 2 * Buffers.SIZEOF_FLOAT;
+		long colorBytes = (long) this.count * Buffers.SIZEOF_INT;
+		gl.glBindBuffer(GL2.GL_ARRAY_BUFFER, this.vboId);
+		gl.glBufferData(GL2.GL_ARRAY_BUFFER, positionBytes + colorBytes, null, GL2.GL_STREAM_DRAW);
+		gl.glBufferSubData(GL2.GL_ARRAY_BUFFER, 0, positionBytes, this.positions);
+		gl.glBufferSubData(GL2.GL_ARRAY_BUFFER, positionBytes, colorBytes, this.colors);
+
+		// Blend translucent particles
+		processor.blend(gl, false);
+		gl.glPointSize((float) Math.max(1, this.size * Math.max(sx, sy)));
+
+		// Draw every particle at once, transformed to the screen
+		gl.glPushMatrix();
+		gl.glTranslated(x, y, 0);
+		gl.glScaled(sx, sy, 1);
+		gl.glEnableClientState(GL2.GL_VERTEX_ARRAY);
+		gl.glEnableClientState(GL2.GL_COLOR_ARRAY);
+		gl.glVertexPointer(2, GL2.GL_FLOAT, 0, 0);
+		gl.glColorPointer(4, GL2.GL_UNSIGNED_BYTE, 0, positionBytes);
+		gl.glDrawArrays(GL2.GL_POINTS, 0, this.count);
+		gl.glDisableClientState(GL2.GL_COLOR_ARRAY);
+		gl.glDisableClientState(GL2.GL_VERTEX_ARRAY);
+		gl.glPopMatrix();
+		gl.glBindBuffer(GL2.GL_ARRAY_BUFFER, 0);
+
+		gl.glPointSize(1);
+		gl.glDisable(GL2.GL_BLEND);
+	}
+
+	@Override
+	public RenderRequest asRequest(RenderLevel level, int x, int y) {
+		return new ParticlesRequest(this, level, x, y);
+	}
+
+	@Override
+	public RenderRequest asRequest(RenderLevel level, int depth, int x, int y) {
+		return new ParticlesRequest(this, level, depth, x, y);
+	}
+
+}
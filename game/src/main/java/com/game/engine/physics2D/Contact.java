@@ -0,0 +1,75 @@
+package com.game.engine.physics2D;
+
+import com.game.engine.physics2D.common.Collidable;
+
+/**
+ * A touching pair of collidables of two bodies, found in a step of a
+ * {@link PhysicsWorld}.
+ *
+ * @author Spencer Imbleau
+ * @version October 2026
+ */
+class Contact {
+
+	/**
+	 * The first body.
+	 */
+	final PhysicsComponent a;
+
+	/**
+	 * The collidable of the first body.
+	 */
+	final Collidable ca;
+
+	/**
+	 * The second body.
+	 */
+	final PhysicsComponent b;
+
+	/**
+	 * The collidable of the second body.
+	 */
+	final Collidable cb;
+
+	/**
+	 * The collision reported to the first body, once solved.
+	 */
+	Collision ab;
+
+	/**
+	 * The collision reported to the second body, once solved.
+	 */
+	Collision ba;
+
+	/**
+	 * Initialize a contact.
+	 *
+	 * @param a  - the first body
+	 * @param ca - the collidable of the first body
+	 * @param b  - the second body
+	 * @param cb - the collidable of the second body
+	 */
+	Contact(PhysicsComponent a, Collidable ca, PhysicsComponent b, Collidable cb) {
+		this.a = a;
+		this.ca = ca;
+		this.b = b;
+		this.cb = cb;
+	}
+
+	/**
+	 * Find the collision reported to each body.
+	 */
+	void solve() {
+		this.ab = this.ca.getCollision(this.cb);
+		this.ba = this.cb.getCollision(this.ca);
+	}
+
+	/**
+	 * Report the collisions to the responders of each body.
+	 */
+	void respond() {
+		this.a.responders.forEach(responder -> responder.accept(this.ab));
+		this.b.responders.forEach(responder -> responder.accept(this.ba));
+	}
+
+}
@@ -0,0 +1,43 @@
+package com.game.engine.physics2D;
+
+/**
+ * The earliest contact of a shape swept along a displacement with another
+ * shape.
+ *
+ * @author Spencer Imbleau
+ * @version October 2026
+ * @see Sweep
+ */
+public class Impact {
+
+	/**
+	 * The fraction of the displacement, from 0 to 1, swept before contact.
+	 */
+	public final double time;
+
+	/**
+	 * The x component of the unit normal of the surface hit, pointing away from
+	 * it.
+	 */
+	public final double normalX;
+
+	/**
+	 * The y component of the unit normal of the surface hit, pointing away from
+	 * it.
+	 */
+	public final double normalY;
+
+	/**
+	 * Create an impact.
+	 *
+	 * @param time    - the fraction of the displacement swept before contact
+	 * @param normalX - the x component of the normal of the surface hit
+	 * @param normalY - the y component of the normal of the surface hit
+	 */
+	public Impact(double time, double normalX, double normalY) {
+		this.time = time;
+		this.normalX = normalX;
+		this.normalY = normalY;
+	}
+
+}
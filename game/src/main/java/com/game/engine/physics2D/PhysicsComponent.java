@@ -10,6 +10,14 @@ import com.game.engine.game.AbstractGameObject;
 import com.game.engine.physics2D.common.Collidable;
 import com.game.engine.rendering.common.AbstractRenderer;
 
+/**
+ * The physical body of a game object. Each tick, a body measures how far its
+ * object moved, and once it has moved slower than the sleep speed of its
+ * plane's {@link PhysicsWorld} for long enough, along with every body touching
+ * it, it falls asleep. Sleeping bodies cost nothing until they are woken by a
+ * moving object, a contact with an awake body, or a call to {@link #wake()}.
+ * Contacts are found and reported by the plane's {@link PhysicsWorld}.
+ */
 public class PhysicsComponent extends AbstractComponent {
 
 	public final AbstractGameObject parent;
@@ -18,42 +26,94 @@ public class PhysicsComponent extends AbstractComponent {
 
 	public final List<Consumer<Collision>> responders;
 
+	/**
+	 * Whether this body is awake.
+	 */
+	private boolean awake = true;
+
+	/**
+	 * The seconds this body has moved slower than the sleep speed.
+	 */
+	private double restTime = 0;
+
+	/**
+	 * The position of the parent when last tracked, or NaN if never tracked.
+	 */
+	private double lastX = Double.NaN;
+
+	/**
+	 * The position of the parent when last tracked, or NaN if never tracked.
+	 */
+	private double lastY = Double.NaN;
+
+	/**
+	 * The index of this body in the current step of its world.
+	 */
+	int slot;
+
 	public PhysicsComponent(AbstractGameObject parent) {
 		this.parent = parent;
 		this.collidables = new ArrayList<>();
 		this.responders = new ArrayList<>();
 	}
 
-	@Override
-	public void update(GameDriver driver) {
-		// TODO : Limit the area we test collision against with a quad tree
-		// For now, loop through all objects in the plane
-		for (AbstractGameObject obj : driver.game.getPlane().objects()) {
-			if (obj == this.parent) {
-				// Skip if we're looking at ourself
-				continue;
-			}
-			// Check if object has physics
-			if (obj.hasPhysics()) {
-				// Get physics of foreign object
-				PhysicsComponent objPhysics = obj.getPhysics();
-				// Test all of our collidables against their collidables
-				for (Collidable objCollidable : objPhysics.collidables) {
-					for (Collidable collidable : this.collidables) {
-						if (collidable.collides(objCollidable)) {
-							// Collision occurred
-							// Get collision events
-							Collision collision = collidable.getCollision(objCollidable);
-							Collision collision2 = objCollidable.getCollision(collidable);
-
-							// Handle collision for foreign object
-							this.responders.forEach(responder -> responder.accept(collision));
-							objPhysics.responders.forEach(responder -> responder.accept(collision2));
-						}
-					}
-				}
+	/**
+	 * @return true if this body is awake, false if it is sleeping
+	 */
+	public boolean isAwake() {
+		return this.awake;
+	}
+
+	/**
+	 * Wake this body, such as when its object is given a new speed, so it rests
+	 * for the full sleep time before it may sleep again.
+	 */
+	public void wake() {
+		this.awake = true;
+		this.restTime = 0;
+	}
+
+	/**
+	 * Put this body to sleep.
+	 */
+	void sleep() {
+		this.awake = false;
+	}
+
+	/**
+	 * @return the seconds this body has moved slower than the sleep speed
+	 */
+	public double getRestTime() {
+		return this.restTime;
+	}
+
+	/**
+	 * Measure how far the parent moved since last tracked, waking this body if it
+	 * moved faster than the sleep speed.
+	 *
+	 * @param dt         - the seconds since last tracked
+	 * @param sleepSpeed - the speed, in pixels per second, below which a body
+	 *                   rests
+	 */
+	void track(double dt, double sleepSpeed) {
+		double x = this.parent.position.x();
+		double y = this.parent.position.y();
+		if (!Double.isNaN(this.lastX)) {
+			double distance = Math.hypot(x - this.lastX, y - this.lastY);
+			if (distance > sleepSpeed * dt) {
+				wake();
+			} else if (this.awake) {
+				this.restTime += dt;
 			}
 		}
+		this.lastX = x;
+		this.lastY = y;
+	}
+
+	@Override
+	public void update(GameDriver driver) {
+		PhysicsWorld world = driver.game.getPlane().physics;
+		track(1d / driver.settings.getTicksPerSecond(), world.getSleepSpeed());
 	}
 
 	@Override
@@ -0,0 +1,354 @@
+package com.game.engine.physics2D;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import com.game.engine.game.AbstractGameObject;
+import com.game.engine.game.Position2D;
+import com.game.engine.physics2D.common.Collidable;
+
+/**
+ * The bodies of a plane, stepped together each tick. Only awake bodies are
+ * tested for contacts, against every other body, so a world of resting props
+ * costs little. Bodies joined by contacts form an island: a sleeping body
+ * touched by an awake body wakes and joins its island, and an island falls
+ * asleep together once every body in it has rested for the sleep time.
+ * <br>
+ * <br>
+ * Islands share no bodies, so the collisions of each island are found
+ * independently, in parallel when there are many. Responders are then called
+ * island by island on the stepping thread, as they may move objects.
+ * <br>
+ * <br>
+ * Moving objects are swept through bodies with {@link #sweep}, so they stop at
+ * the first impact of a tick however far they move in it. A pair of bodies is
+ * reported at most once between steps, so the contact a sweep stops at isn't
+ * reported again by the next step.
+ *
+ * @author Spencer Imbleau
+ * @version October 2026
+ * @see PhysicsComponent
+ */
+public class PhysicsWorld {
+
+	/**
+	 * The least amount of contacts solved in parallel.
+	 */
+	public static final int PARALLEL_THRESHOLD = 256;
+
+	/**
+	 * The most impacts resolved in one sweep, after which remaining motion is
+	 * dropped.
+	 */
+	public static final int MAX_IMPACTS = 4;
+
+	/**
+	 * The speed, in pixels per second, below which a body rests.
+	 */
+	private double sleepSpeed = 2;
+
+	/**
+	 * The seconds every body of an island must rest before it sleeps.
+	 */
+	private double sleepTime = 0.5;
+
+	/**
+	 * The amount of islands with contacts in the last step.
+	 */
+	private int islandCount = 0;
+
+	/**
+	 * The bodies each body was reported hitting by sweeps since the last step.
+	 */
+	private final Map<PhysicsComponent, Set<PhysicsComponent>> impacts = new HashMap<>();
+
+	/**
+	 * @return the speed, in pixels per second, below which a body rests
+	 */
+	public double getSleepSpeed() {
+		return this.sleepSpeed;
+	}
+
+	/**
+	 * Set the speed below which a body rests.
+	 *
+	 * @param sleepSpeed - a speed, in pixels per second
+	 * @throws IllegalArgumentException if the speed is negative
+	 */
+	public void setSleepSpeed(double sleepSpeed) throws IllegalArgumentException {
+		if (sleepSpeed < 0) {
+			throw new IllegalArgumentException("The sleep speed can not be negative");
+		}
+		this.sleepSpeed = sleepSpeed;
+	}
+
+	/**
+	 * @return the seconds every body of an island must rest before it sleeps
+	 */
+	public double getSleepTime() {
+		return this.sleepTime;
+	}
+
+	/**
+	 * Set the seconds every body of an island must rest before it sleeps.
+	 *
+	 * @param sleepTime - a time, in seconds, or infinity to never sleep
+	 * @throws IllegalArgumentException if the time is negative
+	 */
+	public void setSleepTime(double sleepTime) throws IllegalArgumentException {
+		if (sleepTime < 0) {
+			throw new IllegalArgumentException("The sleep time can not be negative");
+		}
+		this.sleepTime = sleepTime;
+	}
+
+	/**
+	 * @return the amount of islands with contacts in the last step
+	 */
+	public int getIslandCount() {
+		return this.islandCount;
+	}
+
+	/**
+	 * Step the bodies of a plane's objects, reporting contacts to responders and
+	 * putting resting islands to sleep. Bodies should be tracked by their
+	 * {@link PhysicsComponent#update(com.game.engine.driver.GameDriver)} first.
+	 *
+	 * @param objects - the objects of a plane
+	 */
+	public void step(Iterable<AbstractGameObject> objects) {
+		List<PhysicsComponent> bodies = new ArrayList<>();
+		for (AbstractGameObject obj : objects) {
+			if (obj.hasPhysics()) {
+				PhysicsComponent body = obj.getPhysics();
+				body.slot = bodies.size();
+				bodies.add(body);
+			}
+		}
+		int size = bodies.size();
+
+		// Test awake bodies against every body, testing each awake pair once. Bodies
+		// woken by a contact are tested after the bodies awake before them
+		int[] roots = new int[size];
+		int[] queue = new int[size];
+		int queued = 0;
+		for (int i = 0; i < size; i++) {
+			roots[i] = i;
+			if (bodies.get(i).isAwake()) {
+				queue[queued++] = i;
+			}
+		}
+		boolean[] tested = new boolean[size];
+		List<Contact> contacts = new ArrayList<>();
+		for (int q = 0; q < queued; q++) {
+			int i = queue[q];
+			PhysicsComponent body = bodies.get(i);
+			for (int j = 0; j < size; j++) {
+				PhysicsComponent other = bodies.get(j);
+				if (j == i || tested[j]) {
+					continue;
+				}
+				boolean touching = false;
+				for (Collidable collidable : body.collidables) {
+					for (Collidable otherCollidable : other.collidables) {
+						if (collidable.collides(otherCollidable)) {
+							contacts.add(new Contact(body, collidable, other, otherCollidable));
+							touching = true;
+						}
+					}
+				}
+				if (touching) {
+					if (!other.isAwake()) {
+						// Wake on contact, testing the body against the others later
+						other.wake();
+						queue[queued++] = j;
+					}
+					union(roots, i, j);
+				}
+			}
+			tested[i] = true;
+		}
+
+		// Group contacts into islands
+		List<List<Contact>> islands = new ArrayList<>();
+		int[] islandOf = new int[size];
+		for (Contact contact : contacts) {
+			int root = find(roots, contact.a.slot);
+			if (islandOf[root] == 0) {
+				islands.add(new ArrayList<>());
+				islandOf[root] = islands.size();
+			}
+			islands.get(islandOf[root] - 1).add(contact);
+		}
+		this.islandCount = islands.size();
+
+		// Solve islands independently, then respond on this thread
+		if (contacts.size() >= PARALLEL_THRESHOLD && islands.size() > 1) {
+			IntStream.range(0, islands.size()).parallel().forEach(island -> solve(islands.get(island)));
+		} else {
+			islands.forEach(PhysicsWorld::solve);
+		}
+		for (List<Contact> island : islands) {
+			for (Contact contact : island) {
+				if (!this.impacts.getOrDefault(contact.a, Collections.emptySet()).contains(contact.b)) {
+					contact.respond();
+				}
+			}
+		}
+		this.impacts.clear();
+
+		// Put islands to sleep once all of their bodies have rested
+		double[] leastRest = new double[size];
+		boolean[] awake = new boolean[size];
+		for (int i = 0; i < size; i++) {
+			leastRest[i] = Double.POSITIVE_INFINITY;
+		}
+		for (int i = 0; i < size; i++) {
+			PhysicsComponent body = bodies.get(i);
+			int root = find(roots, i);
+			awake[root] |= body.isAwake();
+			leastRest[root] = Math.min(leastRest[root], body.getRestTime());
+		}
+		for (int i = 0; i < size; i++) {
+			PhysicsComponent body = bodies.get(i);
+			int root = find(roots, i);
+			if (awake[root] && leastRest[root] >= this.sleepTime) {
+				body.sleep();
+			}
+		}
+	}
+
+	/**
+	 * Sweep a body's object along a displacement through the bodies of other
+	 * objects, stopping at the earliest impact and sliding along the surface hit
+	 * for the rest of the displacement. Each impact wakes the body hit and is
+	 * reported to the responders of both bodies, unless the pair was already
+	 * reported since the last step. Bodies are swept as the bounds
+	 * of their objects, so fast objects can't pass through thin ones within a
+	 * tick.
+	 *
+	 * @param mover     - an object with physics
+	 * @param dx        - the displacement on the x-axis
+	 * @param dy        - the displacement on the y-axis
+	 * @param obstacles - the objects which may be hit, which are ignored without
+	 *                  physics
+	 * @return the position the object's motion is resolved to
+	 */
+	public Position2D sweep(AbstractGameObject mover, double dx, double dy, Iterable<AbstractGameObject> obstacles) {
+		double x = mover.position.x();
+		double y = mover.position.y();
+		int w = mover.width();
+		int h = mover.height();
+		for (int impacts = 0; impacts < MAX_IMPACTS && (dx != 0 || dy != 0); impacts++) {
+			// Only test objects within the bounds of the sweep
+			double left = Math.min(x, x + dx);
+			double top = Math.min(y, y + dy);
+			double right = Math.max(x, x + dx) + w;
+			double bottom = Math.max(y, y + dy) + h;
+
+			Impact earliest = null;
+			AbstractGameObject hit = null;
+			for (AbstractGameObject obj : obstacles) {
+				if (obj == mover || !obj.hasPhysics()) {
+					continue;
+				}
+				double ox = obj.position.x();
+				double oy = obj.position.y();
+				if (ox > right || oy > bottom || ox + obj.width() < left || oy + obj.height() < top) {
+					continue;
+				}
+				Impact impact = Sweep.boxes(x, y, w, h, dx, dy, ox, oy, obj.width(), obj.height());
+				if (impact != null && (earliest == null || impact.time < earliest.time)) {
+					earliest = impact;
+					hit = obj;
+				}
+			}
+			if (earliest == null) {
+				x += dx;
+				y += dy;
+				break;
+			}
+
+			// Stop at the impact, then slide along the surface for the rest
+			x += dx * earliest.time;
+			y += dy * earliest.time;
+			double restX = dx * (1 - earliest.time);
+			double restY = dy * (1 - earliest.time);
+			double into = restX * earliest.normalX + restY * earliest.normalY;
+			dx = restX - into * earliest.normalX;
+			dy = restY - into * earliest.normalY;
+
+			double force = Math.abs(into);
+			Collision moverCollision = new Collision(hit, Math.atan2(earliest.normalY, earliest.normalX), force);
+			Collision hitCollision = new Collision(mover, Math.atan2(-earliest.normalY, -earliest.normalX), force);
+			PhysicsComponent hitBody = hit.getPhysics();
+			hitBody.wake();
+			if (!mover.hasPhysics()) {
+				hitBody.responders.forEach(responder -> responder.accept(hitCollision));
+			} else if (report(mover.getPhysics(), hitBody)) {
+				mover.getPhysics().responders.forEach(responder -> responder.accept(moverCollision));
+				hitBody.responders.forEach(responder -> responder.accept(hitCollision));
+			}
+		}
+		return new Position2D(x, y);
+	}
+
+	/**
+	 * Helper method to remember a pair of bodies was reported hitting each other
+	 * since the last step.
+	 *
+	 * @param a - a body
+	 * @param b - the body it hit
+	 * @return true if the pair wasn't reported yet, false otherwise
+	 */
+	private boolean report(PhysicsComponent a, PhysicsComponent b) {
+		if (!this.impacts.computeIfAbsent(a, body -> new HashSet<>()).add(b)) {
+			return false;
+		}
+		this.impacts.computeIfAbsent(b, body -> new HashSet<>()).add(a);
+		return true;
+	}
+
+	/**
+	 * Helper method to find the collisions of an island's contacts.
+	 *
+	 * @param island - the contacts of an island
+	 */
+	private static void solve(List<Contact> island) {
+		island.forEach(Contact::solve);
+	}
+
+	/**
+	 * Helper method to find the root of a body's island.
+	 *
+	 * @param roots - the parent of each body, or itself if a root
+	 * @param body  - the index of a body
+	 * @return the index of the root of the body's island
+	 */
+	private static int find(int[] roots, int body) {
+		while (roots[body] != body) {
+			// Halve the path on the way up
+			roots[body] = roots[roots[body]];
+			body = roots[body];
+		}
+		return body;
+	}
+
+	/**
+	 * Helper method to join the islands of two bodies.
+	 *
+	 * @param roots - the parent of each body, or itself if a root
+	 * @param a     - the index of a body
+	 * @param b     - the index of another body
+	 */
+	private static void union(int[] roots, int a, int b) {
+		roots[find(roots, a)] = find(roots, b);
+	}
+
+}
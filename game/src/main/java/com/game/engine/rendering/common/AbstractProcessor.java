@@ -58,11 +58,12 @@ public abstract class AbstractProcessor {
 	}
 
 	/**
-	 * Store a render request
+	 * Store a render request, drawn by the renderer's current staging views
 	 *
 	 * @param request - the request to store
 	 */
 	public void stage(RenderRequest request) {
+		request.views = this.renderer.getStagingViews();
 		this.requests.add(request);
 	}
 
@@ -2,6 +2,9 @@ package com.game.engine.rendering.common;
 
 import java.awt.Canvas;
 import java.awt.image.BufferedImage;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 
 import com.game.engine.camera.AbstractCamera;
 import com.game.engine.graphics.common.RenderRequest;
@@ -19,6 +22,25 @@ public abstract class AbstractRenderer {
 	 */
 	private AbstractCamera camera;
 
+	/**
+	 * The bit of the main camera in a request's views.
+	 *
+	 * @see RenderRequest#views
+	 */
+	public static final int MAIN_VIEW = 1;
+
+	/**
+	 * The additional views drawn after the main camera.
+	 */
+	private final List<RenderView> views;
+
+	/**
+	 * The views given to requests as they are staged.
+	 *
+	 * @see #setStagingViews(int)
+	 */
+	private int stagingViews;
+
 	/**
 	 * Whether a screenshot has been requested.
 	 */
@@ -38,6 +60,8 @@ public abstract class AbstractRenderer {
 	 */
 	public AbstractRenderer(AbstractCamera camera) {
 		this.camera = camera;
+		this.views = new ArrayList<>();
+		this.stagingViews = RenderRequest.ALL_VIEWS;
 	}
 
 	/**
@@ -108,6 +132,103 @@ public abstract class AbstractRenderer {
 		return this.camera;
 	}
 
+	/**
+	 * Add a view which draws what another camera sees into an area of the
+	 * screen, after the main camera has drawn.
+	 *
+	 * @param camera - the camera of the view, whose viewport is the size of the
+	 *               view
+	 * @param x      - the x co-ordinate on the screen where the view is drawn
+	 * @param y      - the y co-ordinate on the screen where the view is drawn
+	 * @return the view
+	 * @throws IllegalArgumentException if the camera is null, or the renderer has
+	 *                                  no more room for views
+	 */
+	public synchronized RenderView addView(AbstractCamera camera, int x, int y) throws IllegalArgumentException {
+		if (camera == null) {
+			throw new IllegalArgumentException("A view needs a camera");
+		}
+		// Find a bit no other view is using
+		int used = MAIN_VIEW;
+		for (RenderView view : this.views) {
+			used |= view.bit;
+		}
+		if (used == RenderRequest.ALL_VIEWS) {
+			throw new IllegalArgumentException("A renderer can draw at most " + (Integer.SIZE - 1) + " views");
+		}
+		RenderView view = new RenderView(camera, Integer.lowestOneBit(~used), x, y);
+		this.views.add(view);
+		return view;
+	}
+
+	/**
+	 * Remove a view.
+	 *
+	 * @param view - the view to remove
+	 */
+	public synchronized void removeView(RenderView view) {
+		this.views.remove(view);
+	}
+
+	/**
+	 * @return the additional views drawn after the main camera
+	 */
+	public synchronized List<RenderView> getViews() {
+		return Collections.unmodifiableList(new ArrayList<>(this.views));
+	}
+
+	/**
+	 * @return the main camera followed by the camera of each view
+	 */
+	public synchronized List<AbstractCamera> getCameras() {
+		List<AbstractCamera> cameras = new ArrayList<>(this.views.size() + 1);
+		cameras.add(this.camera);
+		for (RenderView view : this.views) {
+			cameras.add(view.camera);
+		}
+		return cameras;
+	}
+
+	/**
+	 * Returns the views which can see a box of the plane, to be set as the staging
+	 * views of the requests which draw it.
+	 *
+	 * @param x      - the x co-ordinate of a box
+	 * @param y      - the y co-ordinate of a box
+	 * @param width  - the width of a box
+	 * @param height - the height of a box
+	 * @return a bitmask of the views which can see the box, or 0 if none can
+	 * @see #setStagingViews(int)
+	 */
+	public synchronized int visibleViews(double x, double y, double width, double height) {
+		int visible = this.camera.viewport.canSee(x, y, width, height) ? MAIN_VIEW : 0;
+		for (RenderView view : this.views) {
+			if (view.camera.viewport.canSee(x, y, width, height)) {
+				visible |= view.bit;
+			}
+		}
+		return visible;
+	}
+
+	/**
+	 * @return the views given to requests as they are staged
+	 */
+	public int getStagingViews() {
+		return this.stagingViews;
+	}
+
+	/**
+	 * Set the views given to requests as they are staged, until the staging views
+	 * are set again. Objects set the views which can see them before staging,
+	 * then restore {@link RenderRequest#ALL_VIEWS}.
+	 *
+	 * @param views - a bitmask of views
+	 * @see #visibleViews(double, double, double, double)
+	 */
+	public void setStagingViews(int views) {
+		this.stagingViews = views;
+	}
+
 	/**
 	 * @return true if a screenshot has been requested, false otherwise
 	 */
@@ -68,4 +68,19 @@ public enum RenderLevel {
 	 */
 	VOID;
 
+	/**
+	 * @return true if this level is drawn on the screen rather than in the world,
+	 *         false otherwise
+	 */
+	public boolean isUI() {
+		switch (this) {
+		case UI_PLUGIN:
+		case UI_OVERLAY:
+		case UI:
+			return true;
+		default:
+			return false;
+		}
+	}
+
 }
@@ -0,0 +1,104 @@
+package com.game.engine.rendering.common;
+
+import com.game.engine.camera.AbstractCamera;
+import com.game.engine.graphics.common.RenderRequest;
+
+/**
+ * An additional view drawn by a renderer, such as a split-screen half, a
+ * minimap or a picture-in-picture. A view draws the world seen by its camera
+ * into the area of the screen at its position, the size of the camera's
+ * viewport. Views share the requests staged for a frame, and each view only
+ * draws the requests its camera can see. User interface requests are only
+ * drawn by the renderer's main camera.
+ *
+ * @author Spencer Imbleau
+ * @version October 2026
+ * @see AbstractRenderer#addView(AbstractCamera, int, int)
+ */
+public class RenderView {
+
+	/**
+	 * The camera of this view.
+	 */
+	public final AbstractCamera camera;
+
+	/**
+	 * The bit of this view in a request's views.
+	 *
+	 * @see RenderRequest#views
+	 */
+	protected final int bit;
+
+	/**
+	 * The x co-ordinate on the screen where this view is drawn.
+	 */
+	protected int x;
+
+	/**
+	 * The y co-ordinate on the screen where this view is drawn.
+	 */
+	protected int y;
+
+	/**
+	 * Initialize a render view.
+	 *
+	 * @param camera - the camera of this view
+	 * @param bit    - the bit of this view in a request's views
+	 * @param x      - the x co-ordinate on the screen where this view is drawn
+	 * @param y      - the y co-ordinate on the screen where this view is drawn
+	 */
+	protected RenderView(AbstractCamera camera, int bit, int x, int y) {
+		this.camera = camera;
+		this.bit = bit;
+		this.x = x;
+		this.y = y;
+	}
+
+	/**
+	 * @return the x co-ordinate on the screen where this view is drawn
+	 */
+	public int x() {
+		return this.x;
+	}
+
+	/**
+	 * @return the y co-ordinate on the screen where this view is drawn
+	 */
+	public int y() {
+		return this.y;
+	}
+
+	/**
+	 * @return the width of this view on the screen
+	 */
+	public int width() {
+		return this.camera.viewport.width();
+	}
+
+	/**
+	 * @return the height of this view on the screen
+	 */
+	public int height() {
+		return this.camera.viewport.height();
+	}
+
+	/**
+	 * Move this view on the screen.
+	 *
+	 * @param x - the x co-ordinate on the screen where this view is drawn
+	 * @param y - the y co-ordinate on the screen where this view is drawn
+	 */
+	public void moveTo(int x, int y) {
+		this.x = x;
+		this.y = y;
+	}
+
+	/**
+	 * @param request - a staged request
+	 * @return true if this view draws the request, false otherwise
+	 */
+	public boolean draws(RenderRequest request) {
+		return (request.views & this.bit) != 0 && !request.level.isUI();
+	}
+
+}
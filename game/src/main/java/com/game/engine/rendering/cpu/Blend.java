@@ -0,0 +1,310 @@
+package com.game.engine.rendering.cpu;
+
+import java.util.Arrays;
+
+/**
+ * Integer kernels which blend translucent ARGB colors onto opaque pixels. Each
+ * channel moves from the pixel's value toward the color's value by the color's
+ * alpha, truncated toward the pixel's value, and the result is opaque. The
+ * kernels use no floating point arithmetic, and the division by 255 is
+ * replaced by shifts, which are exact for every product of two channels.
+ * <br>
+ * <br>
+ * The span kernels blend whole rows, skipping transparent pixels and copying
+ * opaque pixels, so translucent overlays, particles and fog blend a row at a
+ * time rather than a pixel at a time.
+ * <br>
+ * <br>
+ * Premultiplied colors, whose channels are already multiplied by their alpha,
+ * blend with one multiply per channel: the pixel's channel is scaled by the
+ * color's transparency and the color's channel is added.
+ * <br>
+ * <br>
+ * The over kernels draw onto translucent pixels stored premultiplied, such as
+ * the pixels of a {@link java.awt.image.BufferedImage#TYPE_INT_ARGB_PRE}
+ * render target. Every channel of the pixel, alpha included, is scaled by the
+ * color's transparency and the premultiplied color is added, so the pixels
+ * accumulate the alpha of what is drawn onto them.
+ *
+ * @author Spencer Imbleau
+ * @version October 2026
+ * @see CPUProcessor#setPixel(int, int, int)
+ */
+public class Blend {
+
+	/**
+	 * Blend a color onto a pixel.
+	 *
+	 * @param pixel - the pixel being drawn onto
+	 * @param argb  - an ARGB color value (i.e. 0x8000ff00 = translucent green)
+	 * @return the blended pixel
+	 */
+	public static int blend(int pixel, int argb) {
+		int alpha = argb >>> 24;
+		if (alpha == 0x00) {
+			// 0x00 (0) is fully transparent
+			return pixel;
+		} else if (alpha == 0xff) {
+			// 0xff (255) is fully opaque
+			return argb;
+		}
+		return blend(pixel, argb, alpha);
+	}
+
+	/**
+	 * Blend a translucent color onto a pixel.
+	 *
+	 * @param pixel - the pixel being drawn onto
+	 * @param argb  - an ARGB color value
+	 * @param alpha - the alpha of the color, between 1 and 254
+	 * @return the blended opaque pixel
+	 */
+	private static int blend(int pixel, int argb, int alpha) {
+		int red = channel((pixel >> 16) & 0xff, (argb >> 16) & 0xff, alpha);
+		int green = channel((pixel >> 8) & 0xff, (argb >> 8) & 0xff, alpha);
+		int blue = channel(pixel & 0xff, argb & 0xff, alpha);
+		return 0xff000000 | red << 16 | green << 8 | blue;
+	}
+
+	/**
+	 * Blend a channel of a color onto a channel of a pixel.
+	 *
+	 * @param from  - the channel of the pixel
+	 * @param to    - the channel of the color
+	 * @param alpha - the alpha of the color, between 1 and 254
+	 * @return the blended channel
+	 */
+	private static int channel(int from, int to, int alpha) {
+		int product = (to - from) * alpha;
+		// Divide the magnitude by 255, then restore the sign, truncating toward 0
+		int sign = product >> 31;
+		int quotient = div255((product ^ sign) - sign);
+		return from + ((quotient ^ sign) - sign);
+	}
+
+	/**
+	 * Blend a premultiplied color onto a pixel.
+	 *
+	 * @param pixel - the pixel being drawn onto
+	 * @param argb  - a premultiplied ARGB color value
+	 * @return the blended pixel
+	 */
+	public static int blendPremultiplied(int pixel, int argb) {
+		int alpha = argb >>> 24;
+		if (alpha == 0x00) {
+			// Fully transparent, unless the color is additive
+			return (argb == 0) ? pixel : blendPremultiplied(pixel, argb, 0xff);
+		} else if (alpha == 0xff) {
+			return argb;
+		}
+		return blendPremultiplied(pixel, argb, 0xff - alpha);
+	}
+
+	/**
+	 * Blend a translucent premultiplied color onto a pixel.
+	 *
+	 * @param pixel        - the pixel being drawn onto
+	 * @param argb         - a premultiplied ARGB color value
+	 * @param transparency - 255 minus the alpha of the color
+	 * @return the blended opaque pixel
+	 */
+	private static int blendPremultiplied(int pixel, int argb, int transparency) {
+		int red = Math.min(0xff, div255(((pixel >> 16) & 0xff) * transparency) + ((argb >> 16) & 0xff));
+		int green = Math.min(0xff, div255(((pixel >> 8) & 0xff) * transparency) + ((argb >> 8) & 0xff));
+		int blue = Math.min(0xff, div255((pixel & 0xff) * transparency) + (argb & 0xff));
+		return 0xff000000 | red << 16 | green << 8 | blue;
+	}
+
+	/**
+	 * Divide a product of two channels by 255, rounding down.
+	 *
+	 * @param product - a product of two channels, between 0 and 65534
+	 * @return the quotient
+	 */
+	private static int div255(int product) {
+		return (product + 1 + (product >> 8)) >> 8;
+	}
+
+	/**
+	 * Premultiply a color by its alpha, rounding to the nearest value.
+	 *
+	 * @param argb - a straight ARGB color value
+	 * @return the premultiplied ARGB color value
+	 */
+	public static int premultiply(int argb) {
+		int alpha = argb >>> 24;
+		if (alpha == 0xff) {
+			return argb;
+		} else if (alpha == 0x00) {
+			return 0;
+		}
+		int red = div255(((argb >> 16) & 0xff) * alpha + 127);
+		int green = div255(((argb >> 8) & 0xff) * alpha + 127);
+		int blue = div255((argb & 0xff) * alpha + 127);
+		return alpha << 24 | red << 16 | green << 8 | blue;
+	}
+
+	/**
+	 * Blend a row of colors onto a row of pixels.
+	 *
+	 * @param pixels      - the pixels being drawn onto
+	 * @param pixelOffset - the index of the first pixel
+	 * @param colors      - the ARGB colors to draw
+	 * @param colorOffset - the index of the first color
+	 * @param length      - the amount of pixels to blend
+	 */
+	public static void blendSpan(int[] pixels, int pixelOffset, int[] colors, int colorOffset, int length) {
+		for (int i = 0; i < length; i++) {
+			int argb = colors[colorOffset + i];
+			int alpha = argb >>> 24;
+			if (alpha == 0xff) {
+				pixels[pixelOffset + i] = argb;
+			} else if (alpha != 0x00) {
+				pixels[pixelOffset + i] = blend(pixels[pixelOffset + i], argb, alpha);
+			}
+		}
+	}
+
+	/**
+	 * Blend a row of premultiplied colors onto a row of pixels.
+	 *
+	 * @param pixels      - the pixels being drawn onto
+	 * @param pixelOffset - the index of the first pixel
+	 * @param colors      - the premultiplied ARGB colors to draw
+	 * @param colorOffset - the index of the first color
+	 * @param length      - the amount of pixels to blend
+	 */
+	public static void blendPremultipliedSpan(int[] pixels, int pixelOffset, int[] colors, int colorOffset,
+			int length) {
+		for (int i = 0; i < length; i++) {
+			int argb = colors[colorOffset + i];
+			int alpha = argb >>> 24;
+			if (alpha == 0xff) {
+				pixels[pixelOffset + i] = argb;
+			} else if (argb != 0) {
+				pixels[pixelOffset + i] = blendPremultiplied(pixels[pixelOffset + i], argb, 0xff - alpha);
+			}
+		}
+	}
+
+	/**
+	 * Blend one color onto a row of pixels.
+	 *
+	 * @param pixels - the pixels being drawn onto
+	 * @param offset - the index of the first pixel
+	 * @param length - the amount of pixels to blend
+	 * @param argb   - the ARGB color to draw
+	 */
+	public static void fillSpan(int[] pixels, int offset, int length, int argb) {
+		int alpha = argb >>> 24;
+		if (alpha == 0x00 || length <= 0) {
+			return;
+		} else if (alpha == 0xff) {
+			Arrays.fill(pixels, offset, offset + length, argb);
+			return;
+		}
+		for (int i = offset; i < offset + length; i++) {
+			pixels[i] = blend(pixels[i], argb, alpha);
+		}
+	}
+
+	/**
+	 * Draw a color over a premultiplied pixel.
+	 *
+	 * @param pixel - the premultiplied pixel being drawn onto
+	 * @param argb  - an ARGB color value
+	 * @return the premultiplied result
+	 */
+	public static int over(int pixel, int argb) {
+		return overPremultiplied(pixel, premultiply(argb));
+	}
+
+	/**
+	 * Draw a premultiplied color over a premultiplied pixel.
+	 *
+	 * @param pixel - the premultiplied pixel being drawn onto
+	 * @param argb  - a premultiplied ARGB color value
+	 * @return the premultiplied result
+	 */
+	public static int overPremultiplied(int pixel, int argb) {
+		int alpha = argb >>> 24;
+		if (alpha == 0xff) {
+			return argb;
+		} else if (argb == 0) {
+			return pixel;
+		}
+		return overPremultiplied(pixel, argb, 0xff - alpha);
+	}
+
+	/**
+	 * Draw a translucent premultiplied color over a premultiplied pixel.
+	 *
+	 * @param pixel        - the premultiplied pixel being drawn onto
+	 * @param argb         - a premultiplied ARGB color value
+	 * @param transparency - 255 minus the alpha of the color
+	 * @return the premultiplied result
+	 */
+	private static int overPremultiplied(int pixel, int argb, int transparency) {
+		int alpha = Math.min(0xff, div255((pixel >>> 24) * transparency) + (argb >>> 24));
+		int red = Math.min(alpha, div255(((pixel >> 16) & 0xff) * transparency) + ((argb >> 16) & 0xff));
+		int green = Math.min(alpha, div255(((pixel >> 8) & 0xff) * transparency) + ((argb >> 8) & 0xff));
+		int blue = Math.min(alpha, div255((pixel & 0xff) * transparency) + (argb & 0xff));
+		return alpha << 24 | red << 16 | green << 8 | blue;
+	}
+
+	/**
+	 * Draw a row of colors over a row of premultiplied pixels.
+	 *
+	 * @param pixels      - the premultiplied pixels being drawn onto
+	 * @param pixelOffset - the index of the first pixel
+	 * @param colors      - the ARGB colors to draw
+	 * @param colorOffset - the index of the first color
+	 * @param length      - the amount of pixels to draw
+	 */
+	public static void overSpan(int[] pixels, int pixelOffset, int[] colors, int colorOffset, int length) {
+		for (int i = 0; i < length; i++) {
+			int argb = colors[colorOffset + i];
+			if ((argb >>> 24) != 0x00) {
+				pixels[pixelOffset + i] = overPremultiplied(pixels[pixelOffset + i], premultiply(argb));
+			}
+		}
+	}
+
+	/**
+	 * Draw a row of premultiplied colors over a row of premultiplied pixels.
+	 *
+	 * @param pixels      - the premultiplied pixels being drawn onto
+	 * @param pixelOffset - the index of the first pixel
+	 * @param colors      - the premultiplied ARGB colors to draw
+	 * @param colorOffset - the index of the first color
+	 * @param length      - the amount of pixels to draw
+	 */
+	public static void overPremultipliedSpan(int[] pixels, int pixelOffset, int[] colors, int colorOffset,
+			int length) {
+		for (int i = 0; i < length; i++) {
+			pixels[pixelOffset + i] = overPremultiplied(pixels[pixelOffset + i], colors[colorOffset + i]);
+		}
+	}
+
+	/**
+	 * Draw one color over a row of premultiplied pixels.
+	 *
+	 * @param pixels - the premultiplied pixels being drawn onto
+	 * @param offset - the index of the first pixel
+	 * @param length - the amount of pixels to draw
+	 * @param argb   - the ARGB color to draw
+	 */
+	public static void overFillSpan(int[] pixels, int offset, int length, int argb) {
+		int premultiplied = premultiply(argb);
+		if (premultiplied == 0 || length <= 0) {
+			return;
+		} else if ((premultiplied >>> 24) == 0xff) {
+			Arrays.fill(pixels, offset, offset + length, premultiplied);
+			return;
+		}
+		int transparency = 0xff - (premultiplied >>> 24);
+		for (int i = offset; i < offset + length; i++) {
+			pixels[i] = overPremultiplied(pixels[i], premultiplied, transparency);
+		}
+	}
+}
@@ -3,6 +3,8 @@ package com.game.engine.rendering.cpu;
 import java.awt.image.BufferedImage;
 import java.awt.image.DataBufferInt;
 
+import com.game.engine.cache.CachePolicy;
+import com.game.engine.cache.ScaledImageCache;
 import com.game.engine.camera.AbstractCamera;
 import com.game.engine.graphics.common.RenderRequest;
 import com.game.engine.maths.Matrix2D;
@@ -28,13 +30,35 @@ public class CPUProcessor extends AbstractProcessor {
 	 */
 	protected int[] pixels;
 
+	/**
+	 * Whether the pixels are translucent and stored premultiplied, so colors are
+	 * drawn over them rather than blended onto them
+	 */
+	protected boolean premultiplied = false;
+
+	/**
+	 * The images drawn at a zoom other than 1.0, scaled to their drawn size
+	 */
+	protected final ScaledImageCache scaledImages;
+
 	/**
 	 * Initialize the CPU graphic processor
 	 *
 	 * @param renderer - the renderer to process the graphics for
 	 */
 	public CPUProcessor(AbstractRenderer renderer) {
+		this(renderer, new ScaledImageCache(CachePolicy.LRU, ScaledImageCache.DEFAULT_CAPACITY));
+	}
+
+	/**
+	 * Initialize a CPU graphic processor which shares scaled images with another
+	 *
+	 * @param renderer     - the renderer to process the graphics for
+	 * @param scaledImages - the cache of scaled images
+	 */
+	public CPUProcessor(AbstractRenderer renderer, ScaledImageCache scaledImages) {
 		super(renderer);
+		this.scaledImages = scaledImages;
 	}
 
 	@Override
@@ -51,6 +75,27 @@ public class CPUProcessor extends AbstractProcessor {
 	public synchronized void resize(int width, int height) {
 		this.image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
 		this.pixels = ((DataBufferInt) this.image.getRaster().getDataBuffer()).getData();
+		this.premultiplied = false;
+	}
+
+	/**
+	 * Draw onto an existing image rather than an image of this processor's own.
+	 * Changes to the image's pixels are drawn onto directly. The pixels of a
+	 * {@link BufferedImage#TYPE_INT_ARGB_PRE} image are translucent, and keep the
+	 * alpha of what is drawn over them.
+	 *
+	 * @param image - an image with integer pixels, such as
+	 *              {@link BufferedImage#TYPE_INT_ARGB}
+	 * @throws IllegalArgumentException if the image does not have integer pixels
+	 */
+	public synchronized void setImage(BufferedImage image) throws IllegalArgumentException {
+		if (!(image.getRaster().getDataBuffer() instanceof DataBufferInt)
+				|| image.getRaster().getDataBuffer().getNumBanks() != 1) {
+			throw new IllegalArgumentException("Processors can only draw onto images with integer pixels");
+		}
+		this.image = image;
+		this.pixels = ((DataBufferInt) this.image.getRaster().getDataBuffer()).getData();
+		this.premultiplied = image.getType() == BufferedImage.TYPE_INT_ARGB_PRE;
 	}
 
 	/**
@@ -59,7 +104,16 @@ public class CPUProcessor extends AbstractProcessor {
 	 * @param request - the request to draw
 	 */
 	public void draw(RenderRequest request) {
-		AbstractCamera camera = this.renderer.getCamera();
+		draw(request, this.renderer.getCamera());
+	}
+
+	/**
+	 * Draw an arbitrary request on the game scene as seen by a camera
+	 *
+	 * @param request - the request to draw
+	 * @param camera  - the camera to draw with
+	 */
+	public void draw(RenderRequest request, AbstractCamera camera) {
 		Matrix2D requestMatrix = Matrix2D.create(request.x, request.y).transform(camera);
 
 		request.drawable.draw(this, (int) requestMatrix.x(), (int) requestMatrix.y(), camera.zoom(), camera.zoom());
@@ -81,6 +135,13 @@ public class CPUProcessor extends AbstractProcessor {
 		return this.image;
 	}
 
+	/**
+	 * @return the cache of images scaled to their drawn size
+	 */
+	public ScaledImageCache getScaledImages() {
+		return this.scaledImages;
+	}
+
 	/**
 	 * @return the raster pixels for the {@link #image}
 	 */
@@ -88,6 +149,14 @@ public class CPUProcessor extends AbstractProcessor {
 		return this.pixels;
 	}
 
+	/**
+	 * @return true if the pixels are translucent and stored premultiplied, false
+	 *         if they are opaque
+	 */
+	public boolean isPremultiplied() {
+		return this.premultiplied;
+	}
+
 	/**
 	 * Set a pixel's color
 	 *
@@ -101,42 +170,85 @@ public class CPUProcessor extends AbstractProcessor {
 			return;
 		}
 
-		// Get our alpha value
-		int alpha = ((argb >> 24) & 0xff);
+		int index = x + y * this.image.getWidth();
+		this.pixels[index] = this.premultiplied ? Blend.over(this.pixels[index], argb)
+				: Blend.blend(this.pixels[index], argb);
+	}
+
+	/**
+	 * Blend a row of colors onto the pixels of a row, starting at a pixel.
+	 *
+	 * @param x      - The x coordinate of the first pixel
+	 * @param y      - The y coordinate of the row
+	 * @param colors - The ARGB colors to draw
+	 * @param offset - The index of the first color
+	 * @param length - The amount of colors to draw
+	 * @see Blend#blendSpan(int[], int, int[], int, int)
+	 */
+	public void setPixels(int x, int y, int[] colors, int offset, int length) {
+		setPixels(x, y, colors, offset, length, false);
+	}
 
-		if (alpha == 0x00) {
-			// 0x00 (0) is fully transparent
+	/**
+	 * Blend a row of colors onto the pixels of a row, starting at a pixel.
+	 *
+	 * @param x             - The x coordinate of the first pixel
+	 * @param y             - The y coordinate of the row
+	 * @param colors        - The ARGB colors to draw
+	 * @param offset        - The index of the first color
+	 * @param length        - The amount of colors to draw
+	 * @param premultiplied - Whether the colors are premultiplied by their alpha
+	 * @see Blend#blendPremultipliedSpan(int[], int, int[], int, int)
+	 */
+	public void setPixels(int x, int y, int[] colors, int offset, int length, boolean premultiplied) {
+		// Don't change pixels out of bounds
+		if (y < 0 || y >= this.image.getHeight()) {
 			return;
-		} else if (alpha == 0xff) {
-			// 0xff (255) is fully opaque
-			this.pixels[x + y * this.image.getWidth()] = argb;
+		}
+		if (x < 0) {
+			offset -= x;
+			length += x;
+			x = 0;
+		}
+		length = Math.min(length, this.image.getWidth() - x);
+		if (length <= 0) {
+			return;
+		}
+		int index = x + y * this.image.getWidth();
+		if (this.premultiplied) {
+			if (premultiplied) {
+				Blend.overPremultipliedSpan(this.pixels, index, colors, offset, length);
+			} else {
+				Blend.overSpan(this.pixels, index, colors, offset, length);
+			}
+		} else if (premultiplied) {
+			Blend.blendPremultipliedSpan(this.pixels, index, colors, offset, length);
 		} else {
-			// Pixel blending
-			// Get current pixel color
-			int index = x + y * this.image.getWidth();
-			int pixelColor = pixels[index];
-
-			// Find new red
-			int redOld = ((pixelColor >> 16) & 0xff);
-			int redVal = ((argb >> 16) & 0xff);
-			int redNew = redOld - (int) ((redOld - redVal) * (alpha / 255f));
-
-			// Find new green
-			int greenOld = ((pixelColor >> 8) & 0xff);
-			int greenVal = ((argb >> 8) & 0xff);
-			int greenNew = greenOld - (int) ((greenOld - greenVal) * (alpha / 255f));
-
-			// Find new blue
-			int blueOld = (pixelColor & 0xff);
-			int blueVal = (argb & 0xff);
-			int blueNew = blueOld - (int) ((blueOld - blueVal) * (alpha / 255f));
-
-			// Format the color to be ARGB
-			int newColor = (0xff000000 | redNew << 16 | greenNew << 8 | blueNew);
-
-			// Load it
-			this.pixels[x + y * this.image.getWidth()] = newColor;
+			Blend.blendSpan(this.pixels, index, colors, offset, length);
 		}
+	}
 
+	/**
+	 * Blend a color onto a span of pixels in a row. The span is clipped to the
+	 * image.
+	 *
+	 * @param x0   - The x coordinate of the first pixel
+	 * @param x1   - The x coordinate after the last pixel
+	 * @param y    - The y coordinate of the row
+	 * @param argb - An ARGB color value
+	 * @see Blend#fillSpan(int[], int, int, int)
+	 */
+	public void fillRow(int x0, int x1, int y, int argb) {
+		// Don't change pixels out of bounds
+		if (y < 0 || y >= this.image.getHeight()) {
+			return;
+		}
+		x0 = Math.max(0, x0);
+		x1 = Math.min(this.image.getWidth(), x1);
+		if (this.premultiplied) {
+			Blend.overFillSpan(this.pixels, x0 + y * this.image.getWidth(), x1 - x0, argb);
+		} else {
+			Blend.fillSpan(this.pixels, x0 + y * this.image.getWidth(), x1 - x0, argb);
+		}
 	}
 }
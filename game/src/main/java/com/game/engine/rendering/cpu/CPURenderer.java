@@ -2,11 +2,15 @@ package com.game.engine.rendering.cpu;
 
 import java.awt.Graphics;
 import java.awt.image.BufferedImage;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 
 import com.game.engine.camera.AbstractCamera;
 import com.game.engine.graphics.common.RenderRequest;
 import com.game.engine.rendering.common.AbstractRenderer;
 import com.game.engine.rendering.common.RenderMode;
+import com.game.engine.rendering.common.RenderView;
 
 /**
  * A CPU based renderer which has no hardware acceleration. Used primarily for
@@ -27,6 +31,12 @@ public class CPURenderer extends AbstractRenderer {
 	 */
 	private CPUCanvas canvas;
 
+	/**
+	 * The processors which draw each additional view before it is copied to the
+	 * screen
+	 */
+	private Map<RenderView, CPUProcessor> viewProcessors;
+
 	/**
 	 * Initialize a CPU renderer
 	 *
@@ -37,6 +47,7 @@ public class CPURenderer extends AbstractRenderer {
 
 		// Initialize the graphics processor
 		this.processor = new CPUProcessor(this);
+		this.viewProcessors = new HashMap<>();
 	}
 
 	@Override
@@ -61,8 +72,11 @@ public class CPURenderer extends AbstractRenderer {
 		// Draw background
 		// TODO
 
-		// Draw render requests
+		// Draw render requests seen by the main camera
 		for (RenderRequest request : this.processor.requests()) {
+			if ((request.views & MAIN_VIEW) == 0 && !request.level.isUI()) {
+				continue;
+			}
 			switch (request.level) {
 			case UI_PLUGIN:
 			case UI_OVERLAY:
@@ -75,6 +89,13 @@ public class CPURenderer extends AbstractRenderer {
 			}
 		}
 
+		// Draw additional views
+		List<RenderView> views = getViews();
+		this.viewProcessors.keySet().retainAll(views);
+		for (RenderView view : views) {
+			drawView(view);
+		}
+
 		// Clear requests
 		this.processor.reset();
 
@@ -100,6 +121,47 @@ public class CPURenderer extends AbstractRenderer {
 		}
 	}
 
+	/**
+	 * Draw the requests seen by an additional view, and copy them to the screen.
+	 *
+	 * @param view - the view to draw
+	 */
+	private void drawView(RenderView view) {
+		if (view.width() <= 0 || view.height() <= 0) {
+			return;
+		}
+		CPUProcessor viewProcessor = this.viewProcessors.computeIfAbsent(view,
+				v -> new CPUProcessor(this, this.processor.getScaledImages()));
+		if (viewProcessor.image == null || viewProcessor.image.getWidth() != view.width()
+				|| viewProcessor.image.getHeight() != view.height()) {
+			viewProcessor.resize(view.width(), view.height());
+		}
+
+		// Draw the view
+		int[] pixels = viewProcessor.pixels;
+		for (int i = 0; i < pixels.length; i++) {
+			pixels[i] = 0xff000000;
+		}
+		for (RenderRequest request : this.processor.requests()) {
+			if (view.draws(request)) {
+				viewProcessor.draw(request, view.camera);
+			}
+		}
+
+		// Copy the view to the screen
+		int screenWidth = this.processor.image.getWidth();
+		int screenHeight = this.processor.image.getHeight();
+		int x0 = Math.max(0, view.x());
+		int x1 = Math.min(screenWidth, view.x() + view.width());
+		if (x1 <= x0) {
+			return;
+		}
+		for (int y = Math.max(0, view.y()); y < Math.min(screenHeight, view.y() + view.height()); y++) {
+			System.arraycopy(pixels, (y - view.y()) * view.width() + (x0 - view.x()), this.processor.pixels,
+					y * screenWidth + x0, x1 - x0);
+		}
+	}
+
 	@Override
 	public void stage(RenderRequest request) {
 		this.processor.stage(request);
@@ -0,0 +1,176 @@
+package com.game.engine.rendering.opengl;
+
+import java.nio.FloatBuffer;
+
+import com.jogamp.common.nio.Buffers;
+import com.jogamp.opengl.GL2;
+
+/**
+ * A cache of unit circles in vertex buffer objects, so circles and ellipses are
+ * drawn without computing any trigonometry per frame. Circles are bucketed by
+ * their radius on the screen, rounded up to a power of two, and each bucket
+ * has a level of detail with enough vertices for the largest radius in it.
+ * Each bucket is tessellated and uploaded once, and drawn scaled to an
+ * ellipse's radii with a transform.
+ * <br>
+ * <br>
+ * The vertices of a bucket are the center of the circle, followed by the
+ * vertices around the circle, followed by the first vertex around the circle
+ * again, so the buffer is drawn as a {@link GL2#GL_TRIANGLE_FAN} to fill a
+ * circle or, skipping the center, as a {@link GL2#GL_LINE_LOOP} to outline it.
+ *
+ * @author Spencer Imbleau
+ * @version October 2026
+ */
+public class CircleMeshCache {
+
+	/**
+	 * The acceptable error for circle arclength accuracy, in pixels.
+	 */
+	public static final double ACCEPTABLE_ERROR = 0.33;
+
+	/**
+	 * The largest bucket, for radii up to 2^12 pixels.
+	 */
+	public static final int MAX_BUCKET = 12;
+
+	/**
+	 * The least amount of vertices around a circle.
+	 */
+	public static final int MIN_VERTICES = 8;
+
+	/**
+	 * The amount of vertices around a circle of each bucket.
+	 */
+	private static final int[] VERTEX_COUNTS = new int[MAX_BUCKET + 1];
+	static {
+		for (int bucket = 0; bucket <= MAX_BUCKET; bucket++) {
+			double radius = 1 << bucket;
+			double error = Math.min(ACCEPTABLE_ERROR, radius);
+			double da = Math.acos(2 * (1 - error / radius) * (1 - error / radius) - 1);
+			VERTEX_COUNTS[bucket] = Math.max(MIN_VERTICES, (int) Math.ceil(2 * Math.PI / da));
+		}
+	}
+
+	/**
+	 * The vertex buffer object ID of each bucket, or 0 if it is not uploaded.
+	 */
+	private final int[] vboIds = new int[MAX_BUCKET + 1];
+
+	/**
+	 * Returns the bucket of a radius, which is the power of two the radius is
+	 * rounded up to.
+	 *
+	 * @param radius - a radius on the screen, in pixels
+	 * @return the bucket of the radius
+	 */
+	public static int bucket(double radius) {
+		int pixels = (int) Math.min(1 << MAX_BUCKET, Math.ceil(Math.max(1, radius)));
+		return 32 - Integer.numberOfLeadingZeros(pixels - 1);
+	}
+
+	/**
+	 * Returns the amount of vertices around a circle of a bucket, which is enough
+	 * for the outline of a circle of the bucket's largest radius to stray from
+	 * the true circle by at most {@link #ACCEPTABLE_ERROR}.
+	 *
+	 * @param bucket - a bucket
+	 * @return the amount of vertices around a circle
+	 */
+	public static int vertices(int bucket) {
+		return VERTEX_COUNTS[bucket];
+	}
+
+	/**
+	 * Tessellate a unit circle.
+	 *
+	 * @param vertices - the amount of vertices around the circle
+	 * @return the x and y co-ordinates of the center, each vertex around the
+	 *         circle, and the first vertex around the circle again
+	 */
+	public static float[] tessellate(int vertices) {
+		float[] table = new float[2 * (vertices + 2)];
+		double vertexRadian = 2 * Math.PI / vertices;
+		for (int i = 0; i <= vertices; i++) {
+			double theta = vertexRadian * (i % vertices);
+			table[2 * (i + 1)] = (float) Math.cos(theta);
+			table[2 * (i + 1) + 1] = (float) Math.sin(theta);
+		}
+		return table;
+	}
+
+	/**
+	 * Draw an ellipse, uploading the unit circle of its bucket if it isn't yet.
+	 *
+	 * @param gl     - the gl context
+	 * @param cx     - the x co-ordinate of the center
+	 * @param cy     - the y co-ordinate of the center
+	 * @param rx     - the horizontal radius on the screen
+	 * @param ry     - the vertical radius on the screen
+	 * @param filled - true to fill the ellipse, false to outline it
+	 */
+	public void draw(GL2 gl, double cx, double cy, double rx, double ry, boolean filled) {
+		int bucket = bucket(Math.max(rx, ry));
+		int vertices = vertices(bucket);
+		if (this.vboIds[bucket] == 0) {
+			upload(gl, bucket, vertices);
+		} else {
+			gl.glBindBuffer(GL2.GL_ARRAY_BUFFER, this.vboIds[bucket]);
+		}
+
+		gl.glPushMatrix();
+		gl.glTranslated(cx, cy, 0);
+		gl.glScaled(rx, ry, 1);
+		gl.glEnableClientState(GL2.GL_VERTEX_ARRAY);
+		gl.glVertexPointer(2, GL2.GL_FLOAT, 0, 0);
+		if (filled) {
+			gl.glDrawArrays(GL2.GL_TRIANGLE_FAN, 0, vertices + 2);
+		} else {
+			gl.glDrawArrays(GL2.GL_LINE_LOOP, 1, vertices);
+		}
+		gl.glDisableClientState(GL2.GL_VERTEX_ARRAY);
+		gl.glPopMatrix();
+		gl.glBindBuffer(GL2.GL_ARRAY_BUFFER, 0);
+	}
+
+	/**
+	 * Upload the unit circle of a bucket into a new buffer, which is left bound.
+	 *
+	 * @param gl       - the gl context
+	 * @param bucket   - the bucket
+	 * @param vertices - the amount of vertices around the circle of the bucket
+	 */
+	private void upload(GL2 gl, int bucket, int vertices) {
+		int[] ids = new int[1];
+		gl.glGenBuffers(1, ids, 0);
+		this.vboIds[bucket] = ids[0];
+
+		FloatBuffer table = Buffers.newDirectFloatBuffer(tessellate(vertices));
+		gl.glBindBuffer(GL2.GL_ARRAY_BUFFER, this.vboIds[bucket]);
+		gl.glBufferData(GL2.GL_ARRAY_BUFFER, (long) table.capacity() * Buffers.SIZEOF_FLOAT, table,
+				GL2.GL_STATIC_DRAW);
+	}
+
+	/**
+	 * @param bucket - a bucket
+	 * @return true if the unit circle of the bucket is uploaded, false otherwise
+	 */
+	public boolean isUploaded(int bucket) {
+		return this.vboIds[bucket] != 0;
+	}
+
+	/**
+	 * Delete every uploaded buffer.
+	 *
+	 * @param gl - the gl context
+	 */
+	public void dispose(GL2 gl) {
+		for (int bucket = 0; bucket <= MAX_BUCKET; bucket++) {
+			if (this.vboIds[bucket] != 0) {
+				int[] ids = { this.vboIds[bucket] };
+				gl.glDeleteBuffers(ids.length, ids, 0);
+				this.vboIds[bucket] = 0;
+			}
+		}
+	}
+}
@@ -1,6 +1,8 @@
 package com.game.engine.rendering.opengl;
 
 import com.game.engine.graphics.common.RenderRequest;
+import com.game.engine.rendering.common.AbstractRenderer;
+import com.game.engine.rendering.common.RenderView;
 import com.jogamp.opengl.GL2;
 import com.jogamp.opengl.GLAutoDrawable;
 import com.jogamp.opengl.GLCapabilities;
@@ -52,13 +54,14 @@ public class JOGLCanvas extends GLCanvas implements GLEventListener {
 		// Texture settings
 		// 4 channels for pixels, i.e. 0xAARRGGBB
 		gl.glPixelStorei(GL2.GL_UNPACK_ALIGNMENT, 4);
-		// Use nearest-neighbor pixel interpolation for scaling
-		gl.glTexParameteri(GL2.GL_TEXTURE_2D, GL2.GL_TEXTURE_MIN_FILTER, GL2.GL_NEAREST);
-		gl.glTexParameteri(GL2.GL_TEXTURE_2D, GL2.GL_TEXTURE_MAG_FILTER, GL2.GL_NEAREST);
+		// Filters are texture state, so each image sets its own sampling on alloc
 	}
 
 	@Override
 	public void dispose(GLAutoDrawable drawable) {
+		// Delete cached geometry
+		this.processor.getCircles().dispose(drawable.getGL().getGL2());
+
 		// Remove all GL event listeners
 		for (int i = 0; i < this.getGLEventListenerCount(); i++) {
 			this.removeGLEventListener(this.getGLEventListener(i));
@@ -72,14 +75,17 @@ public class JOGLCanvas extends GLCanvas implements GLEventListener {
 		GL2 gl = drawable.getGL().getGL2();
 
 		// Clear screen
-		gl.glClear(GL2.GL_COLOR_BUFFER_BIT);
+		gl.glClear(GL2.GL_COLOR_BUFFER_BIT | GL2.GL_STENCIL_BUFFER_BIT);
 
-		// Draw render requests
+		// Draw render requests seen by the main camera
 		for (RenderRequest request : this.processor.requests()) {
 			// Refresh assets before drawing if asked
 			if (request.drawable.needsGLRefresh()) {
 				request.drawable.refresh(gl);
 			}
+			if ((request.views & AbstractRenderer.MAIN_VIEW) == 0 && !request.level.isUI()) {
+				continue;
+			}
 
 			switch (request.level) {
 			case UI_PLUGIN:
@@ -93,6 +99,11 @@ public class JOGLCanvas extends GLCanvas implements GLEventListener {
 			}
 		}
 
+		// Draw additional views
+		for (RenderView view : this.processor.getRenderer().getViews()) {
+			drawView(gl, drawable, view);
+		}
+
 		// Clear requests
 		this.processor.reset();
 
@@ -103,6 +114,45 @@ public class JOGLCanvas extends GLCanvas implements GLEventListener {
 		}
 	}
 
+	/**
+	 * Draw the requests seen by an additional view into its area of the screen.
+	 *
+	 * @param gl       - the gl context
+	 * @param drawable - the drawable being displayed
+	 * @param view     - the view to draw
+	 */
+	private void drawView(GL2 gl, GLAutoDrawable drawable, RenderView view) {
+		if (view.width() <= 0 || view.height() <= 0) {
+			return;
+		}
+
+		// Restrict drawing to the area of the view, whose origin is the bottom-left
+		int y = drawable.getSurfaceHeight() - view.y() - view.height();
+		gl.glViewport(view.x(), y, view.width(), view.height());
+		gl.glEnable(GL2.GL_SCISSOR_TEST);
+		gl.glScissor(view.x(), y, view.width(), view.height());
+		gl.glClear(GL2.GL_COLOR_BUFFER_BIT | GL2.GL_STENCIL_BUFFER_BIT);
+		gl.glMatrixMode(GL2.GL_PROJECTION);
+		gl.glPushMatrix();
+		gl.glLoadIdentity();
+		gl.glOrtho(0, view.width(), view.height(), 0, -1, 1);
+		gl.glMatrixMode(GL2.GL_MODELVIEW);
+
+		// Draw the view
+		for (RenderRequest request : this.processor.requests()) {
+			if (view.draws(request)) {
+				this.processor.draw(gl, request, view.camera);
+			}
+		}
+
+		// Restore the screen
+		gl.glMatrixMode(GL2.GL_PROJECTION);
+		gl.glPopMatrix();
+		gl.glMatrixMode(GL2.GL_MODELVIEW);
+		gl.glDisable(GL2.GL_SCISSOR_TEST);
+		gl.glViewport(0, 0, drawable.getSurfaceWidth(), drawable.getSurfaceHeight());
+	}
+
 	@Override
 	public void reshape(GLAutoDrawable drawable, int x, int y, int width, int height) {
 		GL2 gl = drawable.getGL().getGL2();
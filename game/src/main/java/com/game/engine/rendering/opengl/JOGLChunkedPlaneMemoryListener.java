@@ -4,7 +4,9 @@ import com.game.engine.game.AbstractChunkedPlane;
 import com.game.engine.game.AbstractGameObject;
 import com.game.engine.game.Chunk;
 import com.game.engine.game.Chunker;
+import com.game.engine.graphics.obj.RenderTarget;
 import com.game.engine.logger.PowerLogger;
+import com.game.engine.rendering.common.RenderLevel;
 import com.jogamp.opengl.GL2;
 import com.jogamp.opengl.GLAutoDrawable;
 import com.jogamp.opengl.GLEventListener;
@@ -61,6 +63,14 @@ public class JOGLChunkedPlaneMemoryListener implements GLEventListener {
 			for (AbstractGameObject obj : chunk.objects()) {
 				obj.dispose(gl);
 			}
+			for (RenderLevel level : RenderLevel.values()) {
+				if (chunk.getStaticLayer(level) != null) {
+					chunk.getStaticLayer(level).dispose(gl);
+				}
+			}
+		}
+		for (RenderTarget layer : this.plane.chunker.trashedLayers()) {
+			this.plane.chunker.trash(gl, layer);
 		}
 	}
 
@@ -77,6 +87,11 @@ public class JOGLChunkedPlaneMemoryListener implements GLEventListener {
 		for (AbstractGameObject obj : this.plane.chunker.trashedObjects()) {
 			this.plane.chunker.trash(gl, obj);
 		}
+
+		// Destroy VRAM for trashed static layers
+		for (RenderTarget layer : this.plane.chunker.trashedLayers()) {
+			this.plane.chunker.trash(gl, layer);
+		}
 	}
 
 	@Override
@@ -16,6 +16,17 @@ import com.jogamp.opengl.GL2;
  */
 public class JOGLProcessor extends AbstractProcessor {
 
+	/**
+	 * The unit circles which ellipses are drawn from
+	 */
+	protected final CircleMeshCache circles;
+
+	/**
+	 * Whether the framebuffer is translucent and stored premultiplied, such as the
+	 * texture of a render target
+	 */
+	protected boolean premultiplied = false;
+
 	/**
 	 * Initialize a GL graphic processor
 	 *
@@ -23,6 +34,7 @@ public class JOGLProcessor extends AbstractProcessor {
 	 */
 	public JOGLProcessor(AbstractRenderer renderer) {
 		super(renderer);
+		this.circles = new CircleMeshCache();
 	}
 
 	@Override
@@ -30,6 +42,51 @@ public class JOGLProcessor extends AbstractProcessor {
 		return (JOGLRenderer) this.renderer;
 	}
 
+	/**
+	 * @return the unit circles which ellipses are drawn from
+	 */
+	public CircleMeshCache getCircles() {
+		return this.circles;
+	}
+
+	/**
+	 * @return true if the framebuffer is translucent and stored premultiplied,
+	 *         false if it is opaque
+	 */
+	public boolean isPremultiplied() {
+		return this.premultiplied;
+	}
+
+	/**
+	 * Set whether the framebuffer drawn onto is translucent and stored
+	 * premultiplied.
+	 *
+	 * @param premultiplied - true if the framebuffer keeps the alpha of what is
+	 *                      drawn over it, false if it is opaque
+	 */
+	public void setPremultiplied(boolean premultiplied) {
+		this.premultiplied = premultiplied;
+	}
+
+	/**
+	 * Enable blending of colors onto the framebuffer. A premultiplied framebuffer
+	 * accumulates the alpha of the colors drawn over it, so it can be drawn as a
+	 * premultiplied texture later.
+	 *
+	 * @param gl            - the gl context
+	 * @param premultiplied - whether the colors drawn are premultiplied by their
+	 *                      alpha
+	 */
+	public void blend(GL2 gl, boolean premultiplied) {
+		int source = premultiplied ? GL2.GL_ONE : GL2.GL_SRC_ALPHA;
+		gl.glEnable(GL2.GL_BLEND);
+		if (this.premultiplied) {
+			gl.glBlendFuncSeparate(source, GL2.GL_ONE_MINUS_SRC_ALPHA, GL2.GL_ONE, GL2.GL_ONE_MINUS_SRC_ALPHA);
+		} else {
+			gl.glBlendFunc(source, GL2.GL_ONE_MINUS_SRC_ALPHA);
+		}
+	}
+
 	/**
 	 * Draw an arbitrary request on the game scene
 	 *
@@ -37,7 +94,17 @@ public class JOGLProcessor extends AbstractProcessor {
 	 * @param request - the request to draw
 	 */
 	public void draw(GL2 gl, RenderRequest request) {
-		AbstractCamera camera = this.renderer.getCamera();
+		draw(gl, request, this.renderer.getCamera());
+	}
+
+	/**
+	 * Draw an arbitrary request on the game scene as seen by a camera
+	 *
+	 * @param gl      - the gl context
+	 * @param request - the request to draw
+	 * @param camera  - the camera to draw with
+	 */
+	public void draw(GL2 gl, RenderRequest request, AbstractCamera camera) {
 		Matrix2D requestMatrix = Matrix2D.create(request.x, request.y).transform(camera);
 
 		request.drawable.draw(this, gl, requestMatrix.x(), requestMatrix.y(), camera.zoom(), camera.zoom());
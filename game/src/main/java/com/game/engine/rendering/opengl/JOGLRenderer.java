@@ -47,6 +47,8 @@ public class JOGLRenderer extends AbstractRenderer {
 		GLProfile.initSingleton();
 		GLProfile profile = GLProfile.get(GL_VERSION);
 		GLCapabilities capabilities = new GLCapabilities(profile);
+		// A stencil buffer for drawables which blend each pixel once
+		capabilities.setStencilBits(8);
 		// To enable MSAA x4 Anti-aliasing
 		// capabilities.setSampleBuffers(true);
 		// capabilities.setNumSamples(4); //MSAA x4
@@ -0,0 +1,367 @@
+package com.game.engine.tiles;
+
+import java.nio.FloatBuffer;
+import java.util.Arrays;
+
+import com.game.engine.cache.ScaledImageCache.ScaledImage;
+import com.game.engine.graphics.common.Drawable;
+import com.game.engine.graphics.common.RenderRequest;
+import com.game.engine.graphics.obj.Image;
+import com.game.engine.graphics.obj.SpriteSheet;
+import com.game.engine.graphics.request.TileChunkRequest;
+import com.game.engine.rendering.common.RenderLevel;
+import com.game.engine.rendering.cpu.CPUProcessor;
+import com.game.engine.rendering.opengl.JOGLProcessor;
+import com.jogamp.common.nio.Buffers;
+import com.jogamp.opengl.GL2;
+
+/**
+ * The tiles of a {@link Tilemap} whose top left corners lie in one
+ * {@link com.game.engine.game.Chunk}, drawn by one request. The tiles are
+ * stored row by row in an array of shorts, and drawn relative to the top left
+ * of the first tile.
+ * <br>
+ * <br>
+ * On the CPU only the tiles on the screen are drawn, and tiles of an opaque
+ * tileset are copied over the screen a row of pixels at a time rather than
+ * blended. On OpenGL every tile is a quad in one vertex buffer object, rebuilt
+ * when a tile changes, and drawn with one call.
+ *
+ * @author Spencer Imbleau
+ * @version October 2026
+ */
+public class TileChunk implements Drawable {
+
+	/**
+	 * The floats of each vertex: the x and y co-ordinates, then the texture
+	 * co-ordinates.
+	 */
+	private static final int VERTEX_FLOATS = 4;
+
+	/**
+	 * The map of the tiles.
+	 */
+	private final Tilemap map;
+
+	/**
+	 * The column of the first tile in the map.
+	 */
+	private final int column0;
+
+	/**
+	 * The row of the first tile in the map.
+	 */
+	private final int row0;
+
+	/**
+	 * The amount of columns of tiles.
+	 */
+	private final int columns;
+
+	/**
+	 * The amount of rows of tiles.
+	 */
+	private final int rows;
+
+	/**
+	 * The tiles, row by row.
+	 */
+	private final short[] tiles;
+
+	/**
+	 * The amount of tiles which are not empty.
+	 */
+	private int filled = 0;
+
+	/**
+	 * When the chunk was last staged by its map.
+	 */
+	int stagedAt = 0;
+
+	/**
+	 * The vertex buffer object ID for OpenGL.
+	 */
+	private int vboId = 0;
+
+	/**
+	 * The amount of vertices in the vertex buffer object.
+	 */
+	private int vboVertices = 0;
+
+	/**
+	 * Whether the tiles have changed since they were uploaded to OpenGL.
+	 */
+	private boolean vboUpdated = true;
+
+	/**
+	 * Initialize an empty chunk of tiles.
+	 *
+	 * @param map     - the map of the tiles
+	 * @param column0 - the column of the first tile in the map
+	 * @param row0    - the row of the first tile in the map
+	 * @param columns - the amount of columns of tiles
+	 * @param rows    - the amount of rows of tiles
+	 */
+	TileChunk(Tilemap map, int column0, int row0, int columns, int rows) {
+		this.map = map;
+		this.column0 = column0;
+		this.row0 = row0;
+		this.columns = columns;
+		this.rows = rows;
+		this.tiles = new short[columns * rows];
+		Arrays.fill(this.tiles, Tilemap.EMPTY);
+	}
+
+	/**
+	 * @return the column of the first tile in the map
+	 */
+	public int getFirstColumn() {
+		return this.column0;
+	}
+
+	/**
+	 * @return the row of the first tile in the map
+	 */
+	public int getFirstRow() {
+		return this.row0;
+	}
+
+	/**
+	 * @return the amount of columns of tiles
+	 */
+	public int getColumns() {
+		return this.columns;
+	}
+
+	/**
+	 * @return the amount of rows of tiles
+	 */
+	public int getRows() {
+		return this.rows;
+	}
+
+	/**
+	 * @return the width of the tiles
+	 */
+	public int getWidth() {
+		return this.columns * this.map.getTileWidth();
+	}
+
+	/**
+	 * @return the height of the tiles
+	 */
+	public int getHeight() {
+		return this.rows * this.map.getTileHeight();
+	}
+
+	/**
+	 * @return true if every tile is empty, false otherwise
+	 */
+	public boolean isEmpty() {
+		return this.filled == 0;
+	}
+
+	/**
+	 * @param column - a column of tiles in the map
+	 * @param row    - a row of tiles in the map
+	 * @return the tile at the cell
+	 */
+	short get(int column, int row) {
+		return this.tiles[(row - this.row0) * this.columns + column - this.column0];
+	}
+
+	/**
+	 * @param column - a column of tiles in the map
+	 * @param row    - a row of tiles in the map
+	 * @param tile   - the tile to set at the cell
+	 */
+	void set(int column, int row, short tile) {
+		int index = (row - this.row0) * this.columns + column - this.column0;
+		if (this.tiles[index] != tile) {
+			this.filled += (tile == Tilemap.EMPTY ? 0 : 1) - (this.tiles[index] == Tilemap.EMPTY ? 0 : 1);
+			this.tiles[index] = tile;
+			flagGLRefresh();
+		}
+	}
+
+	@Override
+	public void alloc(GL2 gl) {
+		this.map.alloc(gl);
+		if (this.vboId == 0) {
+			int[] ids = new int[1];
+			gl.glGenBuffers(1, ids, 0);
+			this.vboId = ids[0];
+			this.vboUpdated = true;
+		}
+	}
+
+	@Override
+	public void flagGLRefresh() {
+		this.vboUpdated = true;
+	}
+
+	@Override
+	public boolean needsGLRefresh() {
+		return this.vboUpdated || this.map.getTileset().getImage().needsGLRefresh();
+	}
+
+	@Override
+	public void refresh(GL2 gl) {
+		alloc(gl);
+		this.map.refresh(gl);
+		if (!this.vboUpdated) {
+			return;
+		}
+
+		// A quad of each tile, with the texture co-ordinates of its frame
+		SpriteSheet tileset = this.map.getTileset();
+		int tw = tileset.getFrameWidth();
+		int th = tileset.getFrameHeight();
+		float du = (float) tw / tileset.getImage().getWidth();
+		float dv = (float) th / tileset.getImage().getHeight();
+		FloatBuffer vertices = Buffers.newDirectFloatBuffer(Math.max(1, 4 * VERTEX_FLOATS * this.filled));
+		for (int row = 0; row < this.rows; row++) {
+			for (int column = 0; column < this.columns; column++) {
+				short tile = this.tiles[row * this.columns + column];
+				if (tile == Tilemap.EMPTY) {
+					continue;
+				}
+				float x0 = column * tw;
+				float y0 = row * th;
+				float u0 = (float) tileset.getFrameX(tile) / tileset.getImage().getWidth();
+				float v0 = (float) tileset.getFrameY(tile) / tileset.getImage().getHeight();
+				vertices.put(x0).put(y0).put(u0).put(v0);
+				vertices.put(x0).put(y0 + th).put(u0).put(v0 + dv);
+				vertices.put(x0 + tw).put(y0 + th).put(u0 + du).put(v0 + dv);
+				vertices.put(x0 + tw).put(y0).put(u0 + du).put(v0);
+			}
+		}
+		vertices.rewind();
+
+		gl.glBindBuffer(GL2.GL_ARRAY_BUFFER, this.vboId);
+		gl.glBufferData(GL2.GL_ARRAY_BUFFER, (long) vertices.capacity() * Buffers.SIZEOF_FLOAT, vertices,
+				GL2.GL_STATIC_DRAW);
+		gl.glBindBuffer(GL2.GL_ARRAY_BUFFER, 0);
+		this.vboVertices = 4 * this.filled;
+		this.vboUpdated = false;
+	}
+
+	@Override
+	public void dispose(GL2 gl) {
+		if (this.vboId != 0) {
+			int[] ids = { this.vboId };
+			gl.glDeleteBuffers(ids.length, ids, 0);
+			this.vboId = 0;
+			this.vboVertices = 0;
+			this.vboUpdated = true;
+		}
+	}
+
+	@Override
+	public void draw(CPUProcessor processor, int x, int y, double sx, double sy) {
+		SpriteSheet tileset = this.map.getTileset();
+		Image image = tileset.getImage();
+		int tw = tileset.getFrameWidth();
+		int th = tileset.getFrameHeight();
+		int screenWidth = processor.getImage().getWidth();
+		int screenHeight = processor.getImage().getHeight();
+
+		// Only draw the tiles on the screen
+		int columnStart = Math.max(0, (int) Math.floor(-x / (tw * sx)));
+		int rowStart = Math.max(0, (int) Math.floor(-y / (th * sy)));
+		int columnEnd = Math.min(this.columns, (int) Math.ceil((screenWidth - x) / (tw * sx)));
+		int rowEnd = Math.min(this.rows, (int) Math.ceil((screenHeight - y) / (th * sy)));
+		if (columnEnd <= columnStart || rowEnd <= rowStart) {
+			return;
+		}
+
+		// Retrieve the pixels of the tileset at the drawn size
+		int scaledWidth = (int) (image.getWidth() * sx);
+		int scaledHeight = (int) (image.getHeight() * sy);
+		ScaledImage scaled = processor.getScaledImages().fetch(image, scaledWidth, scaledHeight);
+		if (scaled == null) {
+			return;
+		}
+		boolean opaque = this.map.isOpaque();
+		int[] pixels = processor.getPixels();
+
+		for (int row = rowStart; row < rowEnd; row++) {
+			// The tile's edges on the screen, so neighbouring tiles meet exactly
+			int top = y + (int) (row * th * sy);
+			int bottom = y + (int) ((row + 1) * th * sy);
+			for (int column = columnStart; column < columnEnd; column++) {
+				short tile = this.tiles[row * this.columns + column];
+				if (tile == Tilemap.EMPTY) {
+					continue;
+				}
+				int left = x + (int) (column * tw * sx);
+				int right = x + (int) ((column + 1) * tw * sx);
+
+				// The frame's edges in the scaled tileset
+				int fx = tileset.getFrameX(tile);
+				int fy = tileset.getFrameY(tile);
+				int frameLeft = (int) (fx * sx);
+				int frameTop = (int) (fy * sy);
+				int width = Math.min(right - left, (int) ((fx + tw) * sx) - frameLeft);
+				int height = Math.min(bottom - top, (int) ((fy + th) * sy) - frameTop);
+
+				// Clip the tile to the screen
+				int xStart = Math.max(0, -left);
+				int yStart = Math.max(0, -top);
+				int xEnd = Math.min(width, screenWidth - left);
+				int yEnd = Math.min(height, screenHeight - top);
+				for (int yi = yStart; yi < yEnd; yi++) {
+					int offset = (frameTop + yi) * scaledWidth + frameLeft + xStart;
+					if (opaque) {
+						System.arraycopy(scaled.pixels, offset, pixels, (top + yi) * screenWidth + left + xStart,
+								xEnd - xStart);
+					} else {
+						processor.setPixels(left + xStart, top + yi, scaled.pixels, offset, xEnd - xStart,
+								image.isPremultiplied());
+					}
+				}
+			}
+		}
+	}
+
+	@Override
+	public void draw(JOGLProcessor processor, GL2 gl, double x, double y, double sx, double sy) {
+		if (this.vboUpdated || this.vboId == 0) {
+			refresh(gl);
+		}
+		if (this.vboVertices == 0) {
+			return;
+		}
+		SpriteSheet tileset = this.map.getTileset();
+		tileset.bind(processor, gl);
+
+		// Draw every tile at once, transformed to the screen
+		gl.glPushMatrix();
+		gl.glTranslated(x, y, 0);
+		gl.glScaled(sx, sy, 1);
+		gl.glBindBuffer(GL2.GL_ARRAY_BUFFER, this.vboId);
+		gl.glEnableClientState(GL2.GL_VERTEX_ARRAY);
+		gl.glEnableClientState(GL2.GL_TEXTURE_COORD_ARRAY);
+		int stride = VERTEX_FLOATS * Buffers.SIZEOF_FLOAT;
+		gl.glVertexPointer(2, GL2.GL_FLOAT, stride, 0);
+		gl.glTexCoordPointer(2, GL2.GL_FLOAT, stride, 2 * Buffers.SIZEOF_FLOAT);
+		gl.glDrawArrays(GL2.GL_QUADS, 0, this.vboVertices);
+		gl.glDisableClientState(GL2.GL_TEXTURE_COORD_ARRAY);
+		gl.glDisableClientState(GL2.GL_VERTEX_ARRAY);
+		gl.glBindBuffer(GL2.GL_ARRAY_BUFFER, 0);
+		gl.glPopMatrix();
+
+		tileset.unbind(gl);
+	}
+
+	@Override
+	public RenderRequest asRequest(RenderLevel level, int x, int y) {
+		return new TileChunkRequest(this, level, x, y);
+	}
+
+	@Override
+	public RenderRequest asRequest(RenderLevel level, int depth, int x, int y) {
+		return new TileChunkRequest(this, level, depth, x, y);
+	}
+
+}
@@ -0,0 +1,386 @@
+package com.game.engine.tiles;
+
+import java.nio.IntBuffer;
+
+import com.game.engine.camera.AbstractCamera;
+import com.game.engine.driver.GameDriver;
+import com.game.engine.game.AbstractComponent;
+import com.game.engine.game.Access;
+import com.game.engine.game.Chunk;
+import com.game.engine.graphics.common.GLObject;
+import com.game.engine.graphics.obj.SpriteSheet;
+import com.game.engine.rendering.common.AbstractRenderer;
+import com.game.engine.rendering.common.RenderLevel;
+import com.jogamp.opengl.GL2;
+
+/**
+ * A component which draws a grid of tiles over a plane from a tileset, such as
+ * the ground or walls of a level. Each tile is a frame of the tileset, or
+ * {@link #EMPTY}, and is stored as a short in the {@link TileChunk} of the
+ * {@link Chunk} its top left corner lies in, so a map is not thousands of game
+ * objects and empty chunks of the map take no memory. The map starts at the
+ * origin of the plane.
+ * <br>
+ * <br>
+ * Each chunk of the map the cameras can see is staged as one request, which
+ * draws only its visible tiles on the CPU, and one vertex buffer object of
+ * every tile on OpenGL. Tilesets are allocated on OpenGL when first drawn, and
+ * the object or plane owning a map should dispose of it with its own
+ * resources.
+ *
+ * @author Spencer Imbleau
+ * @version October 2026
+ * @see TileChunk
+ */
+public class Tilemap extends AbstractComponent implements GLObject {
+
+	/**
+	 * The tile of cells with no tile.
+	 */
+	public static final short EMPTY = -1;
+
+	/**
+	 * The frames tiles are drawn with.
+	 */
+	private final SpriteSheet tileset;
+
+	/**
+	 * The amount of columns of tiles.
+	 */
+	private final int columns;
+
+	/**
+	 * The amount of rows of tiles.
+	 */
+	private final int rows;
+
+	/**
+	 * The amount of columns of chunks the map spans.
+	 */
+	private final int chunkColumns;
+
+	/**
+	 * The amount of rows of chunks the map spans.
+	 */
+	private final int chunkRows;
+
+	/**
+	 * The chunks of tiles, row by row, which are null until a tile is set in
+	 * them.
+	 */
+	private final TileChunk[] chunks;
+
+	/**
+	 * The level tiles are drawn at.
+	 */
+	private RenderLevel level;
+
+	/**
+	 * Whether the tileset is allocated on OpenGL.
+	 */
+	private boolean allocated = false;
+
+	/**
+	 * The version of the tileset's image when it was last checked for
+	 * translucent pixels, or -1 if never.
+	 */
+	private int opaqueVersion = -1;
+
+	/**
+	 * Whether every pixel of the tileset is opaque, as of the last check.
+	 */
+	private boolean opaque = false;
+
+	/**
+	 * Counts how many times the map was staged, to stage each chunk once for all
+	 * cameras.
+	 */
+	private int stagings = 0;
+
+	/**
+	 * Initialize an empty tilemap.
+	 *
+	 * @param tileset - the frames tiles are drawn with
+	 * @param columns - the amount of columns of tiles
+	 * @param rows    - the amount of rows of tiles
+	 * @throws IllegalArgumentException if there are no columns or rows, or the
+	 *                                  tileset has more frames than fit in a
+	 *                                  short
+	 */
+	public Tilemap(SpriteSheet tileset, int columns, int rows) throws IllegalArgumentException {
+		if (columns <= 0 || rows <= 0) {
+			throw new IllegalArgumentException("Tilemaps need at least 1 column and 1 row");
+		}
+		if (tileset.getFrameCount() > Short.MAX_VALUE) {
+			throw new IllegalArgumentException("Tilesets may have at most " + Short.MAX_VALUE + " frames");
+		}
+		this.tileset = tileset;
+		this.columns = columns;
+		this.rows = rows;
+		this.chunkColumns = chunkOf(columns - 1, tileset.getFrameWidth()) + 1;
+		this.chunkRows = chunkOf(rows - 1, tileset.getFrameHeight()) + 1;
+		this.chunks = new TileChunk[this.chunkColumns * this.chunkRows];
+		this.level = RenderLevel.WORLD_GROUND;
+	}
+
+	/**
+	 * Helper method to find the chunk a cell lies in.
+	 *
+	 * @param cell - a column or row of tiles
+	 * @param size - the width or height of a tile
+	 * @return the column or row of the chunk the top left of the cell lies in
+	 */
+	private static int chunkOf(int cell, int size) {
+		return (int) ((long) cell * size / Chunk.SIZE);
+	}
+
+	/**
+	 * Helper method to find the first cell of a chunk.
+	 *
+	 * @param chunk - a column or row of chunks
+	 * @param size  - the width or height of a tile
+	 * @return the first column or row of tiles whose top left lies in the chunk
+	 */
+	private static int firstCellOf(int chunk, int size) {
+		return (int) (((long) chunk * Chunk.SIZE + size - 1) / size);
+	}
+
+	/**
+	 * @return the frames tiles are drawn with
+	 */
+	public SpriteSheet getTileset() {
+		return this.tileset;
+	}
+
+	/**
+	 * @return the amount of columns of tiles
+	 */
+	public int getColumns() {
+		return this.columns;
+	}
+
+	/**
+	 * @return the amount of rows of tiles
+	 */
+	public int getRows() {
+		return this.rows;
+	}
+
+	/**
+	 * @return the width of a tile
+	 */
+	public int getTileWidth() {
+		return this.tileset.getFrameWidth();
+	}
+
+	/**
+	 * @return the height of a tile
+	 */
+	public int getTileHeight() {
+		return this.tileset.getFrameHeight();
+	}
+
+	/**
+	 * @return the level tiles are drawn at
+	 */
+	public RenderLevel getLevel() {
+		return this.level;
+	}
+
+	/**
+	 * @param level - the level tiles are drawn at
+	 */
+	public void setLevel(RenderLevel level) {
+		this.level = level;
+	}
+
+	/**
+	 * @param column - a column of tiles
+	 * @param row    - a row of tiles
+	 * @return the tile at the cell, or {@link #EMPTY}
+	 * @throws IllegalArgumentException if the cell is not in the map
+	 */
+	public int get(int column, int row) throws IllegalArgumentException {
+		checkCell(column, row);
+		TileChunk chunk = this.chunks[chunkIndex(column, row)];
+		return (chunk == null) ? EMPTY : chunk.get(column, row);
+	}
+
+	/**
+	 * Set the tile of a cell.
+	 *
+	 * @param column - a column of tiles
+	 * @param row    - a row of tiles
+	 * @param tile   - a frame of the tileset, or {@link #EMPTY}
+	 * @throws IllegalArgumentException if the cell is not in the map, or the tile
+	 *                                  is not in the tileset
+	 */
+	public void set(int column, int row, int tile) throws IllegalArgumentException {
+		checkCell(column, row);
+		if (tile < EMPTY || tile >= this.tileset.getFrameCount()) {
+			throw new IllegalArgumentException(
+					"Tile " + tile + " is not in a tileset of " + this.tileset.getFrameCount());
+		}
+		int index = chunkIndex(column, row);
+		if (this.chunks[index] == null) {
+			if (tile == EMPTY) {
+				return;
+			}
+			int chunkColumn = index % this.chunkColumns;
+			int chunkRow = index / this.chunkColumns;
+			int tw = getTileWidth();
+			int th = getTileHeight();
+			int column0 = firstCellOf(chunkColumn, tw);
+			int row0 = firstCellOf(chunkRow, th);
+			int column1 = Math.min(this.columns, firstCellOf(chunkColumn + 1, tw));
+			int row1 = Math.min(this.rows, firstCellOf(chunkRow + 1, th));
+			this.chunks[index] = new TileChunk(this, column0, row0, column1 - column0, row1 - row0);
+		}
+		this.chunks[index].set(column, row, (short) tile);
+	}
+
+	/**
+	 * Helper method to check a cell is in the map.
+	 *
+	 * @param column - a column of tiles
+	 * @param row    - a row of tiles
+	 * @throws IllegalArgumentException if the cell is not in the map
+	 */
+	private void checkCell(int column, int row) throws IllegalArgumentException {
+		if (column < 0 || row < 0 || column >= this.columns || row >= this.rows) {
+			throw new IllegalArgumentException("Cell (" + column + ", " + row + ") is not in a map of " + this.columns
+					+ "x" + this.rows);
+		}
+	}
+
+	/**
+	 * @param column - a column of tiles
+	 * @param row    - a row of tiles
+	 * @return the index of the chunk the cell lies in
+	 */
+	private int chunkIndex(int column, int row) {
+		return chunkOf(row, getTileHeight()) * this.chunkColumns + chunkOf(column, getTileWidth());
+	}
+
+	/**
+	 * @param chunkColumn - a column of chunks
+	 * @param chunkRow    - a row of chunks
+	 * @return the tiles of the chunk, or null if no tile was set in it
+	 */
+	public TileChunk getChunk(int chunkColumn, int chunkRow) {
+		if (chunkColumn < 0 || chunkRow < 0 || chunkColumn >= this.chunkColumns || chunkRow >= this.chunkRows) {
+			return null;
+		}
+		return this.chunks[chunkRow * this.chunkColumns + chunkColumn];
+	}
+
+	/**
+	 * Returns whether every pixel of the tileset is opaque, so tiles may be
+	 * copied over the screen rather than blended. The tileset is checked again
+	 * whenever its pixels change.
+	 *
+	 * @return true if every pixel of the tileset is opaque, false otherwise
+	 */
+	boolean isOpaque() {
+		int version = this.tileset.getImage().getVersion();
+		if (this.opaqueVersion != version) {
+			this.opaqueVersion = version;
+			this.opaque = true;
+			IntBuffer pbo = this.tileset.getImage().getPBO();
+			if (pbo == null) {
+				this.opaque = false;
+			} else {
+				int[] pixels = pbo.array();
+				for (int i = 0; i < pixels.length && this.opaque; i++) {
+					this.opaque = (pixels[i] >>> 24) == 0xff;
+				}
+			}
+		}
+		return this.opaque;
+	}
+
+	@Override
+	public void update(GameDriver driver) {
+		// Tiles don't change on their own
+	}
+
+	@Override
+	public Access access() {
+		return Access.NONE;
+	}
+
+	@Override
+	public void stage(GameDriver driver, AbstractRenderer renderer) {
+		int stamp = ++this.stagings;
+		int tw = getTileWidth();
+		int th = getTileHeight();
+		int previous = renderer.getStagingViews();
+
+		// Only visit the chunks some camera can see
+		for (AbstractCamera camera : renderer.getCameras()) {
+			double x = camera.viewport.x();
+			double y = camera.viewport.y();
+			double width = camera.viewport.visibleWidth();
+			double height = camera.viewport.visibleHeight();
+			// Tiles of the chunk before may reach into view
+			int column0 = Math.max(0, (int) Math.floor(x / Chunk.SIZE) - 1);
+			int row0 = Math.max(0, (int) Math.floor(y / Chunk.SIZE) - 1);
+			int column1 = Math.min(this.chunkColumns - 1, (int) Math.floor((x + width) / Chunk.SIZE));
+			int row1 = Math.min(this.chunkRows - 1, (int) Math.floor((y + height) / Chunk.SIZE));
+			for (int row = row0; row <= row1; row++) {
+				for (int column = column0; column <= column1; column++) {
+					TileChunk chunk = this.chunks[row * this.chunkColumns + column];
+					if (chunk == null || chunk.isEmpty() || chunk.stagedAt == stamp) {
+						continue;
+					}
+					chunk.stagedAt = stamp;
+					int cx = chunk.getFirstColumn() * tw;
+					int cy = chunk.getFirstRow() * th;
+					int views = renderer.visibleViews(cx, cy, chunk.getWidth(), chunk.getHeight());
+					if (views != 0) {
+						renderer.setStagingViews(views);
+						renderer.stage(chunk.asRequest(this.level, cx, cy));
+					}
+				}
+			}
+		}
+		renderer.setStagingViews(previous);
+	}
+
+	/**
+	 * Allocate the tileset on OpenGL, if it isn't yet.
+	 *
+	 * @param gl - a current GL context
+	 */
+	@Override
+	public void alloc(GL2 gl) {
+		if (!this.allocated) {
+			this.tileset.alloc(gl);
+			this.allocated = true;
+		}
+	}
+
+	@Override
+	public void refresh(GL2 gl) {
+		this.tileset.refresh(gl);
+	}
+
+	/**
+	 * Dispose of the tileset and the buffers of every chunk on OpenGL.
+	 *
+	 * @param gl - a current GL context
+	 */
+	@Override
+	public void dispose(GL2 gl) {
+		for (TileChunk chunk : this.chunks) {
+			if (chunk != null) {
+				chunk.dispose(gl);
+			}
+		}
+		if (this.allocated) {
+			this.tileset.dispose(gl);
+			this.allocated = false;
+		}
+	}
+
+}
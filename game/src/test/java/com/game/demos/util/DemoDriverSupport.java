@@ -1,10 +1,12 @@
 package com.game.demos.util;
 
 import com.game.engine.cache.Cache;
+import com.game.engine.cache.ImageLoader;
 import com.game.engine.cache.LRUCache;
 import com.game.engine.driver.GameDriver;
 import com.game.engine.driver.GameDriverFactory;
 import com.game.engine.game.AbstractGame;
+import com.game.engine.graphics.obj.Image;
 
 /**
  * Utility functions to generate a {@link GameDriver} for demos.
@@ -18,7 +20,7 @@ public class DemoDriverSupport {
 	/**
 	 * The default ticks per second for demo game drivers.
 	 */
-	public static final Cache DEFAULT_CACHE = new LRUCache(1000);
+	public static final Cache<String, Image> DEFAULT_CACHE = new LRUCache<String, Image>(1000, new ImageLoader());
 
 	/**
 	 * The default ticks per second for demo game drivers.
@@ -0,0 +1,47 @@
+package com.game.engine.cache;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.game.engine.graphics.obj.fonts.Font;
+import com.game.engine.graphics.obj.fonts.FontFile;
+import com.game.engine.graphics.obj.fonts.mock.MockFonts;
+
+/**
+ * Tests a {@link FontLoader}
+ *
+ * @author Spencer Imbleau
+ * @version October 2026
+ */
+public class TestFontLoader {
+
+	/**
+	 * Tests compiled fonts are loaded from files and cached.
+	 *
+	 * @throws Exception if the font could not be written
+	 */
+	@Test
+	public void testLoad() throws Exception {
+		Path path = Files.createTempFile("font", ".pwf");
+		try {
+			FontFile.write(MockFonts.FONT_ASCII, path, true);
+			Cache<String, Font> cache = new LRUCache<String, Font>(4, new FontLoader());
+
+			Font font = cache.fetch(path.toString());
+			Assert.assertNotNull(font);
+			Assert.assertEquals(MockFonts.FONT_ASCII.size, font.size);
+			Assert.assertEquals(MockFonts.FONT_ASCII.glyphs.keySet(), font.glyphs.keySet());
+			Assert.assertSame(font, cache.fetch(path.toString()));
+
+			// Missing fonts aren't cached
+			Assert.assertNull(cache.fetch(path.toString() + ".missing"));
+			Assert.assertEquals(1, cache.size());
+		} finally {
+			Files.delete(path);
+		}
+	}
+
+}
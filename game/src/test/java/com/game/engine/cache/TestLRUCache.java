@@ -16,33 +16,33 @@ import com.game.engine.graphics.obj.Image;
 public class TestLRUCache {
 
 	/**
-	 * Test {@link LRUCache#LRUCache(int)}.
+	 * Test {@link LRUCache#LRUCache(int, CacheLoader)}.
 	 */
 	@Test
 	public void testConstructor1() {
 		// Test with bad amount
 		Assert.assertThrows(IllegalArgumentException.class, () -> {
-			new LRUCache(-1);
+			new LRUCache<String, Object>(-1, new ImageLoader()::load);
 		});
 
 		// Buffer for constructor tests
-		LRUCache buf;
+		LRUCache<String, Object> buf;
 
 		// Test on a large amount
-		buf = new LRUCache(Integer.MAX_VALUE);
+		buf = new LRUCache<String, Object>(Integer.MAX_VALUE, new ImageLoader()::load);
 		Assert.assertEquals(Integer.MAX_VALUE, buf.capacity);
 
 		// Test on 0
-		buf = new LRUCache(0);
+		buf = new LRUCache<String, Object>(0, new ImageLoader()::load);
 		Assert.assertEquals(0, buf.capacity);
 	}
 
 	/**
-	 * Test {@link LRUCache#contains(String)}.
+	 * Test {@link LRUCache#contains(Object)}.
 	 */
 	@Test
 	public void testContains() {
-		Cache buf = new LRUCache(1);
+		Cache<String, Object> buf = new LRUCache<String, Object>(1, new ImageLoader()::load);
 
 		// null never exists
 		Assert.assertFalse(buf.contains("null"));
@@ -55,11 +55,11 @@ public class TestLRUCache {
 	}
 
 	/**
-	 * Test {@link LRUCache#fetch(String)}.
+	 * Test {@link LRUCache#fetch(Object)}.
 	 */
 	@Test
 	public void testFetch() {
-		Cache buf = new LRUCache(1);
+		Cache<String, Object> buf = new LRUCache<String, Object>(1, new ImageLoader()::load);
 
 		// Fetching a null key should throw an exception
 		Assert.assertThrows(IllegalArgumentException.class, () -> {
@@ -77,11 +77,11 @@ public class TestLRUCache {
 	}
 
 	/**
-	 * Test {@link LRUCache#get(String)}.
+	 * Test {@link LRUCache#get(Object)}.
 	 */
 	@Test
 	public void testGet() {
-		Cache buf = new LRUCache(1);
+		Cache<String, Object> buf = new LRUCache<String, Object>(1, new ImageLoader()::load);
 
 		// Getting a null key should throw an exception
 		Assert.assertThrows(IllegalArgumentException.class, () -> {
@@ -92,7 +92,7 @@ public class TestLRUCache {
 		buf.put("test", null);
 
 		// Test get
-		CacheNode node = buf.get("test");
+		CacheNode<String, Object> node = buf.get("test");
 		Assert.assertNotNull(node);
 		Assert.assertNull(node.value);
 
@@ -108,7 +108,7 @@ public class TestLRUCache {
 	@Test
 	public void testPurge() {
 		// Load buffer
-		Cache buf = new LRUCache(3);
+		Cache<String, Object> buf = new LRUCache<String, Object>(3, new ImageLoader()::load);
 		buf.put("test1", null);
 		buf.put("test2", null);
 		buf.put("test3", null);
@@ -125,11 +125,11 @@ public class TestLRUCache {
 	}
 
 	/**
-	 * Test {@link LRUCache#put(String, Object)}.
+	 * Test {@link LRUCache#put(Object, Object)}.
 	 */
 	@Test
 	public void testPut() {
-		Cache buf = new LRUCache(1);
+		Cache<String, Object> buf = new LRUCache<String, Object>(1, new ImageLoader()::load);
 
 		// Inserting a null key should throw an exception
 		Assert.assertThrows(IllegalArgumentException.class, () -> {
@@ -146,11 +146,11 @@ public class TestLRUCache {
 	}
 
 	/**
-	 * Test {@link LRUCache#remove(String)}.
+	 * Test {@link LRUCache#remove(Object)}.
 	 */
 	@Test
 	public void testRemove() {
-		Cache buf = new LRUCache(1);
+		Cache<String, Object> buf = new LRUCache<String, Object>(1, new ImageLoader()::load);
 
 		// Attempt to remove something that doesn't exist
 		buf.remove("test");
@@ -168,7 +168,7 @@ public class TestLRUCache {
 	@Test
 	public void testSize() {
 		// Start buf with size 0
-		Cache buf = new LRUCache(0);
+		Cache<String, Object> buf = new LRUCache<String, Object>(0, new ImageLoader()::load);
 
 		// Insert an element - It should drop immediately
 		Assert.assertEquals(0, buf.size());
@@ -176,7 +176,7 @@ public class TestLRUCache {
 		Assert.assertEquals(0, buf.size());
 
 		// Make buf size to 1
-		buf = new LRUCache(1);
+		buf = new LRUCache<String, Object>(1, new ImageLoader()::load);
 
 		// Insert an element - It should be added
 		Assert.assertEquals(0, buf.size());
@@ -194,7 +194,7 @@ public class TestLRUCache {
 	 */
 	@Test
 	public void testDataRemovalPolicy() {
-		Cache buf = new LRUCache(1);
+		Cache<String, Object> buf = new LRUCache<String, Object>(1, new ImageLoader()::load);
 
 		// Test LRU data removal policy
 		buf.put("test1", null);
@@ -205,4 +205,82 @@ public class TestLRUCache {
 		Assert.assertFalse(buf.contains("test1"));
 		Assert.assertTrue(buf.contains("test2"));
 	}
+
+	/**
+	 * Ensure a hit marks an object as the most recently used.
+	 */
+	@Test
+	public void testRecency() {
+		Cache<String, Object> buf = new LRUCache<String, Object>(2, new ImageLoader()::load);
+		buf.put("test1", null);
+		buf.put("test2", null);
+
+		// Using test1 makes test2 the least recently used
+		buf.get("test1");
+		buf.put("test3", null);
+		Assert.assertTrue(buf.contains("test1"));
+		Assert.assertFalse(buf.contains("test2"));
+		Assert.assertTrue(buf.contains("test3"));
+	}
+
+	/**
+	 * Test {@link LRUCache#fetch(Object)} with a typed loader.
+	 */
+	@Test
+	public void testLoader() {
+		Cache<Integer, String> buf = new LRUCache<Integer, String>(2, (key) -> {
+			if (key < 0) {
+				throw new Exception("Negative key");
+			}
+			return "value" + key;
+		});
+
+		// Misses are loaded and cached
+		Assert.assertEquals("value1", buf.fetch(1));
+		Assert.assertTrue(buf.contains(1));
+
+		// Failures to load are not cached
+		Assert.assertNull(buf.fetch(-1));
+		Assert.assertFalse(buf.contains(-1));
+	}
+
+	/**
+	 * Test {@link LRUCache#weight()}.
+	 */
+	@Test
+	public void testWeight() {
+		CacheLoader<String, String> loader = new CacheLoader<String, String>() {
+			@Override
+			public String load(String key) {
+				return key;
+			}
+
+			@Override
+			public int weigh(String key, String value) {
+				return value.length();
+			}
+		};
+		Cache<String, String> buf = new LRUCache<String, String>(10, loader);
+
+		// Objects are weighed
+		buf.fetch("1234");
+		buf.fetch("123456");
+		Assert.assertEquals(2, buf.size());
+		Assert.assertEquals(10, buf.weight());
+
+		// The cache evicts until it is within capacity
+		buf.fetch("12");
+		Assert.assertEquals(2, buf.size());
+		Assert.assertEquals(8, buf.weight());
+		Assert.assertFalse(buf.contains("1234"));
+
+		// Replacing an object re-weighs it
+		buf.put("12", "1");
+		Assert.assertEquals(7, buf.weight());
+
+		// Objects heavier than the capacity are never held, nor evict others
+		buf.fetch("12345678901");
+		Assert.assertFalse(buf.contains("12345678901"));
+		Assert.assertEquals(7, buf.weight());
+	}
 }
@@ -0,0 +1,71 @@
+package com.game.engine.cache;
+
+import java.awt.image.BufferedImage;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.game.engine.graphics.obj.Label;
+import com.game.engine.graphics.obj.fonts.Font;
+import com.game.engine.graphics.obj.fonts.Glyph;
+import com.game.engine.graphics.obj.fonts.mock.MockFonts;
+
+/**
+ * Tests a {@link LabelLoader}
+ *
+ * @author Spencer Imbleau
+ * @version October 2026
+ */
+public class TestLabelLoader {
+
+	/**
+	 * The font we use to bake.
+	 */
+	private static final Font TEST_FONT = MockFonts.FONT_ASCII;
+
+	/**
+	 * Tests bitmaps are keyed by font, keycodes and color, and weighed by pixels.
+	 */
+	@Test
+	public void testLoad() {
+		Cache<LabelLoader.Key, BufferedImage> cache = new LRUCache<LabelLoader.Key, BufferedImage>(1 << 16,
+				new LabelLoader());
+		int[] keycodes = Glyph.keycodesOf("Hello");
+
+		BufferedImage hello = cache.fetch(new LabelLoader.Key(TEST_FONT, keycodes, 0xff00ff00));
+		Assert.assertEquals(TEST_FONT.measure(keycodes), hello.getWidth());
+		Assert.assertEquals(hello.getWidth() * hello.getHeight(), cache.weight());
+
+		// Equal keycodes share the bitmap, even when the array changes later
+		Assert.assertSame(hello, cache.fetch(new LabelLoader.Key(TEST_FONT, Glyph.keycodesOf("Hello"), 0xff00ff00)));
+		keycodes[0] = 'J';
+		Assert.assertSame(hello, cache.fetch(new LabelLoader.Key(TEST_FONT, Glyph.keycodesOf("Hello"), 0xff00ff00)));
+
+		// Other colors and fonts are baked again
+		Assert.assertNotSame(hello, cache.fetch(new LabelLoader.Key(TEST_FONT, Glyph.keycodesOf("Hello"), 0xffff0000)));
+		Assert.assertNotSame(hello,
+				cache.fetch(new LabelLoader.Key(MockFonts.FONT_256, Glyph.keycodesOf("Hello"), 0xff00ff00)));
+
+		// No keycodes bake no bitmap
+		Assert.assertNull(cache.fetch(new LabelLoader.Key(TEST_FONT, new int[0], 0xff00ff00)));
+	}
+
+	/**
+	 * Tests labels showing the same text share a bitmap, and labels changing text
+	 * reuse bitmaps baked before.
+	 */
+	@Test
+	public void testLabels() {
+		Label a = new Label(TEST_FONT, "Score: 1", 0xff00ff00);
+		Label b = new Label(TEST_FONT, "Score: 1", 0xff00ff00);
+		Assert.assertSame(a.getBufferedImage(), b.getBufferedImage());
+
+		BufferedImage first = a.getBufferedImage();
+		a.setText("Score: 2");
+		Assert.assertEquals("Score: 2", a.getText());
+		Assert.assertNotSame(first, a.getBufferedImage());
+		a.setText("Score: 1");
+		Assert.assertSame(first, a.getBufferedImage());
+	}
+
+}
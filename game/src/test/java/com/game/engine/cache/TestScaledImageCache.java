@@ -0,0 +1,159 @@
+package com.game.engine.cache;
+
+import java.awt.image.BufferedImage;
+import java.lang.ref.WeakReference;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.game.engine.cache.ScaledImageCache.ScaledImage;
+import com.game.engine.graphics.common.SamplingMode;
+import com.game.engine.graphics.obj.Image;
+
+/**
+ * Tests a {@link ScaledImageCache}
+ *
+ * @author Spencer Imbleau
+ * @version October 2026
+ */
+public class TestScaledImageCache {
+
+	/**
+	 * Helper method to create an image from pixels.
+	 *
+	 * @param pixels - the pixels, stored row by row
+	 * @param width  - the width of the image
+	 * @param height - the height of the image
+	 * @return an image with the given pixels
+	 */
+	private static Image createImage(int[] pixels, int width, int height) {
+		BufferedImage buf = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+		buf.setRGB(0, 0, width, height, pixels, 0, width);
+		return new Image(buf);
+	}
+
+	/**
+	 * Test {@link ScaledImageCache#fetch(Image, int, int)} at the image's own
+	 * size and at sizes with no pixels.
+	 */
+	@Test
+	public void testFetchUnscaled() {
+		ScaledImageCache buf = new ScaledImageCache(CachePolicy.LRU, 100);
+		Image image = createImage(new int[] { 0xff000001, 0xff000002 }, 2, 1);
+
+		// The image's own size shares pixels and is not cached
+		ScaledImage scaled = buf.fetch(image, 2, 1);
+		Assert.assertSame(image.getPBO().array(), scaled.pixels);
+		Assert.assertEquals(0, buf.size());
+
+		// Sizes with no pixels cannot be scaled to
+		Assert.assertNull(buf.fetch(image, 0, 1));
+		Assert.assertNull(buf.fetch(image, 1, 0));
+		Assert.assertNull(buf.fetch(new Image(null), 1, 1));
+	}
+
+	/**
+	 * Ensure enlarged images sample the nearest pixels.
+	 */
+	@Test
+	public void testEnlarge() {
+		ScaledImageCache buf = new ScaledImageCache(CachePolicy.LRU, 100);
+		Image image = createImage(new int[] { 0xff000001, 0xff000002 }, 2, 1);
+
+		ScaledImage scaled = buf.fetch(image, 4, 2);
+		Assert.assertEquals(4, scaled.width);
+		Assert.assertEquals(2, scaled.height);
+		Assert.assertArrayEquals(new int[] { 0xff000001, 0xff000001, 0xff000002, 0xff000002, 0xff000001,
+				0xff000001, 0xff000002, 0xff000002 }, scaled.pixels);
+	}
+
+	/**
+	 * Ensure halved images are box filtered from a mip level.
+	 */
+	@Test
+	public void testMipLevel() {
+		ScaledImageCache buf = new ScaledImageCache(CachePolicy.LRU, 100);
+		Image image = createImage(new int[] { 0xff000000, 0xff000004, 0xff000008, 0xff00000c }, 2, 2);
+
+		ScaledImage scaled = buf.fetch(image, 1, 1);
+		Assert.assertArrayEquals(new int[] { 0xff000006 }, scaled.pixels);
+	}
+
+	/**
+	 * Ensure scaled images are cached, weighed by pixels and invalidated when the
+	 * image changes.
+	 */
+	@Test
+	public void testCaching() {
+		ScaledImageCache buf = new ScaledImageCache(CachePolicy.LRU, 100);
+		Image image = createImage(new int[] { 0xff000001, 0xff000002 }, 2, 1);
+
+		// Fetching twice retrieves the same pixels
+		ScaledImage scaled = buf.fetch(image, 4, 2);
+		Assert.assertSame(scaled, buf.fetch(image, 4, 2));
+		Assert.assertEquals(1, buf.size());
+		Assert.assertEquals(8, buf.weight());
+
+		// Modified images are scaled again
+		image.getPBO().put(0, 0xff000003);
+		image.flagGLRefresh();
+		ScaledImage rescaled = buf.fetch(image, 4, 2);
+		Assert.assertNotSame(scaled, rescaled);
+		Assert.assertEquals(0xff000003, rescaled.pixels[0]);
+
+		// The cache never holds more pixels than its capacity
+		for (int i = 1; i < 20; i++) {
+			buf.fetch(image, 4 * i, 2);
+			Assert.assertTrue(buf.weight() <= 100);
+		}
+	}
+
+	/**
+	 * Ensure images are scaled with their sampling mode.
+	 */
+	@Test
+	public void testSampling() {
+		ScaledImageCache buf = new ScaledImageCache(CachePolicy.LRU, 100);
+		Image image = createImage(new int[] { 0xff000000, 0xff0000ff }, 2, 1);
+
+		// Nearest sampling duplicates pixels
+		ScaledImage nearest = buf.fetch(image, 4, 1);
+		Assert.assertArrayEquals(new int[] { 0xff000000, 0xff000000, 0xff0000ff, 0xff0000ff }, nearest.pixels);
+
+		// Bilinear sampling interpolates between pixel centers
+		image.setSampling(SamplingMode.BILINEAR);
+		ScaledImage bilinear = buf.fetch(image, 4, 1);
+		Assert.assertNotSame(nearest, bilinear);
+		Assert.assertEquals(0xff000000, bilinear.pixels[0]);
+		Assert.assertEquals(0xff00003f, bilinear.pixels[1]);
+		Assert.assertEquals(0xff0000bf, bilinear.pixels[2]);
+		Assert.assertEquals(0xff0000ff, bilinear.pixels[3]);
+	}
+
+	/**
+	 * Ensure cached scalings don't keep their image alive.
+	 */
+	@Test
+	public void testWeakImages() {
+		ScaledImageCache buf = new ScaledImageCache(CachePolicy.LRU, 100);
+		Image image = createImage(new int[] { 0xff000001, 0xff000002 }, 2, 1);
+		buf.fetch(image, 4, 2);
+		Assert.assertEquals(1, buf.size());
+
+		// Discard the image
+		WeakReference<Image> ref = new WeakReference<>(image);
+		image = null;
+		for (int i = 0; i < 10 && ref.get() != null; i++) {
+			System.gc();
+		}
+		Assert.assertNull(ref.get());
+
+		// The stale scaling is weighed until it is evicted
+		Assert.assertEquals(8, buf.weight());
+		Image other = createImage(new int[] { 0xff000001, 0xff000002 }, 2, 1);
+		for (int i = 1; i < 20; i++) {
+			buf.fetch(other, 4 * i, 2);
+			Assert.assertTrue(buf.weight() <= 100);
+		}
+	}
+}
@@ -0,0 +1,347 @@
+package com.game.engine.cache;
+
+import java.nio.file.Paths;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.game.engine.graphics.obj.Image;
+
+/**
+ * Tests a {@link TinyLFUCache}
+ * 
+ * @author Spencer Imbleau
+ * @version October 2026
+ */
+public class TestTinyLFUCache {
+
+	/**
+	 * Test {@link TinyLFUCache#TinyLFUCache(int, CacheLoader)}.
+	 */
+	@Test
+	public void testConstructor1() {
+		// Test with bad amount
+		Assert.assertThrows(IllegalArgumentException.class, () -> {
+			new TinyLFUCache<String, Object>(-1, new ImageLoader()::load);
+		});
+
+		// Buffer for constructor tests
+		TinyLFUCache<String, Object> buf;
+
+		// Test on a large amount
+		buf = new TinyLFUCache<String, Object>(Integer.MAX_VALUE, new ImageLoader()::load);
+		Assert.assertEquals(Integer.MAX_VALUE, buf.capacity);
+
+		// Test on 0
+		buf = new TinyLFUCache<String, Object>(0, new ImageLoader()::load);
+		Assert.assertEquals(0, buf.capacity);
+	}
+
+	/**
+	 * Test {@link TinyLFUCache#contains(Object)}.
+	 */
+	@Test
+	public void testContains() {
+		Cache<String, Object> buf = new TinyLFUCache<String, Object>(1, new ImageLoader()::load);
+
+		// null never exists
+		Assert.assertFalse(buf.contains("null"));
+
+		// Test existing objects
+		buf.put("test", null);
+		Assert.assertTrue(buf.contains("test"));
+		buf.remove("test");
+		Assert.assertFalse(buf.contains("test"));
+	}
+
+	/**
+	 * Test {@link TinyLFUCache#fetch(Object)}.
+	 */
+	@Test
+	public void testFetch() {
+		Cache<String, Object> buf = new TinyLFUCache<String, Object>(1, new ImageLoader()::load);
+
+		// Fetching a null key should throw an exception
+		Assert.assertThrows(IllegalArgumentException.class, () -> {
+			buf.fetch(null);
+		});
+
+		// Insert an image to the cache via fetch
+		String testPath = Paths.get("src", "test", "resources", "pixel.png").toString();
+		buf.fetch(testPath);
+
+		// Ensure fetch loaded the image in
+		Assert.assertTrue(buf.contains(testPath));
+		// Ensure it's an image
+		Assert.assertTrue(buf.get(testPath).value instanceof Image);
+	}
+
+	/**
+	 * Test {@link TinyLFUCache#get(Object)}.
+	 */
+	@Test
+	public void testGet() {
+		Cache<String, Object> buf = new TinyLFUCache<String, Object>(1, new ImageLoader()::load);
+
+		// Getting a null key should throw an exception
+		Assert.assertThrows(IllegalArgumentException.class, () -> {
+			buf.get(null);
+		});
+
+		// Insert dummy data
+		buf.put("test", null);
+
+		// Test get
+		CacheNode<String, Object> node = buf.get("test");
+		Assert.assertNotNull(node);
+		Assert.assertNull(node.value);
+
+		// Ensure we got the reference by changing the value and re-retrieving it
+		node.value = "value";
+		node = buf.get("test");
+		Assert.assertEquals("value", node.value);
+	}
+
+	/**
+	 * Test {@link TinyLFUCache#purge()}.
+	 */
+	@Test
+	public void testPurge() {
+		// Load buffer
+		Cache<String, Object> buf = new TinyLFUCache<String, Object>(3, new ImageLoader()::load);
+		buf.put("test1", null);
+		buf.put("test2", null);
+		buf.put("test3", null);
+
+		// Test purge
+		Assert.assertEquals(3, buf.size());
+		buf.purge();
+		Assert.assertEquals(0, buf.size());
+
+		// Make sure they're able to be retrieved
+		Assert.assertNull(buf.get("test1"));
+		Assert.assertNull(buf.get("test2"));
+		Assert.assertNull(buf.get("test3"));
+	}
+
+	/**
+	 * Test {@link TinyLFUCache#put(Object, Object)}.
+	 */
+	@Test
+	public void testPut() {
+		Cache<String, Object> buf = new TinyLFUCache<String, Object>(1, new ImageLoader()::load);
+
+		// Inserting a null key should throw an exception
+		Assert.assertThrows(IllegalArgumentException.class, () -> {
+			buf.put(null, null);
+		});
+
+		// Test new object added
+		buf.put("test", null);
+		Assert.assertNull(buf.get("test").value);
+
+		// Override the input
+		buf.put("test", "value");
+		Assert.assertEquals(buf.get("test").value, "value");
+	}
+
+	/**
+	 * Test {@link TinyLFUCache#remove(Object)}.
+	 */
+	@Test
+	public void testRemove() {
+		Cache<String, Object> buf = new TinyLFUCache<String, Object>(1, new ImageLoader()::load);
+
+		// Attempt to remove something that doesn't exist
+		buf.remove("test");
+		Assert.assertFalse(buf.contains("test"));
+
+		// Attempt to remove something that does exist
+		buf.put("test", null);
+		buf.remove("test");
+		Assert.assertFalse(buf.contains("test"));
+	}
+
+	/**
+	 * Test {@link TinyLFUCache#size()}.
+	 */
+	@Test
+	public void testSize() {
+		// Start buf with size 0
+		Cache<String, Object> buf = new TinyLFUCache<String, Object>(0, new ImageLoader()::load);
+
+		// Insert an element - It should drop immediately
+		Assert.assertEquals(0, buf.size());
+		buf.put("test", null);
+		Assert.assertEquals(0, buf.size());
+
+		// Make buf size to 1
+		buf = new TinyLFUCache<String, Object>(1, new ImageLoader()::load);
+
+		// Insert an element - It should be added
+		Assert.assertEquals(0, buf.size());
+		buf.put("test", null);
+		Assert.assertEquals(1, buf.size());
+
+		// Insert an element again - This time it should drop
+		// e.g. size should still be 1
+		buf.put("test2", null);
+		Assert.assertEquals(1, buf.size());
+	}
+
+	/**
+	 * Ensure the window evicts in LRU order when there is no main region.
+	 */
+	@Test
+	public void testDataRemovalPolicy() {
+		Cache<String, Object> buf = new TinyLFUCache<String, Object>(1, new ImageLoader()::load);
+
+		// Test window data removal policy
+		buf.put("test1", null);
+		Assert.assertTrue(buf.contains("test1"));
+
+		// The window declares test1 will be popped for test2
+		buf.put("test2", null);
+		Assert.assertFalse(buf.contains("test1"));
+		Assert.assertTrue(buf.contains("test2"));
+	}
+
+	/**
+	 * Ensure a frequently used working set survives a scan of one-off keys.
+	 */
+	@Test
+	public void testScanResistance() {
+		int capacity = 100;
+		int hot = 50;
+		Cache<String, Object> buf = new TinyLFUCache<String, Object>(capacity, new ImageLoader()::load);
+
+		// Build a hot working set which is used many times
+		for (int pass = 0; pass < 5; pass++) {
+			for (int i = 0; i < hot; i++) {
+				String key = "hot" + i;
+				if (buf.get(key) == null) {
+					buf.put(key, null);
+				}
+			}
+		}
+
+		// Scan through many keys which are only used once
+		for (int i = 0; i < capacity * 20; i++) {
+			buf.put("scan" + i, null);
+		}
+
+		// The cache must respect its capacity
+		Assert.assertTrue(buf.size() <= capacity);
+
+		// The hot working set must still be resident. Popularity is estimated, so a
+		// rare one-off key may collide with hot keys and be admitted.
+		int resident = 0;
+		for (int i = 0; i < hot; i++) {
+			if (buf.contains("hot" + i)) {
+				resident++;
+			}
+		}
+		Assert.assertTrue(resident >= hot * 9 / 10);
+	}
+
+	/**
+	 * Ensure the cache never holds more than its capacity.
+	 */
+	@Test
+	public void testCapacity() {
+		for (int capacity = 0; capacity < 10; capacity++) {
+			Cache<String, Object> buf = new TinyLFUCache<String, Object>(capacity, new ImageLoader()::load);
+			for (int i = 0; i < 100; i++) {
+				buf.put("test" + (i % 13), null);
+				buf.get("test" + (i % 7));
+				Assert.assertTrue(buf.size() <= capacity);
+			}
+		}
+	}
+
+	/**
+	 * Test {@link TinyLFUCache#weight()}.
+	 */
+	@Test
+	public void testWeight() {
+		CacheLoader<String, String> loader = new CacheLoader<String, String>() {
+			@Override
+			public String load(String key) {
+				return key;
+			}
+
+			@Override
+			public int weigh(String key, String value) {
+				return value.length();
+			}
+		};
+		Cache<String, String> buf = new TinyLFUCache<String, String>(100, loader);
+
+		// Objects are weighed
+		buf.fetch("1234");
+		buf.fetch("123456");
+		Assert.assertEquals(10, buf.weight());
+
+		// The cache never holds more than its capacity in weight
+		for (int i = 0; i < 1000; i++) {
+			buf.fetch("key" + i);
+			Assert.assertTrue(buf.weight() <= 100);
+		}
+
+		// Objects heavier than the capacity are never held
+		StringBuilder heavy = new StringBuilder();
+		for (int i = 0; i < 101; i++) {
+			heavy.append('x');
+		}
+		buf.fetch(heavy.toString());
+		Assert.assertFalse(buf.contains(heavy.toString()));
+	}
+
+	/**
+	 * Ensure a weighted candidate which loses the admission contest evicts
+	 * nothing.
+	 */
+	@Test
+	public void testWeightedAdmission() {
+		CacheLoader<String, String> loader = new CacheLoader<String, String>() {
+			@Override
+			public String load(String key) {
+				return key;
+			}
+
+			@Override
+			public int weigh(String key, String value) {
+				return value.length();
+			}
+		};
+		Cache<String, String> buf = new TinyLFUCache<String, String>(100, loader);
+		buf.put("cold", new String(new char[20]).replace('\0', 'x'));
+		buf.put("filler", new String(new char[20]).replace('\0', 'x'));
+		buf.put("hot", new String(new char[59]).replace('\0', 'x'));
+		for (int i = 0; i < 10; i++) {
+			buf.get("hot");
+		}
+		Assert.assertEquals(99, buf.weight());
+
+		// More popular than cold and filler, but not hot, which must also go
+		String big = new String(new char[65]).replace('\0', 'x');
+		buf.put("big", big);
+		buf.put("big", big);
+		Assert.assertFalse(buf.contains("big"));
+		Assert.assertTrue(buf.contains("cold"));
+		Assert.assertTrue(buf.contains("filler"));
+		Assert.assertTrue(buf.contains("hot"));
+		Assert.assertEquals(99, buf.weight());
+
+		// More popular than every victim, so they are evicted for it
+		String mid = new String(new char[40]).replace('\0', 'x');
+		buf.put("mid", mid);
+		buf.put("mid", mid);
+		buf.put("mid", mid);
+		Assert.assertTrue(buf.contains("mid"));
+		Assert.assertFalse(buf.contains("cold"));
+		Assert.assertFalse(buf.contains("filler"));
+		Assert.assertTrue(buf.contains("hot"));
+		Assert.assertEquals(99, buf.weight());
+	}
+}
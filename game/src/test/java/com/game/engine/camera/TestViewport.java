@@ -0,0 +1,66 @@
+package com.game.engine.camera;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.game.engine.camera.mock.MockCamera;
+import com.game.engine.game.mock.MockGameObject;
+
+/**
+ * Tests a {@link Viewport}
+ *
+ * @author Spencer Imbleau
+ * @version October 2026
+ */
+public class TestViewport {
+
+	/**
+	 * Test {@link Viewport#canSee(double, double, double, double)}.
+	 */
+	@Test
+	public void testCanSeeBox() {
+		Viewport viewport = new MockCamera(100, 100, 200, 100, 1).viewport;
+
+		// Boxes overlapping an edge are visible
+		Assert.assertTrue(viewport.canSee(50, 150, 60, 10));
+		Assert.assertTrue(viewport.canSee(290, 190, 60, 60));
+		Assert.assertTrue(viewport.canSee(0, 0, 500, 500));
+
+		// Boxes beyond an edge are not
+		Assert.assertFalse(viewport.canSee(30, 150, 60, 10));
+		Assert.assertFalse(viewport.canSee(301, 150, 10, 10));
+		Assert.assertFalse(viewport.canSee(150, 30, 10, 60));
+		Assert.assertFalse(viewport.canSee(150, 201, 10, 10));
+	}
+
+	/**
+	 * Test the viewport sees more of the plane when zoomed out.
+	 */
+	@Test
+	public void testCanSeeZoom() {
+		MockCamera camera = new MockCamera(0, 0, 200, 100, 1);
+		Viewport viewport = camera.viewport;
+		Assert.assertFalse(viewport.canSee(350, 50));
+
+		camera.setZoom(0.5);
+		Assert.assertEquals(400, viewport.visibleWidth(), 0);
+		Assert.assertEquals(200, viewport.visibleHeight(), 0);
+		Assert.assertTrue(viewport.canSee(350, 50));
+
+		camera.setZoom(2);
+		Assert.assertFalse(viewport.canSee(150, 50));
+	}
+
+	/**
+	 * Test {@link Viewport#canSee(com.game.engine.game.AbstractGameObject)} uses
+	 * the bounds of objects.
+	 */
+	@Test
+	public void testCanSeeObject() {
+		Viewport viewport = new MockCamera(100, 100, 200, 100, 1).viewport;
+
+		// The position of this object is off-screen, but its bounds are not
+		Assert.assertTrue(viewport.canSee(new MockGameObject(50, 50, 100, 100)));
+		Assert.assertFalse(viewport.canSee(new MockGameObject(50, 50, 10, 10)));
+	}
+}
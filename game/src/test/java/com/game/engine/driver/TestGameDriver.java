@@ -8,6 +8,7 @@ import org.junit.Before;
 import org.junit.Test;
 
 import com.game.engine.cache.Cache;
+import com.game.engine.cache.ImageLoader;
 import com.game.engine.cache.LRUCache;
 import com.game.engine.display.DisplaySettings;
 import com.game.engine.display.mock.MockDisplaySettings;
@@ -15,6 +16,7 @@ import com.game.engine.driver.mock.MockDriverSettings;
 import com.game.engine.game.AbstractGame;
 import com.game.engine.game.AbstractChunkedPlane;
 import com.game.engine.game.mock.MockPlane;
+import com.game.engine.graphics.obj.Image;
 import com.game.engine.rendering.common.AbstractRenderer;
 
 /**
@@ -60,7 +62,7 @@ public class TestGameDriver {
 	/**
 	 * An arbitrary cache for testing.
 	 */
-	private static final Cache TEST_CACHE = new LRUCache(0);
+	private static final Cache<String, Image> TEST_CACHE = new LRUCache<String, Image>(0, new ImageLoader());
 
 	/**
 	 * A buffer to count total updates by the {@link #TEST_GAME}.
@@ -1,11 +1,13 @@
 package com.game.engine.driver.mock;
 
 import com.game.engine.cache.Cache;
+import com.game.engine.cache.ImageLoader;
 import com.game.engine.cache.LRUCache;
 import com.game.engine.driver.DriverSettings;
 import com.game.engine.driver.GameDriver;
 import com.game.engine.game.AbstractGame;
 import com.game.engine.game.mock.MockGame;
+import com.game.engine.graphics.obj.Image;
 
 /**
  * An arbitrary game driver for testing.
@@ -23,7 +25,7 @@ public class MockGameDriver extends GameDriver {
 	/**
 	 * An arbitrary cache for testing.
 	 */
-	private static final Cache CACHE = new LRUCache(10);
+	private static final Cache<String, Image> CACHE = new LRUCache<String, Image>(10, new ImageLoader());
 
 	/**
 	 * An arbitrary game for testing.
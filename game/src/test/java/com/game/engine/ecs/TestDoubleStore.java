@@ -0,0 +1,82 @@
+package com.game.engine.ecs;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Test {@link DoubleStore}.
+ *
+ * @author Spencer Imbleau
+ * @version October 2026
+ */
+public class TestDoubleStore {
+
+	/**
+	 * Tests {@link DoubleStore#DoubleStore(int)}.
+	 */
+	@Test
+	public void testConstructor() {
+		DoubleStore store = new DoubleStore(3);
+		Assert.assertEquals(3, store.fields());
+		Assert.assertEquals(0, store.size());
+
+		try {
+			new DoubleStore(0);
+			Assert.fail("Components need at least 1 field");
+		} catch (IllegalArgumentException expected) {
+		}
+	}
+
+	/**
+	 * Tests values follow their entity when another entity is removed.
+	 */
+	@Test
+	public void testRemove() {
+		EntityRegistry registry = new EntityRegistry();
+		DoubleStore store = new DoubleStore(2);
+		int[] entities = new int[40];
+		for (int i = 0; i < entities.length; i++) {
+			entities[i] = registry.create();
+			store.set(entities[i], 0, i);
+			store.set(entities[i], 1, -i);
+		}
+		Assert.assertEquals(entities.length, store.size());
+
+		// Remove every third entity, moving later entities into their places
+		for (int i = 0; i < entities.length; i += 3) {
+			Assert.assertTrue(store.remove(entities[i]));
+			Assert.assertFalse(store.remove(entities[i]));
+		}
+		for (int i = 0; i < entities.length; i++) {
+			if (i % 3 == 0) {
+				Assert.assertFalse(store.contains(entities[i]));
+			} else {
+				Assert.assertEquals(i, store.get(entities[i], 0), 0);
+				Assert.assertEquals(-i, store.get(entities[i], 1), 0);
+			}
+		}
+		for (int position = 0; position < store.size(); position++) {
+			Assert.assertEquals(position, store.indexOf(store.entities()[position]));
+		}
+
+		store.clear();
+		Assert.assertEquals(0, store.size());
+		Assert.assertFalse(store.contains(entities[1]));
+	}
+
+	/**
+	 * Tests {@link DoubleStore#get(int, int)} for an entity without the component.
+	 */
+	@Test
+	public void testGetMissing() {
+		EntityRegistry registry = new EntityRegistry();
+		DoubleStore store = new DoubleStore(1);
+		int entity = registry.create();
+		try {
+			store.get(entity, 0);
+			Assert.fail("The entity doesn't have the component");
+		} catch (IllegalArgumentException expected) {
+		}
+	}
+
+}
@@ -0,0 +1,94 @@
+package com.game.engine.ecs;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Test {@link EntityRegistry}.
+ *
+ * @author Spencer Imbleau
+ * @version October 2026
+ */
+public class TestEntityRegistry {
+
+	/**
+	 * Tests {@link EntityRegistry#create()} and
+	 * {@link EntityRegistry#destroy(int)}.
+	 */
+	@Test
+	public void testCreateDestroy() {
+		EntityRegistry registry = new EntityRegistry();
+		int a = registry.create();
+		int b = registry.create();
+		Assert.assertNotEquals(a, b);
+		Assert.assertEquals(2, registry.count());
+		Assert.assertTrue(registry.isAlive(a));
+		Assert.assertFalse(registry.isAlive(EntityRegistry.NONE));
+
+		Assert.assertTrue(registry.destroy(a));
+		Assert.assertFalse(registry.destroy(a));
+		Assert.assertFalse(registry.isAlive(a));
+		Assert.assertEquals(1, registry.count());
+
+		// The slot is reused with a new generation
+		int c = registry.create();
+		Assert.assertEquals(EntityRegistry.index(a), EntityRegistry.index(c));
+		Assert.assertEquals(EntityRegistry.generation(a) + 1, EntityRegistry.generation(c));
+		Assert.assertTrue(registry.isAlive(c));
+		Assert.assertFalse(registry.isAlive(a));
+	}
+
+	/**
+	 * Tests destroying an entity removes it from registered stores, and a stale
+	 * entity isn't found in a store.
+	 */
+	@Test
+	public void testDestroyRemovesComponents() {
+		EntityRegistry registry = new EntityRegistry();
+		DoubleStore store = registry.register(new DoubleStore(1));
+		int a = registry.create();
+		store.set(a, 0, 5);
+		registry.destroy(a);
+		Assert.assertEquals(0, store.size());
+
+		int b = registry.create();
+		store.set(b, 0, 7);
+		Assert.assertFalse(store.contains(a));
+		Assert.assertEquals(7, store.get(b, 0), 0);
+	}
+
+	/**
+	 * Tests {@link MotionSystem#step(double)}.
+	 */
+	@Test
+	public void testMotion() {
+		EntityRegistry registry = new EntityRegistry();
+		DoubleStore positions = registry.register(new DoubleStore(2));
+		DoubleStore velocities = registry.register(new DoubleStore(2));
+		MotionSystem motion = new MotionSystem(positions, velocities);
+
+		int moving = registry.create();
+		positions.set(moving, 0, 10);
+		positions.set(moving, 1, 20);
+		velocities.set(moving, 0, 4);
+		velocities.set(moving, 1, -2);
+		int still = registry.create();
+		positions.set(still, 0, 1);
+		// Velocity without a position is ignored
+		int lost = registry.create();
+		velocities.set(lost, 0, 1);
+
+		motion.step(0.5);
+		Assert.assertEquals(12, positions.get(moving, 0), 0);
+		Assert.assertEquals(19, positions.get(moving, 1), 0);
+		Assert.assertEquals(1, positions.get(still, 0), 0);
+		Assert.assertFalse(positions.contains(lost));
+
+		try {
+			new MotionSystem(new DoubleStore(3), velocities);
+			Assert.fail("Positions need an x and a y field");
+		} catch (IllegalArgumentException expected) {
+		}
+	}
+
+}
@@ -1,7 +1,9 @@
 package com.game.engine.game;
 
 import java.awt.Dimension;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 
 import org.junit.Assert;
 import org.junit.Before;
@@ -191,6 +193,30 @@ public class TestChunker {
 		}
 	}
 
+	/**
+	 * Test {@link Chunker#objectsWithin(double, double, double, double)}.
+	 */
+	@Test
+	public void testObjectsWithin() {
+		// A plane of 3x3 chunks, with an object in every chunk
+		Chunker c = chunkers[8];
+		c.init(TEST_DRIVER);
+		c.chunk(TEST_DRIVER);
+
+		// An area in a corner chunk finds the objects of it and its neighbors
+		List<AbstractGameObject> found = new ArrayList<>();
+		c.objectsWithin(10, 10, 20, 20).forEach(found::add);
+		Assert.assertEquals(4, found.size());
+		for (AbstractGameObject obj : found) {
+			Assert.assertTrue(obj.position.chunkRow() <= 1 && obj.position.chunkColumn() <= 1);
+		}
+
+		// An area in the middle chunk neighbors every chunk
+		found.clear();
+		c.objectsWithin(Chunk.SIZE + 10, Chunk.SIZE + 10, Chunk.SIZE + 20, Chunk.SIZE + 20).forEach(found::add);
+		Assert.assertEquals(9, found.size());
+	}
+
 	/**
 	 * Test {@link Chunker#scan(GameDriver, AbstractCamera)}.
 	 */
@@ -0,0 +1,180 @@
+package com.game.engine.game;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Test {@link TickScheduler} and {@link Access}.
+ *
+ * @author Spencer Imbleau
+ * @version October 2026
+ */
+public class TestTickScheduler {
+
+	/**
+	 * Tests {@link Access#conflicts(Access)}.
+	 */
+	@Test
+	public void testConflicts() {
+		Access readA = new Access(Collections.singletonList("a"), Collections.emptyList());
+		Access writeA = new Access(Collections.emptyList(), Collections.singletonList("a"));
+		Access writeB = new Access(Collections.singletonList("a"), Collections.singletonList("b"));
+
+		Assert.assertFalse(readA.conflicts(readA));
+		Assert.assertTrue(readA.conflicts(writeA));
+		Assert.assertTrue(writeA.conflicts(readA));
+		Assert.assertTrue(writeA.conflicts(writeA));
+		Assert.assertFalse(readA.conflicts(writeB));
+		Assert.assertFalse(Access.NONE.conflicts(writeA));
+		Assert.assertTrue(Access.EXCLUSIVE.conflicts(Access.NONE));
+
+		Access union = readA.union(writeB);
+		Assert.assertEquals(Collections.singleton("b"), union.writes());
+		Assert.assertTrue(union.conflicts(writeA));
+		Assert.assertTrue(readA.union(Access.EXCLUSIVE).isExclusive());
+
+		// Accesses of the same resources are equal
+		Assert.assertEquals(writeA, new Access(Collections.emptyList(), Collections.singletonList("a")));
+		Assert.assertEquals(writeA.hashCode(),
+				new Access(Collections.emptyList(), Collections.singletonList("a")).hashCode());
+		Assert.assertNotEquals(readA, writeA);
+		Assert.assertNotEquals(Access.NONE, Access.EXCLUSIVE);
+	}
+
+	/**
+	 * Tests conflicting work runs in list order.
+	 */
+	@Test
+	public void testOrder() {
+		ForkJoinPool pool = new ForkJoinPool(4);
+		try {
+			TickScheduler scheduler = new TickScheduler(pool);
+			Access write = new Access(Collections.emptyList(), Collections.singletonList("a"));
+			Access read = new Access(Collections.singletonList("a"), Collections.emptyList());
+			Access other = new Access(Collections.emptyList(), Collections.singletonList("b"));
+			List<Access> work = Arrays.asList(write, other, read, write, read);
+
+			for (int tick = 0; tick < 50; tick++) {
+				List<Integer> ran = Collections.synchronizedList(new ArrayList<>());
+				List<Integer> indices = Arrays.asList(0, 1, 2, 3, 4);
+				scheduler.run(indices, work::get, i -> ran.add(i));
+				Assert.assertEquals(5, ran.size());
+				Assert.assertTrue(ran.indexOf(0) < ran.indexOf(2));
+				Assert.assertTrue(ran.indexOf(2) < ran.indexOf(3));
+				Assert.assertTrue(ran.indexOf(3) < ran.indexOf(4));
+			}
+		} finally {
+			pool.shutdown();
+		}
+	}
+
+	/**
+	 * Tests work may run a tick on the pool it runs on, even when the pool has
+	 * one worker.
+	 *
+	 * @throws Exception if the test is interrupted or times out
+	 */
+	@Test
+	public void testNested() throws Exception {
+		ForkJoinPool pool = new ForkJoinPool(1);
+		try {
+			TickScheduler scheduler = new TickScheduler(pool);
+			List<Integer> indices = Arrays.asList(0, 1);
+			List<Integer> ran = Collections.synchronizedList(new ArrayList<>());
+			pool.submit(() -> scheduler.run(indices, i -> Access.NONE,
+					i -> scheduler.run(indices, j -> Access.NONE, j -> ran.add(2 * i + j)))).get(5, TimeUnit.SECONDS);
+			Collections.sort(ran);
+			Assert.assertEquals(Arrays.asList(0, 1, 2, 3), ran);
+		} finally {
+			pool.shutdownNow();
+		}
+	}
+
+	/**
+	 * Tests work which doesn't conflict runs at the same time.
+	 *
+	 * @throws Exception if the test is interrupted
+	 */
+	@Test
+	public void testParallel() throws Exception {
+		ForkJoinPool pool = new ForkJoinPool(2);
+		try {
+			TickScheduler scheduler = new TickScheduler(pool);
+			// Each unit waits for the other, so both must run at once
+			CyclicBarrier barrier = new CyclicBarrier(2);
+			List<Access> work = Arrays.asList(Access.NONE, Access.NONE);
+			scheduler.run(work, access -> access, access -> {
+				try {
+					barrier.await(10, TimeUnit.SECONDS);
+				} catch (Exception e) {
+					throw new RuntimeException(e);
+				}
+			});
+			Assert.assertFalse(barrier.isBroken());
+		} finally {
+			pool.shutdown();
+		}
+	}
+
+	/**
+	 * Tests exclusive work runs in order on the calling thread, and exceptions
+	 * reach the caller.
+	 */
+	@Test
+	public void testExclusive() {
+		TickScheduler scheduler = new TickScheduler();
+		Thread caller = Thread.currentThread();
+		List<Integer> ran = new ArrayList<>();
+		scheduler.run(Arrays.asList(0, 1, 2), i -> Access.EXCLUSIVE, i -> {
+			Assert.assertSame(caller, Thread.currentThread());
+			ran.add(i);
+		});
+		Assert.assertEquals(Arrays.asList(0, 1, 2), ran);
+
+		try {
+			scheduler.run(Arrays.asList(0, 1), i -> Access.NONE, i -> {
+				throw new IllegalStateException("Failed " + i);
+			});
+			Assert.fail("Exceptions should reach the caller");
+		} catch (IllegalStateException expected) {
+		}
+	}
+
+	/**
+	 * Tests the dependencies of a tick are rebuilt when the accesses of its work
+	 * change.
+	 */
+	@Test
+	public void testChangedAccess() {
+		ForkJoinPool pool = new ForkJoinPool(4);
+		try {
+			TickScheduler scheduler = new TickScheduler(pool);
+			Access[] accesses = new Access[5];
+			List<Integer> indices = Arrays.asList(0, 1, 2, 3, 4);
+			for (int tick = 0; tick < 50; tick++) {
+				// Alternate between a chain of writes and independent work
+				for (int i = 0; i < accesses.length; i++) {
+					accesses[i] = (tick % 2 == 0) ? Access.NONE
+							: new Access(Collections.emptyList(), Collections.singletonList("a"));
+				}
+				List<Integer> ran = Collections.synchronizedList(new ArrayList<>());
+				scheduler.run(indices, i -> accesses[i], i -> ran.add(i));
+				Assert.assertEquals(5, ran.size());
+				if (tick % 2 == 1) {
+					Assert.assertEquals(indices, ran);
+				}
+			}
+		} finally {
+			pool.shutdown();
+		}
+	}
+
+}
@@ -0,0 +1,81 @@
+package com.game.engine.graphics.common;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.game.engine.cache.ScaledImageCache.ScaledImage;
+
+/**
+ * Tests a {@link MipChain}
+ *
+ * @author Spencer Imbleau
+ * @version October 2026
+ */
+public class TestMipChain {
+
+	/**
+	 * Test {@link MipChain#levels()} and the size of each level.
+	 */
+	@Test
+	public void testLevels() {
+		MipChain chain = MipChain.of(new ScaledImage(new int[8 * 3], 8, 3));
+
+		// Levels stop once a side is 1 pixel
+		Assert.assertEquals(2, chain.levels());
+		Assert.assertEquals(4, chain.levelWidth(1));
+		Assert.assertEquals(1, chain.levelHeight(1));
+
+		// The smallest level no smaller than a size is chosen
+		Assert.assertEquals(0, chain.levelFor(5, 1));
+		Assert.assertEquals(1, chain.levelFor(4, 1));
+		Assert.assertEquals(0, chain.levelFor(4, 2));
+	}
+
+	/**
+	 * Test {@link MipChain#halve(ScaledImage, int, int)} on images large enough
+	 * to be built in parallel.
+	 */
+	@Test
+	public void testHalve() {
+		int width = 512;
+		int height = 512;
+		int[] pixels = new int[width * height];
+		for (int i = 0; i < pixels.length; i++) {
+			pixels[i] = 0xff000000 | ((i % width) % 256);
+		}
+		Assert.assertTrue(pixels.length >= MipChain.PARALLEL_THRESHOLD);
+
+		ScaledImage halved = MipChain.halve(new ScaledImage(pixels, width, height), width / 2, height / 2);
+		for (int y = 0; y < height / 2; y++) {
+			for (int x = 0; x < width / 2; x++) {
+				// The average of a column pair, rounded
+				int expected = (((2 * x) % 256) + ((2 * x + 1) % 256) + 1) / 2;
+				Assert.assertEquals(0xff000000 | expected, halved.pixels[y * (width / 2) + x]);
+			}
+		}
+	}
+
+	/**
+	 * Ensure trilinear sampling blends between the 2 nearest levels.
+	 */
+	@Test
+	public void testTrilinear() {
+		// An 8x8 checkerboard of 2x2 blocks, whose level 1 is a checkerboard of
+		// pixels and whose level 2 is gray
+		int[] pixels = new int[64];
+		for (int i = 0; i < pixels.length; i++) {
+			boolean white = (((i % 8) / 2) + ((i / 8) / 2)) % 2 == 0;
+			pixels[i] = white ? 0xffffffff : 0xff000000;
+		}
+		MipChain chain = MipChain.of(new ScaledImage(pixels, 8, 8));
+
+		// At an exact level, no blending occurs
+		Assert.assertSame(chain.level(1), SamplingMode.TRILINEAR.sample(chain, 4, 4));
+
+		// Between levels, both levels contribute
+		int upper = MipChain.bilinear(chain.level(1), 3, 3).pixels[0] & 0xff;
+		int lower = MipChain.bilinear(chain.level(2), 3, 3).pixels[0] & 0xff;
+		int blended = SamplingMode.TRILINEAR.sample(chain, 3, 3).pixels[0] & 0xff;
+		Assert.assertTrue(lower < blended && blended < upper);
+	}
+}
@@ -0,0 +1,143 @@
+package com.game.engine.graphics.obj;
+
+import java.awt.image.BufferedImage;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.game.engine.graphics.obj.fonts.Font;
+import com.game.engine.graphics.obj.fonts.Glyph;
+import com.game.engine.graphics.obj.fonts.mock.MockFonts;
+import com.game.engine.graphics.obj.util.GraphicTestUtil;
+
+/**
+ * Test {@link EditableLabel}.
+ *
+ * @author Spencer Imbleau
+ * @version October 2026
+ */
+public class TestEditableLabel {
+
+	/**
+	 * The font we use to draw.
+	 */
+	private static final Font TEST_FONT = MockFonts.FONT_ASCII;
+
+	/**
+	 * The color we use to draw and confirm correct drawing.
+	 */
+	private static final int TEST_COLOR = 0xff00ff00;
+
+	/**
+	 * Tests edits draw the same pixels as a {@link Label} of the same text.
+	 */
+	@Test
+	public void testEdits() {
+		EditableLabel label = new EditableLabel(TEST_FONT, "Hello", TEST_COLOR);
+		assertSameAsLabel(label, "Hello");
+
+		label.append(" world");
+		assertSameAsLabel(label, "Hello world");
+
+		label.insert(5, Glyph.keycodesOf(",\u00e9"));
+		assertSameAsLabel(label, "Hello,\u00e9 world");
+
+		label.delete(0, 7);
+		assertSameAsLabel(label, " world");
+
+		label.setText("wide text replaces the rest");
+		assertSameAsLabel(label, "wide text replaces the rest");
+
+		label.setText("wide");
+		assertSameAsLabel(label, "wide");
+	}
+
+	/**
+	 * Tests appending only dirties the appended glyphs, and the image grows
+	 * geometrically.
+	 */
+	@Test
+	public void testAppend() {
+		EditableLabel label = new EditableLabel(TEST_FONT, TEST_COLOR);
+		int resizes = 0;
+		int capacity = label.getWidth();
+		for (int i = 0; i < 1000; i++) {
+			int start = label.getTextWidth();
+			label.append("x");
+			if (label.getWidth() != capacity) {
+				resizes++;
+				capacity = label.getWidth();
+			} else {
+				Assert.assertEquals(start, label.dirtyX0);
+				Assert.assertEquals(label.getTextWidth(), label.dirtyX1);
+			}
+			label.dirtyX0 = label.dirtyY0 = label.dirtyX1 = label.dirtyY1 = 0;
+		}
+		Assert.assertEquals(1000, label.length());
+		Assert.assertTrue(resizes < 16);
+		Assert.assertTrue(label.getWidth() >= label.getTextWidth());
+	}
+
+	/**
+	 * Tests edits out of bounds are rejected.
+	 */
+	@Test
+	public void testOutOfBounds() {
+		EditableLabel label = new EditableLabel(TEST_FONT, "abc", TEST_COLOR);
+		try {
+			label.delete(2, 4);
+			Assert.fail("Deleted past the end of the label");
+		} catch (IllegalArgumentException expected) {
+		}
+		try {
+			label.insert(-1, new int[] { 'a' });
+			Assert.fail("Inserted before the start of the label");
+		} catch (IllegalArgumentException expected) {
+		}
+		Assert.assertEquals("abc", label.getText());
+	}
+
+	/**
+	 * Tests labels grow no wider than {@link EditableLabel#MAX_WIDTH}.
+	 */
+	@Test
+	public void testMaxWidth() {
+		EditableLabel label = new EditableLabel(TEST_FONT, TEST_COLOR);
+		int[] line = Glyph.keycodesOf("The quick brown fox jumps over the lazy dog. ");
+		try {
+			while (true) {
+				label.append(line);
+				Assert.assertTrue(label.getWidth() <= EditableLabel.MAX_WIDTH);
+			}
+		} catch (IllegalArgumentException expected) {
+		}
+		// The failed append left the label as it was
+		Assert.assertTrue(label.getTextWidth() + TEST_FONT.measure(line) > EditableLabel.MAX_WIDTH);
+		Assert.assertEquals(label.getTextWidth(), TEST_FONT.measure(label.getKeycodes()));
+	}
+
+	/**
+	 * Helper method to assert an editable label draws the same as a label.
+	 *
+	 * @param actual - the editable label
+	 * @param text   - the text it should have
+	 */
+	private static void assertSameAsLabel(EditableLabel actual, String text) {
+		Label expected = new Label(TEST_FONT, text, TEST_COLOR);
+		Assert.assertEquals(text, actual.getText());
+		Assert.assertEquals(expected.getWidth(), actual.getTextWidth());
+
+		BufferedImage expectedRender = GraphicTestUtil.getSafeRender(expected, expected.getWidth(),
+				expected.getHeight());
+		BufferedImage actualRender = GraphicTestUtil.getSafeRender(actual, expected.getWidth() + 4,
+				expected.getHeight());
+		// Nothing is drawn past the end of the text
+		int background = GraphicTestUtil.getSafeRender(new EditableLabel(TEST_FONT, TEST_COLOR), 1, 1).getRGB(0, 0);
+		for (int y = 0; y < expectedRender.getHeight(); y++) {
+			for (int x = 0; x < expectedRender.getWidth() + 4; x++) {
+				int pixel = (x < expectedRender.getWidth()) ? expectedRender.getRGB(x, y) : background;
+				Assert.assertEquals(pixel, actualRender.getRGB(x, y));
+			}
+		}
+	}
+}
@@ -93,6 +93,41 @@ public class TestEllipse {
 		}
 	}
 
+	/**
+	 * Tests filled ellipses rendered in {@link RenderMode#SAFE} mode cover their
+	 * outline and every pixel inside it, and nothing else.
+	 */
+	@Test
+	public void testSafeRenderFilled() {
+		for (int w = 1; w < GraphicTestUtil.DRAWABLE_MAX_WIDTH; w++) {
+			for (int h = 1; h < GraphicTestUtil.DRAWABLE_MAX_HEIGHT; h++) {
+				Ellipse drawable = new Ellipse(w, h, TEST_COLOR, true);
+				Assert.assertTrue(drawable.isFilled());
+				boolean[][] filled = GraphicTestUtil.mapPixels(GraphicTestUtil.getSafeRender(drawable, w, h),
+						TEST_COLOR);
+
+				// Each row is one span, and the center is filled
+				for (int row = 0; row < h; row++) {
+					int transitions = 0;
+					for (int col = 1; col < w; col++) {
+						if (filled[row][col] != filled[row][col - 1]) {
+							transitions++;
+						}
+					}
+					Assert.assertTrue(transitions <= 2);
+				}
+				Assert.assertTrue(filled[h / 2][w / 2]);
+
+				// Filled ellipses are symmetric
+				for (int row = 0; row < h; row++) {
+					for (int col = 0; col < w; col++) {
+						Assert.assertEquals(filled[row][col], filled[h - 1 - row][w - 1 - col]);
+					}
+				}
+			}
+		}
+	}
+
 	/**
 	 * Helper method to test the render of a drawable.
 	 *
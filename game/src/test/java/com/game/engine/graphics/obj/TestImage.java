@@ -0,0 +1,169 @@
+package com.game.engine.graphics.obj;
+
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferInt;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.game.engine.graphics.obj.fonts.mock.MockFonts;
+
+/**
+ * Test {@link Image}.
+ *
+ * @author Spencer Imbleau
+ * @version October 2026
+ */
+public class TestImage {
+
+	/**
+	 * The color we use to draw and confirm correct pixels.
+	 */
+	private static final int TEST_COLOR = 0xff00ff00;
+
+	/**
+	 * Tests {@link Image#Image(BufferedImage)} shares the pixels of ARGB images.
+	 */
+	@Test
+	public void testConstructorWrapsPixels() {
+		BufferedImage buf = new BufferedImage(3, 2, BufferedImage.TYPE_INT_ARGB);
+		int[] pixels = ((DataBufferInt) buf.getRaster().getDataBuffer()).getData();
+		Image image = new Image(buf);
+
+		Assert.assertSame(buf, image.getBufferedImage());
+		Assert.assertSame(pixels, image.getPBO().array());
+		Assert.assertEquals(3, image.getWidth());
+		Assert.assertEquals(2, image.getHeight());
+
+		// Writes to the buffered image are writes to the image
+		buf.setRGB(1, 1, TEST_COLOR);
+		Assert.assertEquals(TEST_COLOR, image.getPBO().get(4));
+	}
+
+	/**
+	 * Tests {@link Image#Image(BufferedImage)} converts other images.
+	 */
+	@Test
+	public void testConstructorConvertsPixels() {
+		// Other types are converted
+		BufferedImage rgb = new BufferedImage(3, 2, BufferedImage.TYPE_3BYTE_BGR);
+		rgb.setRGB(2, 1, TEST_COLOR);
+		Image image = new Image(rgb);
+		Assert.assertEquals(BufferedImage.TYPE_INT_ARGB, image.getBufferedImage().getType());
+		Assert.assertEquals(TEST_COLOR, image.getPBO().get(5));
+
+		// Sub-images share a larger array, so they are converted
+		BufferedImage argb = new BufferedImage(4, 4, BufferedImage.TYPE_INT_ARGB);
+		argb.setRGB(1, 1, TEST_COLOR);
+		image = new Image(argb.getSubimage(1, 1, 2, 2));
+		Assert.assertEquals(4, image.getPBO().array().length);
+		Assert.assertEquals(TEST_COLOR, image.getPBO().get(0));
+
+		// Images without pixels are empty
+		image = new Image(null);
+		Assert.assertNull(image.getPBO());
+		Assert.assertEquals(0, image.getWidth());
+	}
+
+	/**
+	 * Tests {@link Image#setPremultiplied(boolean)} converts the pixels, and
+	 * {@link Image#Image(BufferedImage)} shares premultiplied pixels.
+	 */
+	@Test
+	public void testPremultiplied() {
+		BufferedImage buf = new BufferedImage(2, 1, BufferedImage.TYPE_INT_ARGB);
+		buf.setRGB(0, 0, 0x80ff4000);
+		buf.setRGB(1, 0, TEST_COLOR);
+		Image image = new Image(buf);
+		Assert.assertFalse(image.isPremultiplied());
+
+		int version = image.getVersion();
+		image.setPremultiplied(true);
+		Assert.assertTrue(image.isPremultiplied());
+		Assert.assertTrue(version < image.getVersion());
+		Assert.assertEquals(BufferedImage.TYPE_INT_ARGB_PRE, image.getBufferedImage().getType());
+		Assert.assertEquals(0x80802000, image.getPBO().get(0));
+		Assert.assertEquals(TEST_COLOR, image.getPBO().get(1));
+
+		// Premultiplied images are shared
+		Image shared = new Image(image.getBufferedImage());
+		Assert.assertTrue(shared.isPremultiplied());
+		Assert.assertSame(image.getPBO().array(), shared.getPBO().array());
+
+		// Resized images stay premultiplied
+		Assert.assertTrue(image.resize(2, 2).isPremultiplied());
+
+		// Converting back restores straight colors
+		image.setPremultiplied(false);
+		Assert.assertEquals(BufferedImage.TYPE_INT_ARGB, image.getBufferedImage().getType());
+		Assert.assertEquals(0x80ff4000, image.getPBO().get(0));
+		Assert.assertEquals(TEST_COLOR, image.getPBO().get(1));
+	}
+
+	/**
+	 * Tests {@link Image#setBufferedImage(BufferedImage)}.
+	 */
+	@Test
+	public void testSetBufferedImage() {
+		Image image = new Image(new BufferedImage(1, 1, BufferedImage.TYPE_INT_ARGB));
+		int version = image.getVersion();
+
+		BufferedImage buf = new BufferedImage(5, 4, BufferedImage.TYPE_INT_ARGB);
+		image.setBufferedImage(buf);
+		Assert.assertSame(buf, image.getBufferedImage());
+		Assert.assertEquals(5, image.getWidth());
+		Assert.assertEquals(4, image.getHeight());
+		Assert.assertTrue(image.needsGLRefresh());
+		Assert.assertNotEquals(version, image.getVersion());
+	}
+
+	/**
+	 * Tests {@link Image#markDirty(int, int, int, int)}.
+	 */
+	@Test
+	public void testMarkDirty() {
+		Image image = new Image(new BufferedImage(10, 10, BufferedImage.TYPE_INT_ARGB));
+		Assert.assertFalse(image.needsGLRefresh());
+		int version = image.getVersion();
+
+		// Regions outside the image are ignored
+		image.markDirty(10, 0, 5, 5);
+		image.markDirty(0, 0, 0, 5);
+		Assert.assertFalse(image.needsGLRefresh());
+		Assert.assertEquals(version, image.getVersion());
+
+		// Regions are clipped to the image
+		image.markDirty(-2, 8, 4, 4);
+		Assert.assertTrue(image.needsGLRefresh());
+		Assert.assertNotEquals(version, image.getVersion());
+		Assert.assertEquals(0, image.dirtyX0);
+		Assert.assertEquals(8, image.dirtyY0);
+		Assert.assertEquals(2, image.dirtyX1);
+		Assert.assertEquals(10, image.dirtyY1);
+
+		// Regions accumulate
+		image.markDirty(5, 3, 1, 1);
+		Assert.assertEquals(0, image.dirtyX0);
+		Assert.assertEquals(3, image.dirtyY0);
+		Assert.assertEquals(6, image.dirtyX1);
+		Assert.assertEquals(10, image.dirtyY1);
+	}
+
+	/**
+	 * Tests {@link Image#setMipmapped(boolean)}, and that text isn't mipmapped.
+	 */
+	@Test
+	public void testMipmapped() {
+		Image image = new Image(new BufferedImage(10, 10, BufferedImage.TYPE_INT_ARGB));
+		Assert.assertTrue(image.isMipmapped());
+
+		// Changing whether the texture is mipmapped changes its filters
+		image.setMipmapped(false);
+		Assert.assertFalse(image.isMipmapped());
+		Assert.assertTrue(image.needsGLRefresh());
+
+		// Text is edited often, so doesn't rebuild mipmaps on every edit
+		Assert.assertFalse(new Label(MockFonts.FONT_ASCII, "text", TEST_COLOR).isMipmapped());
+		Assert.assertFalse(new EditableLabel(MockFonts.FONT_ASCII, "text", TEST_COLOR).isMipmapped());
+	}
+}
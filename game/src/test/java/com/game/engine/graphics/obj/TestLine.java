@@ -74,6 +74,27 @@ public class TestLine {
 		}
 	}
 
+	/**
+	 * Tests an antialiased line rendered in {@link RenderMode#SAFE} mode covers
+	 * its ends fully and fades the pixels beside it.
+	 */
+	@Test
+	public void testSafeRenderAntialiased() {
+		Line drawable = new Line(10, 3, TEST_COLOR, true);
+		Assert.assertTrue(drawable.isAntialiased());
+		BufferedImage render = GraphicTestUtil.getSafeRender(drawable, 11, 4);
+		Assert.assertEquals(TEST_COLOR, render.getRGB(0, 0));
+		Assert.assertEquals(TEST_COLOR, render.getRGB(10, 3));
+		boolean partial = false;
+		for (int row = 0; row < 4; row++) {
+			for (int col = 0; col < 11; col++) {
+				int color = render.getRGB(col, row);
+				partial |= color != TEST_COLOR && (color & 0x00ffffff) != 0;
+			}
+		}
+		Assert.assertTrue(partial);
+	}
+
 	/**
 	 * Tests the pixel accuracy of all drawables being rendered in
 	 * {@link RenderMode#OPENGL} mode.
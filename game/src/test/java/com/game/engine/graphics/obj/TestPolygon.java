@@ -0,0 +1,105 @@
+package com.game.engine.graphics.obj;
+
+import java.awt.image.BufferedImage;
+import java.util.Arrays;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.game.engine.graphics.obj.util.GraphicTestUtil;
+
+/**
+ * Test {@link Polygon}.
+ *
+ * @author Spencer Imbleau
+ * @version October 2026
+ */
+public class TestPolygon {
+
+	/**
+	 * The color we use to draw and confirm correct drawing.
+	 */
+	private static final int TEST_COLOR = 0xff00ff00;
+
+	/**
+	 * Tests {@link Polygon#Polygon(int[], int[], int)}.
+	 */
+	@Test
+	public void testConstructor() {
+		Polygon polygon = new Polygon(new int[] { 0, 6, 3 }, new int[] { 0, 0, 5 }, TEST_COLOR);
+		Assert.assertEquals(3, polygon.getVertexCount());
+		Assert.assertEquals(6, polygon.getWidth());
+		Assert.assertEquals(5, polygon.getHeight());
+		Assert.assertEquals(TEST_COLOR, polygon.getColor());
+
+		try {
+			new Polygon(new int[] { 0, 1 }, new int[] { 0, 1 }, TEST_COLOR);
+			Assert.fail("Polygons need at least 3 vertices");
+		} catch (IllegalArgumentException expected) {
+		}
+		try {
+			new Polygon(new int[] { 0, 1, 2 }, new int[] { 0, 1 }, TEST_COLOR);
+			Assert.fail("Polygons need as many x co-ordinates as y co-ordinates");
+		} catch (IllegalArgumentException expected) {
+		}
+	}
+
+	/**
+	 * Tests a polygon rendered in {@link RenderMode#SAFE} mode fills the pixels
+	 * whose centers are inside it.
+	 */
+	@Test
+	public void testSafeRender() {
+		// An L shape, which is not convex
+		Polygon polygon = new Polygon(new int[] { 0, 2, 2, 6, 6, 0 }, new int[] { 0, 0, 4, 4, 6, 6 }, TEST_COLOR);
+		BufferedImage render = GraphicTestUtil.getSafeRender(polygon, 8, 8);
+		boolean[][] pixelMap = GraphicTestUtil.mapPixels(render, TEST_COLOR);
+		System.out.println(GraphicTestUtil.mapToString(pixelMap));
+		for (int row = 0; row < 8; row++) {
+			for (int col = 0; col < 8; col++) {
+				boolean inside = (row < 6 && col < 2) || (row >= 4 && row < 6 && col < 6);
+				Assert.assertEquals(inside, pixelMap[row][col]);
+			}
+		}
+	}
+
+	/**
+	 * Tests {@link Polygon#triangulate()} splits a polygon into triangles which
+	 * cover its area.
+	 */
+	@Test
+	public void testTriangulate() {
+		int[] xs = { 0, 2, 2, 6, 6, 0 };
+		int[] ys = { 0, 0, 4, 4, 6, 6 };
+		for (int reverse = 0; reverse < 2; reverse++) {
+			Polygon polygon = new Polygon(xs, ys, TEST_COLOR);
+			int[] triangles = polygon.triangulate();
+			Assert.assertEquals(3 * (xs.length - 2), triangles.length);
+
+			// The areas of the triangles add up to the area of the polygon
+			long area = 0;
+			for (int t = 0; t < triangles.length; t += 3) {
+				int a = triangles[t], b = triangles[t + 1], c = triangles[t + 2];
+				area += Math.abs((long) (xs[b] - xs[a]) * (ys[c] - ys[a]) - (long) (ys[b] - ys[a]) * (xs[c] - xs[a]));
+			}
+			Assert.assertEquals(2 * (2 * 6 + 4 * 2), area);
+
+			// Wound the other way
+			xs = reverse(xs);
+			ys = reverse(ys);
+		}
+	}
+
+	/**
+	 * @param values - an array
+	 * @return a reversed copy of the array
+	 */
+	private static int[] reverse(int[] values) {
+		int[] reversed = Arrays.copyOf(values, values.length);
+		for (int i = 0; i < values.length; i++) {
+			reversed[i] = values[values.length - 1 - i];
+		}
+		return reversed;
+	}
+
+}
@@ -0,0 +1,150 @@
+package com.game.engine.graphics.obj;
+
+import java.awt.image.BufferedImage;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.game.engine.graphics.common.LineJoin;
+import com.game.engine.graphics.obj.util.GraphicTestUtil;
+
+/**
+ * Test {@link Polyline}.
+ *
+ * @author Spencer Imbleau
+ * @version October 2026
+ */
+public class TestPolyline {
+
+	/**
+	 * The color we use to draw and confirm correct drawing.
+	 */
+	private static final int TEST_COLOR = 0xff00ff00;
+
+	/**
+	 * Tests {@link Polyline#Polyline(double[], double[], double, int)}.
+	 */
+	@Test
+	public void testConstructor() {
+		Polyline line = new Polyline(new double[] { 2, 10, 10, 10 }, new double[] { 2, 2, 8, 8 }, 2, TEST_COLOR);
+		// The repeated point is ignored
+		Assert.assertEquals(3, line.getPointCount());
+		Assert.assertEquals(11, line.getWidth());
+		Assert.assertEquals(9, line.getHeight());
+		Assert.assertEquals(2, line.getThickness(), 0);
+		Assert.assertEquals(LineJoin.MITER, line.getJoin());
+		Assert.assertFalse(line.isAntialiased());
+		Assert.assertEquals(TEST_COLOR, line.getColor());
+
+		try {
+			new Polyline(new double[] { 0, 1 }, new double[] { 0 }, 1, TEST_COLOR);
+			Assert.fail("Polylines need as many x co-ordinates as y co-ordinates");
+		} catch (IllegalArgumentException expected) {
+		}
+		try {
+			line.setJoin(null);
+			Assert.fail("Join must not be null");
+		} catch (IllegalArgumentException expected) {
+		}
+	}
+
+	/**
+	 * Tests a polyline is built from a piece for each segment and each corner.
+	 */
+	@Test
+	public void testPieces() {
+		Polyline line = new Polyline(new double[] { 0, 10, 10, 20 }, new double[] { 0, 0, 10, 10 }, 2, TEST_COLOR);
+		for (LineJoin join : LineJoin.values()) {
+			line.setJoin(join);
+			Assert.assertEquals(3 + 2, line.getPieceCount());
+		}
+
+		// Straight corners need no join
+		Polyline straight = new Polyline(new double[] { 0, 5, 10 }, new double[] { 0, 0, 0 }, 2, TEST_COLOR);
+		Assert.assertEquals(2, straight.getPieceCount());
+
+		// Lines without segments have no pieces
+		straight.clear();
+		straight.add(4, 4);
+		Assert.assertEquals(0, straight.getPieceCount());
+	}
+
+	/**
+	 * Tests a thick polyline rendered in {@link RenderMode#SAFE} mode covers the
+	 * pixels whose centers are inside it.
+	 */
+	@Test
+	public void testSafeRender() {
+		Polyline line = new Polyline(new double[] { 2, 10 }, new double[] { 4, 4 }, 4, TEST_COLOR);
+		BufferedImage render = GraphicTestUtil.getSafeRender(line, 12, 8);
+		boolean[][] pixelMap = GraphicTestUtil.mapPixels(render, TEST_COLOR);
+		System.out.println(GraphicTestUtil.mapToString(pixelMap));
+		for (int row = 0; row < 8; row++) {
+			for (int col = 0; col < 12; col++) {
+				boolean inside = row >= 2 && row < 6 && col >= 2 && col < 10;
+				Assert.assertEquals(inside, pixelMap[row][col]);
+			}
+		}
+	}
+
+	/**
+	 * Tests an antialiased polyline partially covers the pixels on its edges.
+	 */
+	@Test
+	public void testSafeRenderAntialiased() {
+		Polyline line = new Polyline(new double[] { 2, 10 }, new double[] { 2, 6 }, 3, TEST_COLOR);
+		line.setAntialiased(true);
+		BufferedImage render = GraphicTestUtil.getSafeRender(line, 12, 10);
+		boolean partial = false;
+		for (int row = 0; row < 10; row++) {
+			for (int col = 0; col < 12; col++) {
+				int green = render.getRGB(col, row) >> 8 & 0xff;
+				partial |= green > 0 && green < 0xff;
+			}
+		}
+		Assert.assertTrue(partial);
+		// The middle of the line is fully covered
+		Assert.assertEquals(TEST_COLOR, render.getRGB(6, 4));
+	}
+
+	/**
+	 * Tests pieces of an antialiased polyline leave no seam where they meet.
+	 */
+	@Test
+	public void testSafeRenderSeam() {
+		Polyline line = new Polyline(new double[] { 0, 5.5, 12 }, new double[] { 5, 5, 5 }, 4, TEST_COLOR);
+		line.setAntialiased(true);
+		BufferedImage render = GraphicTestUtil.getSafeRender(line, 14, 10);
+		for (int row = 4; row < 6; row++) {
+			for (int col = 1; col < 11; col++) {
+				Assert.assertEquals(TEST_COLOR, render.getRGB(col, row));
+			}
+		}
+	}
+
+	/**
+	 * Tests a translucent polyline blends each pixel once, even where the pieces
+	 * of its corners overlap its segments.
+	 */
+	@Test
+	public void testSafeRenderTranslucent() {
+		for (LineJoin join : LineJoin.values()) {
+			Polyline line = new Polyline(new double[] { 2, 12, 12 }, new double[] { 2, 2, 12 }, 4, 0x8000ff00);
+			line.setJoin(join);
+			BufferedImage render = GraphicTestUtil.getSafeRender(line, 16, 16);
+			Set<Integer> colors = new HashSet<>();
+			for (int row = 0; row < 16; row++) {
+				for (int col = 0; col < 16; col++) {
+					int color = render.getRGB(col, row);
+					if ((color >> 8 & 0xff) != 0) {
+						colors.add(color);
+					}
+				}
+			}
+			Assert.assertEquals(join.toString(), 1, colors.size());
+		}
+	}
+
+}
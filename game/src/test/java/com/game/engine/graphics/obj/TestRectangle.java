@@ -87,6 +87,37 @@ public class TestRectangle {
 		}
 	}
 
+	/**
+	 * Tests filled rectangles rendered in {@link RenderMode#SAFE} mode cover
+	 * every pixel of the rectangle.
+	 */
+	@Test
+	public void testSafeRenderFilled() {
+		for (int w = 1; w < GraphicTestUtil.DRAWABLE_MAX_WIDTH; w++) {
+			for (int h = 1; h < GraphicTestUtil.DRAWABLE_MAX_HEIGHT; h++) {
+				Rectangle drawable = new Rectangle(w, h, TEST_COLOR, true);
+				Assert.assertTrue(drawable.isFilled());
+				BufferedImage render = GraphicTestUtil.getSafeRender(drawable, w + 2, h + 2);
+				boolean[][] pixelMap = GraphicTestUtil.mapPixels(render, TEST_COLOR);
+				for (int row = 0; row < h + 2; row++) {
+					for (int col = 0; col < w + 2; col++) {
+						Assert.assertEquals(row < h && col < w, pixelMap[row][col]);
+					}
+				}
+			}
+		}
+
+		// Filled rectangles are clipped to the screen
+		Rectangle drawable = new Rectangle(8, 8, TEST_COLOR, true);
+		BufferedImage render = GraphicTestUtil.getSafeRender(drawable, 4, 4);
+		boolean[][] pixelMap = GraphicTestUtil.mapPixels(render, TEST_COLOR);
+		for (boolean[] row : pixelMap) {
+			for (boolean pixel : row) {
+				Assert.assertTrue(pixel);
+			}
+		}
+	}
+
 	/**
 	 * Helper method to test the render of a drawable.
 	 *
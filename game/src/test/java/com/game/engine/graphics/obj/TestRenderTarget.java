@@ -0,0 +1,119 @@
+package com.game.engine.graphics.obj;
+
+import java.awt.image.BufferedImage;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.game.engine.camera.StationaryCamera;
+import com.game.engine.graphics.obj.util.GraphicTestUtil;
+import com.game.engine.rendering.common.RenderLevel;
+import com.game.engine.rendering.common.RenderMode;
+import com.game.engine.rendering.cpu.CPURenderer;
+
+/**
+ * Test {@link RenderTarget}.
+ *
+ * @author Spencer Imbleau
+ * @version October 2026
+ */
+public class TestRenderTarget {
+
+	/**
+	 * The color we use to draw and confirm correct drawing.
+	 */
+	private static final int TEST_COLOR = 0xff00ff00;
+
+	/**
+	 * Tests requests are drawn into the pixels of a target in
+	 * {@link RenderMode#SAFE} mode, relative to the area it covers.
+	 */
+	@Test
+	public void testSafeRender() {
+		RenderTarget target = new RenderTarget(10, 10);
+		target.moveTo(100, 200);
+		int version = target.getVersion();
+
+		Rectangle rect = new Rectangle(3, 2, TEST_COLOR);
+		target.getRenderer().stage(rect.asRequest(RenderLevel.WORLD_GROUND, 104, 205));
+		target.render(RenderMode.SAFE);
+		Assert.assertNotEquals(version, target.getVersion());
+		for (int y = 0; y < 10; y++) {
+			for (int x = 0; x < 10; x++) {
+				boolean inside = x >= 4 && x < 7 && y >= 5 && y < 7;
+				Assert.assertEquals(inside ? TEST_COLOR : 0, target.getPBO().get(y * 10 + x));
+			}
+		}
+
+		// The target is drawn as an image
+		BufferedImage render = GraphicTestUtil.getSafeRender(target, 10, 10);
+		Assert.assertEquals(TEST_COLOR, render.getRGB(5, 5));
+
+		// Rendering replaces the contents of the target
+		target.getRenderer().stage(rect.asRequest(RenderLevel.WORLD_GROUND, 100, 200));
+		target.render(RenderMode.SAFE);
+		Assert.assertEquals(TEST_COLOR, target.getPBO().get(0));
+		Assert.assertEquals(0, target.getPBO().get(5 * 10 + 4));
+	}
+
+	/**
+	 * Tests translucent requests keep their alpha in a target, so the target
+	 * draws as the requests would have drawn directly.
+	 */
+	@Test
+	public void testTranslucentRender() {
+		int translucent = 0x80ff0000;
+		RenderTarget target = new RenderTarget(10, 10);
+		Rectangle rect = new Rectangle(4, 4, translucent);
+		target.getRenderer().stage(rect.asRequest(RenderLevel.WORLD_GROUND, 2, 2));
+		target.getRenderer().stage(rect.asRequest(RenderLevel.WORLD_GROUND, 4, 4));
+		target.render(RenderMode.SAFE);
+
+		// The target is premultiplied, and accumulates the alpha of overlaps
+		Assert.assertTrue(target.isPremultiplied());
+		Assert.assertEquals(0, target.getPBO().get(0));
+		Assert.assertEquals(0x80800000, target.getPBO().get(2 * 10 + 2));
+		Assert.assertEquals(0xbfbf0000, target.getPBO().get(5 * 10 + 5));
+
+		// Drawing the target matches drawing the requests
+		CPURenderer renderer = new CPURenderer(new StationaryCamera(0, 0, 10, 10, 1));
+		renderer.getProcessor().resize(10, 10);
+		rect.draw(renderer.getProcessor(), 2, 2, 1, 1);
+		rect.draw(renderer.getProcessor(), 4, 4, 1, 1);
+		BufferedImage expected = renderer.getProcessor().getImage();
+		BufferedImage actual = GraphicTestUtil.getSafeRender(target, 10, 10);
+		for (int y = 0; y < 10; y++) {
+			for (int x = 0; x < 10; x++) {
+				Assert.assertEquals(expected.getRGB(x, y), actual.getRGB(x, y));
+			}
+		}
+	}
+
+	/**
+	 * Tests requests wait for the texture to be refreshed in
+	 * {@link RenderMode#OPENGL} mode.
+	 */
+	@Test
+	public void testOpenGLRender() {
+		RenderTarget target = new RenderTarget(10, 10);
+		Assert.assertFalse(target.needsGLRefresh());
+
+		Rectangle rect = new Rectangle(3, 2, TEST_COLOR);
+		target.getRenderer().stage(rect.asRequest(RenderLevel.WORLD_GROUND, 0, 0));
+		target.render(RenderMode.OPENGL);
+		Assert.assertTrue(target.needsGLRefresh());
+		Assert.assertEquals(0, target.getPBO().get(0));
+	}
+
+	/**
+	 * Tests targets must have an area.
+	 */
+	@Test
+	public void testEmpty() {
+		try {
+			new RenderTarget(0, 10);
+			Assert.fail("Created a render target without an area");
+		} catch (IllegalArgumentException expected) {
+		}
+	}
+}
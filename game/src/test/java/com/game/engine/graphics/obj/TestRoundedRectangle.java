@@ -0,0 +1,73 @@
+package com.game.engine.graphics.obj;
+
+import java.awt.image.BufferedImage;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.game.engine.graphics.obj.util.GraphicTestUtil;
+
+/**
+ * Test {@link RoundedRectangle}.
+ *
+ * @author Spencer Imbleau
+ * @version October 2026
+ */
+public class TestRoundedRectangle {
+
+	/**
+	 * The color we use to draw and confirm correct drawing.
+	 */
+	private static final int TEST_COLOR = 0xff00ff00;
+
+	/**
+	 * Tests {@link RoundedRectangle#RoundedRectangle(int, int, int, int)}.
+	 */
+	@Test
+	public void testConstructor() {
+		RoundedRectangle r = new RoundedRectangle(8, 6, 2, TEST_COLOR);
+		Assert.assertEquals(8, r.getWidth());
+		Assert.assertEquals(6, r.getHeight());
+		Assert.assertEquals(2, r.getRadius());
+		Assert.assertEquals(TEST_COLOR, r.getColor());
+	}
+
+	/**
+	 * Tests rounded rectangles rendered in {@link RenderMode#SAFE} mode leave
+	 * their corners empty and fill the rest.
+	 */
+	@Test
+	public void testSafeRender() {
+		BufferedImage render = GraphicTestUtil.getSafeRender(new RoundedRectangle(10, 8, 3, TEST_COLOR), 12, 10);
+		boolean[][] pixelMap = GraphicTestUtil.mapPixels(render, TEST_COLOR);
+		System.out.println(GraphicTestUtil.mapToString(pixelMap));
+
+		// Corners are empty
+		Assert.assertFalse(pixelMap[0][0]);
+		Assert.assertFalse(pixelMap[0][9]);
+		Assert.assertFalse(pixelMap[7][0]);
+		Assert.assertFalse(pixelMap[7][9]);
+		// Edges and the middle are filled
+		Assert.assertTrue(pixelMap[0][5]);
+		Assert.assertTrue(pixelMap[4][0]);
+		Assert.assertTrue(pixelMap[4][9]);
+		Assert.assertTrue(pixelMap[7][4]);
+		// Nothing is drawn outside
+		for (int row = 0; row < 10; row++) {
+			Assert.assertFalse(pixelMap[row][10]);
+			Assert.assertFalse(pixelMap[row][11]);
+		}
+		for (int col = 0; col < 12; col++) {
+			Assert.assertFalse(pixelMap[8][col]);
+		}
+
+		// Without a radius, every pixel is filled
+		render = GraphicTestUtil.getSafeRender(new RoundedRectangle(4, 4, 0, TEST_COLOR), 4, 4);
+		for (boolean[] row : GraphicTestUtil.mapPixels(render, TEST_COLOR)) {
+			for (boolean pixel : row) {
+				Assert.assertTrue(pixel);
+			}
+		}
+	}
+
+}
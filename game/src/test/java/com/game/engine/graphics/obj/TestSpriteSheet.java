@@ -0,0 +1,140 @@
+package com.game.engine.graphics.obj;
+
+import java.awt.image.BufferedImage;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.game.engine.camera.StationaryCamera;
+import com.game.engine.graphics.obj.util.GraphicTestUtil;
+import com.game.engine.rendering.cpu.CPURenderer;
+
+/**
+ * Test {@link SpriteSheet} and {@link Animation}.
+ *
+ * @author Spencer Imbleau
+ * @version October 2026
+ */
+public class TestSpriteSheet {
+
+	/**
+	 * The width and height of each frame.
+	 */
+	private static final int FRAME_SIZE = 4;
+
+	/**
+	 * The color of each frame of the test sheet.
+	 */
+	private static final int[] COLORS = { 0xffff0000, 0xff00ff00, 0xff0000ff, 0xffffff00, 0xff00ffff,
+			0xffff00ff };
+
+	/**
+	 * @return a sheet of 3 by 2 frames, each filled with its color
+	 */
+	private static SpriteSheet createSheet() {
+		BufferedImage buf = new BufferedImage(3 * FRAME_SIZE, 2 * FRAME_SIZE, BufferedImage.TYPE_INT_ARGB);
+		for (int row = 0; row < buf.getHeight(); row++) {
+			for (int col = 0; col < buf.getWidth(); col++) {
+				buf.setRGB(col, row, COLORS[(row / FRAME_SIZE) * 3 + col / FRAME_SIZE]);
+			}
+		}
+		return new SpriteSheet(new Image(buf), FRAME_SIZE, FRAME_SIZE);
+	}
+
+	/**
+	 * Tests {@link SpriteSheet#SpriteSheet(Image, int, int)}.
+	 */
+	@Test
+	public void testConstructor() {
+		SpriteSheet sheet = createSheet();
+		Assert.assertEquals(6, sheet.getFrameCount());
+		Assert.assertEquals(FRAME_SIZE, sheet.getFrameWidth());
+		Assert.assertEquals(FRAME_SIZE, sheet.getFrameHeight());
+		Assert.assertEquals(0, sheet.getUsers());
+		Assert.assertEquals(2 * FRAME_SIZE, sheet.getFrameX(5));
+		Assert.assertEquals(FRAME_SIZE, sheet.getFrameY(5));
+
+		try {
+			sheet.getFrameX(6);
+			Assert.fail("Frames must be in the sheet");
+		} catch (IllegalArgumentException expected) {
+		}
+		try {
+			new SpriteSheet(sheet.getImage(), 0, FRAME_SIZE);
+			Assert.fail("Frames must be at least 1 pixel wide and high");
+		} catch (IllegalArgumentException expected) {
+		}
+		try {
+			new SpriteSheet(sheet.getImage(), FRAME_SIZE, 3 * FRAME_SIZE);
+			Assert.fail("Sprite sheets must fit at least 1 frame");
+		} catch (IllegalArgumentException expected) {
+		}
+	}
+
+	/**
+	 * Tests an animation plays its frames in order, looping or not.
+	 */
+	@Test
+	public void testAdvance() {
+		Animation animation = new Animation(createSheet(), new int[] { 4, 1, 2 }, 0.1);
+		Assert.assertEquals(3, animation.getLength());
+		Assert.assertEquals(4, animation.getFrame());
+		animation.advance(0.15);
+		Assert.assertEquals(1, animation.getFrame());
+		animation.advance(0.1);
+		Assert.assertEquals(2, animation.getFrame());
+		animation.advance(0.1);
+		Assert.assertEquals(4, animation.getFrame());
+		Assert.assertFalse(animation.isFinished());
+
+		// Stay on the last frame when not looping
+		animation.reset();
+		animation.setLooping(false);
+		animation.advance(1);
+		Assert.assertEquals(2, animation.getFrame());
+		Assert.assertTrue(animation.isFinished());
+
+		animation.setFrameIndex(1);
+		Assert.assertEquals(1, animation.getFrame());
+		Assert.assertFalse(animation.isFinished());
+
+		try {
+			new Animation(createSheet(), new int[] { 6 }, 0.1);
+			Assert.fail("Frames must be in the sheet");
+		} catch (IllegalArgumentException expected) {
+		}
+		try {
+			new Animation(createSheet(), 0);
+			Assert.fail("Frame duration must be positive");
+		} catch (IllegalArgumentException expected) {
+		}
+	}
+
+	/**
+	 * Tests animations rendered in {@link RenderMode#SAFE} mode draw only the
+	 * pixels of their current frame, at any scale.
+	 */
+	@Test
+	public void testSafeRender() {
+		SpriteSheet sheet = createSheet();
+		Animation animation = new Animation(sheet, 1);
+		for (int frame = 0; frame < sheet.getFrameCount(); frame++) {
+			animation.setFrameIndex(frame);
+			for (int scale = 1; scale <= 2; scale++) {
+				int size = FRAME_SIZE * scale;
+				CPURenderer renderer = new CPURenderer(new StationaryCamera(0, 0, size + 2, size + 2, 1));
+				renderer.init();
+				renderer.getProcessor().resize(size + 2, size + 2);
+				animation.draw(renderer.getProcessor(), 0, 0, scale, scale);
+				BufferedImage render = renderer.getProcessor().getImage();
+				boolean[][] pixelMap = GraphicTestUtil.mapPixels(render, COLORS[frame]);
+				for (int row = 0; row < size + 2; row++) {
+					for (int col = 0; col < size + 2; col++) {
+						Assert.assertEquals(row < size && col < size, pixelMap[row][col]);
+					}
+				}
+			}
+		}
+	}
+
+}
@@ -0,0 +1,64 @@
+package com.game.engine.graphics.obj;
+
+import java.awt.image.BufferedImage;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.game.engine.graphics.obj.fonts.Font;
+import com.game.engine.graphics.obj.fonts.mock.MockFonts;
+import com.game.engine.graphics.obj.util.GraphicTestUtil;
+
+/**
+ * Test {@link Text}.
+ *
+ * @author Spencer Imbleau
+ * @version October 2026
+ */
+public class TestText {
+
+	/**
+	 * The font we use to draw.
+	 */
+	private static final Font TEST_FONT = MockFonts.FONT_ASCII;
+
+	/**
+	 * The color we use to draw and confirm correct drawing.
+	 */
+	private static final int TEST_COLOR = 0xff00ff00;
+
+	/**
+	 * Tests {@link Text#Text(Font, String, int)} and {@link Text#setText(String)}.
+	 */
+	@Test
+	public void testSetText() {
+		Text text = new Text(TEST_FONT, "Test", TEST_COLOR);
+		Label label = new Label(TEST_FONT, "Test", TEST_COLOR);
+		Assert.assertEquals(label.getWidth(), text.getWidth());
+		Assert.assertEquals(label.getHeight(), text.getHeight());
+
+		text.setText("Longer text");
+		label.setText("Longer text");
+		Assert.assertEquals(label.getWidth(), text.getWidth());
+	}
+
+	/**
+	 * Tests the pixels of text rendered in {@link RenderMode#SAFE} mode match a
+	 * baked {@link Label}, including glyphs missing from the font.
+	 */
+	@Test
+	public void testSafeRender() {
+		for (String string : new String[] { "a", "Test 123!", "\u00e9x\u00e9" }) {
+			Text text = new Text(TEST_FONT, string, TEST_COLOR);
+			Label label = new Label(TEST_FONT, string, TEST_COLOR);
+
+			BufferedImage expected = GraphicTestUtil.getSafeRender(label, label.getWidth(), label.getHeight());
+			BufferedImage actual = GraphicTestUtil.getSafeRender(text, text.getWidth(), text.getHeight());
+			for (int y = 0; y < expected.getHeight(); y++) {
+				for (int x = 0; x < expected.getWidth(); x++) {
+					Assert.assertEquals(expected.getRGB(x, y), actual.getRGB(x, y));
+				}
+			}
+		}
+	}
+}
@@ -0,0 +1,83 @@
+package com.game.engine.graphics.obj.fonts;
+
+import java.awt.image.BufferedImage;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.game.engine.graphics.obj.fonts.mock.MockFonts;
+
+/**
+ * Test {@link Font}.
+ *
+ * @author Spencer Imbleau
+ * @version October 2026
+ */
+public class TestFont {
+
+	/**
+	 * The font we use to draw.
+	 */
+	private static final Font TEST_FONT = MockFonts.FONT_256;
+
+	/**
+	 * The color we use to draw and confirm correct drawing.
+	 */
+	private static final int TEST_COLOR = 0xff00ff00;
+
+	/**
+	 * Tests {@link Font#glyph(int)} agrees with {@link Font#glyphs}.
+	 */
+	@Test
+	public void testGlyph() {
+		for (int keycode = -1; keycode <= Character.MAX_VALUE + 1; keycode++) {
+			Assert.assertSame(TEST_FONT.glyphs.get(keycode), TEST_FONT.glyph(keycode));
+		}
+		Assert.assertFalse(TEST_FONT.isGlyphRenderable(null));
+	}
+
+	/**
+	 * Tests {@link Font#bakeImage(int[], int)} draws the pixels of each glyph from
+	 * the glyph sheet.
+	 */
+	@Test
+	public void testBakeImage() {
+		int sheetWidth = TEST_FONT.pbo.limit() / TEST_FONT.size;
+		int[] keycodes = new int[256];
+		for (int i = 0; i < keycodes.length; i++) {
+			keycodes[i] = i;
+		}
+		BufferedImage baked = TEST_FONT.bakeImage(keycodes, TEST_COLOR);
+		Assert.assertEquals(TEST_FONT.measure(keycodes), baked.getWidth());
+
+		int x = 0;
+		for (int keycode : keycodes) {
+			Glyph glyph = TEST_FONT.glyph(keycode);
+			for (int y = 0; y < TEST_FONT.size; y++) {
+				for (int xi = 0; xi < glyph.width; xi++) {
+					boolean data = TEST_FONT.pbo.get(y * sheetWidth + glyph.offset + xi) == Glyph.DATA_COLOR;
+					Assert.assertEquals(data ? TEST_COLOR : 0, baked.getRGB(x + xi, y));
+				}
+			}
+			x += glyph.width;
+		}
+	}
+
+	/**
+	 * Tests {@link Font#bakeImage(int[], int)} draws a box for glyphs missing from
+	 * the font.
+	 */
+	@Test
+	public void testBakeMissingGlyph() {
+		BufferedImage baked = TEST_FONT.bakeImage(new int[] { 0x2603 }, TEST_COLOR);
+		int width = TEST_FONT.missingGlyphWidth();
+		int height = TEST_FONT.size;
+		Assert.assertEquals(width, baked.getWidth());
+		for (int y = 0; y < height; y++) {
+			for (int x = 0; x < width; x++) {
+				boolean edge = x == 0 || y == 0 || x == width - 1 || y == height - 1;
+				Assert.assertEquals(edge ? TEST_COLOR : 0, baked.getRGB(x, y));
+			}
+		}
+	}
+}
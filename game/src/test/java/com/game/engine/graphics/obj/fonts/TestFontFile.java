@@ -0,0 +1,171 @@
+package com.game.engine.graphics.obj.fonts;
+
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.game.engine.graphics.obj.fonts.mock.MockFonts;
+
+/**
+ * Test {@link FontFile}.
+ *
+ * @author Spencer Imbleau
+ * @version October 2026
+ */
+public class TestFontFile {
+
+	/**
+	 * The font we compile.
+	 */
+	private static final Font TEST_FONT = MockFonts.FONT_ASCII;
+
+	/**
+	 * The color we use to draw and confirm correct drawing.
+	 */
+	private static final int TEST_COLOR = 0xff00ff00;
+
+	/**
+	 * The text we use to confirm fonts draw the same.
+	 */
+	private static final int[] TEST_TEXT = Glyph.keycodesOf("The quick brown fox, 123!\u00e9");
+
+	/**
+	 * Tests fonts read by {@link FontFile#read(Path)} match the written font.
+	 *
+	 * @throws IOException if the temporary font file could not be used
+	 */
+	@Test
+	public void testReadFile() throws IOException {
+		Path path = Files.createTempFile("font", ".pwf");
+		try {
+			FontFile.write(TEST_FONT, path, true);
+			Font font = FontFile.read(path);
+			assertSameFont(TEST_FONT, font);
+
+			// The packed atlas only keeps glyph pixels
+			for (int i = 0; i < TEST_FONT.pbo.limit(); i++) {
+				boolean data = TEST_FONT.pbo.get(i) == Glyph.DATA_COLOR;
+				Assert.assertEquals(data ? Glyph.DATA_COLOR : 0, font.pbo.get(i));
+			}
+		} finally {
+			Files.delete(path);
+		}
+	}
+
+	/**
+	 * Tests fonts written without a packed atlas rebuild it from their glyphs.
+	 *
+	 * @throws IOException if the font could not be written
+	 */
+	@Test
+	public void testReadWithoutAtlas() throws IOException {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		FontFile.write(TEST_FONT, out, false);
+		Font font = FontFile.read(ByteBuffer.wrap(out.toByteArray()));
+		assertSameFont(TEST_FONT, font);
+
+		GlyphAtlas expected = TEST_FONT.getAtlas();
+		GlyphAtlas actual = font.getAtlas();
+		for (Glyph glyph : font.glyphs.values()) {
+			Assert.assertArrayEquals(expected.spans(glyph), actual.spans(glyph));
+		}
+	}
+
+	/**
+	 * Tests {@link FontFile#read(ByteBuffer)} rejects other data.
+	 *
+	 * @throws IOException if the font could not be written
+	 */
+	@Test
+	public void testReadInvalid() throws IOException {
+		try {
+			FontFile.read(ByteBuffer.wrap(new byte[] { 1, 2, 3, 4, 5, 6, 7, 8 }));
+			Assert.fail("Invalid font file was read");
+		} catch (IllegalArgumentException expected) {
+		}
+
+		// Truncated files are rejected
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		FontFile.write(TEST_FONT, out, true);
+		byte[] truncated = new byte[out.size() - 4];
+		System.arraycopy(out.toByteArray(), 0, truncated, 0, truncated.length);
+		try {
+			FontFile.read(ByteBuffer.wrap(truncated));
+			Assert.fail("Truncated font file was read");
+		} catch (IllegalArgumentException expected) {
+		}
+	}
+
+	/**
+	 * Tests {@link FontFile#read(ByteBuffer)} rejects glyphs and runs outside of
+	 * the font.
+	 */
+	@Test
+	public void testReadCorruptRuns() {
+		// A run below the font's size
+		assertCorrupt(2, 0, 0, 2, 5, 0, 1);
+		// A run ending past the glyph's width
+		assertCorrupt(2, 0, 0, 2, 1, 0, 3);
+		// A run ending before it starts
+		assertCorrupt(2, 0, 0, 2, 1, 2, 1);
+		// A glyph past the packed atlas
+		assertCorrupt(2, 3, 2, 2, 0, 0, 1);
+	}
+
+	/**
+	 * Helper method to assert a font file of one glyph with one run is corrupt.
+	 *
+	 * @param size       - the font size
+	 * @param sheetWidth - the width of the packed atlas, or 0
+	 * @param offset     - the offset of the glyph
+	 * @param width      - the width of the glyph
+	 * @param row        - the row of the run
+	 * @param start      - the start of the run
+	 * @param end        - the end of the run
+	 */
+	private static void assertCorrupt(int size, int sheetWidth, int offset, int width, int row, int start,
+			int end) {
+		ByteBuffer buffer = ByteBuffer.allocate(4 * (12 + sheetWidth * size));
+		buffer.putInt(FontFile.MAGIC).putInt(FontFile.VERSION).putInt(size).putInt(sheetWidth).putInt(1);
+		buffer.putInt('A').putInt(offset).putInt(width).putInt(1);
+		buffer.putInt(row).putInt(start).putInt(end);
+		buffer.rewind();
+		try {
+			FontFile.read(buffer);
+			Assert.fail("Corrupt font file was read");
+		} catch (IllegalArgumentException expected) {
+		}
+	}
+
+	/**
+	 * Helper method to assert two fonts have the same glyphs and draw the same.
+	 *
+	 * @param expected - the expected font
+	 * @param actual   - the actual font
+	 */
+	private static void assertSameFont(Font expected, Font actual) {
+		Assert.assertEquals(expected.size, actual.size);
+		Assert.assertEquals(expected.glyphs.size(), actual.glyphs.size());
+		for (Glyph glyph : expected.glyphs.values()) {
+			Glyph other = actual.glyph(glyph.keycode);
+			Assert.assertEquals(glyph.offset, other.offset);
+			Assert.assertEquals(glyph.width, other.width);
+			Assert.assertArrayEquals(glyph.runs, other.runs);
+		}
+
+		BufferedImage expectedImage = expected.bakeImage(TEST_TEXT, TEST_COLOR);
+		BufferedImage actualImage = actual.bakeImage(TEST_TEXT, TEST_COLOR);
+		Assert.assertEquals(expectedImage.getWidth(), actualImage.getWidth());
+		for (int y = 0; y < expectedImage.getHeight(); y++) {
+			for (int x = 0; x < expectedImage.getWidth(); x++) {
+				Assert.assertEquals(expectedImage.getRGB(x, y), actualImage.getRGB(x, y));
+			}
+		}
+	}
+}
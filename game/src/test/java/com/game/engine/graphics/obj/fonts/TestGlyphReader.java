@@ -9,7 +9,9 @@ import org.junit.Assert;
 import org.junit.Test;
 
 import com.game.engine.cache.Cache;
+import com.game.engine.cache.ImageLoader;
 import com.game.engine.cache.LRUCache;
+import com.game.engine.graphics.obj.Image;
 
 /**
  * Test {@link GlyphReader}.
@@ -27,7 +29,7 @@ public class TestGlyphReader {
 	/**
 	 * A cache to retrieve the glyph sheet image.
 	 */
-	private static final Cache TEST_CACHE = new LRUCache(0);
+	private static final Cache<String, Image> TEST_CACHE = new LRUCache<String, Image>(0, new ImageLoader());
 
 	/**
 	 * Tests {@link GlyphReader#read(GlyphSheet)}.
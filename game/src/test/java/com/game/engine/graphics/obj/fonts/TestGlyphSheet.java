@@ -11,7 +11,9 @@ import java.util.stream.IntStream;
 import org.junit.Assert;
 import org.junit.Test;
 
+import com.game.engine.cache.ImageLoader;
 import com.game.engine.cache.LRUCache;
+import com.game.engine.graphics.obj.Image;
 
 /**
  * Test {@link GlyphSheet}.
@@ -24,7 +26,7 @@ public class TestGlyphSheet {
 	/**
 	 * An arbitrary glyph sheet image.
 	 */
-	private static final BufferedImage TEST_GLYPHSHEET_IMAGE = new LRUCache(0)
+	private static final BufferedImage TEST_GLYPHSHEET_IMAGE = new LRUCache<String, Image>(0, new ImageLoader())
 			.fetch(Paths.get("src", "test", "resources", "font_ascii.png").toString()).getBufferedImage();
 
 	/**
@@ -3,7 +3,9 @@ package com.game.engine.graphics.obj.fonts.mock;
 import java.nio.file.Paths;
 
 import com.game.engine.cache.Cache;
+import com.game.engine.cache.ImageLoader;
 import com.game.engine.cache.LRUCache;
+import com.game.engine.graphics.obj.Image;
 import com.game.engine.graphics.obj.fonts.Font;
 import com.game.engine.graphics.obj.fonts.Glyph;
 import com.game.engine.graphics.obj.fonts.GlyphReader;
@@ -20,7 +22,7 @@ public class MockFonts {
 	/**
 	 * A cache to retrieve glyph sheet images.
 	 */
-	private static final Cache TEST_CACHE = new LRUCache(100);
+	private static final Cache<String, Image> TEST_CACHE = new LRUCache<String, Image>(100, new ImageLoader());
 
 	/**
 	 * The path for the glyph sheet image for {@link #FONT_ASCII}.
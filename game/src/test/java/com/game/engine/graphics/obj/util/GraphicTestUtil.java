@@ -7,6 +7,7 @@ import java.util.List;
 import org.junit.Assert;
 
 import com.game.engine.cache.Cache;
+import com.game.engine.cache.ImageLoader;
 import com.game.engine.cache.LRUCache;
 import com.game.engine.camera.StationaryCamera;
 import com.game.engine.display.DisplaySettings;
@@ -16,6 +17,7 @@ import com.game.engine.game.AbstractGame;
 import com.game.engine.game.AbstractPlane;
 import com.game.engine.graphics.common.Drawable;
 import com.game.engine.graphics.common.RenderRequest;
+import com.game.engine.graphics.obj.Image;
 import com.game.engine.rendering.common.RenderLevel;
 import com.game.engine.rendering.common.RenderMode;
 import com.game.engine.rendering.cpu.CPURenderer;
@@ -48,7 +50,7 @@ public class GraphicTestUtil {
 	/**
 	 * An arbitrary cache for testing.
 	 */
-	private static final Cache TEST_CACHE = new LRUCache(0);
+	private static final Cache<String, Image> TEST_CACHE = new LRUCache<String, Image>(0, new ImageLoader());
 
 	/**
 	 * Generate a safe-mode render of a drawable and return a buffered image for
@@ -0,0 +1,141 @@
+package com.game.engine.particles;
+
+import java.awt.image.BufferedImage;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.game.engine.graphics.obj.util.GraphicTestUtil;
+
+/**
+ * Test {@link Particles} and {@link ParticleEmitter}.
+ *
+ * @author Spencer Imbleau
+ * @version October 2026
+ */
+public class TestParticles {
+
+	/**
+	 * The color we use to draw and confirm correct drawing.
+	 */
+	private static final int TEST_COLOR = 0xff00ff00;
+
+	/**
+	 * Tests {@link Particles#Particles(int, double)}.
+	 */
+	@Test
+	public void testConstructor() {
+		Particles particles = new Particles(10, 1);
+		Assert.assertEquals(10, particles.getCapacity());
+		Assert.assertEquals(0, particles.getCount());
+		Assert.assertEquals(1, particles.getSize(), 0);
+		Assert.assertTrue(particles.isFading());
+
+		try {
+			new Particles(0, 1);
+			Assert.fail("Capacity must be positive");
+		} catch (IllegalArgumentException expected) {
+		}
+	}
+
+	/**
+	 * Tests particles move, accelerate and expire, keeping the live particles.
+	 */
+	@Test
+	public void testUpdate() {
+		Particles particles = new Particles(3, 1);
+		Assert.assertTrue(particles.spawn(0, 0, 10, 0, 1, TEST_COLOR));
+		Assert.assertTrue(particles.spawn(100, 100, 0, 0, 3, TEST_COLOR));
+		Assert.assertTrue(particles.spawn(50, 50, 0, 0, 0.25, TEST_COLOR));
+		Assert.assertFalse(particles.spawn(0, 0, 0, 0, 1, TEST_COLOR));
+
+		// The third particle expires
+		particles.update(0.5, 0, 20);
+		Assert.assertEquals(2, particles.getCount());
+		Assert.assertEquals(4.5, particles.boundsX(), 1e-6);
+		Assert.assertEquals(4.5, particles.boundsY(), 1e-6);
+		Assert.assertEquals(96, particles.boundsWidth(), 1e-6);
+		Assert.assertEquals(101, particles.boundsHeight(), 1e-6);
+
+		// The first particle expires, leaving the second still falling
+		particles.update(0.5, 0, 0);
+		Assert.assertEquals(1, particles.getCount());
+		Assert.assertEquals(99.5, particles.boundsX(), 1e-6);
+		Assert.assertEquals(109.5, particles.boundsY(), 1e-6);
+
+		particles.clear();
+		Assert.assertEquals(0, particles.getCount());
+		Assert.assertEquals(0, particles.boundsWidth(), 0);
+	}
+
+	/**
+	 * Tests pools large enough to update in parallel move every particle.
+	 */
+	@Test
+	public void testUpdateParallel() {
+		int n = 4 * Particles.PARALLEL_THRESHOLD + 7;
+		Particles particles = new Particles(n, 1);
+		for (int i = 0; i < n; i++) {
+			particles.spawn(i, 0, 1, 2, 10, TEST_COLOR);
+		}
+		particles.update(1, 0, 0);
+		Assert.assertEquals(n, particles.getCount());
+		Assert.assertEquals(0.5, particles.boundsX(), 1e-3);
+		Assert.assertEquals(1.5, particles.boundsY(), 1e-3);
+		Assert.assertEquals(n, particles.boundsWidth(), 1e-2);
+		Assert.assertEquals(1, particles.boundsHeight(), 1e-3);
+	}
+
+	/**
+	 * Tests particles rendered in {@link RenderMode#SAFE} mode draw a square each.
+	 */
+	@Test
+	public void testSafeRender() {
+		Particles particles = new Particles(2, 2);
+		particles.setFading(false);
+		particles.spawn(2, 2, 0, 0, 1, TEST_COLOR);
+		particles.spawn(6, 5, 0, 0, 1, TEST_COLOR);
+		BufferedImage render = GraphicTestUtil.getSafeRender(particles, 8, 8);
+		boolean[][] pixelMap = GraphicTestUtil.mapPixels(render, TEST_COLOR);
+		System.out.println(GraphicTestUtil.mapToString(pixelMap));
+		for (int row = 0; row < 8; row++) {
+			for (int col = 0; col < 8; col++) {
+				boolean inside = (row >= 1 && row < 3 && col >= 1 && col < 3)
+						|| (row >= 4 && row < 6 && col >= 5 && col < 7);
+				Assert.assertEquals(inside, pixelMap[row][col]);
+			}
+		}
+	}
+
+	/**
+	 * Tests an emitter emits at its rate, carrying fractions of particles over.
+	 */
+	@Test
+	public void testEmitterRate() {
+		ParticleEmitter emitter = new ParticleEmitter(100, 1);
+		emitter.setPosition(10, 20);
+		emitter.setRate(15);
+		emitter.setLife(10, 10);
+		emitter.setSpeed(5, 5);
+		for (int tick = 0; tick < 4; tick++) {
+			emitter.advance(0.25);
+		}
+		Assert.assertEquals(15, emitter.getParticles().getCount());
+
+		// Bursts stop when the pool is full
+		Assert.assertEquals(85, emitter.burst(1000));
+		Assert.assertEquals(100, emitter.getParticles().getCount());
+
+		try {
+			emitter.setRate(-1);
+			Assert.fail("Rate must not be negative");
+		} catch (IllegalArgumentException expected) {
+		}
+		try {
+			emitter.setLife(0, 1);
+			Assert.fail("Lifetimes must be positive");
+		} catch (IllegalArgumentException expected) {
+		}
+	}
+
+}
@@ -0,0 +1,211 @@
+package com.game.engine.physics2D;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.game.engine.game.AbstractGameObject;
+import com.game.engine.game.mock.MockGameObject;
+import com.game.engine.physics2D.common.Collidable;
+import com.game.engine.physics2D.sat.SATCircle;
+
+/**
+ * Test {@link PhysicsWorld} and the sleeping of {@link PhysicsComponent}.
+ *
+ * @author Spencer Imbleau
+ * @version October 2026
+ */
+public class TestPhysicsWorld {
+
+	/**
+	 * The seconds of each tick.
+	 */
+	private static final double DT = 0.1;
+
+	/**
+	 * A collidable covering the bounds of a game object.
+	 */
+	private static class Box implements Collidable {
+
+		/**
+		 * The object covered.
+		 */
+		private final AbstractGameObject obj;
+
+		/**
+		 * @param obj - the object covered
+		 */
+		Box(AbstractGameObject obj) {
+			this.obj = obj;
+		}
+
+		@Override
+		public boolean collides(Collidable c) {
+			AbstractGameObject other = ((Box) c).obj;
+			return this.obj.position.x() < other.position.x() + other.width()
+					&& other.position.x() < this.obj.position.x() + this.obj.width()
+					&& this.obj.position.y() < other.position.y() + other.height()
+					&& other.position.y() < this.obj.position.y() + this.obj.height();
+		}
+
+		@Override
+		public boolean collides(SATCircle c) {
+			return false;
+		}
+
+		@Override
+		public Collision getCollision(Collidable c) {
+			return new Collision(((Box) c).obj, 0, 1);
+		}
+
+		@Override
+		public Collision getCollision(SATCircle c) {
+			return null;
+		}
+
+	}
+
+	/**
+	 * @param x         - x co-ordinate position
+	 * @param y         - y co-ordinate position
+	 * @param responses - the list collisions with the object are added to
+	 * @return an object of size 10 with a box body
+	 */
+	private static AbstractGameObject createBody(double x, double y, List<Collision> responses) {
+		MockGameObject obj = new MockGameObject(x, y, 10, 10);
+		PhysicsComponent body = new PhysicsComponent(obj);
+		body.collidables.add(new Box(obj));
+		body.responders.add(responses::add);
+		obj.setPhysics(body);
+		return obj;
+	}
+
+	/**
+	 * Helper method to track every body, then step the world.
+	 *
+	 * @param world   - a world
+	 * @param objects - the objects of the world
+	 */
+	private static void tick(PhysicsWorld world, List<AbstractGameObject> objects) {
+		objects.forEach(obj -> obj.getPhysics().track(DT, world.getSleepSpeed()));
+		world.step(objects);
+	}
+
+	/**
+	 * Tests resting bodies fall asleep, and moving bodies wake.
+	 */
+	@Test
+	public void testSleep() {
+		PhysicsWorld world = new PhysicsWorld();
+		List<Collision> responses = new ArrayList<>();
+		AbstractGameObject obj = createBody(0, 0, responses);
+		List<AbstractGameObject> objects = Arrays.asList(obj);
+
+		for (int i = 0; i < 5; i++) {
+			tick(world, objects);
+		}
+		Assert.assertTrue(obj.getPhysics().isAwake());
+		for (int i = 0; i < 2; i++) {
+			tick(world, objects);
+		}
+		Assert.assertFalse(obj.getPhysics().isAwake());
+
+		// Moving faster than the sleep speed wakes the body
+		obj.position.set(5, 0);
+		tick(world, objects);
+		Assert.assertTrue(obj.getPhysics().isAwake());
+		Assert.assertEquals(0, obj.getPhysics().getRestTime(), 0);
+
+		try {
+			world.setSleepTime(-1);
+			Assert.fail("The sleep time can not be negative");
+		} catch (IllegalArgumentException expected) {
+		}
+	}
+
+	/**
+	 * Tests contacts are reported once per pair, sleeping bodies are woken by
+	 * contact, and touching bodies sleep together.
+	 */
+	@Test
+	public void testContacts() {
+		PhysicsWorld world = new PhysicsWorld();
+		List<Collision> aResponses = new ArrayList<>();
+		List<Collision> bResponses = new ArrayList<>();
+		List<Collision> cResponses = new ArrayList<>();
+		AbstractGameObject a = createBody(0, 0, aResponses);
+		AbstractGameObject b = createBody(5, 5, bResponses);
+		AbstractGameObject c = createBody(100, 100, cResponses);
+		List<AbstractGameObject> objects = Arrays.asList(a, b, c);
+
+		tick(world, objects);
+		Assert.assertEquals(1, world.getIslandCount());
+		Assert.assertEquals(1, aResponses.size());
+		Assert.assertSame(b, aResponses.get(0).force);
+		Assert.assertEquals(1, bResponses.size());
+		Assert.assertSame(a, bResponses.get(0).force);
+		Assert.assertEquals(0, cResponses.size());
+
+		// Let everything sleep
+		for (int i = 0; i < 10; i++) {
+			tick(world, objects);
+		}
+		Assert.assertFalse(a.getPhysics().isAwake());
+		Assert.assertFalse(b.getPhysics().isAwake());
+		Assert.assertFalse(c.getPhysics().isAwake());
+		aResponses.clear();
+		bResponses.clear();
+		tick(world, objects);
+		Assert.assertEquals(0, world.getIslandCount());
+		Assert.assertEquals(0, aResponses.size());
+
+		// A body moving into sleeping bodies wakes them, joining one island
+		c.position.set(8, 8);
+		tick(world, objects);
+		Assert.assertTrue(c.getPhysics().isAwake());
+		Assert.assertTrue(a.getPhysics().isAwake());
+		Assert.assertTrue(b.getPhysics().isAwake());
+		Assert.assertEquals(1, world.getIslandCount());
+		Assert.assertEquals(2, cResponses.size());
+
+		// The woken bodies are tested against each other in the same step
+		Assert.assertEquals(2, aResponses.size());
+		Assert.assertEquals(2, bResponses.size());
+		Assert.assertTrue(aResponses.stream().anyMatch(response -> response.force == b));
+	}
+
+	/**
+	 * Tests a pair of bodies a sweep reported isn't reported again by the next
+	 * step.
+	 */
+	@Test
+	public void testSweptContacts() {
+		PhysicsWorld world = new PhysicsWorld();
+		List<Collision> aResponses = new ArrayList<>();
+		List<Collision> bResponses = new ArrayList<>();
+		AbstractGameObject a = createBody(0, 0, aResponses);
+		AbstractGameObject b = createBody(20, 0, bResponses);
+		List<AbstractGameObject> objects = Arrays.asList(a, b);
+
+		// The sweep reports the impact
+		Assert.assertEquals(10, world.sweep(a, 20, 0, objects).x(), 1e-9);
+		Assert.assertEquals(1, aResponses.size());
+		Assert.assertEquals(1, bResponses.size());
+
+		// The step finds the bodies touching, but they were already reported
+		a.position.set(11, 0);
+		tick(world, objects);
+		Assert.assertEquals(1, world.getIslandCount());
+		Assert.assertEquals(1, aResponses.size());
+		Assert.assertEquals(1, bResponses.size());
+
+		// Without a sweep, the next step reports the contact
+		tick(world, objects);
+		Assert.assertEquals(2, aResponses.size());
+		Assert.assertEquals(2, bResponses.size());
+	}
+
+}
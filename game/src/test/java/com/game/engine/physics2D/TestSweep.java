@@ -0,0 +1,117 @@
+package com.game.engine.physics2D;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.game.engine.game.AbstractGameObject;
+import com.game.engine.game.Position2D;
+import com.game.engine.game.mock.MockGameObject;
+
+/**
+ * Test {@link Sweep} and {@link PhysicsWorld#sweep}.
+ *
+ * @author Spencer Imbleau
+ * @version October 2026
+ */
+public class TestSweep {
+
+	/**
+	 * Tests {@link Sweep#boxes}.
+	 */
+	@Test
+	public void testBoxes() {
+		// Moving right into a box 10 pixels away
+		Impact impact = Sweep.boxes(0, 0, 10, 10, 40, 0, 20, 0, 10, 10);
+		Assert.assertNotNull(impact);
+		Assert.assertEquals(0.25, impact.time, 1e-9);
+		Assert.assertEquals(-1, impact.normalX, 0);
+		Assert.assertEquals(0, impact.normalY, 0);
+
+		// Moving down onto a box
+		impact = Sweep.boxes(5, 0, 10, 10, 0, 20, 0, 15, 30, 1);
+		Assert.assertNotNull(impact);
+		Assert.assertEquals(0.25, impact.time, 1e-9);
+		Assert.assertEquals(-1, impact.normalY, 0);
+
+		// Falling short, passing beside, and moving away
+		Assert.assertNull(Sweep.boxes(0, 0, 10, 10, 5, 0, 20, 0, 10, 10));
+		Assert.assertNull(Sweep.boxes(0, 0, 10, 10, 40, 0, 20, 10, 10, 10));
+		Assert.assertNull(Sweep.boxes(10, 0, 10, 10, -5, 0, 20, 0, 10, 10));
+
+		// Already touching while moving into the box
+		impact = Sweep.boxes(10, 0, 10, 10, 5, 0, 20, 0, 10, 10);
+		Assert.assertNotNull(impact);
+		Assert.assertEquals(0, impact.time, 0);
+
+		// Already overlapping
+		Assert.assertNull(Sweep.boxes(15, 0, 10, 10, 5, 0, 20, 0, 10, 10));
+	}
+
+	/**
+	 * @param x      - x co-ordinate position
+	 * @param y      - y co-ordinate position
+	 * @param width  - width of the object
+	 * @param height - height of the object
+	 * @param hits   - the list collisions with the object are added to
+	 * @return an object with a body
+	 */
+	private static AbstractGameObject createBody(double x, double y, int width, int height, List<Collision> hits) {
+		MockGameObject obj = new MockGameObject(x, y, width, height);
+		PhysicsComponent body = new PhysicsComponent(obj);
+		body.responders.add(hits::add);
+		obj.setPhysics(body);
+		return obj;
+	}
+
+	/**
+	 * Tests a fast object stops at a thin wall rather than passing through it.
+	 */
+	@Test
+	public void testThinWall() {
+		PhysicsWorld world = new PhysicsWorld();
+		List<Collision> bulletHits = new ArrayList<>();
+		List<Collision> wallHits = new ArrayList<>();
+		AbstractGameObject bullet = createBody(0, 0, 2, 2, bulletHits);
+		AbstractGameObject wall = createBody(100, -50, 1, 100, wallHits);
+		wall.getPhysics().sleep();
+
+		Position2D end = world.sweep(bullet, 1000, 0, Arrays.asList(bullet, wall));
+		Assert.assertEquals(98, end.x(), 1e-9);
+		Assert.assertEquals(0, end.y(), 1e-9);
+		Assert.assertEquals(1, bulletHits.size());
+		Assert.assertSame(wall, bulletHits.get(0).force);
+		Assert.assertEquals(1, wallHits.size());
+		Assert.assertSame(bullet, wallHits.get(0).force);
+		Assert.assertTrue(wall.getPhysics().isAwake());
+	}
+
+	/**
+	 * Tests motion slides along the surface hit, across the seam of two boxes.
+	 */
+	@Test
+	public void testSlide() {
+		PhysicsWorld world = new PhysicsWorld();
+		List<Collision> hits = new ArrayList<>();
+		AbstractGameObject mover = createBody(0, 0, 10, 10, hits);
+		AbstractGameObject left = createBody(-50, 20, 50, 10, new ArrayList<>());
+		AbstractGameObject right = createBody(0, 20, 50, 10, new ArrayList<>());
+		List<AbstractGameObject> objects = Arrays.asList(mover, left, right);
+
+		// Falls onto the floor, then slides the rest of the way right
+		Position2D end = world.sweep(mover, 20, 20, objects);
+		Assert.assertEquals(20, end.x(), 1e-9);
+		Assert.assertEquals(10, end.y(), 1e-9);
+		Assert.assertEquals(1, hits.size());
+
+		// Resting on the floor, moving along it isn't blocked by the seam
+		mover.position.set(-20, 10);
+		end = world.sweep(mover, 30, 0, objects);
+		Assert.assertEquals(10, end.x(), 1e-9);
+		Assert.assertEquals(10, end.y(), 1e-9);
+	}
+
+}
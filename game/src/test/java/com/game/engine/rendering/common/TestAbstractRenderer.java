@@ -0,0 +1,82 @@
+package com.game.engine.rendering.common;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.game.engine.camera.mock.MockCamera;
+import com.game.engine.graphics.common.RenderRequest;
+import com.game.engine.graphics.obj.Rectangle;
+import com.game.engine.rendering.cpu.CPURenderer;
+
+/**
+ * Tests the views of an {@link AbstractRenderer}.
+ *
+ * @author Spencer Imbleau
+ * @version October 2026
+ */
+public class TestAbstractRenderer {
+
+	/**
+	 * Test {@link AbstractRenderer#addView(com.game.engine.camera.AbstractCamera, int, int)}
+	 * and {@link AbstractRenderer#removeView(RenderView)}.
+	 */
+	@Test
+	public void testViews() {
+		MockCamera main = new MockCamera(0, 0, 100, 100, 1);
+		AbstractRenderer renderer = new CPURenderer(main);
+		Assert.assertEquals(1, renderer.getCameras().size());
+
+		MockCamera minimapCamera = new MockCamera(0, 0, 50, 50, 0.1);
+		RenderView minimap = renderer.addView(minimapCamera, 50, 0);
+		Assert.assertEquals(50, minimap.width());
+		Assert.assertSame(minimapCamera, renderer.getCameras().get(1));
+
+		// Every view has its own bit
+		RenderView other = renderer.addView(new MockCamera(0, 0, 10, 10, 1), 0, 0);
+		Assert.assertEquals(0, minimap.bit & other.bit);
+		Assert.assertEquals(0, AbstractRenderer.MAIN_VIEW & (minimap.bit | other.bit));
+
+		renderer.removeView(other);
+		Assert.assertEquals(1, renderer.getViews().size());
+
+		// Views are limited by the bits of a request's views
+		for (int i = 0; i < Integer.SIZE - 2; i++) {
+			renderer.addView(new MockCamera(0, 0, 10, 10, 1), 0, 0);
+		}
+		try {
+			renderer.addView(new MockCamera(0, 0, 10, 10, 1), 0, 0);
+			Assert.fail("Added more views than a request can be drawn by");
+		} catch (IllegalArgumentException expected) {
+		}
+	}
+
+	/**
+	 * Test {@link AbstractRenderer#visibleViews(double, double, double, double)}
+	 * and the staging views given to requests.
+	 */
+	@Test
+	public void testStagingViews() {
+		AbstractRenderer renderer = new CPURenderer(new MockCamera(0, 0, 100, 100, 1));
+		RenderView minimap = renderer.addView(new MockCamera(0, 0, 50, 50, 0.1), 50, 0);
+
+		// The minimap sees far more of the plane
+		Assert.assertEquals(AbstractRenderer.MAIN_VIEW | minimap.bit, renderer.visibleViews(10, 10, 5, 5));
+		Assert.assertEquals(minimap.bit, renderer.visibleViews(300, 300, 5, 5));
+		Assert.assertEquals(0, renderer.visibleViews(1000, 1000, 5, 5));
+
+		// Requests are drawn by the staging views
+		Rectangle rect = new Rectangle(5, 5, 0xffffffff);
+		renderer.setStagingViews(minimap.bit);
+		RenderRequest request = rect.asRequest(RenderLevel.WORLD_OBJECTS, 300, 300);
+		renderer.stage(request);
+		renderer.setStagingViews(RenderRequest.ALL_VIEWS);
+		Assert.assertEquals(minimap.bit, request.views);
+		Assert.assertTrue(minimap.draws(request));
+
+		// User interface requests are only drawn by the main camera
+		RenderRequest ui = rect.asRequest(RenderLevel.UI, 0, 0);
+		renderer.stage(ui);
+		Assert.assertEquals(RenderRequest.ALL_VIEWS, ui.views);
+		Assert.assertFalse(minimap.draws(ui));
+	}
+}
@@ -0,0 +1,182 @@
+package com.game.engine.rendering.cpu;
+
+import java.util.Random;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Tests {@link Blend}
+ *
+ * @author Spencer Imbleau
+ * @version October 2026
+ */
+public class TestBlend {
+
+	/**
+	 * The floating point blend which the kernels replace.
+	 *
+	 * @param pixel - the pixel being drawn onto
+	 * @param argb  - an ARGB color value
+	 * @return the blended pixel
+	 */
+	private static int reference(int pixel, int argb) {
+		int alpha = ((argb >> 24) & 0xff);
+		if (alpha == 0x00) {
+			return pixel;
+		} else if (alpha == 0xff) {
+			return argb;
+		}
+		int redOld = ((pixel >> 16) & 0xff);
+		int redNew = redOld - (int) ((redOld - ((argb >> 16) & 0xff)) * (alpha / 255f));
+		int greenOld = ((pixel >> 8) & 0xff);
+		int greenNew = greenOld - (int) ((greenOld - ((argb >> 8) & 0xff)) * (alpha / 255f));
+		int blueOld = (pixel & 0xff);
+		int blueNew = blueOld - (int) ((blueOld - (argb & 0xff)) * (alpha / 255f));
+		return (0xff000000 | redNew << 16 | greenNew << 8 | blueNew);
+	}
+
+	/**
+	 * Test {@link Blend#blend(int, int)} matches the floating point blend for
+	 * every alpha and every pair of channel values.
+	 */
+	@Test
+	public void testBlendExact() {
+		for (int alpha = 0; alpha <= 0xff; alpha++) {
+			for (int from = 0; from <= 0xff; from++) {
+				for (int to = 0; to <= 0xff; to++) {
+					// Each channel of the pixel and color holds different values
+					int pixel = 0xff000000 | from << 16 | (0xff - from) << 8 | to;
+					int argb = alpha << 24 | to << 16 | from << 8 | (0xff - to);
+					int expected = reference(pixel, argb);
+					int actual = Blend.blend(pixel, argb);
+					if (expected != actual) {
+						Assert.fail("Blending " + Integer.toHexString(argb) + " onto " + Integer.toHexString(pixel)
+								+ " expected " + Integer.toHexString(expected) + " but was "
+								+ Integer.toHexString(actual));
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * Test {@link Blend#blendSpan(int[], int, int[], int, int)} matches the
+	 * floating point blend and only blends inside the span.
+	 */
+	@Test
+	public void testBlendSpan() {
+		Random random = new Random(0);
+		int[] pixels = new int[1024];
+		int[] colors = new int[1024];
+		for (int i = 0; i < pixels.length; i++) {
+			pixels[i] = 0xff000000 | random.nextInt();
+			colors[i] = random.nextInt();
+		}
+		// Include fully transparent and fully opaque colors
+		colors[10] &= 0x00ffffff;
+		colors[11] |= 0xff000000;
+
+		int[] expected = pixels.clone();
+		for (int i = 0; i < 1000; i++) {
+			expected[8 + i] = reference(pixels[8 + i], colors[3 + i]);
+		}
+		Blend.blendSpan(pixels, 8, colors, 3, 1000);
+		Assert.assertArrayEquals(expected, pixels);
+	}
+
+	/**
+	 * Test {@link Blend#fillSpan(int[], int, int, int)} matches the floating point
+	 * blend and only blends inside the span.
+	 */
+	@Test
+	public void testFillSpan() {
+		Random random = new Random(1);
+		int[] pixels = new int[256];
+		for (int i = 0; i < pixels.length; i++) {
+			pixels[i] = 0xff000000 | random.nextInt();
+		}
+
+		for (int argb : new int[] { 0x00123456, 0x80123456, 0x01ffffff, 0xfe000000, 0xff654321 }) {
+			int[] expected = pixels.clone();
+			for (int i = 16; i < 200; i++) {
+				expected[i] = reference(pixels[i], argb);
+			}
+			Blend.fillSpan(pixels, 16, 184, argb);
+			Assert.assertArrayEquals(expected, pixels);
+		}
+
+		// Empty spans change nothing
+		int[] expected = pixels.clone();
+		Blend.fillSpan(pixels, 16, 0, 0x80ffffff);
+		Blend.fillSpan(pixels, 16, -4, 0x80ffffff);
+		Assert.assertArrayEquals(expected, pixels);
+	}
+
+	/**
+	 * Test {@link Blend#premultiply(int)} rounds each channel to the nearest
+	 * value.
+	 */
+	@Test
+	public void testPremultiply() {
+		for (int alpha = 0; alpha <= 0xff; alpha++) {
+			for (int c = 0; c <= 0xff; c++) {
+				int expected = (alpha == 0) ? 0 : Math.round(c * alpha / 255f);
+				int premultiplied = Blend.premultiply(alpha << 24 | c << 16 | c << 8 | c);
+				Assert.assertEquals(alpha, premultiplied >>> 24);
+				Assert.assertEquals(expected, (premultiplied >> 16) & 0xff);
+				Assert.assertEquals(expected, (premultiplied >> 8) & 0xff);
+				Assert.assertEquals(expected, premultiplied & 0xff);
+			}
+		}
+	}
+
+	/**
+	 * Test {@link Blend#blendPremultiplied(int, int)} is within two of the
+	 * straight blend of the same color.
+	 */
+	@Test
+	public void testBlendPremultiplied() {
+		Random random = new Random(2);
+		for (int i = 0; i < 100000; i++) {
+			int pixel = 0xff000000 | random.nextInt();
+			int argb = random.nextInt();
+			int straight = Blend.blend(pixel, argb);
+			int premultiplied = Blend.blendPremultiplied(pixel, Blend.premultiply(argb));
+			Assert.assertEquals(0xff, premultiplied >>> 24);
+			for (int shift = 0; shift < 24; shift += 8) {
+				int difference = ((straight >> shift) & 0xff) - ((premultiplied >> shift) & 0xff);
+				Assert.assertTrue(Math.abs(difference) <= 2);
+			}
+		}
+
+		// Transparent and opaque colors
+		Assert.assertEquals(0xff123456, Blend.blendPremultiplied(0xff123456, 0));
+		Assert.assertEquals(0xff654321, Blend.blendPremultiplied(0xff123456, 0xff654321));
+	}
+
+	/**
+	 * Test {@link Blend#blendPremultipliedSpan(int[], int, int[], int, int)}
+	 * matches {@link Blend#blendPremultiplied(int, int)} and only blends inside
+	 * the span.
+	 */
+	@Test
+	public void testBlendPremultipliedSpan() {
+		Random random = new Random(3);
+		int[] pixels = new int[512];
+		int[] colors = new int[512];
+		for (int i = 0; i < pixels.length; i++) {
+			pixels[i] = 0xff000000 | random.nextInt();
+			colors[i] = Blend.premultiply(random.nextInt());
+		}
+		colors[20] = 0;
+		colors[21] |= 0xff000000;
+
+		int[] expected = pixels.clone();
+		for (int i = 0; i < 500; i++) {
+			expected[4 + i] = Blend.blendPremultiplied(pixels[4 + i], colors[6 + i]);
+		}
+		Blend.blendPremultipliedSpan(pixels, 4, colors, 6, 500);
+		Assert.assertArrayEquals(expected, pixels);
+	}
+}
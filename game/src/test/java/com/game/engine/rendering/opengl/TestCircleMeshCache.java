@@ -0,0 +1,74 @@
+package com.game.engine.rendering.opengl;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Tests {@link CircleMeshCache}
+ *
+ * @author Spencer Imbleau
+ * @version October 2026
+ */
+public class TestCircleMeshCache {
+
+	/**
+	 * Test {@link CircleMeshCache#bucket(double)} rounds radii up to a power of
+	 * two.
+	 */
+	@Test
+	public void testBucket() {
+		Assert.assertEquals(0, CircleMeshCache.bucket(0));
+		Assert.assertEquals(0, CircleMeshCache.bucket(1));
+		Assert.assertEquals(1, CircleMeshCache.bucket(1.5));
+		Assert.assertEquals(1, CircleMeshCache.bucket(2));
+		Assert.assertEquals(2, CircleMeshCache.bucket(3));
+		Assert.assertEquals(5, CircleMeshCache.bucket(32));
+		Assert.assertEquals(6, CircleMeshCache.bucket(33));
+		Assert.assertEquals(CircleMeshCache.MAX_BUCKET, CircleMeshCache.bucket(1e9));
+	}
+
+	/**
+	 * Test {@link CircleMeshCache#vertices(int)} is enough for every radius in a
+	 * bucket, and grows with the bucket.
+	 */
+	@Test
+	public void testVertices() {
+		int last = 0;
+		for (int bucket = 0; bucket <= CircleMeshCache.MAX_BUCKET; bucket++) {
+			int vertices = CircleMeshCache.vertices(bucket);
+			Assert.assertTrue(vertices >= CircleMeshCache.MIN_VERTICES);
+			Assert.assertTrue(vertices >= last);
+			last = vertices;
+
+			// The gap between a chord and the largest circle in the bucket is small
+			double radius = 1 << bucket;
+			double sagitta = radius * (1 - Math.cos(Math.PI / vertices));
+			Assert.assertTrue(sagitta <= CircleMeshCache.ACCEPTABLE_ERROR + 1e-9);
+		}
+	}
+
+	/**
+	 * Test {@link CircleMeshCache#tessellate(int)} starts at the center and
+	 * closes the circle.
+	 */
+	@Test
+	public void testTessellate() {
+		float[] table = CircleMeshCache.tessellate(8);
+		Assert.assertEquals(2 * (8 + 2), table.length);
+		// The center
+		Assert.assertEquals(0, table[0], 0);
+		Assert.assertEquals(0, table[1], 0);
+		// Every vertex is on the unit circle
+		for (int i = 2; i < table.length; i += 2) {
+			Assert.assertEquals(1, Math.hypot(table[i], table[i + 1]), 1e-6);
+		}
+		// The first and last vertices around the circle are the same
+		Assert.assertEquals(1, table[2], 0);
+		Assert.assertEquals(0, table[3], 0);
+		Assert.assertEquals(table[2], table[table.length - 2], 0);
+		Assert.assertEquals(table[3], table[table.length - 1], 0);
+		// A quarter of the way around
+		Assert.assertEquals(0, table[2 + 4], 1e-6);
+		Assert.assertEquals(1, table[3 + 4], 1e-6);
+	}
+}
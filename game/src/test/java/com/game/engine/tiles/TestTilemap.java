@@ -0,0 +1,135 @@
+package com.game.engine.tiles;
+
+import java.awt.image.BufferedImage;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.game.engine.game.Chunk;
+import com.game.engine.graphics.obj.Image;
+import com.game.engine.graphics.obj.SpriteSheet;
+import com.game.engine.graphics.obj.util.GraphicTestUtil;
+
+/**
+ * Test {@link Tilemap} and {@link TileChunk}.
+ *
+ * @author Spencer Imbleau
+ * @version October 2026
+ */
+public class TestTilemap {
+
+	/**
+	 * The width and height of each tile.
+	 */
+	private static final int TILE_SIZE = 16;
+
+	/**
+	 * The color of each tile of the test tileset.
+	 */
+	private static final int[] COLORS = { 0xffff0000, 0xff00ff00, 0x800000ff, 0xffffff00 };
+
+	/**
+	 * @param opaque - true to make every tile opaque, false to keep the third
+	 *               tile translucent
+	 * @return a tileset of 2 by 2 tiles, each filled with its color
+	 */
+	private static SpriteSheet createTileset(boolean opaque) {
+		BufferedImage buf = new BufferedImage(2 * TILE_SIZE, 2 * TILE_SIZE, BufferedImage.TYPE_INT_ARGB);
+		for (int row = 0; row < buf.getHeight(); row++) {
+			for (int col = 0; col < buf.getWidth(); col++) {
+				int color = COLORS[(row / TILE_SIZE) * 2 + col / TILE_SIZE];
+				buf.setRGB(col, row, opaque ? color | 0xff000000 : color);
+			}
+		}
+		return new SpriteSheet(new Image(buf), TILE_SIZE, TILE_SIZE);
+	}
+
+	/**
+	 * Tests {@link Tilemap#Tilemap(SpriteSheet, int, int)}.
+	 */
+	@Test
+	public void testConstructor() {
+		Tilemap map = new Tilemap(createTileset(true), 100, 40);
+		Assert.assertEquals(100, map.getColumns());
+		Assert.assertEquals(40, map.getRows());
+		Assert.assertEquals(TILE_SIZE, map.getTileWidth());
+		Assert.assertEquals(Tilemap.EMPTY, map.get(99, 39));
+
+		try {
+			new Tilemap(createTileset(true), 0, 1);
+			Assert.fail("Tilemaps need at least 1 column and 1 row");
+		} catch (IllegalArgumentException expected) {
+		}
+	}
+
+	/**
+	 * Tests tiles are stored in the chunk their top left corner lies in.
+	 */
+	@Test
+	public void testChunks() {
+		Tilemap map = new Tilemap(createTileset(true), 100, 40);
+		int perChunk = (Chunk.SIZE + TILE_SIZE - 1) / TILE_SIZE;
+		map.set(perChunk - 1, 0, 1);
+		map.set(perChunk, 0, 3);
+		Assert.assertEquals(1, map.get(perChunk - 1, 0));
+		Assert.assertEquals(3, map.get(perChunk, 0));
+
+		TileChunk first = map.getChunk(0, 0);
+		TileChunk second = map.getChunk(1, 0);
+		Assert.assertEquals(0, first.getFirstColumn());
+		Assert.assertEquals(perChunk, first.getColumns());
+		Assert.assertEquals(perChunk, second.getFirstColumn());
+		Assert.assertTrue(second.getFirstColumn() * TILE_SIZE >= Chunk.SIZE);
+
+		// Chunks without tiles take no memory
+		Assert.assertNull(map.getChunk(2, 0));
+		map.set(3 * perChunk, 0, Tilemap.EMPTY);
+		Assert.assertNull(map.getChunk(3, 0));
+
+		// Emptied chunks are not drawn
+		map.set(perChunk, 0, Tilemap.EMPTY);
+		Assert.assertTrue(second.isEmpty());
+
+		try {
+			map.set(0, 0, 4);
+			Assert.fail("Tiles must be in the tileset");
+		} catch (IllegalArgumentException expected) {
+		}
+		try {
+			map.get(100, 0);
+			Assert.fail("Cells must be in the map");
+		} catch (IllegalArgumentException expected) {
+		}
+	}
+
+	/**
+	 * Tests a chunk rendered in {@link RenderMode#SAFE} mode draws each tile with
+	 * its frame, copying opaque tilesets and blending translucent ones.
+	 */
+	@Test
+	public void testSafeRender() {
+		for (int opaque = 0; opaque < 2; opaque++) {
+			Tilemap map = new Tilemap(createTileset(opaque == 1), 4, 4);
+			map.set(0, 0, 0);
+			map.set(1, 0, 2);
+			map.set(3, 2, 1);
+			TileChunk chunk = map.getChunk(0, 0);
+			BufferedImage render = GraphicTestUtil.getSafeRender(chunk, 4 * TILE_SIZE, 4 * TILE_SIZE);
+			for (int row = 0; row < 4 * TILE_SIZE; row++) {
+				for (int col = 0; col < 4 * TILE_SIZE; col++) {
+					int tile = map.get(col / TILE_SIZE, row / TILE_SIZE);
+					int pixel = render.getRGB(col, row);
+					if (tile == Tilemap.EMPTY) {
+						Assert.assertEquals(0, pixel & 0x00ffffff);
+					} else if (opaque == 1 || (COLORS[tile] >>> 24) == 0xff) {
+						Assert.assertEquals(COLORS[tile] | 0xff000000, pixel | 0xff000000);
+					} else {
+						// Translucent tiles are blended, not copied
+						Assert.assertTrue((pixel & 0xff) > 0 && (pixel & 0xff) < 0xff);
+					}
+				}
+			}
+		}
+	}
+
+}